@@ -5,6 +5,7 @@ import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.StorageOptions;
 import io.vertx.core.Vertx;
+import org.prebid.server.execution.blocking.BlockingExecutors;
 import org.prebid.server.geolocation.CountryCodeMapper;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.FilterService;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.GreenbidsInferenceDataService;
@@ -81,7 +82,7 @@ public class GreenbidsRealTimeDataConfiguration {
     @Bean
     ModelCache modelCache(
             GreenbidsRealTimeDataProperties properties,
-            Vertx vertx,
+            BlockingExecutors blockingExecutors,
             Storage storage,
             OnnxModelRunnerFactory onnxModelRunnerFactory) {
 
@@ -94,14 +95,14 @@ public class GreenbidsRealTimeDataConfiguration {
                 properties.getGcsBucketName(),
                 modelCacheWithExpiration,
                 properties.getOnnxModelCacheKeyPrefix(),
-                vertx,
+                blockingExecutors.forSubsystem("greenbids"),
                 onnxModelRunnerFactory);
     }
 
     @Bean
     ThresholdCache thresholdCache(
             GreenbidsRealTimeDataProperties properties,
-            Vertx vertx,
+            BlockingExecutors blockingExecutors,
             Storage storage,
             ThrottlingThresholdsFactory throttlingThresholdsFactory) {
 
@@ -115,7 +116,7 @@ public class GreenbidsRealTimeDataConfiguration {
                 ObjectMapperProvider.mapper(),
                 thresholdsCacheWithExpiration,
                 properties.getThresholdsCacheKeyPrefix(),
-                vertx,
+                blockingExecutors.forSubsystem("greenbids"),
                 throttlingThresholdsFactory);
     }
 
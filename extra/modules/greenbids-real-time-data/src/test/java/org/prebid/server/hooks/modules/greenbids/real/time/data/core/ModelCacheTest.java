@@ -14,6 +14,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.exception.PreBidException;
+import org.prebid.server.execution.blocking.BlockingExecutor;
 
 import java.lang.reflect.Field;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -61,7 +62,8 @@ public class ModelCacheTest {
     public void setUp() {
         vertx = Vertx.vertx();
         target = new ModelCache(
-                storage, GCS_BUCKET_NAME, cache, MODEL_CACHE_KEY_PREFIX, vertx, onnxModelRunnerFactory);
+                storage, GCS_BUCKET_NAME, cache, MODEL_CACHE_KEY_PREFIX, BlockingExecutor.workerPool(vertx),
+                onnxModelRunnerFactory);
     }
 
     @Test
@@ -13,6 +13,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.exception.PreBidException;
+import org.prebid.server.execution.blocking.BlockingExecutor;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.model.filter.ThrottlingThresholds;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.util.TestBidRequestProvider;
 
@@ -68,7 +69,7 @@ public class ThresholdCacheTest {
                 TestBidRequestProvider.MAPPER,
                 cache,
                 THRESHOLD_CACHE_KEY_PREFIX,
-                vertx,
+                BlockingExecutor.workerPool(vertx),
                 throttlingThresholdsFactory);
     }
 
@@ -9,6 +9,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import io.vertx.core.Vertx;
+import org.prebid.server.execution.blocking.BlockingExecutors;
 import org.prebid.server.execution.file.syncer.FileSyncer;
 import org.prebid.server.spring.config.model.FileSyncerProperties;
 import org.prebid.server.spring.config.model.HttpClientProperties;
@@ -35,10 +36,11 @@ public class WURFLDeviceDetectionConfiguration {
     @Bean
     public WURFLDeviceDetectionModule wurflDeviceDetectionModule(WURFLDeviceDetectionConfigProperties configProperties,
                                                                  JacksonMapper mapper,
-                                                                 Vertx vertx) {
+                                                                 Vertx vertx,
+                                                                 BlockingExecutors blockingExecutors) {
 
         final WURFLService wurflService = new WURFLService(null, configProperties);
-        final FileSyncer fileSyncer = createFileSyncer(configProperties, wurflService, vertx);
+        final FileSyncer fileSyncer = createFileSyncer(configProperties, wurflService, vertx, blockingExecutors);
         fileSyncer.sync();
 
         return new WURFLDeviceDetectionModule(List.of(
@@ -48,10 +50,12 @@ public class WURFLDeviceDetectionConfiguration {
 
     private FileSyncer createFileSyncer(WURFLDeviceDetectionConfigProperties configProperties,
                                         WURFLService wurflService,
-                                        Vertx vertx) {
+                                        Vertx vertx,
+                                        BlockingExecutors blockingExecutors) {
 
         final FileSyncerProperties fileSyncerProperties = createFileSyncerProperties(configProperties);
-        return FileUtil.fileSyncerFor(wurflService, fileSyncerProperties, vertx);
+        return FileUtil.fileSyncerFor(
+                wurflService, fileSyncerProperties, vertx, blockingExecutors.forSubsystem("wurfl"));
     }
 
     private FileSyncerProperties createFileSyncerProperties(WURFLDeviceDetectionConfigProperties configProperties) {
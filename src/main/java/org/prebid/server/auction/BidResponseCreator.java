@@ -95,6 +95,7 @@ import org.prebid.server.proto.openrtb.ext.response.ExtIgiIgb;
 import org.prebid.server.proto.openrtb.ext.response.ExtIgiIgs;
 import org.prebid.server.proto.openrtb.ext.response.ExtIgiIgsExt;
 import org.prebid.server.proto.openrtb.ext.response.ExtResponseCache;
+import org.prebid.server.proto.openrtb.ext.response.ExtResourceUsage;
 import org.prebid.server.proto.openrtb.ext.response.ExtResponseDebug;
 import org.prebid.server.proto.openrtb.ext.response.ExtTraceActivityInfrastructure;
 import org.prebid.server.proto.openrtb.ext.response.FledgeAuctionConfig;
@@ -111,6 +112,8 @@ import org.prebid.server.settings.model.VideoStoredDataResult;
 import org.prebid.server.spring.config.model.CacheDefaultTtlProperties;
 import org.prebid.server.util.ListUtil;
 import org.prebid.server.util.StreamUtil;
+import org.prebid.server.util.system.ResourceUsage;
+import org.prebid.server.util.system.ThreadResourceMeter;
 import org.prebid.server.vast.VastModifier;
 
 import java.math.BigDecimal;
@@ -162,6 +165,7 @@ public class BidResponseCreator {
     private final Clock clock;
     private final JacksonMapper mapper;
     private final Metrics metrics;
+    private final ThreadResourceMeter resourceMeter;
     private final CacheTtl mediaTypeCacheTtl;
     private final CacheDefaultTtlProperties cacheDefaultProperties;
 
@@ -185,6 +189,7 @@ public class BidResponseCreator {
                               Clock clock,
                               JacksonMapper mapper,
                               Metrics metrics,
+                              ThreadResourceMeter resourceMeter,
                               CacheTtl mediaTypeCacheTtl,
                               CacheDefaultTtlProperties cacheDefaultProperties) {
 
@@ -205,6 +210,7 @@ public class BidResponseCreator {
         this.mediaTypeCacheTtl = Objects.requireNonNull(mediaTypeCacheTtl);
         this.cacheDefaultProperties = Objects.requireNonNull(cacheDefaultProperties);
         this.metrics = Objects.requireNonNull(metrics);
+        this.resourceMeter = Objects.requireNonNull(resourceMeter);
         this.logSamplingRate = logSamplingRate;
 
         cacheAssetUrlTemplate = Objects.requireNonNull(coreCacheService.getCachedAssetURLTemplate());
@@ -669,14 +675,18 @@ public class BidResponseCreator {
         final Set<BidInfo> bidsToCache = cacheInfo.isShouldCacheWinningBidsOnly() ? winningBidInfos : bidInfos;
 
         return cacheBids(bidsToCache, auctionContext, cacheInfo, eventsContext)
-                .map(cacheResult -> toBidResponse(
-                        bidderResponseInfos,
-                        auctionContext,
-                        targeting,
-                        cacheInfo,
-                        cacheResult,
-                        videoStoredDataResult,
-                        eventsContext));
+                .map(cacheResult -> resourceMeter.measure(
+                        () -> toBidResponse(
+                                bidderResponseInfos,
+                                auctionContext,
+                                targeting,
+                                cacheInfo,
+                                cacheResult,
+                                videoStoredDataResult,
+                                eventsContext),
+                        false,
+                        resourceUsage -> metrics.updateAuctionResourceUsageMetrics(
+                                MetricName.create_bid_response, resourceUsage)));
     }
 
     private static ExtRequestTargeting targeting(BidRequest bidRequest) {
@@ -1050,12 +1060,30 @@ public class BidResponseCreator {
 
         final BidRequest bidRequest = debugEnabled ? auctionContext.getBidRequest() : null;
         final ExtDebugTrace extDebugTrace = toExtDebugTrace(auctionContext);
+        final Map<String, ExtResourceUsage> resourceUsage = debugEnabled ? toExtResourceUsage(auctionContext) : null;
 
-        return ObjectUtils.anyNotNull(httpCalls, bidRequest, extDebugTrace)
-                ? ExtResponseDebug.of(httpCalls, bidRequest, extDebugTrace)
+        return ObjectUtils.anyNotNull(httpCalls, bidRequest, extDebugTrace, resourceUsage)
+                ? ExtResponseDebug.of(httpCalls, bidRequest, extDebugTrace, resourceUsage)
                 : null;
     }
 
+    private static Map<String, ExtResourceUsage> toExtResourceUsage(AuctionContext auctionContext) {
+        final Map<String, ExtResourceUsage> bidderToResourceUsage = auctionContext.getAuctionParticipations().stream()
+                .map(AuctionParticipation::getBidderResponse)
+                .filter(Objects::nonNull)
+                .filter(bidderResponse -> bidderResponse.getSeatBid().getResourceUsage() != null)
+                .collect(Collectors.toMap(
+                        BidderResponse::getBidder,
+                        bidderResponse -> toExtResourceUsage(bidderResponse.getSeatBid().getResourceUsage()),
+                        (first, second) -> first));
+
+        return MapUtils.isNotEmpty(bidderToResourceUsage) ? bidderToResourceUsage : null;
+    }
+
+    private static ExtResourceUsage toExtResourceUsage(ResourceUsage resourceUsage) {
+        return ExtResourceUsage.of(resourceUsage.getCpuTimeNanos(), resourceUsage.getAllocatedBytes());
+    }
+
     /**
      * Corresponds cacheId (or null if not present) to each {@link Bid}.
      */
@@ -100,6 +100,7 @@ import org.prebid.server.util.HttpUtil;
 import org.prebid.server.util.ListUtil;
 import org.prebid.server.util.PbsUtil;
 import org.prebid.server.util.StreamUtil;
+import org.prebid.server.util.system.ThreadResourceMeter;
 
 import java.math.BigDecimal;
 import java.time.Clock;
@@ -154,6 +155,7 @@ public class ExchangeService {
     private final PriceFloorProcessor priceFloorProcessor;
     private final BidsAdjuster bidsAdjuster;
     private final Metrics metrics;
+    private final ThreadResourceMeter resourceMeter;
     private final Clock clock;
     private final JacksonMapper mapper;
     private final CriteriaLogManager criteriaLogManager;
@@ -181,6 +183,7 @@ public class ExchangeService {
                            PriceFloorProcessor priceFloorProcessor,
                            BidsAdjuster bidsAdjuster,
                            Metrics metrics,
+                           ThreadResourceMeter resourceMeter,
                            Clock clock,
                            JacksonMapper mapper,
                            CriteriaLogManager criteriaLogManager,
@@ -208,6 +211,7 @@ public class ExchangeService {
         this.priceFloorProcessor = Objects.requireNonNull(priceFloorProcessor);
         this.bidsAdjuster = Objects.requireNonNull(bidsAdjuster);
         this.metrics = Objects.requireNonNull(metrics);
+        this.resourceMeter = Objects.requireNonNull(resourceMeter);
         this.clock = Objects.requireNonNull(clock);
         this.mapper = Objects.requireNonNull(mapper);
         this.criteriaLogManager = Objects.requireNonNull(criteriaLogManager);
@@ -478,6 +482,11 @@ public class ExchangeService {
             BidderAliases aliases,
             Map<String, MultiBidConfig> bidderToMultiBid) {
 
+        // all imps are answered by stored auction responses, no bidder requests to prepare
+        if (storedResponseResult.getRequiredRequestImps().isEmpty()) {
+            return Future.succeededFuture(Collections.emptyList());
+        }
+
         final List<Imp> imps = storedResponseResult.getRequiredRequestImps().stream()
                 .filter(imp -> bidderParamsFromImpExt(imp.getExt()) != null)
                 .toList();
@@ -537,19 +546,25 @@ public class ExchangeService {
         final ExtRequestPrebid prebid = requestExt != null ? requestExt.getPrebid() : null;
         final Map<String, ExtBidderConfigOrtb> biddersToConfigs = getBiddersToConfigs(prebid);
         final EidPermissionResolver eidPermissionResolver = getEidPermissions(prebid);
-        final Map<String, Pair<User, Device>> bidderToUserAndDevice =
-                prepareUsersAndDevices(bidders, context, aliases, biddersToConfigs, eidPermissionResolver);
+        final FpdMergeCache fpdMergeCache = new FpdMergeCache();
+        final Map<String, Pair<User, Device>> bidderToUserAndDevice = prepareUsersAndDevices(
+                bidders, context, aliases, biddersToConfigs, fpdMergeCache, eidPermissionResolver);
 
         return privacyEnforcementService.mask(context, bidderToUserAndDevice, aliases)
-                .map(bidderToPrivacyResult -> getAuctionParticipation(
-                        bidderToPrivacyResult,
-                        bidRequest,
-                        impBidderToStoredResponse,
-                        imps,
-                        bidderToMultiBid,
-                        biddersToConfigs,
-                        aliases,
-                        context));
+                .map(bidderToPrivacyResult -> resourceMeter.measure(
+                        () -> getAuctionParticipation(
+                                bidderToPrivacyResult,
+                                bidRequest,
+                                impBidderToStoredResponse,
+                                imps,
+                                bidderToMultiBid,
+                                biddersToConfigs,
+                                fpdMergeCache,
+                                aliases,
+                                context),
+                        false,
+                        resourceUsage -> metrics.updateAuctionResourceUsageMetrics(
+                                MetricName.prepare_bidder_requests, resourceUsage)));
     }
 
     private Map<String, ExtBidderConfigOrtb> getBiddersToConfigs(ExtRequestPrebid prebid) {
@@ -595,6 +610,7 @@ public class ExchangeService {
             AuctionContext context,
             BidderAliases aliases,
             Map<String, ExtBidderConfigOrtb> biddersToConfigs,
+            FpdMergeCache fpdMergeCache,
             EidPermissionResolver eidPermissionResolver) {
 
         final BidRequest bidRequest = context.getBidRequest();
@@ -607,9 +623,9 @@ public class ExchangeService {
             final boolean useFirstPartyData = firstPartyDataBidders == null || firstPartyDataBidders.stream()
                     .anyMatch(fpdBidder -> StringUtils.equalsIgnoreCase(fpdBidder, bidder));
             final User preparedUser = prepareUser(
-                    bidder, context, aliases, useFirstPartyData, fpdConfig, eidPermissionResolver);
+                    bidder, context, aliases, useFirstPartyData, fpdConfig, fpdMergeCache, eidPermissionResolver);
             final Device preparedDevice = prepareDevice(
-                    bidRequest.getDevice(), fpdConfig, useFirstPartyData);
+                    bidRequest.getDevice(), fpdConfig, fpdMergeCache, useFirstPartyData);
             bidderToUserAndDevice.put(bidder, Pair.of(preparedUser, preparedDevice));
         }
         return bidderToUserAndDevice;
@@ -620,6 +636,7 @@ public class ExchangeService {
                              BidderAliases aliases,
                              boolean useFirstPartyData,
                              ExtBidderConfigOrtb fpdConfig,
+                             FpdMergeCache fpdMergeCache,
                              EidPermissionResolver eidPermissionResolver) {
 
         final User user = context.getBidRequest().getUser();
@@ -657,8 +674,9 @@ public class ExchangeService {
             maskedUser = userBuilder.build();
         }
 
+        final ObjectNode fpdUser = fpdConfig != null ? fpdConfig.getUser() : null;
         return useFirstPartyData
-                ? fpdResolver.resolveUser(maskedUser, fpdConfig == null ? null : fpdConfig.getUser())
+                ? fpdMergeCache.merge(maskedUser, fpdUser, User.class, fpdResolver::resolveUser)
                 : maskedUser;
     }
 
@@ -673,6 +691,7 @@ public class ExchangeService {
             List<Imp> imps,
             Map<String, MultiBidConfig> bidderToMultiBid,
             Map<String, ExtBidderConfigOrtb> biddersToConfigs,
+            FpdMergeCache fpdMergeCache,
             BidderAliases aliases,
             AuctionContext context) {
 
@@ -687,6 +706,7 @@ public class ExchangeService {
                         imps,
                         bidderToMultiBid,
                         biddersToConfigs,
+                        fpdMergeCache,
                         bidderToPrebidBidders,
                         aliases,
                         context))
@@ -724,6 +744,7 @@ public class ExchangeService {
             List<Imp> imps,
             Map<String, MultiBidConfig> bidderToMultiBid,
             Map<String, ExtBidderConfigOrtb> biddersToConfigs,
+            FpdMergeCache fpdMergeCache,
             Map<String, JsonNode> bidderToPrebidBidders,
             BidderAliases bidderAliases,
             AuctionContext context) {
@@ -761,6 +782,7 @@ public class ExchangeService {
                 enrichedWithPriceFloors,
                 bidderToMultiBid,
                 biddersToConfigs,
+                fpdMergeCache,
                 bidderToPrebidBidders,
                 context);
 
@@ -793,6 +815,7 @@ public class ExchangeService {
                                          BidRequest bidRequest,
                                          Map<String, MultiBidConfig> bidderToMultiBid,
                                          Map<String, ExtBidderConfigOrtb> biddersToConfigs,
+                                         FpdMergeCache fpdMergeCache,
                                          Map<String, JsonNode> bidderToPrebidBidders,
                                          AuctionContext context) {
 
@@ -812,9 +835,9 @@ public class ExchangeService {
         final ObjectNode fpdSite = fpdConfig != null ? fpdConfig.getSite() : null;
         final ObjectNode fpdApp = fpdConfig != null ? fpdConfig.getApp() : null;
         final ObjectNode fpdDooh = fpdConfig != null ? fpdConfig.getDooh() : null;
-        final App preparedApp = prepareApp(app, fpdApp, useFirstPartyData);
-        final Site preparedSite = prepareSite(site, fpdSite, useFirstPartyData);
-        final Dooh preparedDooh = prepareDooh(dooh, fpdDooh, useFirstPartyData);
+        final App preparedApp = prepareApp(app, fpdApp, fpdMergeCache, useFirstPartyData);
+        final Site preparedSite = prepareSite(site, fpdSite, fpdMergeCache, useFirstPartyData);
+        final Dooh preparedDooh = prepareDooh(dooh, fpdDooh, fpdMergeCache, useFirstPartyData);
 
         final List<String> distributionChannels = new ArrayList<>();
         Optional.ofNullable(preparedApp).ifPresent(ignored -> distributionChannels.add("app"));
@@ -954,7 +977,7 @@ public class ExchangeService {
         return modifiedExtImpPrebid;
     }
 
-    private App prepareApp(App app, ObjectNode fpdApp, boolean useFirstPartyData) {
+    private App prepareApp(App app, ObjectNode fpdApp, FpdMergeCache fpdMergeCache, boolean useFirstPartyData) {
         final ExtApp appExt = app != null ? app.getExt() : null;
         final Content content = app != null ? app.getContent() : null;
         final boolean shouldCleanExtData = appExt != null && appExt.getData() != null && !useFirstPartyData;
@@ -967,14 +990,22 @@ public class ExchangeService {
                 .build()
                 : app;
 
-        return useFirstPartyData ? fpdResolver.resolveApp(maskedApp, fpdApp) : maskedApp;
+        return useFirstPartyData
+                ? fpdMergeCache.merge(maskedApp, fpdApp, App.class, fpdResolver::resolveApp)
+                : maskedApp;
     }
 
-    private Device prepareDevice(Device device, ExtBidderConfigOrtb fpdConfig, boolean useFirstPartyData) {
+    private Device prepareDevice(Device device,
+                                 ExtBidderConfigOrtb fpdConfig,
+                                 FpdMergeCache fpdMergeCache,
+                                 boolean useFirstPartyData) {
+
         if (fpdConfig == null) {
             return device;
         }
-        return useFirstPartyData ? fpdResolver.resolveDevice(device, fpdConfig.getDevice()) : device;
+        return useFirstPartyData
+                ? fpdMergeCache.merge(device, fpdConfig.getDevice(), Device.class, fpdResolver::resolveDevice)
+                : device;
     }
 
     private static ExtApp maskExtApp(ExtApp appExt) {
@@ -982,7 +1013,7 @@ public class ExchangeService {
         return maskedExtApp.isEmpty() ? null : maskedExtApp;
     }
 
-    private Site prepareSite(Site site, ObjectNode fpdSite, boolean useFirstPartyData) {
+    private Site prepareSite(Site site, ObjectNode fpdSite, FpdMergeCache fpdMergeCache, boolean useFirstPartyData) {
         final ExtSite siteExt = site != null ? site.getExt() : null;
         final Content content = site != null ? site.getContent() : null;
         final boolean shouldCleanExtData = siteExt != null && siteExt.getData() != null && !useFirstPartyData;
@@ -995,7 +1026,9 @@ public class ExchangeService {
                 .build()
                 : site;
 
-        return useFirstPartyData ? fpdResolver.resolveSite(maskedSite, fpdSite) : maskedSite;
+        return useFirstPartyData
+                ? fpdMergeCache.merge(maskedSite, fpdSite, Site.class, fpdResolver::resolveSite)
+                : maskedSite;
     }
 
     private static ExtSite maskExtSite(ExtSite siteExt) {
@@ -1003,7 +1036,7 @@ public class ExchangeService {
         return maskedExtSite.isEmpty() ? null : maskedExtSite;
     }
 
-    private Dooh prepareDooh(Dooh dooh, ObjectNode fpdDooh, boolean useFirstPartyData) {
+    private Dooh prepareDooh(Dooh dooh, ObjectNode fpdDooh, FpdMergeCache fpdMergeCache, boolean useFirstPartyData) {
         final ExtDooh doohExt = dooh != null ? dooh.getExt() : null;
         final Content content = dooh != null ? dooh.getContent() : null;
         final boolean shouldCleanExtData = doohExt != null && doohExt.getData() != null && !useFirstPartyData;
@@ -1016,7 +1049,9 @@ public class ExchangeService {
                 .build()
                 : dooh;
 
-        return useFirstPartyData ? fpdResolver.resolveDooh(maskedDooh, fpdDooh) : maskedDooh;
+        return useFirstPartyData
+                ? fpdMergeCache.merge(maskedDooh, fpdDooh, Dooh.class, fpdResolver::resolveDooh)
+                : maskedDooh;
     }
 
     private static Content prepareContent(Content content) {
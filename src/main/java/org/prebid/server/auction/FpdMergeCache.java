@@ -0,0 +1,37 @@
+package org.prebid.server.auction;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * Remembers results of bidder-specific first party data merges made within a single auction.
+ * <p>
+ * Bidders sharing the same bidder config get the same FPD node, so merging it into the same original object again
+ * returns the result of the first merge. Merged objects carry mutable ext nodes, therefore the cache must not outlive
+ * the auction it was created for. Not thread-safe, as bidder requests of an auction are prepared sequentially.
+ */
+class FpdMergeCache {
+
+    private final Map<ObjectNode, MergeResult> mergeResults = new IdentityHashMap<>();
+
+    <T> T merge(T original, ObjectNode fpd, Class<T> type, BiFunction<T, ObjectNode, T> resolver) {
+        if (fpd == null) {
+            return resolver.apply(original, null);
+        }
+
+        final MergeResult previousResult = mergeResults.get(fpd);
+        if (previousResult != null && previousResult.type() == type && previousResult.original() == original) {
+            return type.cast(previousResult.merged());
+        }
+
+        final T merged = resolver.apply(original, fpd);
+        mergeResults.put(fpd, new MergeResult(type, original, merged));
+        return merged;
+    }
+
+    private record MergeResult(Class<?> type, Object original, Object merged) {
+    }
+}
@@ -0,0 +1,155 @@
+package org.prebid.server.auction;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.prebid.server.json.JsonMerger;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Applies JSON merge patch to the OpenRTB model built with lombok builder, without converting the whole model
+ * to JSON tree and back.
+ * <p>
+ * Only the properties mentioned in the patch are converted: each of them is taken from the original object, merged
+ * with its part of the patch and set to the builder of the original object. Patch is expected to contain only
+ * properties the merger was created with, see {@link #canApply(ObjectNode)}.
+ */
+class FpdModelMerger<T, B> {
+
+    private final ObjectMapper mapper;
+    private final JsonMerger jsonMerger;
+    private final Function<T, B> toBuilder;
+    private final Supplier<B> newBuilder;
+    private final Function<B, T> build;
+    private final Map<String, BoundProperty<T, B>> properties;
+
+    private FpdModelMerger(ObjectMapper mapper,
+                           JsonMerger jsonMerger,
+                           Function<T, B> toBuilder,
+                           Supplier<B> newBuilder,
+                           Function<B, T> build,
+                           Map<String, BoundProperty<T, B>> properties) {
+
+        this.mapper = mapper;
+        this.jsonMerger = jsonMerger;
+        this.toBuilder = toBuilder;
+        this.newBuilder = newBuilder;
+        this.build = build;
+        this.properties = properties;
+    }
+
+    /**
+     * Creates merger for the given model and its properties, looking up JSON type of each property once.
+     */
+    static <T, B> FpdModelMerger<T, B> of(ObjectMapper mapper,
+                                          JsonMerger jsonMerger,
+                                          Class<T> type,
+                                          Function<T, B> toBuilder,
+                                          Supplier<B> newBuilder,
+                                          Function<B, T> build,
+                                          List<Property<T, B, ?>> properties) {
+
+        final BeanDescription description = mapper.getSerializationConfig().introspect(mapper.constructType(type));
+        final Map<String, BeanPropertyDefinition> definitions = description.findProperties().stream()
+                .collect(Collectors.toMap(BeanPropertyDefinition::getName, Function.identity()));
+
+        final Map<String, BoundProperty<T, B>> boundProperties = new HashMap<>();
+        for (Property<T, B, ?> property : properties) {
+            final BeanPropertyDefinition definition = definitions.get(property.name());
+            if (definition == null) {
+                throw new IllegalArgumentException(
+                        "Unknown property %s of %s".formatted(property.name(), type.getName()));
+            }
+
+            boundProperties.put(
+                    property.name(),
+                    new BoundProperty<>(property, mapper.readerFor(definition.getPrimaryType())));
+        }
+
+        return new FpdModelMerger<>(
+                Objects.requireNonNull(mapper),
+                Objects.requireNonNull(jsonMerger),
+                Objects.requireNonNull(toBuilder),
+                Objects.requireNonNull(newBuilder),
+                Objects.requireNonNull(build),
+                boundProperties);
+    }
+
+    boolean canApply(ObjectNode patch) {
+        final Iterator<String> fieldNames = patch.fieldNames();
+        while (fieldNames.hasNext()) {
+            if (!properties.containsKey(fieldNames.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the original object with the patch applied.
+     *
+     * @throws IOException if patched property value can't be converted to the property type.
+     */
+    T apply(T original, ObjectNode patch) throws IOException {
+        final B builder = original != null ? toBuilder.apply(original) : newBuilder.get();
+
+        final Iterator<Map.Entry<String, JsonNode>> fields = patch.fields();
+        while (fields.hasNext()) {
+            final Map.Entry<String, JsonNode> field = fields.next();
+            final BoundProperty<T, B> boundProperty = properties.get(field.getKey());
+            final Object originalValue = original != null ? boundProperty.property().getter().apply(original) : null;
+
+            boundProperty.property().set(builder, mergeValue(originalValue, field.getValue(), boundProperty.reader()));
+        }
+
+        return build.apply(builder);
+    }
+
+    /**
+     * Follows JSON merge patch rules: null removes the value, object is merged with the original value
+     * and everything else replaces it.
+     */
+    private Object mergeValue(Object originalValue, JsonNode patchValue, ObjectReader reader) throws IOException {
+        if (patchValue.isNull()) {
+            return null;
+        }
+
+        if (!patchValue.isObject()) {
+            return reader.readValue(patchValue);
+        }
+
+        final JsonNode originalNode = originalValue != null
+                ? mapper.valueToTree(originalValue)
+                : NullNode.getInstance();
+        return reader.readValue(jsonMerger.merge(patchValue, originalNode));
+    }
+
+    /**
+     * JSON property of the model with its getter and builder method.
+     */
+    record Property<T, B, V>(String name, Function<T, V> getter, BiConsumer<B, V> setter) {
+
+        @SuppressWarnings("unchecked")
+        void set(B builder, Object value) {
+            // value is read by the reader of this property type
+            setter.accept(builder, (V) value);
+        }
+    }
+
+    private record BoundProperty<T, B>(Property<T, B, ?> property, ObjectReader reader) {
+    }
+}
@@ -14,8 +14,12 @@ import org.prebid.server.exception.InvalidRequestException;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.json.JsonMerger;
 
+import java.io.IOException;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 public class FpdResolver {
 
@@ -32,36 +36,187 @@ public class FpdResolver {
     private final JacksonMapper jacksonMapper;
     private final JsonMerger jsonMerger;
 
+    private final FpdModelMerger<User, User.UserBuilder> userMerger;
+    private final FpdModelMerger<App, App.AppBuilder> appMerger;
+    private final FpdModelMerger<Site, Site.SiteBuilder> siteMerger;
+    private final FpdModelMerger<Dooh, Dooh.DoohBuilder> doohMerger;
+    private final FpdModelMerger<Device, Device.DeviceBuilder> deviceMerger;
+
     public FpdResolver(JacksonMapper jacksonMapper, JsonMerger jsonMerger) {
         this.jacksonMapper = Objects.requireNonNull(jacksonMapper);
         this.jsonMerger = Objects.requireNonNull(jsonMerger);
+
+        final ObjectMapper mapper = jacksonMapper.mapper();
+        userMerger = FpdModelMerger.of(mapper, jsonMerger, User.class,
+                User::toBuilder, User::builder, User.UserBuilder::build, userProperties());
+        appMerger = FpdModelMerger.of(mapper, jsonMerger, App.class,
+                App::toBuilder, App::builder, App.AppBuilder::build, appProperties());
+        siteMerger = FpdModelMerger.of(mapper, jsonMerger, Site.class,
+                Site::toBuilder, Site::builder, Site.SiteBuilder::build, siteProperties());
+        doohMerger = FpdModelMerger.of(mapper, jsonMerger, Dooh.class,
+                Dooh::toBuilder, Dooh::builder, Dooh.DoohBuilder::build, doohProperties());
+        deviceMerger = FpdModelMerger.of(mapper, jsonMerger, Device.class,
+                Device::toBuilder, Device::builder, Device.DeviceBuilder::build, deviceProperties());
+    }
+
+    private static List<FpdModelMerger.Property<User, User.UserBuilder, ?>> userProperties() {
+        return List.of(
+                property("id", User::getId, User.UserBuilder::id),
+                property("buyeruid", User::getBuyeruid, User.UserBuilder::buyeruid),
+                property("yob", User::getYob, User.UserBuilder::yob),
+                property("gender", User::getGender, User.UserBuilder::gender),
+                property("keywords", User::getKeywords, User.UserBuilder::keywords),
+                property("kwarray", User::getKwarray, User.UserBuilder::kwarray),
+                property("customdata", User::getCustomdata, User.UserBuilder::customdata),
+                property("geo", User::getGeo, User.UserBuilder::geo),
+                property("data", User::getData, User.UserBuilder::data),
+                property("consent", User::getConsent, User.UserBuilder::consent),
+                property("eids", User::getEids, User.UserBuilder::eids),
+                property("ext", User::getExt, User.UserBuilder::ext));
+    }
+
+    private static List<FpdModelMerger.Property<App, App.AppBuilder, ?>> appProperties() {
+        return List.of(
+                property("id", App::getId, App.AppBuilder::id),
+                property("name", App::getName, App.AppBuilder::name),
+                property("bundle", App::getBundle, App.AppBuilder::bundle),
+                property("domain", App::getDomain, App.AppBuilder::domain),
+                property("storeurl", App::getStoreurl, App.AppBuilder::storeurl),
+                property("cattax", App::getCattax, App.AppBuilder::cattax),
+                property("cat", App::getCat, App.AppBuilder::cat),
+                property("sectioncat", App::getSectioncat, App.AppBuilder::sectioncat),
+                property("pagecat", App::getPagecat, App.AppBuilder::pagecat),
+                property("ver", App::getVer, App.AppBuilder::ver),
+                property("privacypolicy", App::getPrivacypolicy, App.AppBuilder::privacypolicy),
+                property("paid", App::getPaid, App.AppBuilder::paid),
+                property("publisher", App::getPublisher, App.AppBuilder::publisher),
+                property("content", App::getContent, App.AppBuilder::content),
+                property("keywords", App::getKeywords, App.AppBuilder::keywords),
+                property("kwarray", App::getKwarray, App.AppBuilder::kwarray),
+                property("inventorypartnerdomain", App::getInventorypartnerdomain,
+                        App.AppBuilder::inventorypartnerdomain),
+                property("ext", App::getExt, App.AppBuilder::ext));
+    }
+
+    private static List<FpdModelMerger.Property<Site, Site.SiteBuilder, ?>> siteProperties() {
+        return List.of(
+                property("id", Site::getId, Site.SiteBuilder::id),
+                property("name", Site::getName, Site.SiteBuilder::name),
+                property("domain", Site::getDomain, Site.SiteBuilder::domain),
+                property("cattax", Site::getCattax, Site.SiteBuilder::cattax),
+                property("cat", Site::getCat, Site.SiteBuilder::cat),
+                property("sectioncat", Site::getSectioncat, Site.SiteBuilder::sectioncat),
+                property("pagecat", Site::getPagecat, Site.SiteBuilder::pagecat),
+                property("page", Site::getPage, Site.SiteBuilder::page),
+                property("ref", Site::getRef, Site.SiteBuilder::ref),
+                property("search", Site::getSearch, Site.SiteBuilder::search),
+                property("mobile", Site::getMobile, Site.SiteBuilder::mobile),
+                property("privacypolicy", Site::getPrivacypolicy, Site.SiteBuilder::privacypolicy),
+                property("publisher", Site::getPublisher, Site.SiteBuilder::publisher),
+                property("content", Site::getContent, Site.SiteBuilder::content),
+                property("keywords", Site::getKeywords, Site.SiteBuilder::keywords),
+                property("kwarray", Site::getKwarray, Site.SiteBuilder::kwarray),
+                property("inventorypartnerdomain", Site::getInventorypartnerdomain,
+                        Site.SiteBuilder::inventorypartnerdomain),
+                property("ext", Site::getExt, Site.SiteBuilder::ext));
+    }
+
+    private static List<FpdModelMerger.Property<Dooh, Dooh.DoohBuilder, ?>> doohProperties() {
+        return List.of(
+                property("id", Dooh::getId, Dooh.DoohBuilder::id),
+                property("name", Dooh::getName, Dooh.DoohBuilder::name),
+                property("venuetype", Dooh::getVenuetype, Dooh.DoohBuilder::venuetype),
+                property("venuetypetax", Dooh::getVenuetypetax, Dooh.DoohBuilder::venuetypetax),
+                property("publisher", Dooh::getPublisher, Dooh.DoohBuilder::publisher),
+                property("domain", Dooh::getDomain, Dooh.DoohBuilder::domain),
+                property("keywords", Dooh::getKeywords, Dooh.DoohBuilder::keywords),
+                property("content", Dooh::getContent, Dooh.DoohBuilder::content),
+                property("ext", Dooh::getExt, Dooh.DoohBuilder::ext));
+    }
+
+    private static List<FpdModelMerger.Property<Device, Device.DeviceBuilder, ?>> deviceProperties() {
+        return List.of(
+                property("geo", Device::getGeo, Device.DeviceBuilder::geo),
+                property("dnt", Device::getDnt, Device.DeviceBuilder::dnt),
+                property("lmt", Device::getLmt, Device.DeviceBuilder::lmt),
+                property("ua", Device::getUa, Device.DeviceBuilder::ua),
+                property("sua", Device::getSua, Device.DeviceBuilder::sua),
+                property("ip", Device::getIp, Device.DeviceBuilder::ip),
+                property("ipv6", Device::getIpv6, Device.DeviceBuilder::ipv6),
+                property("devicetype", Device::getDevicetype, Device.DeviceBuilder::devicetype),
+                property("make", Device::getMake, Device.DeviceBuilder::make),
+                property("model", Device::getModel, Device.DeviceBuilder::model),
+                property("os", Device::getOs, Device.DeviceBuilder::os),
+                property("osv", Device::getOsv, Device.DeviceBuilder::osv),
+                property("hwv", Device::getHwv, Device.DeviceBuilder::hwv),
+                property("h", Device::getH, Device.DeviceBuilder::h),
+                property("w", Device::getW, Device.DeviceBuilder::w),
+                property("ppi", Device::getPpi, Device.DeviceBuilder::ppi),
+                property("pxratio", Device::getPxratio, Device.DeviceBuilder::pxratio),
+                property("js", Device::getJs, Device.DeviceBuilder::js),
+                property("geofetch", Device::getGeofetch, Device.DeviceBuilder::geofetch),
+                property("flashver", Device::getFlashver, Device.DeviceBuilder::flashver),
+                property("language", Device::getLanguage, Device.DeviceBuilder::language),
+                property("langb", Device::getLangb, Device.DeviceBuilder::langb),
+                property("carrier", Device::getCarrier, Device.DeviceBuilder::carrier),
+                property("mccmnc", Device::getMccmnc, Device.DeviceBuilder::mccmnc),
+                property("connectiontype", Device::getConnectiontype, Device.DeviceBuilder::connectiontype),
+                property("ifa", Device::getIfa, Device.DeviceBuilder::ifa),
+                property("didsha1", Device::getDidsha1, Device.DeviceBuilder::didsha1),
+                property("didmd5", Device::getDidmd5, Device.DeviceBuilder::didmd5),
+                property("dpidsha1", Device::getDpidsha1, Device.DeviceBuilder::dpidsha1),
+                property("dpidmd5", Device::getDpidmd5, Device.DeviceBuilder::dpidmd5),
+                property("macsha1", Device::getMacsha1, Device.DeviceBuilder::macsha1),
+                property("macmd5", Device::getMacmd5, Device.DeviceBuilder::macmd5),
+                property("ext", Device::getExt, Device.DeviceBuilder::ext));
+    }
+
+    private static <T, B, V> FpdModelMerger.Property<T, B, V> property(String name,
+                                                                        Function<T, V> getter,
+                                                                        BiConsumer<B, V> setter) {
+
+        return new FpdModelMerger.Property<>(name, getter, setter);
     }
 
     public User resolveUser(User originUser, ObjectNode fpdUser) {
-        return mergeFpd(originUser, fpdUser, User.class);
+        return mergeFpd(originUser, fpdUser, User.class, userMerger);
     }
 
     public App resolveApp(App originApp, ObjectNode fpdApp) {
-        return mergeFpd(originApp, fpdApp, App.class);
+        return mergeFpd(originApp, fpdApp, App.class, appMerger);
     }
 
     public Site resolveSite(Site originSite, ObjectNode fpdSite) {
-        return mergeFpd(originSite, fpdSite, Site.class);
+        return mergeFpd(originSite, fpdSite, Site.class, siteMerger);
     }
 
     public Dooh resolveDooh(Dooh originDooh, ObjectNode fpdDooh) {
-        return mergeFpd(originDooh, fpdDooh, Dooh.class);
+        return mergeFpd(originDooh, fpdDooh, Dooh.class, doohMerger);
     }
 
     public Device resolveDevice(Device originDevice, ObjectNode fpdDevice) {
-        return mergeFpd(originDevice, fpdDevice, Device.class);
+        return mergeFpd(originDevice, fpdDevice, Device.class, deviceMerger);
     }
 
-    private <T> T mergeFpd(T original, ObjectNode fpd, Class<T> tClass) {
+    private <T> T mergeFpd(T original, ObjectNode fpd, Class<T> tClass, FpdModelMerger<T, ?> merger) {
         if (fpd == null || fpd.isNull() || fpd.isMissingNode()) {
             return original;
         }
 
+        return merger.canApply(fpd)
+                ? applyFpd(original, fpd, tClass, merger)
+                : convertFpd(original, fpd, tClass);
+    }
+
+    private static <T> T applyFpd(T original, ObjectNode fpd, Class<T> tClass, FpdModelMerger<T, ?> merger) {
+        try {
+            return merger.apply(original, fpd);
+        } catch (IOException e) {
+            throw new InvalidRequestException("Can't convert merging result class " + tClass.getName());
+        }
+    }
+
+    private <T> T convertFpd(T original, ObjectNode fpd, Class<T> tClass) {
         final ObjectMapper mapper = jacksonMapper.mapper();
 
         final JsonNode originalAsJsonNode = original != null
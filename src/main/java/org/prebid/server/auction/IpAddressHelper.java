@@ -1,5 +1,7 @@
 package org.prebid.server.auction;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import inet.ipaddr.AddressStringException;
 import inet.ipaddr.IPAddress;
 import inet.ipaddr.IPAddressString;
@@ -11,7 +13,16 @@ import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
 
 import java.util.List;
-
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Parses, sanitizes and masks device IP addresses.
+ * <p>
+ * The same device IP is processed several times per request (implicit parameters, TCF geolocation, privacy masks),
+ * so results of {@link #toIpAddress(String)} and {@link #anonymizeIpv6(String)} are kept in bounded caches keyed
+ * by the raw IP string, including negative ones.
+ */
 public class IpAddressHelper {
 
     private static final Logger logger = LoggerFactory.getLogger(IpAddressHelper.class);
@@ -26,7 +37,18 @@ public class IpAddressHelper {
     private final IPAddress ipv6AnonLeftMaskAddress;
     private final List<IPAddress> ipv6LocalNetworkMaskAddresses;
 
+    private final Cache<String, Optional<IpAddress>> ipAddressCache;
+    private final Cache<String, Optional<String>> anonymizedIpv6Cache;
+
     public IpAddressHelper(int ipv6AlwaysMaskBits, int ipv6AnonLeftMaskBits, List<String> ipv6LocalNetworks) {
+        this(ipv6AlwaysMaskBits, ipv6AnonLeftMaskBits, ipv6LocalNetworks, 0);
+    }
+
+    public IpAddressHelper(int ipv6AlwaysMaskBits,
+                           int ipv6AnonLeftMaskBits,
+                           List<String> ipv6LocalNetworks,
+                           int cacheMaxSize) {
+
         ipv6AlwaysMaskAddress =
                 toAddress("::/" + validateIpv6AlwaysMaskBits(ipv6AlwaysMaskBits)).getNetworkMask();
         ipv6AnonLeftMaskAddress =
@@ -34,9 +56,28 @@ public class IpAddressHelper {
         ipv6LocalNetworkMaskAddresses = ipv6LocalNetworks.stream()
                 .map(this::toAddress)
                 .toList();
+
+        ipAddressCache = createCache(validateCacheMaxSize(cacheMaxSize));
+        anonymizedIpv6Cache = createCache(cacheMaxSize);
+    }
+
+    private static <T> Cache<String, Optional<T>> createCache(int maxSize) {
+        return maxSize > 0 ? Caffeine.newBuilder().maximumSize(maxSize).build() : null;
+    }
+
+    private static <T> T cached(Cache<String, Optional<T>> cache, String ip, Function<String, T> mapper) {
+        if (cache == null || ip == null) {
+            return mapper.apply(ip);
+        }
+
+        return cache.get(ip, key -> Optional.ofNullable(mapper.apply(key))).orElse(null);
     }
 
     public String anonymizeIpv6(String ip) {
+        return cached(anonymizedIpv6Cache, ip, this::anonymizeIpv6Uncached);
+    }
+
+    private String anonymizeIpv6Uncached(String ip) {
         try {
             final IPAddressString ipAddressString = new IPAddressString(ip);
             return ipAddressString.isIPv6()
@@ -49,6 +90,10 @@ public class IpAddressHelper {
     }
 
     public IpAddress toIpAddress(String ip) {
+        return cached(ipAddressCache, ip, this::toIpAddressUncached);
+    }
+
+    private IpAddress toIpAddressUncached(String ip) {
         final IPAddress ipAddress = toIpAddressInternal(ip);
 
         if (ipAddress == null) {
@@ -113,6 +158,14 @@ public class IpAddressHelper {
         return ipv6AnonLeftMaskBits;
     }
 
+    private static int validateCacheMaxSize(int cacheMaxSize) {
+        if (cacheMaxSize < 0) {
+            throw new IllegalArgumentException("IP address cache max size should be non-negative");
+        }
+
+        return cacheMaxSize;
+    }
+
     private IPAddress toAddress(String address) {
         try {
             return new IPAddressString(address).toAddress();
@@ -30,6 +30,7 @@ import org.prebid.server.proto.openrtb.ext.request.ExtStoredBidResponse;
 import org.prebid.server.proto.openrtb.ext.response.BidType;
 import org.prebid.server.proto.openrtb.ext.response.ExtBidPrebid;
 import org.prebid.server.settings.ApplicationSettings;
+import org.prebid.server.settings.SettingsCache;
 import org.prebid.server.settings.model.StoredResponseDataResult;
 
 import java.io.IOException;
@@ -46,6 +47,10 @@ import java.util.stream.Collectors;
 
 /**
  * Resolves stored response data retrieving and BidderResponse merging processes.
+ * <p>
+ * Parsed stored auction responses are cached by their JSON, so the same stored response isn't parsed for every
+ * request, and a stored response changed in settings is parsed again. Cached {@link SeatBid}s are shared between
+ * requests and must not be modified.
  */
 public class StoredResponseProcessor {
 
@@ -59,12 +64,18 @@ public class StoredResponseProcessor {
 
     private final ApplicationSettings applicationSettings;
     private final JacksonMapper mapper;
+    private final Map<String, List<SeatBid>> parsedSeatBidsCache;
 
     public StoredResponseProcessor(ApplicationSettings applicationSettings,
-                                   JacksonMapper mapper) {
+                                   JacksonMapper mapper,
+                                   int parsedCacheTtlSeconds,
+                                   int parsedCacheSize) {
 
         this.applicationSettings = Objects.requireNonNull(applicationSettings);
         this.mapper = Objects.requireNonNull(mapper);
+        this.parsedSeatBidsCache = parsedCacheSize > 0
+                ? SettingsCache.createCache(parsedCacheTtlSeconds, parsedCacheSize, 0)
+                : null;
     }
 
     public Future<StoredResponseResult> getStoredResponseResult(List<Imp> imps, Timeout timeout) {
@@ -240,11 +251,33 @@ public class StoredResponseProcessor {
     }
 
     private List<SeatBid> parseSeatBid(String id, String rowSeatBid) {
+        final List<SeatBid> cachedSeatBids = parsedSeatBidsCache != null ? parsedSeatBidsCache.get(rowSeatBid) : null;
+        if (cachedSeatBids != null) {
+            return cachedSeatBids;
+        }
+
+        final List<SeatBid> seatBids;
         try {
-            return mapper.mapper().readValue(rowSeatBid, SEATBID_LIST_TYPE);
+            seatBids = mapper.mapper().readValue(rowSeatBid, SEATBID_LIST_TYPE);
         } catch (IOException e) {
             throw new InvalidRequestException("Can't parse Json for stored response with id " + id);
         }
+
+        if (parsedSeatBidsCache == null || seatBids == null) {
+            return seatBids;
+        }
+
+        final List<SeatBid> unmodifiableSeatBids = seatBids.stream()
+                .map(StoredResponseProcessor::toUnmodifiableSeatBid)
+                .toList();
+        parsedSeatBidsCache.put(rowSeatBid, unmodifiableSeatBids);
+        return unmodifiableSeatBids;
+    }
+
+    private static SeatBid toUnmodifiableSeatBid(SeatBid seatBid) {
+        return seatBid != null && seatBid.getBid() != null
+                ? seatBid.toBuilder().bid(Collections.unmodifiableList(seatBid.getBid())).build()
+                : seatBid;
     }
 
     private void validateStoredSeatBid(List<SeatBid> seatBids) {
@@ -260,7 +293,10 @@ public class StoredResponseProcessor {
     }
 
     private SeatBid updateSeatBidBids(SeatBid seatBid, String impId) {
-        return seatBid.toBuilder().bid(updateBidsWithImpId(seatBid.getBid(), impId)).build();
+        final List<Bid> bids = seatBid.getBid();
+        return bids.stream().allMatch(bid -> impId.equals(bid.getImpid()))
+                ? seatBid
+                : seatBid.toBuilder().bid(updateBidsWithImpId(bids, impId)).build();
     }
 
     private List<Bid> updateBidsWithImpId(List<Bid> bids, String impId) {
@@ -5,6 +5,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.auction.gpp.model.GppContext;
 import org.prebid.server.auction.gpp.model.GppContextCreator;
 import org.prebid.server.auction.gpp.model.GppContextWrapper;
+import org.prebid.server.auction.gpp.model.GppModelCache;
 import org.prebid.server.auction.gpp.model.privacy.TcfEuV2Privacy;
 import org.prebid.server.auction.model.SetuidContext;
 import org.prebid.server.model.UpdateResult;
@@ -17,9 +18,11 @@ import java.util.Objects;
 public class SetuidGppService {
 
     private final GppService gppService;
+    private final GppModelCache gppModelCache;
 
-    public SetuidGppService(GppService gppService) {
+    public SetuidGppService(GppService gppService, GppModelCache gppModelCache) {
         this.gppService = Objects.requireNonNull(gppService);
+        this.gppModelCache = Objects.requireNonNull(gppModelCache);
     }
 
     public Future<GppContext> contextFrom(SetuidContext setuidContext) {
@@ -29,7 +32,7 @@ public class SetuidGppService {
         return Future.succeededFuture(gppContextWrapper.getGppContext());
     }
 
-    private static GppContextWrapper contextFrom(PrivacyContext privacyContext) {
+    private GppContextWrapper contextFrom(PrivacyContext privacyContext) {
         final Privacy privacy = privacyContext.getPrivacy();
 
         final String gpp = privacy.getGpp();
@@ -38,7 +41,7 @@ public class SetuidGppService {
         final Integer gdpr = toInt(privacy.getGdpr());
         final String consent = privacy.getConsentString();
 
-        return GppContextCreator.from(gpp, gppSid)
+        return GppContextCreator.from(gpp, gppSid, gppModelCache)
                 .with(TcfEuV2Privacy.of(gdpr, consent))
                 .build();
     }
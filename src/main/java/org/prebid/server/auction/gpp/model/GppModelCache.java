@@ -0,0 +1,60 @@
+package org.prebid.server.auction.gpp.model;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.iab.gpp.encoder.GppModel;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.metric.Metrics;
+
+import java.util.Objects;
+
+/**
+ * Bounded cache of decoded {@link GppModel}s keyed by the raw GPP string, so the same string arriving
+ * on auction, cookie sync and setuid requests is decoded once.
+ * <p>
+ * Cached models are shared between requests, see {@link GppModelWrapper} for the details.
+ * Invalid strings are not cached.
+ */
+public class GppModelCache {
+
+    private final Cache<String, GppModel> cache;
+    private final Metrics metrics;
+
+    public GppModelCache(int maxSize, Metrics metrics) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("maxSize must be non-negative");
+        }
+
+        cache = maxSize > 0 ? Caffeine.newBuilder().maximumSize(maxSize).build() : null;
+        this.metrics = Objects.requireNonNull(metrics);
+    }
+
+    /**
+     * Returns decoded model for the given GPP string or null if the string is empty.
+     *
+     * @throws PreBidException if the string is invalid.
+     */
+    GppModel get(String gpp) {
+        if (StringUtils.isEmpty(gpp)) {
+            return null;
+        }
+
+        final GppModel cachedGppModel = cache != null ? cache.getIfPresent(gpp) : null;
+        if (cachedGppModel != null) {
+            metrics.updatePrivacyGppModelCacheMetric(true);
+            return cachedGppModel;
+        }
+
+        metrics.updatePrivacyGppModelCacheMetric(false);
+
+        final long startTime = System.nanoTime();
+        final GppModel gppModel = GppContextUtils.gppModel(gpp);
+        metrics.updatePrivacyGppDecodeTimeMetric(System.nanoTime() - startTime);
+
+        if (cache != null) {
+            cache.put(gpp, gppModel);
+        }
+        return gppModel;
+    }
+}
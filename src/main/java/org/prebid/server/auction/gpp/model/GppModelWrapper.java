@@ -4,11 +4,25 @@ import com.iab.gpp.encoder.GppModel;
 import com.iab.gpp.encoder.error.DecodingException;
 import com.iab.gpp.encoder.error.EncodingException;
 import com.iab.gpp.encoder.section.HeaderV1;
+import com.iab.gpp.encoder.section.UsCa;
+import com.iab.gpp.encoder.section.UsCo;
+import com.iab.gpp.encoder.section.UsCt;
+import com.iab.gpp.encoder.section.UsNat;
+import com.iab.gpp.encoder.section.UsUt;
+import com.iab.gpp.encoder.section.UsVa;
 import io.netty.util.collection.IntObjectHashMap;
 import io.netty.util.collection.IntObjectMap;
 
 import java.util.List;
+import java.util.function.Function;
 
+/**
+ * {@link GppModel} keeping original encoded TCF EU v2 and USP v1 sections and safe to be shared between requests.
+ * <p>
+ * Only the header is decoded upfront, to make sure the string is valid. Section is decoded when consumer asks for
+ * it for the first time, under the lock, since the library decodes sections lazily without any synchronization.
+ * The model must be used only for reading.
+ */
 public class GppModelWrapper extends GppModel {
 
     private static final int TCF_EU_V2_ID = 2;
@@ -44,7 +58,58 @@ public class GppModelWrapper extends GppModel {
     }
 
     @Override
-    public String encodeSection(int sectionId) throws EncodingException {
+    public synchronized boolean hasSection(int sectionId) {
+        return super.hasSection(sectionId);
+    }
+
+    @Override
+    public synchronized String encode() {
+        return super.encode();
+    }
+
+    @Override
+    public synchronized UsNat getUsNatSection() {
+        return decoded(super.getUsNatSection(), UsNat::getVersion);
+    }
+
+    @Override
+    public synchronized UsCa getUsCaSection() {
+        return decoded(super.getUsCaSection(), UsCa::getVersion);
+    }
+
+    @Override
+    public synchronized UsVa getUsVaSection() {
+        return decoded(super.getUsVaSection(), UsVa::getVersion);
+    }
+
+    @Override
+    public synchronized UsCo getUsCoSection() {
+        return decoded(super.getUsCoSection(), UsCo::getVersion);
+    }
+
+    @Override
+    public synchronized UsUt getUsUtSection() {
+        return decoded(super.getUsUtSection(), UsUt::getVersion);
+    }
+
+    @Override
+    public synchronized UsCt getUsCtSection() {
+        return decoded(super.getUsCtSection(), UsCt::getVersion);
+    }
+
+    /**
+     * Reads any field of the section, which makes library decode the whole section while the lock is held,
+     * so the section can be read by other threads afterwards.
+     */
+    private static <T> T decoded(T section, Function<T, ?> anyField) {
+        if (section != null) {
+            anyField.apply(section);
+        }
+        return section;
+    }
+
+    @Override
+    public synchronized String encodeSection(int sectionId) throws EncodingException {
         final String originalSectionString = sectionIdToEncodedString.get(sectionId);
         return originalSectionString != null
                 ? originalSectionString
@@ -15,6 +15,7 @@ import org.prebid.server.activity.infrastructure.payload.impl.PrivacyEnforcement
 import org.prebid.server.auction.aliases.BidderAliases;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.BidderPrivacyResult;
+import org.prebid.server.auction.privacy.enforcement.mask.MaskingOutcomes;
 import org.prebid.server.auction.privacy.enforcement.mask.UserFpdActivityMask;
 import org.prebid.server.proto.openrtb.ext.request.ExtRegs;
 
@@ -35,11 +36,13 @@ public class ActivityEnforcement implements PrivacyEnforcement {
                                                      BidderAliases aliases,
                                                      List<BidderPrivacyResult> results) {
 
+        final MaskingOutcomes maskingOutcomes = new MaskingOutcomes();
         final List<BidderPrivacyResult> enforcedResults = results.stream()
                 .map(bidderPrivacyResult -> applyActivityRestrictions(
                         bidderPrivacyResult,
                         auctionContext.getActivityInfrastructure(),
-                        auctionContext.getBidRequest()))
+                        auctionContext.getBidRequest(),
+                        maskingOutcomes))
                 .toList();
 
         return Future.succeededFuture(enforcedResults);
@@ -47,7 +50,8 @@ public class ActivityEnforcement implements PrivacyEnforcement {
 
     private BidderPrivacyResult applyActivityRestrictions(BidderPrivacyResult bidderPrivacyResult,
                                                           ActivityInfrastructure infrastructure,
-                                                          BidRequest bidRequest) {
+                                                          BidRequest bidRequest,
+                                                          MaskingOutcomes maskingOutcomes) {
 
         final String bidder = bidderPrivacyResult.getRequestBidder();
         final User user = bidderPrivacyResult.getUser();
@@ -60,8 +64,14 @@ public class ActivityEnforcement implements PrivacyEnforcement {
         final boolean disallowTransmitEids = !infrastructure.isAllowed(Activity.TRANSMIT_EIDS, payload);
         final boolean disallowTransmitGeo = !infrastructure.isAllowed(Activity.TRANSMIT_GEO, payload);
 
-        final User resolvedUser = userFpdActivityMask.maskUser(user, disallowTransmitUfpd, disallowTransmitEids);
-        final Device resolvedDevice = userFpdActivityMask.maskDevice(device, disallowTransmitUfpd, disallowTransmitGeo);
+        final User resolvedUser = maskingOutcomes.maskUser(
+                user,
+                new UserMaskOutcome(disallowTransmitUfpd, disallowTransmitEids),
+                () -> userFpdActivityMask.maskUser(user, disallowTransmitUfpd, disallowTransmitEids));
+        final Device resolvedDevice = maskingOutcomes.maskDevice(
+                device,
+                new DeviceMaskOutcome(disallowTransmitUfpd, disallowTransmitGeo),
+                () -> userFpdActivityMask.maskDevice(device, disallowTransmitUfpd, disallowTransmitGeo));
 
         return bidderPrivacyResult.toBuilder()
                 .user(resolvedUser)
@@ -82,4 +92,10 @@ public class ActivityEnforcement implements PrivacyEnforcement {
                         .map(ExtRegs::getGpc)
                         .orElse(null));
     }
+
+    private record UserMaskOutcome(boolean disallowTransmitUfpd, boolean disallowTransmitEids) {
+    }
+
+    private record DeviceMaskOutcome(boolean disallowTransmitUfpd, boolean disallowTransmitGeo) {
+    }
 }
@@ -1,10 +1,13 @@
 package org.prebid.server.auction.privacy.enforcement;
 
 import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Device;
+import com.iab.openrtb.request.User;
 import io.vertx.core.Future;
 import org.prebid.server.auction.aliases.BidderAliases;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.BidderPrivacyResult;
+import org.prebid.server.auction.privacy.enforcement.mask.MaskingOutcomes;
 import org.prebid.server.auction.privacy.enforcement.mask.UserFpdCcpaMask;
 import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.metric.MetricName;
@@ -27,6 +30,8 @@ import java.util.stream.Collectors;
 public class CcpaEnforcement implements PrivacyEnforcement {
 
     private static final String CATCH_ALL_BIDDERS = "*";
+    // CCPA masking has the only outcome, so all enforced bidders with the same user or device share it
+    private static final Object CCPA_MASK_OUTCOME = new Object();
 
     private final UserFpdCcpaMask userFpdCcpaMask;
     private final BidderCatalog bidderCatalog;
@@ -66,8 +71,11 @@ public class CcpaEnforcement implements PrivacyEnforcement {
                 isCcpaEnabled,
                 enforcedBidders);
 
+        final MaskingOutcomes maskingOutcomes = new MaskingOutcomes();
         final List<BidderPrivacyResult> enforcedResults = results.stream()
-                .map(result -> enforcedBidders.contains(result.getRequestBidder()) ? maskCcpa(result) : result)
+                .map(result -> enforcedBidders.contains(result.getRequestBidder())
+                        ? maskCcpa(result, maskingOutcomes)
+                        : result)
                 .toList();
 
         return Future.succeededFuture(enforcedResults);
@@ -113,11 +121,15 @@ public class CcpaEnforcement implements PrivacyEnforcement {
         return ccpaEnforcedBidders;
     }
 
-    private BidderPrivacyResult maskCcpa(BidderPrivacyResult result) {
+    private BidderPrivacyResult maskCcpa(BidderPrivacyResult result, MaskingOutcomes maskingOutcomes) {
+        final User user = result.getUser();
+        final Device device = result.getDevice();
+
         return BidderPrivacyResult.builder()
                 .requestBidder(result.getRequestBidder())
-                .user(userFpdCcpaMask.maskUser(result.getUser()))
-                .device(userFpdCcpaMask.maskDevice(result.getDevice()))
+                .user(maskingOutcomes.maskUser(user, CCPA_MASK_OUTCOME, () -> userFpdCcpaMask.maskUser(user)))
+                .device(maskingOutcomes.maskDevice(
+                        device, CCPA_MASK_OUTCOME, () -> userFpdCcpaMask.maskDevice(device)))
                 .build();
     }
 }
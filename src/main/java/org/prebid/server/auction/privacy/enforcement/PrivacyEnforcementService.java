@@ -7,10 +7,14 @@ import org.prebid.server.auction.aliases.BidderAliases;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.BidderPrivacyResult;
 import org.apache.commons.lang3.tuple.Pair;
+import org.prebid.server.metric.Metrics;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Service provides masking for OpenRTB client sensitive information.
@@ -18,9 +22,11 @@ import java.util.Objects;
 public class PrivacyEnforcementService {
 
     private final List<PrivacyEnforcement> enforcements;
+    private final Metrics metrics;
 
-    public PrivacyEnforcementService(final List<PrivacyEnforcement> enforcements) {
+    public PrivacyEnforcementService(final List<PrivacyEnforcement> enforcements, Metrics metrics) {
         this.enforcements = Objects.requireNonNull(enforcements);
+        this.metrics = Objects.requireNonNull(metrics);
     }
 
     public Future<List<BidderPrivacyResult>> mask(AuctionContext auctionContext,
@@ -42,6 +48,28 @@ public class PrivacyEnforcementService {
                     results -> enforcement.enforce(auctionContext, aliases, results));
         }
 
-        return composedResult;
+        return composedResult.onSuccess(this::updateMaskingClassesMetric);
+    }
+
+    /**
+     * Enforcements share masked objects between bidders with the same outcome, so number of distinct
+     * (by identity) user and device pairs is the number of privacy equivalence classes of the auction.
+     */
+    private void updateMaskingClassesMetric(List<BidderPrivacyResult> results) {
+        final Map<User, Set<Device>> userToDevices = new IdentityHashMap<>();
+        int maskingClasses = 0;
+        for (BidderPrivacyResult result : results) {
+            if (result.isBlockedRequestByTcf()) {
+                continue;
+            }
+
+            final Set<Device> devices = userToDevices.computeIfAbsent(
+                    result.getUser(), key -> Collections.newSetFromMap(new IdentityHashMap<>()));
+            if (devices.add(result.getDevice())) {
+                maskingClasses++;
+            }
+        }
+
+        metrics.updatePrivacyMaskingClassesMetric(maskingClasses);
     }
 }
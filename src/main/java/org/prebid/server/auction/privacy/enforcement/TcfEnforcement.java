@@ -9,6 +9,7 @@ import org.prebid.server.activity.infrastructure.ActivityInfrastructure;
 import org.prebid.server.auction.aliases.BidderAliases;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.BidderPrivacyResult;
+import org.prebid.server.auction.privacy.enforcement.mask.MaskingOutcomes;
 import org.prebid.server.auction.privacy.enforcement.mask.UserFpdTcfMask;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
@@ -175,12 +176,16 @@ public class TcfEnforcement implements PrivacyEnforcement {
     private List<BidderPrivacyResult> applyEnforcements(Map<String, PrivacyEnforcementAction> enforcements,
                                                         List<BidderPrivacyResult> results) {
 
+        final MaskingOutcomes maskingOutcomes = new MaskingOutcomes();
         return results.stream()
-                .map(result -> applyEnforcement(enforcements.get(result.getRequestBidder()), result))
+                .map(result -> applyEnforcement(enforcements.get(result.getRequestBidder()), result, maskingOutcomes))
                 .toList();
     }
 
-    private BidderPrivacyResult applyEnforcement(PrivacyEnforcementAction enforcement, BidderPrivacyResult result) {
+    private BidderPrivacyResult applyEnforcement(PrivacyEnforcementAction enforcement,
+                                                 BidderPrivacyResult result,
+                                                 MaskingOutcomes maskingOutcomes) {
+
         final String bidder = result.getRequestBidder();
 
         final boolean blockBidderRequest = enforcement.isBlockBidderRequest();
@@ -202,11 +207,17 @@ public class TcfEnforcement implements PrivacyEnforcement {
         final boolean maskUserIds = enforcement.isRemoveUserIds() || isLmtEnabled;
         final boolean maskGeo = enforcement.isMaskGeo() || isLmtEnabled;
         final Set<String> eidExceptions = enforcement.getEidExceptions();
-        final User maskedUser = userFpdTcfMask.maskUser(user, maskUserFpd, maskUserIds, eidExceptions);
+        final User maskedUser = maskingOutcomes.maskUser(
+                user,
+                new UserMaskOutcome(maskUserFpd, maskUserIds, eidExceptions),
+                () -> userFpdTcfMask.maskUser(user, maskUserFpd, maskUserIds, eidExceptions));
 
         final boolean maskIp = enforcement.isMaskDeviceIp() || isLmtEnabled;
         final boolean maskDeviceInfo = enforcement.isMaskDeviceInfo() || isLmtEnabled;
-        final Device maskedDevice = userFpdTcfMask.maskDevice(device, maskIp, maskGeo, maskDeviceInfo);
+        final Device maskedDevice = maskingOutcomes.maskDevice(
+                device,
+                new DeviceMaskOutcome(maskIp, maskGeo, maskDeviceInfo),
+                () -> userFpdTcfMask.maskDevice(device, maskIp, maskGeo, maskDeviceInfo));
 
         return BidderPrivacyResult.builder()
                 .requestBidder(bidder)
@@ -215,4 +226,10 @@ public class TcfEnforcement implements PrivacyEnforcement {
                 .blockedAnalyticsByTcf(blockAnalyticsReport)
                 .build();
     }
+
+    private record UserMaskOutcome(boolean maskUserFpd, boolean maskUserIds, Set<String> eidExceptions) {
+    }
+
+    private record DeviceMaskOutcome(boolean maskIp, boolean maskGeo, boolean maskDeviceInfo) {
+    }
 }
@@ -0,0 +1,34 @@
+package org.prebid.server.auction.privacy.enforcement.mask;
+
+import com.iab.openrtb.request.Device;
+import com.iab.openrtb.request.User;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Remembers masked {@link User} and {@link Device} during a single enforcement pass over the bidders.
+ * <p>
+ * Bidders sharing the same original object (by identity) and the same enforcement outcome form an equivalence class:
+ * masking is done once for the whole class and its result is shared between them, so masked objects are never
+ * rebuilt per bidder. Outcome is an arbitrary key with proper equals and hashCode, e.g. record of masking flags.
+ * <p>
+ * Not thread-safe, a new instance is expected for each pass.
+ */
+public class MaskingOutcomes {
+
+    private final Map<User, Map<Object, User>> users = new IdentityHashMap<>();
+    private final Map<Device, Map<Object, Device>> devices = new IdentityHashMap<>();
+
+    public User maskUser(User user, Object outcome, Supplier<User> masking) {
+        return users.computeIfAbsent(user, key -> new HashMap<>())
+                .computeIfAbsent(outcome, key -> masking.get());
+    }
+
+    public Device maskDevice(Device device, Object outcome, Supplier<Device> masking) {
+        return devices.computeIfAbsent(device, key -> new HashMap<>())
+                .computeIfAbsent(outcome, key -> masking.get());
+    }
+}
@@ -114,6 +114,13 @@ public class AuctionRequestFactory {
                 .recover(ortb2RequestFactory::restoreResultFromRejection);
     }
 
+    /**
+     * Returns account id known from the parsed request alone, so it is available before the context is enriched.
+     */
+    public String accountIdFrom(AuctionContext auctionContext) {
+        return ortb2RequestFactory.accountIdFrom(auctionContext.getBidRequest());
+    }
+
     /**
      * Enriches {@link AuctionContext}.
      */
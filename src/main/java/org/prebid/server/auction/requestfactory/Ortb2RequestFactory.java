@@ -191,6 +191,13 @@ public class Ortb2RequestFactory {
                 .compose(accountId -> loadAccount(timeout, httpRequest, accountId));
     }
 
+    /**
+     * Returns account id defined by the bid request itself, without looking it up in stored requests or profiles.
+     */
+    public String accountIdFrom(BidRequest bidRequest) {
+        return bidRequest != null ? accountIdFromBidRequest(bidRequest) : null;
+    }
+
     public Future<ActivityInfrastructure> activityInfrastructureFrom(AuctionContext auctionContext) {
         return Future.succeededFuture(activityInfrastructureCreator.create(
                 auctionContext.getAccount(),
@@ -22,6 +22,8 @@ public class BidderInfo {
 
     boolean usesHttps;
 
+    String endpoint;
+
     String aliasOf;
 
     MaintainerInfo maintainer;
@@ -67,6 +69,7 @@ public class BidderInfo {
                 ortbVersion,
                 debugAllowed,
                 StringUtils.startsWith(endpoint, "https://"),
+                endpoint,
                 aliasOf,
                 new MaintainerInfo(maintainerEmail),
                 new CapabilitiesInfo(
@@ -28,11 +28,16 @@ import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.log.ConditionalLogger;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.log.capture.TrafficCaptureService;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
 import org.prebid.server.proto.openrtb.ext.response.ExtHttpCall;
 import org.prebid.server.proto.openrtb.ext.response.ExtIgi;
 import org.prebid.server.proto.openrtb.ext.response.FledgeAuctionConfig;
 import org.prebid.server.util.HttpUtil;
+import org.prebid.server.util.system.ResourceUsage;
+import org.prebid.server.util.system.ThreadResourceMeter;
 import org.prebid.server.vertx.httpclient.HttpClient;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
 
@@ -48,6 +53,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 import java.util.zip.GZIPOutputStream;
 
@@ -70,21 +76,30 @@ public class HttpBidderRequester {
     private final BidderErrorNotifier bidderErrorNotifier;
     private final HttpBidderRequestEnricher requestEnricher;
     private final JacksonMapper mapper;
+    private final ThreadResourceMeter resourceMeter;
+    private final Metrics metrics;
     private final double logSamplingRate;
+    private final TrafficCaptureService trafficCaptureService;
 
     public HttpBidderRequester(HttpClient httpClient,
                                BidderRequestCompletionTrackerFactory completionTrackerFactory,
                                BidderErrorNotifier bidderErrorNotifier,
                                HttpBidderRequestEnricher requestEnricher,
                                JacksonMapper mapper,
-                               double logSamplingRate) {
+                               ThreadResourceMeter resourceMeter,
+                               Metrics metrics,
+                               double logSamplingRate,
+                               TrafficCaptureService trafficCaptureService) {
 
         this.httpClient = Objects.requireNonNull(httpClient);
         this.completionTrackerFactory = completionTrackerFactoryOrFallback(completionTrackerFactory);
         this.bidderErrorNotifier = Objects.requireNonNull(bidderErrorNotifier);
         this.requestEnricher = Objects.requireNonNull(requestEnricher);
         this.mapper = Objects.requireNonNull(mapper);
+        this.resourceMeter = Objects.requireNonNull(resourceMeter);
+        this.metrics = Objects.requireNonNull(metrics);
         this.logSamplingRate = logSamplingRate;
+        this.trafficCaptureService = trafficCaptureService;
     }
 
     /**
@@ -101,7 +116,10 @@ public class HttpBidderRequester {
         final String bidderName = bidderRequest.getBidder();
         final BidRequest bidRequest = bidderRequest.getBidRequest();
 
-        final Result<List<HttpRequest<T>>> httpRequestsWithErrors = bidder.makeHttpRequests(bidRequest);
+        final ResourceUsageTracker resourceUsageTracker = new ResourceUsageTracker(bidderName, debugEnabled);
+
+        final Result<List<HttpRequest<T>>> httpRequestsWithErrors = resourceUsageTracker.measure(
+                () -> bidder.makeHttpRequests(bidRequest), MetricName.make_http_requests);
         final List<BidderError> errors = httpRequestsWithErrors.getErrors();
         final List<HttpRequest<T>> httpRequests = enrichRequests(
                 bidderName, httpRequestsWithErrors.getValue(), requestHeaders, aliases, bidRequest);
@@ -109,7 +127,7 @@ public class HttpBidderRequester {
         rejectErrors(bidRejectionTracker, errors, BidRejectionReason.REQUEST_BLOCKED_GENERAL);
 
         if (CollectionUtils.isEmpty(httpRequests)) {
-            return emptyBidderSeatBidWithErrors(errors);
+            return emptyBidderSeatBidWithErrors(errors, resourceUsageTracker.debugResourceUsage());
         }
 
         final String storedResponse = bidderRequest.getStoredResponse();
@@ -117,17 +135,18 @@ public class HttpBidderRequester {
         // stored response available only for single request interaction for the moment.
         final Stream<Future<BidderCall<T>>> httpCalls = isStoredResponse(httpRequests, storedResponse, bidderName)
                 ? Stream.of(makeStoredHttpCall(httpRequests.getFirst(), storedResponse))
-                : httpRequests.stream().map(httpRequest -> doRequest(httpRequest, timeout));
+                : httpRequests.stream().map(httpRequest -> doRequest(bidderName, bidRequest, httpRequest, timeout));
 
         // httpCalls contains recovered and mapped to succeeded Future<BidderHttpCall> with error inside
         final BidderRequestCompletionTracker completionTracker = completionTrackerFactory.create(bidRequest);
         final ResultBuilder<T> resultBuilder = new ResultBuilder<>(
-                httpRequests, errors, completionTracker, bidRejectionTracker, mapper);
+                httpRequests, errors, completionTracker, bidRejectionTracker, resourceUsageTracker, mapper);
 
         final List<Future<Void>> httpRequestFutures = httpCalls
                 .map(httpCallFuture -> httpCallFuture
                         .map(httpCall -> bidderErrorNotifier.processTimeout(httpCall, bidder))
-                        .map(httpCall -> processHttpCall(bidder, bidRequest, resultBuilder, httpCall)))
+                        .map(httpCall -> processHttpCall(
+                                bidder, bidRequest, resultBuilder, resourceUsageTracker, httpCall)))
                 .toList();
 
         return Future.any(
@@ -185,7 +204,9 @@ public class HttpBidderRequester {
      * and list of {@link ExtHttpCall}s with list of {@link BidderError}s.
      * If errors list is empty, creates error which indicates of bidder unexpected behaviour.
      */
-    private Future<BidderSeatBid> emptyBidderSeatBidWithErrors(List<BidderError> bidderErrors) {
+    private Future<BidderSeatBid> emptyBidderSeatBidWithErrors(List<BidderError> bidderErrors,
+                                                               ResourceUsage resourceUsage) {
+
         final List<BidderError> errors = bidderErrors.isEmpty()
                 ? Collections.singletonList(BidderError.failedToRequestBids(
                 "The bidder failed to generate any bid requests, but also failed to generate an error"))
@@ -193,9 +214,21 @@ public class HttpBidderRequester {
 
         return Future.succeededFuture(BidderSeatBid.builder()
                 .errors(errors)
+                .resourceUsage(resourceUsage)
                 .build());
     }
 
+    private <T> Future<BidderCall<T>> doRequest(String bidderName,
+                                                BidRequest bidRequest,
+                                                HttpRequest<T> httpRequest,
+                                                Timeout timeout) {
+
+        return trafficCaptureService != null
+                ? trafficCaptureService.captureBidderCall(
+                        bidderName, bidRequest.getId(), () -> doRequest(httpRequest, timeout))
+                : doRequest(httpRequest, timeout);
+    }
+
     /**
      * Makes an HTTP request and returns {@link Future} that will be eventually completed with success or error result.
      */
@@ -290,9 +323,12 @@ public class HttpBidderRequester {
     private <T> Void processHttpCall(Bidder<T> bidder,
                                      BidRequest bidRequest,
                                      ResultBuilder<T> seatBidBuilder,
+                                     ResourceUsageTracker resourceUsageTracker,
                                      BidderCall<T> httpCall) {
 
-        seatBidBuilder.addHttpCall(httpCall, makeBids(bidder, httpCall, bidRequest));
+        final CompositeBidderResponse bidderResponse = resourceUsageTracker.measure(
+                () -> makeBids(bidder, httpCall, bidRequest), MetricName.make_bidder_response);
+        seatBidBuilder.addHttpCall(httpCall, bidderResponse);
         return null;
     }
 
@@ -341,6 +377,7 @@ public class HttpBidderRequester {
         private final List<BidderError> previousErrors;
         private final BidderRequestCompletionTracker completionTracker;
         private final BidRejectionTracker bidRejectionTracker;
+        private final ResourceUsageTracker resourceUsageTracker;
         private final JacksonMapper mapper;
 
         private final Map<HttpRequest<T>, BidderCall<T>> bidderCallsRecorded = new HashMap<>();
@@ -353,12 +390,14 @@ public class HttpBidderRequester {
                       List<BidderError> previousErrors,
                       BidderRequestCompletionTracker completionTracker,
                       BidRejectionTracker bidRejectionTracker,
+                      ResourceUsageTracker resourceUsageTracker,
                       JacksonMapper mapper) {
 
             this.httpRequests = httpRequests;
             this.previousErrors = previousErrors;
             this.completionTracker = completionTracker;
             this.bidRejectionTracker = bidRejectionTracker;
+            this.resourceUsageTracker = resourceUsageTracker;
             this.mapper = mapper;
         }
 
@@ -456,6 +495,7 @@ public class HttpBidderRequester {
                     .errors(errors)
                     .igi(igiRecorded)
                     .fledgeAuctionConfigs(fledgeRecorded)
+                    .resourceUsage(resourceUsageTracker.debugResourceUsage())
                     .build();
         }
 
@@ -516,4 +556,34 @@ public class HttpBidderRequester {
             // no need to process bids for no operation tracker
         }
     }
+
+    /**
+     * Measures CPU time and allocation of {@link Bidder} calls made for a single bidder request, reports them to
+     * metrics and sums them up for debug output.
+     */
+    private class ResourceUsageTracker {
+
+        private final String bidder;
+        private final boolean debugEnabled;
+
+        private ResourceUsage totalResourceUsage = ResourceUsage.empty();
+
+        ResourceUsageTracker(String bidder, boolean debugEnabled) {
+            this.bidder = bidder;
+            this.debugEnabled = debugEnabled;
+        }
+
+        <R> R measure(Supplier<R> bidderCall, MetricName phase) {
+            return resourceMeter.measure(bidderCall, debugEnabled, resourceUsage -> record(phase, resourceUsage));
+        }
+
+        private void record(MetricName phase, ResourceUsage resourceUsage) {
+            metrics.updateAdapterResourceUsageMetrics(bidder, phase, resourceUsage);
+            totalResourceUsage = totalResourceUsage.plus(resourceUsage);
+        }
+
+        ResourceUsage debugResourceUsage() {
+            return debugEnabled ? totalResourceUsage : null;
+        }
+    }
 }
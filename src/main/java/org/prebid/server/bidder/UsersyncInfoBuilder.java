@@ -43,7 +43,7 @@ public class UsersyncInfoBuilder {
         final String consent = StringUtils.defaultString(privacy.getConsentString());
         final String ccpa = StringUtils.defaultString(privacy.getCcpa().getUsPrivacy());
         final String gpp = StringUtils.defaultString(privacy.getGpp());
-        final String gppSid = toString(privacy.getGppSid());
+        final String gppSid = gppSidToString(privacy.getGppSid());
 
         redirectUrl = updateUrlWithPrivacy(redirectUrl, gdpr, consent, ccpa, gpp, gppSid);
 
@@ -59,7 +59,7 @@ public class UsersyncInfoBuilder {
         return this;
     }
 
-    private static String toString(List<Integer> gppSid) {
+    static String gppSidToString(List<Integer> gppSid) {
         return CollectionUtils.emptyIfNull(gppSid).stream()
                 .map(String::valueOf)
                 .collect(Collectors.joining(","));
@@ -81,16 +81,18 @@ public class UsersyncInfoBuilder {
     }
 
     public UsersyncInfo build() {
-        final String resolvedRedirectUrl = StringUtils.countMatches(redirectUrl, '?') > 1
-                ? resolveQueryParams(redirectUrl)
-                : HttpUtil.encodeUrl(redirectUrl);
-
         final String resolvedUsersyncUrl = usersyncUrl.replace(
-                UsersyncInfo.REDIRECT_URL_PLACEHOLDER, resolvedRedirectUrl);
+                UsersyncInfo.REDIRECT_URL_PLACEHOLDER, resolveRedirectUrl(redirectUrl));
 
         return UsersyncInfo.of(resolvedUsersyncUrl, type, supportCORS);
     }
 
+    static String resolveRedirectUrl(String redirectUrl) {
+        return StringUtils.countMatches(redirectUrl, '?') > 1
+                ? resolveQueryParams(redirectUrl)
+                : HttpUtil.encodeUrl(redirectUrl);
+    }
+
     private static String resolveQueryParams(String redirectUrl) {
         final int queryParamsIndex = redirectUrl.lastIndexOf('?');
         final String queryParams = redirectUrl.substring(queryParamsIndex);
@@ -0,0 +1,77 @@
+package org.prebid.server.bidder;
+
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.bidder.EndpointTemplate.Macro;
+import org.prebid.server.privacy.model.Privacy;
+import org.prebid.server.proto.response.UsersyncInfo;
+
+import java.util.Objects;
+
+/**
+ * {@link UsersyncMethod} with usersync and redirect URLs parsed once into literal and macro segments.
+ * <p>
+ * Produces the same {@link UsersyncInfo} as {@link UsersyncInfoBuilder} with privacy applied, but renders each URL
+ * in a single append pass, so it should be created once per {@link UsersyncMethod} and reused between requests.
+ */
+public class UsersyncInfoTemplate {
+
+    private static final Macro[] REDIRECT_URL_MACROS = {
+            Macro.plain(UsersyncInfo.GDPR_PLACEHOLDER),
+            Macro.plain(UsersyncInfo.GDPR_CONSENT_PLACEHOLDER),
+            Macro.plain(UsersyncInfo.US_PRIVACY_PLACEHOLDER),
+            Macro.plain(UsersyncInfo.GPP_PLACEHOLDER),
+            Macro.plain(UsersyncInfo.GPP_SID_PLACEHOLDER)};
+
+    private static final Macro[] USERSYNC_URL_MACROS = {
+            Macro.encoded(UsersyncInfo.GDPR_PLACEHOLDER),
+            Macro.encoded(UsersyncInfo.GDPR_CONSENT_PLACEHOLDER),
+            Macro.encoded(UsersyncInfo.US_PRIVACY_PLACEHOLDER),
+            Macro.encoded(UsersyncInfo.GPP_PLACEHOLDER),
+            Macro.encoded(UsersyncInfo.GPP_SID_PLACEHOLDER),
+            Macro.plain(UsersyncInfo.REDIRECT_URL_PLACEHOLDER)};
+
+    private final EndpointTemplate usersyncUrl;
+    private final EndpointTemplate redirectUrl;
+    private final UsersyncMethodType type;
+    private final boolean supportCORS;
+
+    private UsersyncInfoTemplate(EndpointTemplate usersyncUrl,
+                                 EndpointTemplate redirectUrl,
+                                 UsersyncMethodType type,
+                                 boolean supportCORS) {
+
+        this.usersyncUrl = usersyncUrl;
+        this.redirectUrl = redirectUrl;
+        this.type = type;
+        this.supportCORS = supportCORS;
+    }
+
+    public static UsersyncInfoTemplate of(UsersyncMethod usersyncMethod) {
+        Objects.requireNonNull(usersyncMethod);
+
+        final String redirectUrl = UsersyncUtil.enrichUrlWithFormat(
+                StringUtils.stripToEmpty(usersyncMethod.getRedirectUrl()),
+                UsersyncUtil.resolveFormat(usersyncMethod));
+
+        return new UsersyncInfoTemplate(
+                EndpointTemplate.of(StringUtils.defaultString(usersyncMethod.getUsersyncUrl()), USERSYNC_URL_MACROS),
+                EndpointTemplate.of(redirectUrl, REDIRECT_URL_MACROS),
+                usersyncMethod.getType(),
+                usersyncMethod.isSupportCORS());
+    }
+
+    public UsersyncInfo render(Privacy privacy) {
+        final String gdpr = StringUtils.defaultString(privacy.getGdpr());
+        final String consent = StringUtils.defaultString(privacy.getConsentString());
+        final String ccpa = StringUtils.defaultString(privacy.getCcpa().getUsPrivacy());
+        final String gpp = StringUtils.defaultString(privacy.getGpp());
+        final String gppSid = UsersyncInfoBuilder.gppSidToString(privacy.getGppSid());
+
+        final String resolvedRedirectUrl = UsersyncInfoBuilder.resolveRedirectUrl(
+                redirectUrl.expand(gdpr, consent, ccpa, gpp, gppSid));
+        final String resolvedUsersyncUrl = usersyncUrl.expand(
+                gdpr, consent, ccpa, gpp, gppSid, resolvedRedirectUrl);
+
+        return UsersyncInfo.of(resolvedUsersyncUrl, type, supportCORS);
+    }
+}
@@ -12,6 +12,7 @@ import io.vertx.core.http.HttpMethod;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.bidder.Bidder;
+import org.prebid.server.bidder.EndpointTemplate;
 import org.prebid.server.bidder.model.BidderBid;
 import org.prebid.server.bidder.model.BidderCall;
 import org.prebid.server.bidder.model.BidderError;
@@ -36,14 +37,17 @@ public class AcuityadsBidder implements Bidder<BidRequest> {
             new TypeReference<>() {
             };
     private static final String OPENRTB_VERSION = "2.5";
-    private static final String URL_HOST_MACRO = "{{Host}}";
-    private static final String URL_ACCOUNT_ID_MACRO = "{{AccountID}}";
+    private static final EndpointTemplate.Macro URL_HOST_MACRO = EndpointTemplate.Macro.plain("{{Host}}");
+    private static final EndpointTemplate.Macro URL_ACCOUNT_ID_MACRO = EndpointTemplate.Macro.plain("{{AccountID}}");
 
-    private final String endpointUrl;
+    private final EndpointTemplate endpointTemplate;
     private final JacksonMapper mapper;
 
     public AcuityadsBidder(String endpointUrl, JacksonMapper mapper) {
-        this.endpointUrl = HttpUtil.validateUrl(Objects.requireNonNull(endpointUrl));
+        this.endpointTemplate = EndpointTemplate.of(
+                HttpUtil.validateUrl(Objects.requireNonNull(endpointUrl)),
+                URL_HOST_MACRO,
+                URL_ACCOUNT_ID_MACRO);
         this.mapper = Objects.requireNonNull(mapper);
     }
 
@@ -94,9 +98,7 @@ public class AcuityadsBidder implements Bidder<BidRequest> {
     }
 
     private String resolveEndpoint(String host, String accountId) {
-        return endpointUrl
-                .replace(URL_HOST_MACRO, StringUtils.stripToEmpty(host))
-                .replace(URL_ACCOUNT_ID_MACRO, StringUtils.stripToEmpty(accountId));
+        return endpointTemplate.expand(StringUtils.stripToEmpty(host), StringUtils.stripToEmpty(accountId));
     }
 
     private static List<Imp> removeFirstImpExt(List<Imp> imps) {
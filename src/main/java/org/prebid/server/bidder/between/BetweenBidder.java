@@ -14,6 +14,7 @@ import io.vertx.core.http.HttpMethod;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.bidder.Bidder;
+import org.prebid.server.bidder.EndpointTemplate;
 import org.prebid.server.bidder.model.BidderBid;
 import org.prebid.server.bidder.model.BidderCall;
 import org.prebid.server.bidder.model.BidderError;
@@ -39,16 +40,19 @@ public class BetweenBidder implements Bidder<BidRequest> {
     private static final TypeReference<ExtPrebid<?, ExtImpBetween>> BETWEEN_EXT_TYPE_REFERENCE =
             new TypeReference<>() {
             };
-    private static final String URL_HOST_MACRO = "{{Host}}";
-    private static final String PUBLISHER_ID_MACRO = "{{PublisherId}}";
+    private static final EndpointTemplate.Macro URL_HOST_MACRO = EndpointTemplate.Macro.plain("{{Host}}");
+    private static final EndpointTemplate.Macro PUBLISHER_ID_MACRO = EndpointTemplate.Macro.encoded("{{PublisherId}}");
 
-    private final String endpointUrl;
+    private final EndpointTemplate endpointTemplate;
     private final JacksonMapper mapper;
     private final boolean endpointContainsHostMacro;
 
     public BetweenBidder(String endpointUrl, JacksonMapper mapper) {
-        this.endpointUrl = HttpUtil.validateUrl(Objects.requireNonNull(endpointUrl));
-        this.endpointContainsHostMacro = endpointUrl.contains(URL_HOST_MACRO);
+        this.endpointTemplate = EndpointTemplate.of(
+                HttpUtil.validateUrl(Objects.requireNonNull(endpointUrl)),
+                URL_HOST_MACRO,
+                PUBLISHER_ID_MACRO);
+        this.endpointContainsHostMacro = endpointUrl.contains(URL_HOST_MACRO.getPlaceholder());
         this.mapper = Objects.requireNonNull(mapper);
     }
 
@@ -131,9 +135,9 @@ public class BetweenBidder implements Bidder<BidRequest> {
     }
 
     private HttpRequest<BidRequest> createRequest(ExtImpBetween extImpBetween, BidRequest request, List<Imp> imps) {
-        final String url = endpointUrl
-                .replace(URL_HOST_MACRO, StringUtils.defaultString(extImpBetween.getHost()))
-                .replace(PUBLISHER_ID_MACRO, HttpUtil.encodeUrl(extImpBetween.getPublisherId()));
+        final String url = endpointTemplate.expand(
+                StringUtils.defaultString(extImpBetween.getHost()),
+                extImpBetween.getPublisherId());
         final BidRequest outgoingRequest = request.toBuilder().imp(imps).build();
 
         return
@@ -10,6 +10,7 @@ import io.vertx.core.http.HttpMethod;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.bidder.Bidder;
+import org.prebid.server.bidder.EndpointTemplate;
 import org.prebid.server.bidder.model.BidderBid;
 import org.prebid.server.bidder.model.BidderCall;
 import org.prebid.server.bidder.model.BidderError;
@@ -34,13 +35,16 @@ public class BwxBidder implements Bidder<BidRequest> {
     private static final TypeReference<ExtPrebid<?, ExtImpBwx>> BWX_EXT_TYPE_REFERENCE =
             new TypeReference<>() {
             };
-    private static final String URL_HOST_MACRO = "{{Host}}";
-    private static final String PUBLISHER_ID_MACRO = "{{SourceId}}";
-    private final String endpointUrl;
+    private static final EndpointTemplate.Macro URL_HOST_MACRO = EndpointTemplate.Macro.plain("{{Host}}");
+    private static final EndpointTemplate.Macro PUBLISHER_ID_MACRO = EndpointTemplate.Macro.plain("{{SourceId}}");
+    private final EndpointTemplate endpointTemplate;
     private final JacksonMapper mapper;
 
     public BwxBidder(String endpointUrl, JacksonMapper mapper) {
-        this.endpointUrl = HttpUtil.validateUrl(Objects.requireNonNull(endpointUrl));
+        this.endpointTemplate = EndpointTemplate.of(
+                HttpUtil.validateUrl(Objects.requireNonNull(endpointUrl)),
+                URL_HOST_MACRO,
+                PUBLISHER_ID_MACRO);
         this.mapper = Objects.requireNonNull(mapper);
     }
 
@@ -82,9 +86,9 @@ public class BwxBidder implements Bidder<BidRequest> {
     }
 
     private String resolveEndpoint(ExtImpBwx extImpBwx) {
-        return endpointUrl
-                .replace(URL_HOST_MACRO, StringUtils.defaultString(extImpBwx.getEnv()))
-                .replace(PUBLISHER_ID_MACRO, StringUtils.defaultString(extImpBwx.getPid()));
+        return endpointTemplate.expand(
+                StringUtils.defaultString(extImpBwx.getEnv()),
+                StringUtils.defaultString(extImpBwx.getPid()));
     }
 
     @Override
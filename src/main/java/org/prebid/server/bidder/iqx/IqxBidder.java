@@ -10,6 +10,7 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.bidder.Bidder;
+import org.prebid.server.bidder.EndpointTemplate;
 import org.prebid.server.bidder.model.BidderBid;
 import org.prebid.server.bidder.model.BidderCall;
 import org.prebid.server.bidder.model.BidderError;
@@ -32,17 +33,20 @@ import java.util.Objects;
 
 public class IqxBidder implements Bidder<BidRequest> {
 
-    private static final String SOURCE_ID_MACRO = "{{SourceId}}";
-    private static final String HOST_MACRO = "{{Host}}";
+    private static final EndpointTemplate.Macro SOURCE_ID_MACRO = EndpointTemplate.Macro.plain("{{SourceId}}");
+    private static final EndpointTemplate.Macro HOST_MACRO = EndpointTemplate.Macro.plain("{{Host}}");
     private static final TypeReference<ExtPrebid<?, ExtImpIqx>> IQX_EXT_TYPE_REFERENCE =
             new TypeReference<>() {
             };
 
-    private final String endpointUrl;
+    private final EndpointTemplate endpointTemplate;
     private final JacksonMapper mapper;
 
     public IqxBidder(String endpointUrl, JacksonMapper mapper) {
-        this.endpointUrl = HttpUtil.validateUrl(Objects.requireNonNull(endpointUrl));
+        this.endpointTemplate = EndpointTemplate.of(
+                HttpUtil.validateUrl(Objects.requireNonNull(endpointUrl)),
+                SOURCE_ID_MACRO,
+                HOST_MACRO);
         this.mapper = Objects.requireNonNull(mapper);
     }
 
@@ -84,9 +88,9 @@ public class IqxBidder implements Bidder<BidRequest> {
     }
 
     private String resolveEndpoint(ExtImpIqx extImpIqx) {
-        return endpointUrl
-                .replace(SOURCE_ID_MACRO, StringUtils.defaultString(extImpIqx.getPid()))
-                .replace(HOST_MACRO, StringUtils.defaultString(extImpIqx.getEnv()));
+        return endpointTemplate.expand(
+                StringUtils.defaultString(extImpIqx.getPid()),
+                StringUtils.defaultString(extImpIqx.getEnv()));
     }
 
     @Override
@@ -6,6 +6,7 @@ import org.prebid.server.bidder.Bidder;
 import org.prebid.server.proto.openrtb.ext.response.ExtHttpCall;
 import org.prebid.server.proto.openrtb.ext.response.ExtIgi;
 import org.prebid.server.proto.openrtb.ext.response.FledgeAuctionConfig;
+import org.prebid.server.util.system.ResourceUsage;
 
 import java.util.Collections;
 import java.util.List;
@@ -61,6 +62,13 @@ public class BidderSeatBid {
     @Builder.Default
     List<ExtIgi> igi = Collections.emptyList();
 
+    /**
+     * CPU time and allocation spent by {@link Bidder} on building requests and processing responses.
+     * It should only be populated if the request.test == 1.
+     * This will become response.ext.debug.resourceusage.{bidder} on the final OpenRTB response
+     */
+    ResourceUsage resourceUsage;
+
     public BidderSeatBid with(List<BidderBid> bids) {
         return toBuilder().bids(bids).build();
     }
@@ -13,6 +13,7 @@ import io.vertx.core.http.HttpMethod;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.bidder.Bidder;
+import org.prebid.server.bidder.EndpointTemplate;
 import org.prebid.server.bidder.model.BidderBid;
 import org.prebid.server.bidder.model.BidderCall;
 import org.prebid.server.bidder.model.BidderError;
@@ -36,11 +37,19 @@ public class SmarthubBidder implements Bidder<BidRequest> {
             new TypeReference<>() {
             };
 
-    private final String endpointTemplate;
+    private static final EndpointTemplate.Macro URL_HOST_MACRO = EndpointTemplate.Macro.plain("{{Host}}");
+    private static final EndpointTemplate.Macro URL_ACCOUNT_ID_MACRO = EndpointTemplate.Macro.plain("{{AccountID}}");
+    private static final EndpointTemplate.Macro URL_SOURCE_ID_MACRO = EndpointTemplate.Macro.plain("{{SourceId}}");
+
+    private final EndpointTemplate endpointTemplate;
     private final JacksonMapper mapper;
 
     public SmarthubBidder(String endpointTemplate, JacksonMapper mapper) {
-        this.endpointTemplate = HttpUtil.validateUrl(Objects.requireNonNull(endpointTemplate));
+        this.endpointTemplate = EndpointTemplate.of(
+                HttpUtil.validateUrl(Objects.requireNonNull(endpointTemplate)),
+                URL_HOST_MACRO,
+                URL_ACCOUNT_ID_MACRO,
+                URL_SOURCE_ID_MACRO);
         this.mapper = Objects.requireNonNull(mapper);
     }
 
@@ -68,9 +77,10 @@ public class SmarthubBidder implements Bidder<BidRequest> {
     }
 
     private String buildEndpointUrl(ExtImpSmarthub extImpSmarthub) {
-        return endpointTemplate.replace("{{Host}}", StringUtils.defaultString(extImpSmarthub.getPartnerName()))
-                .replace("{{AccountID}}", extImpSmarthub.getSeat())
-                .replace("{{SourceId}}", extImpSmarthub.getToken());
+        return endpointTemplate.expand(
+                StringUtils.defaultString(extImpSmarthub.getPartnerName()),
+                extImpSmarthub.getSeat(),
+                extImpSmarthub.getToken());
     }
 
     @Override
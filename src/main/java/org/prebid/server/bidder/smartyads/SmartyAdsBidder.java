@@ -11,6 +11,7 @@ import io.vertx.core.http.HttpMethod;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.bidder.Bidder;
+import org.prebid.server.bidder.EndpointTemplate;
 import org.prebid.server.bidder.model.BidderBid;
 import org.prebid.server.bidder.model.BidderCall;
 import org.prebid.server.bidder.model.BidderError;
@@ -34,15 +35,20 @@ public class SmartyAdsBidder implements Bidder<BidRequest> {
     private static final TypeReference<ExtPrebid<?, ExtImpSmartyAds>> SMARTYADS_EXT_TYPE_REFERENCE =
             new TypeReference<>() {
             };
-    private static final String URL_HOST_MACRO = "{{Host}}";
-    private static final String URL_SOURCE_ID_MACRO = "{{SourceId}}";
-    private static final String URL_ACCOUNT_ID_MACRO = "{{AccountID}}";
+    private static final EndpointTemplate.Macro URL_HOST_MACRO = EndpointTemplate.Macro.plain("{{Host}}");
+    private static final EndpointTemplate.Macro URL_SOURCE_ID_MACRO = EndpointTemplate.Macro.encoded("{{SourceId}}");
+    private static final EndpointTemplate.Macro URL_ACCOUNT_ID_MACRO =
+            EndpointTemplate.Macro.encoded("{{AccountID}}");
 
-    private final String endpointUrl;
+    private final EndpointTemplate endpointTemplate;
     private final JacksonMapper mapper;
 
     public SmartyAdsBidder(String endpointUrl, JacksonMapper mapper) {
-        this.endpointUrl = HttpUtil.validateUrl(Objects.requireNonNull(endpointUrl));
+        this.endpointTemplate = EndpointTemplate.of(
+                HttpUtil.validateUrl(Objects.requireNonNull(endpointUrl)),
+                URL_HOST_MACRO,
+                URL_SOURCE_ID_MACRO,
+                URL_ACCOUNT_ID_MACRO);
         this.mapper = Objects.requireNonNull(mapper);
     }
 
@@ -96,10 +102,7 @@ public class SmartyAdsBidder implements Bidder<BidRequest> {
     }
 
     private String resolveUrl(ExtImpSmartyAds extImp) {
-        return endpointUrl
-                .replace(URL_HOST_MACRO, extImp.getHost())
-                .replace(URL_SOURCE_ID_MACRO, HttpUtil.encodeUrl(extImp.getSourceId()))
-                .replace(URL_ACCOUNT_ID_MACRO, HttpUtil.encodeUrl(extImp.getAccountId()));
+        return endpointTemplate.expand(extImp.getHost(), extImp.getSourceId(), extImp.getAccountId());
     }
 
     private static MultiMap resolveHeaders(Device device) {
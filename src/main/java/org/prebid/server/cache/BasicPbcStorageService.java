@@ -4,6 +4,7 @@ import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
 import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.cache.model.EmbeddedCacheEntry;
 import org.prebid.server.cache.proto.request.module.ModuleCacheRequest;
 import org.prebid.server.cache.proto.request.module.StorageDataType;
 import org.prebid.server.cache.proto.response.module.ModuleCacheResponse;
@@ -32,6 +33,7 @@ public class BasicPbcStorageService implements PbcStorageService {
     private final JacksonMapper mapper;
     private final Clock clock;
     private final Metrics metrics;
+    private final EmbeddedCacheStore embeddedCacheStore;
 
     public BasicPbcStorageService(HttpClient httpClient,
                                   URL endpointUrl,
@@ -41,6 +43,18 @@ public class BasicPbcStorageService implements PbcStorageService {
                                   Clock clock,
                                   Metrics metrics) {
 
+        this(httpClient, endpointUrl, apiKey, callTimeoutMs, mapper, clock, metrics, null);
+    }
+
+    public BasicPbcStorageService(HttpClient httpClient,
+                                  URL endpointUrl,
+                                  String apiKey,
+                                  int callTimeoutMs,
+                                  JacksonMapper mapper,
+                                  Clock clock,
+                                  Metrics metrics,
+                                  EmbeddedCacheStore embeddedCacheStore) {
+
         this.httpClient = Objects.requireNonNull(httpClient);
         this.endpointUrl = Objects.requireNonNull(endpointUrl);
         this.apiKey = Objects.requireNonNull(apiKey);
@@ -48,6 +62,7 @@ public class BasicPbcStorageService implements PbcStorageService {
         this.mapper = Objects.requireNonNull(mapper);
         this.clock = Objects.requireNonNull(clock);
         this.metrics = Objects.requireNonNull(metrics);
+        this.embeddedCacheStore = embeddedCacheStore;
     }
 
     @Override
@@ -75,6 +90,14 @@ public class BasicPbcStorageService implements PbcStorageService {
 
         updateCreativeMetrics(valueToStore, type, ttlseconds, appCode);
 
+        if (embeddedCacheStore != null) {
+            // value is kept in process as is, so there is no need to encode it
+            embeddedCacheStore.putModuleEntry(
+                    embeddedEntryKey(key, appCode, application), type.name(), value, ttlseconds);
+            metrics.updateModuleStorageCacheWriteRequestTime(appCode, 0L, MetricName.ok);
+            return Future.succeededFuture();
+        }
+
         final long startTime = clock.millis();
         return httpClient.post(
                         endpointUrl.toString(),
@@ -144,6 +167,11 @@ public class BasicPbcStorageService implements PbcStorageService {
         return MODULE_KEY_PREFIX + MODULE_KEY_DELIMETER + moduleCode + MODULE_KEY_DELIMETER + key;
     }
 
+    // Prebid Cache keeps data of every application separately, so it's a part of the key in the embedded cache
+    private String embeddedEntryKey(String key, String moduleCode, String application) {
+        return application + MODULE_KEY_DELIMETER + constructEntryKey(key, moduleCode);
+    }
+
     private Future<Void> processStoreResponse(int statusCode, String responseBody, long startTime, String appCode) {
         if (statusCode != 204) {
             metrics.updateModuleStorageCacheWriteRequestTime(appCode, clock.millis() - startTime, MetricName.err);
@@ -163,6 +191,10 @@ public class BasicPbcStorageService implements PbcStorageService {
             return Future.failedFuture(e);
         }
 
+        if (embeddedCacheStore != null) {
+            return retrieveEmbeddedEntry(key, appCode, application);
+        }
+
         final long startTime = clock.millis();
         return httpClient.get(
                         getRetrieveEndpoint(key, appCode, application),
@@ -176,6 +208,27 @@ public class BasicPbcStorageService implements PbcStorageService {
 
     }
 
+    private Future<ModuleCacheResponse> retrieveEmbeddedEntry(String key, String appCode, String application) {
+        final EmbeddedCacheEntry entry = embeddedCacheStore.getModuleEntry(embeddedEntryKey(key, appCode, application));
+        if (entry == null) {
+            metrics.updateModuleStorageCacheReadRequestTime(appCode, 0L, MetricName.err);
+            return Future.failedFuture(new PreBidException("Module cache entry with key '%s' is not found"
+                    .formatted(key)));
+        }
+
+        final StorageDataType type;
+        try {
+            type = StorageDataType.valueOf(entry.getType());
+        } catch (IllegalArgumentException e) {
+            metrics.updateModuleStorageCacheReadRequestTime(appCode, 0L, MetricName.err);
+            return Future.failedFuture(new PreBidException("Module cache entry with key '%s' has unknown type '%s'"
+                    .formatted(key, entry.getType())));
+        }
+
+        metrics.updateModuleStorageCacheReadRequestTime(appCode, 0L, MetricName.ok);
+        return Future.succeededFuture(ModuleCacheResponse.of(constructEntryKey(key, appCode), type, entry.getValue()));
+    }
+
     private static void validateRetrieveData(String key, String application, String moduleCode) {
         if (StringUtils.isBlank(key)) {
             throw new PreBidException("Module cache 'key' can not be blank");
@@ -0,0 +1,204 @@
+package org.prebid.server.cache;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.prebid.server.cache.proto.request.bid.BidCacheRequest;
+import org.prebid.server.cache.proto.request.bid.BidPutObject;
+import org.prebid.server.cache.proto.response.bid.BidCacheResponse;
+import org.prebid.server.cache.proto.response.bid.CacheObject;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.json.DecodeException;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.vertx.httpclient.HttpClient;
+import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Collects cache writes of the auctions running on the same event loop during a short window (or until the batch
+ * reaches its maximum number of put objects) and sends them to Prebid Cache as a single request, handing each
+ * auction back the slice of the response which belongs to its put objects.
+ * <p>
+ * The request is waiting as long as the most patient auction of the batch can wait, the others are failed
+ * by timeout on their own deadlines. Writes made outside of event loop threads are sent right away.
+ */
+public class CacheWriteBatcher {
+
+    private final HttpClient httpClient;
+    private final String url;
+    private final MultiMap headers;
+    private final Vertx vertx;
+    private final long windowMs;
+    private final int maxBatchSize;
+    private final Clock clock;
+    private final Metrics metrics;
+    private final JacksonMapper mapper;
+
+    // event loop threads are never shared, so every one of them has its own batch without any synchronization
+    private final ThreadLocal<Batch> currentBatch = new ThreadLocal<>();
+
+    public CacheWriteBatcher(HttpClient httpClient,
+                             String url,
+                             MultiMap headers,
+                             Vertx vertx,
+                             long windowMs,
+                             int maxBatchSize,
+                             Clock clock,
+                             Metrics metrics,
+                             JacksonMapper mapper) {
+
+        if (windowMs <= 0 || maxBatchSize <= 0) {
+            throw new IllegalArgumentException("windowMs and maxBatchSize must be positive");
+        }
+
+        this.httpClient = Objects.requireNonNull(httpClient);
+        this.url = Objects.requireNonNull(url);
+        this.headers = Objects.requireNonNull(headers);
+        this.vertx = Objects.requireNonNull(vertx);
+        this.windowMs = windowMs;
+        this.maxBatchSize = maxBatchSize;
+        this.clock = Objects.requireNonNull(clock);
+        this.metrics = Objects.requireNonNull(metrics);
+        this.mapper = Objects.requireNonNull(mapper);
+    }
+
+    /**
+     * Writes the given put objects to Prebid Cache, returning the response as if they were sent alone.
+     */
+    public Future<HttpClientResponse> write(List<BidPutObject> puts, long timeoutMs) {
+        if (!Context.isOnEventLoopThread()) {
+            return httpClient.post(url, headers, mapper.encodeToString(BidCacheRequest.of(puts)), timeoutMs);
+        }
+
+        Batch batch = currentBatch.get();
+        if (batch == null) {
+            final Batch newBatch = new Batch(clock.millis());
+            currentBatch.set(newBatch);
+            vertx.setTimer(windowMs, ignored -> flush(newBatch));
+            batch = newBatch;
+        }
+
+        final Future<HttpClientResponse> result = batch.add(puts, clock.millis() + timeoutMs);
+        if (batch.puts.size() >= maxBatchSize) {
+            flush(batch);
+        }
+        return result;
+    }
+
+    private void flush(Batch batch) {
+        if (currentBatch.get() != batch) {
+            return;
+        }
+        currentBatch.remove();
+
+        final long now = clock.millis();
+        metrics.updateCacheBatchSizeMetric(batch.puts.size());
+        metrics.updateCacheBatchWaitMetric(now - batch.startedAt);
+
+        final long timeoutMs = batch.deadline - now;
+        if (timeoutMs <= 0) {
+            batch.waiters.forEach(waiter -> waiter.promise().tryFail(timeoutException()));
+            return;
+        }
+
+        for (Waiter waiter : batch.waiters) {
+            final long waiterTimeoutMs = waiter.deadline() - now;
+            if (waiterTimeoutMs <= 0) {
+                waiter.promise().tryFail(timeoutException());
+            } else if (waiterTimeoutMs < timeoutMs) {
+                final long timerId = vertx.setTimer(
+                        waiterTimeoutMs, ignored -> waiter.promise().tryFail(timeoutException()));
+                waiter.promise().future().onComplete(ignored -> vertx.cancelTimer(timerId));
+            }
+        }
+
+        httpClient.post(url, headers, mapper.encodeToString(BidCacheRequest.of(batch.puts)), timeoutMs)
+                .onComplete(result -> complete(batch, result));
+    }
+
+    private void complete(Batch batch, AsyncResult<HttpClientResponse> result) {
+        final List<CacheObject> cacheObjects;
+        try {
+            cacheObjects = result.succeeded() ? cacheObjectsOf(result.result(), batch.puts.size()) : null;
+        } catch (PreBidException e) {
+            batch.waiters.forEach(waiter -> waiter.promise().tryFail(e));
+            return;
+        }
+
+        for (Waiter waiter : batch.waiters) {
+            if (result.failed()) {
+                waiter.promise().tryFail(result.cause());
+            } else if (cacheObjects == null) {
+                // status code of the whole batch is reported to every auction as is
+                waiter.promise().tryComplete(result.result());
+            } else {
+                final List<CacheObject> waiterCacheObjects = cacheObjects.subList(
+                        waiter.offset(), waiter.offset() + waiter.size());
+                final String body = mapper.encodeToString(BidCacheResponse.of(waiterCacheObjects));
+                waiter.promise().tryComplete(HttpClientResponse.of(200, result.result().getHeaders(), body));
+            }
+        }
+    }
+
+    /**
+     * Returns cache objects of the successful response or null if the response has another status code.
+     */
+    private List<CacheObject> cacheObjectsOf(HttpClientResponse response, int putsCount) {
+        if (response.getStatusCode() != 200) {
+            return null;
+        }
+
+        final BidCacheResponse bidCacheResponse;
+        try {
+            bidCacheResponse = mapper.decodeValue(response.getBody(), BidCacheResponse.class);
+        } catch (DecodeException e) {
+            throw new PreBidException("Cannot parse response: " + response.getBody(), e);
+        }
+
+        final List<CacheObject> cacheObjects = bidCacheResponse.getResponses();
+        if (cacheObjects == null || cacheObjects.size() != putsCount) {
+            throw new PreBidException("The number of response cache objects doesn't match with bids");
+        }
+
+        return cacheObjects;
+    }
+
+    private static TimeoutException timeoutException() {
+        return new TimeoutException("Timeout has been exceeded");
+    }
+
+    private record Waiter(int offset, int size, long deadline, Promise<HttpClientResponse> promise) {
+    }
+
+    /**
+     * Writes collected on one event loop. The batch is waiting as long as its most patient auction can wait.
+     */
+    private static class Batch {
+
+        private final long startedAt;
+        private final List<Waiter> waiters = new ArrayList<>();
+        private final List<BidPutObject> puts = new ArrayList<>();
+        private long deadline;
+
+        Batch(long startedAt) {
+            this.startedAt = startedAt;
+        }
+
+        Future<HttpClientResponse> add(List<BidPutObject> waiterPuts, long waiterDeadline) {
+            final Promise<HttpClientResponse> promise = Promise.promise();
+            waiters.add(new Waiter(puts.size(), waiterPuts.size(), waiterDeadline, promise));
+            puts.addAll(waiterPuts);
+            deadline = Math.max(deadline, waiterDeadline);
+            return promise.future();
+        }
+    }
+}
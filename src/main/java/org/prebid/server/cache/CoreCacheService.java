@@ -21,6 +21,7 @@ import org.prebid.server.cache.model.CacheInfo;
 import org.prebid.server.cache.model.CacheServiceResult;
 import org.prebid.server.cache.model.CachedCreative;
 import org.prebid.server.cache.model.DebugHttpCall;
+import org.prebid.server.cache.model.EmbeddedCacheEntry;
 import org.prebid.server.cache.proto.request.bid.BidCacheRequest;
 import org.prebid.server.cache.proto.request.bid.BidPutObject;
 import org.prebid.server.cache.proto.response.CacheErrorResponse;
@@ -84,6 +85,8 @@ public class CoreCacheService {
     private final Clock clock;
     private final UUIDIdGenerator idGenerator;
     private final JacksonMapper mapper;
+    private final CacheWriteBatcher cacheWriteBatcher;
+    private final EmbeddedCacheStore embeddedCacheStore;
 
     private final MultiMap cacheHeaders;
     private final Map<String, List<String>> debugHeaders;
@@ -108,6 +111,45 @@ public class CoreCacheService {
             UUIDIdGenerator idGenerator,
             JacksonMapper mapper) {
 
+        this(
+                httpClient,
+                externalEndpointUrl,
+                internalEndpointUrl,
+                cachedAssetUrlTemplate,
+                expectedCacheTimeMs,
+                apiKey,
+                isApiKeySecured,
+                appendTraceInfoToCacheId,
+                datacenterRegion,
+                vastModifier,
+                eventsService,
+                metrics,
+                clock,
+                idGenerator,
+                mapper,
+                null,
+                null);
+    }
+
+    public CoreCacheService(
+            HttpClient httpClient,
+            URL externalEndpointUrl,
+            URL internalEndpointUrl,
+            String cachedAssetUrlTemplate,
+            long expectedCacheTimeMs,
+            String apiKey,
+            boolean isApiKeySecured,
+            boolean appendTraceInfoToCacheId,
+            String datacenterRegion,
+            VastModifier vastModifier,
+            EventsService eventsService,
+            Metrics metrics,
+            Clock clock,
+            UUIDIdGenerator idGenerator,
+            JacksonMapper mapper,
+            CacheWriteBatcher cacheWriteBatcher,
+            EmbeddedCacheStore embeddedCacheStore) {
+
         this.httpClient = Objects.requireNonNull(httpClient);
         this.externalEndpointUrl = Objects.requireNonNull(externalEndpointUrl);
         this.internalEndpointUrl = internalEndpointUrl;
@@ -119,10 +161,10 @@ public class CoreCacheService {
         this.clock = Objects.requireNonNull(clock);
         this.idGenerator = Objects.requireNonNull(idGenerator);
         this.mapper = Objects.requireNonNull(mapper);
+        this.cacheWriteBatcher = cacheWriteBatcher;
+        this.embeddedCacheStore = embeddedCacheStore;
 
-        cacheHeaders = isApiKeySecured
-                ? HttpUtil.headers().add(HttpUtil.X_PBC_API_KEY_HEADER, Objects.requireNonNull(apiKey))
-                : HttpUtil.headers();
+        cacheHeaders = CacheServiceUtil.cacheHeaders(apiKey, isApiKeySecured);
         debugHeaders = HttpUtil.toDebugHeaders(cacheHeaders);
 
         this.appendTraceInfoToCacheId = appendTraceInfoToCacheId;
@@ -150,9 +192,9 @@ public class CoreCacheService {
         final List<CachedCreative> cachedCreatives = Collections.singletonList(
                 makeDebugCacheCreative(cachedDebugLog, cacheKey, videoCacheTtl));
         final BidCacheRequest bidCacheRequest = toBidCacheRequest(cachedCreatives);
-        httpClient.post(
+        postPuts(
                 ObjectUtils.firstNonNull(internalEndpointUrl, externalEndpointUrl).toString(),
-                cacheHeaders,
+                bidCacheRequest,
                 mapper.encodeToString(bidCacheRequest),
                 expectedCacheTimeMs);
         return cacheKey;
@@ -187,9 +229,9 @@ public class CoreCacheService {
         }
 
         final long startTime = clock.millis();
-        return httpClient.post(
+        return postPuts(
                         ObjectUtils.firstNonNull(internalEndpointUrl, externalEndpointUrl).toString(),
-                        cacheHeaders,
+                        bidCacheRequest,
                         mapper.encodeToString(bidCacheRequest),
                         remainingTimeout)
                 .map(response -> processVtrackWriteCacheResponse(
@@ -339,7 +381,7 @@ public class CoreCacheService {
         final CacheHttpRequest httpRequest = CacheHttpRequest.of(externalEndpointUrl.toString(), body);
 
         final long startTime = clock.millis();
-        return httpClient.post(url, cacheHeaders, body, remainingTimeout)
+        return postPuts(url, bidCacheRequest, body, remainingTimeout)
                 .map(response -> processResponseOpenrtb(response,
                         httpRequest,
                         cachedCreatives.size(),
@@ -351,6 +393,26 @@ public class CoreCacheService {
                 .otherwise(exception -> failResponseOpenrtb(exception, accountId, httpRequest, startTime));
     }
 
+    /**
+     * Sends put objects to the cache, batching them with the writes of other auctions if enabled.
+     * Embedded cache, if enabled, stores them in place and responds the same way Prebid Cache does.
+     */
+    private Future<HttpClientResponse> postPuts(String url,
+                                                BidCacheRequest bidCacheRequest,
+                                                String body,
+                                                long timeoutMs) {
+
+        if (embeddedCacheStore != null) {
+            final BidCacheResponse bidCacheResponse = embeddedCacheStore.put(bidCacheRequest.getPuts());
+            return Future.succeededFuture(
+                    HttpClientResponse.of(200, HttpUtil.headers(), mapper.encodeToString(bidCacheResponse)));
+        }
+
+        return cacheWriteBatcher != null
+                ? cacheWriteBatcher.write(bidCacheRequest.getPuts(), timeoutMs)
+                : httpClient.post(url, cacheHeaders, body, timeoutMs);
+    }
+
     private CacheServiceResult processResponseOpenrtb(HttpClientResponse response,
                                                       CacheHttpRequest httpRequest,
                                                       int bidCount,
@@ -657,6 +719,10 @@ public class CoreCacheService {
             return Future.failedFuture(new TimeoutException("Timeout has been exceeded"));
         }
 
+        if (embeddedCacheStore != null) {
+            return Future.succeededFuture(getEmbeddedCachedObject(key));
+        }
+
         final URL endpointUrl = ObjectUtils.firstNonNull(internalEndpointUrl, externalEndpointUrl);
         final String url;
         try {
@@ -676,6 +742,25 @@ public class CoreCacheService {
                 .recover(exception -> failVtrackCacheReadResponse(exception, startTime));
     }
 
+    private HttpClientResponse getEmbeddedCachedObject(String key) {
+        final long startTime = clock.millis();
+        final EmbeddedCacheEntry entry = embeddedCacheStore.get(key);
+        if (entry == null) {
+            metrics.updateVtrackCacheReadRequestTime(clock.millis() - startTime, MetricName.err);
+            return HttpClientResponse.of(
+                    404, responseHeaders(CacheServiceUtil.TEXT_CONTENT_TYPE), "Resource Not Found: uuid " + key);
+        }
+
+        metrics.updateVtrackCacheReadRequestTime(clock.millis() - startTime, MetricName.ok);
+        return HttpClientResponse.of(
+                200, responseHeaders(CacheServiceUtil.contentTypeOf(entry.getType())), entry.getValue());
+    }
+
+    // the same headers Prebid Cache responds with, unlike HttpUtil.headers() meant for requests
+    private static MultiMap responseHeaders(String contentType) {
+        return MultiMap.caseInsensitiveMultiMap().add(HttpUtil.CONTENT_TYPE_HEADER, contentType);
+    }
+
     private HttpClientResponse processVtrackReadResponse(HttpClientResponse response, long startTime) {
         final int statusCode = response.getStatusCode();
         final String body = response.getBody();
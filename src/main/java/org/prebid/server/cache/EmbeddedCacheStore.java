@@ -0,0 +1,191 @@
+package org.prebid.server.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.apache.commons.lang3.ObjectUtils;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.prebid.server.cache.model.EmbeddedCacheEntry;
+import org.prebid.server.cache.proto.request.bid.BidPutObject;
+import org.prebid.server.cache.proto.response.bid.BidCacheResponse;
+import org.prebid.server.cache.proto.response.bid.CacheObject;
+import org.prebid.server.cache.utils.CacheServiceUtil;
+import org.prebid.server.identity.UUIDIdGenerator;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.metric.Metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process replacement of Prebid Cache for single-region deployments: keeps cached creatives and module data
+ * in memory, so they are written and read without a network hop.
+ * <p>
+ * Entries expire after their own TTL capped by the max TTL. The store is bounded by the approximate size of keys
+ * and values, evicting the least valuable entries when the limit is reached.
+ * <p>
+ * Modules' data is kept apart from creatives, so it can't be read or overwritten through the cache endpoint.
+ */
+public class EmbeddedCacheStore {
+
+    // approximate overhead of the cache node, entry and its strings
+    private static final int ENTRY_OVERHEAD_BYTES = 128;
+
+    private final int defaultTtlSeconds;
+    private final int maxTtlSeconds;
+    private final UUIDIdGenerator idGenerator;
+    private final JacksonMapper mapper;
+    private final Metrics metrics;
+
+    private final Cache<EntryKey, EmbeddedCacheEntry> cache;
+
+    public EmbeddedCacheStore(long maxSizeBytes,
+                              int defaultTtlSeconds,
+                              int maxTtlSeconds,
+                              UUIDIdGenerator idGenerator,
+                              Ticker ticker,
+                              JacksonMapper mapper,
+                              Metrics metrics) {
+
+        if (maxSizeBytes <= 0) {
+            throw new IllegalArgumentException("Embedded cache max size should be positive");
+        }
+        if (defaultTtlSeconds <= 0 || maxTtlSeconds < defaultTtlSeconds) {
+            throw new IllegalArgumentException("Embedded cache TTLs should satisfy 1 <= default-ttl <= max-ttl");
+        }
+
+        this.defaultTtlSeconds = defaultTtlSeconds;
+        this.maxTtlSeconds = maxTtlSeconds;
+        this.idGenerator = Objects.requireNonNull(idGenerator);
+        this.mapper = Objects.requireNonNull(mapper);
+        this.metrics = Objects.requireNonNull(metrics);
+
+        cache = Caffeine.newBuilder()
+                .maximumWeight(maxSizeBytes)
+                .weigher(EmbeddedCacheStore::weigh)
+                .expireAfter(new EntryExpiry())
+                .ticker(Objects.requireNonNull(ticker))
+                // removal listener only updates metrics, so there is no need to hand it over to another thread
+                .executor(Runnable::run)
+                .removalListener(this::onRemoval)
+                .build();
+    }
+
+    private static int weigh(EntryKey key, EmbeddedCacheEntry entry) {
+        return ENTRY_OVERHEAD_BYTES + key.key().length() + entry.getValue().length();
+    }
+
+    private void onRemoval(EntryKey key, EmbeddedCacheEntry entry, RemovalCause cause) {
+        if (cause == RemovalCause.EXPIRED) {
+            metrics.updateEmbeddedCacheExpiredMetric();
+        } else if (cause == RemovalCause.SIZE) {
+            metrics.updateEmbeddedCacheEvictedMetric();
+        }
+    }
+
+    /**
+     * Stores the given put objects the same way Prebid Cache does: under generated UUIDs or under the given keys
+     * if they are not taken yet. Returns empty UUID for put objects whose key is already taken.
+     */
+    public BidCacheResponse put(List<BidPutObject> puts) {
+        final List<CacheObject> cacheObjects = new ArrayList<>(puts.size());
+        for (BidPutObject put : puts) {
+            final EmbeddedCacheEntry entry = EmbeddedCacheEntry.of(
+                    put.getType(),
+                    valueOf(put),
+                    resolveTtl(ObjectUtils.defaultIfNull(put.getTtlseconds(), put.getExpiry())));
+
+            final String key = put.getKey();
+            if (key == null) {
+                final String uuid = idGenerator.generateId();
+                cache.put(new EntryKey(Namespace.CREATIVE, uuid), entry);
+                cacheObjects.add(CacheObject.of(uuid));
+            } else {
+                final boolean stored = cache.asMap().putIfAbsent(new EntryKey(Namespace.CREATIVE, key), entry) == null;
+                cacheObjects.add(CacheObject.of(stored ? key : ""));
+            }
+        }
+        return BidCacheResponse.of(cacheObjects);
+    }
+
+    private String valueOf(BidPutObject put) {
+        final JsonNode value = put.getValue();
+        return CacheServiceUtil.XML_CREATIVE_TYPE.equals(put.getType()) && value != null && value.isTextual()
+                ? value.asText()
+                : mapper.encodeToString(value);
+    }
+
+    /**
+     * Stores module's value under the given key, replacing the existing one if any.
+     */
+    public void putModuleEntry(String key, String type, String value, Integer ttlSeconds) {
+        cache.put(new EntryKey(Namespace.MODULE, key), EmbeddedCacheEntry.of(type, value, resolveTtl(ttlSeconds)));
+    }
+
+    private int resolveTtl(Integer ttlSeconds) {
+        return ttlSeconds != null && ttlSeconds > 0 ? Math.min(ttlSeconds, maxTtlSeconds) : defaultTtlSeconds;
+    }
+
+    /**
+     * Returns the creative stored under the given key or null if it is missing or expired.
+     */
+    public EmbeddedCacheEntry get(String key) {
+        return lookup(new EntryKey(Namespace.CREATIVE, key));
+    }
+
+    /**
+     * Returns module's value stored under the given key or null if it is missing or expired.
+     */
+    public EmbeddedCacheEntry getModuleEntry(String key) {
+        return lookup(new EntryKey(Namespace.MODULE, key));
+    }
+
+    private EmbeddedCacheEntry lookup(EntryKey key) {
+        final EmbeddedCacheEntry entry = cache.getIfPresent(key);
+        if (entry != null) {
+            metrics.updateEmbeddedCacheHitMetric();
+        } else {
+            metrics.updateEmbeddedCacheMissMetric();
+        }
+        return entry;
+    }
+
+    private enum Namespace {
+
+        CREATIVE, MODULE
+    }
+
+    private record EntryKey(Namespace namespace, String key) {
+    }
+
+    private static class EntryExpiry implements Expiry<EntryKey, EmbeddedCacheEntry> {
+
+        @Override
+        public long expireAfterCreate(EntryKey key, EmbeddedCacheEntry entry, long currentTime) {
+            return TimeUnit.SECONDS.toNanos(entry.getTtlSeconds());
+        }
+
+        @Override
+        public long expireAfterUpdate(EntryKey key,
+                                        EmbeddedCacheEntry entry,
+                                        long currentTime,
+                                        @NonNegative long currentDuration) {
+
+            return TimeUnit.SECONDS.toNanos(entry.getTtlSeconds());
+        }
+
+        @Override
+        public long expireAfterRead(EntryKey key,
+                                      EmbeddedCacheEntry entry,
+                                      long currentTime,
+                                      @NonNegative long currentDuration) {
+
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package org.prebid.server.cache.model;
+
+import lombok.Value;
+
+/**
+ * Value stored in the embedded cache along with its type, i.e. "json", "xml" or "text".
+ */
+@Value(staticConstructor = "of")
+public class EmbeddedCacheEntry {
+
+    String type;
+
+    String value;
+
+    int ttlSeconds;
+}
@@ -1,16 +1,21 @@
 package org.prebid.server.cache.utils;
 
 import io.vertx.core.MultiMap;
+import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.util.HttpUtil;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.Objects;
 
 public class CacheServiceUtil {
 
     public static final MultiMap CACHE_HEADERS = HttpUtil.headers();
     public static final String XML_CREATIVE_TYPE = "xml";
     public static final String JSON_CREATIVE_TYPE = "json";
+    public static final String XML_CONTENT_TYPE = "application/xml";
+    public static final String JSON_CONTENT_TYPE = "application/json";
+    public static final String TEXT_CONTENT_TYPE = "text/plain";
 
     private CacheServiceUtil() {
     }
@@ -24,6 +29,23 @@ public class CacheServiceUtil {
         }
     }
 
+    public static MultiMap cacheHeaders(String apiKey, boolean isApiKeySecured) {
+        return isApiKeySecured
+                ? HttpUtil.headers().add(HttpUtil.X_PBC_API_KEY_HEADER, Objects.requireNonNull(apiKey))
+                : HttpUtil.headers();
+    }
+
+    /**
+     * Returns content type Prebid Cache responds with for the cached value of the given type.
+     */
+    public static String contentTypeOf(String creativeType) {
+        return switch (StringUtils.defaultString(creativeType)) {
+            case XML_CREATIVE_TYPE -> XML_CONTENT_TYPE;
+            case JSON_CREATIVE_TYPE -> JSON_CONTENT_TYPE;
+            default -> TEXT_CONTENT_TYPE;
+        };
+    }
+
     private static URL getCacheBaseUrl(String cacheSchema, String cacheHost) throws MalformedURLException {
         return new URL(cacheSchema + "://" + cacheHost);
     }
@@ -0,0 +1,245 @@
+package org.prebid.server.cookie;
+
+import org.prebid.server.cookie.model.UidWithExpiry;
+import org.prebid.server.cookie.proto.Uids;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Compact binary format of {@link Uids}, an alternative to JSON one.
+ * <p>
+ * Version 1 layout, all numbers are unsigned varints unless stated otherwise:
+ * <ul>
+ * <li>version, single byte</li>
+ * <li>dictionary version, the number of its entries</li>
+ * <li>flags, single byte, bit 0 is optout</li>
+ * <li>base expiry in epoch seconds, the earliest one among uids</li>
+ * <li>number of uids</li>
+ * <li>for each uid: family name, uid length followed by its UTF-8 bytes and expiry delta in seconds from the base
+ * expiry</li>
+ * </ul>
+ * Family name is either dictionary coded as {@code code << 1} or written inline as {@code length << 1 | 1}
+ * followed by UTF-8 bytes. Dictionary is the append-only {@link UidsCookieFamilyDictionary}, so cookie written with
+ * an older dictionary version is fully readable, while uids coded by entries appended in a newer version (during
+ * rolling deployment) are skipped and synced again.
+ * <p>
+ * Expiry is stored with the precision of seconds.
+ */
+public class BinaryUidsCookieCodec {
+
+    static final byte VERSION = 1;
+
+    private static final int OPTOUT_FLAG = 1;
+    private static final int MAX_VARINT_SIZE = 5;
+    private static final int HEADER_MAX_SIZE = 1 + MAX_VARINT_SIZE + 1 + MAX_VARINT_SIZE + MAX_VARINT_SIZE;
+
+    private final List<String> dictionary;
+    private final Map<String, Integer> familyToCode;
+
+    public BinaryUidsCookieCodec() {
+        this(UidsCookieFamilyDictionary.FAMILIES);
+    }
+
+    BinaryUidsCookieCodec(List<String> dictionary) {
+        this.dictionary = Objects.requireNonNull(dictionary);
+
+        familyToCode = new HashMap<>();
+        for (String family : dictionary) {
+            if (familyToCode.putIfAbsent(family, familyToCode.size()) != null) {
+                throw new IllegalArgumentException("Duplicate family in uids cookie dictionary: " + family);
+            }
+        }
+    }
+
+    /**
+     * Returns true if the given decoded cookie value is in binary format. JSON always starts with '{'.
+     */
+    public static boolean isBinary(byte[] value) {
+        return value.length > 0 && value[0] == VERSION;
+    }
+
+    public byte[] encode(Uids uids) {
+        final Map<String, UidWithExpiry> uidsMap = uids.getUids();
+        final long baseExpiry = uidsMap.values().stream()
+                .mapToLong(BinaryUidsCookieCodec::expirySeconds)
+                .min()
+                .orElse(0L);
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(HEADER_MAX_SIZE + uidsMap.size() * 32);
+        out.write(VERSION);
+        writeVarint(out, dictionary.size());
+        out.write(Objects.equals(uids.getOptout(), Boolean.TRUE) ? OPTOUT_FLAG : 0);
+        writeVarint(out, baseExpiry);
+        writeVarint(out, uidsMap.size());
+
+        for (Map.Entry<String, UidWithExpiry> entry : uidsMap.entrySet()) {
+            writeFamily(out, entry.getKey());
+            writeString(out, entry.getValue().getUid());
+            writeVarint(out, expirySeconds(entry.getValue()) - baseExpiry);
+        }
+
+        return out.toByteArray();
+    }
+
+    private void writeFamily(ByteArrayOutputStream out, String family) {
+        final Integer code = familyToCode.get(family);
+        if (code != null) {
+            writeVarint(out, (long) code << 1);
+            return;
+        }
+
+        final byte[] bytes = family.getBytes(StandardCharsets.UTF_8);
+        writeVarint(out, ((long) bytes.length << 1) | 1);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        final byte[] bytes = value != null ? value.getBytes(StandardCharsets.UTF_8) : new byte[0];
+        writeVarint(out, bytes.length);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            out.write((int) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        out.write((int) remaining);
+    }
+
+    private static long expirySeconds(UidWithExpiry uid) {
+        final ZonedDateTime expires = uid.getExpires();
+        return expires != null ? Math.max(expires.toEpochSecond(), 0L) : 0L;
+    }
+
+    /**
+     * Decodes {@link Uids} from the given binary value.
+     *
+     * @throws IllegalArgumentException if value is malformed or its version is unsupported.
+     */
+    public Uids decode(byte[] value) {
+        final Reader reader = new Reader(value);
+        if (reader.readByte() != VERSION) {
+            throw new IllegalArgumentException("Unsupported uids cookie version");
+        }
+
+        final long dictionaryVersion = reader.readVarint();
+        final boolean optout = (reader.readByte() & OPTOUT_FLAG) != 0;
+        final long baseExpiry = reader.readVarint();
+        final long count = reader.readVarint();
+
+        final Map<String, UidWithExpiry> uids = new HashMap<>();
+        for (long i = 0; i < count; i++) {
+            final String family = readFamily(reader, dictionaryVersion);
+            final String uid = reader.readString();
+            final long expiry = baseExpiry + reader.readVarint();
+
+            if (family != null) {
+                uids.put(family, new UidWithExpiry(
+                        uid, ZonedDateTime.ofInstant(Instant.ofEpochSecond(expiry), ZoneOffset.UTC)));
+            }
+        }
+
+        return Uids.builder().uids(uids).optout(optout).build();
+    }
+
+    private String readFamily(Reader reader, long dictionaryVersion) {
+        final long tag = reader.readVarint();
+        if ((tag & 1) != 0) {
+            return reader.readString(tag >>> 1);
+        }
+
+        final long code = tag >>> 1;
+        if (code >= dictionaryVersion) {
+            throw new IllegalArgumentException("Unknown family code " + code);
+        }
+
+        // code of the family appended in a newer dictionary version
+        return code < dictionary.size() ? dictionary.get((int) code) : null;
+    }
+
+    /**
+     * Returns the maximum size of header.
+     */
+    int headerSize() {
+        return HEADER_MAX_SIZE;
+    }
+
+    /**
+     * Returns the maximum size of the given uid, it may be a few bytes less because of the expiry delta.
+     */
+    int entrySize(String family, String uid) {
+        final Integer code = familyToCode.get(family);
+        final int familySize;
+        if (code != null) {
+            familySize = varintSize((long) code << 1);
+        } else {
+            final int length = family.getBytes(StandardCharsets.UTF_8).length;
+            familySize = varintSize(((long) length << 1) | 1) + length;
+        }
+
+        final int uidLength = uid != null ? uid.getBytes(StandardCharsets.UTF_8).length : 0;
+        return familySize + varintSize(uidLength) + uidLength + MAX_VARINT_SIZE;
+    }
+
+    private static int varintSize(long value) {
+        int size = 1;
+        long remaining = value >>> 7;
+        while (remaining != 0) {
+            size++;
+            remaining >>>= 7;
+        }
+        return size;
+    }
+
+    private static class Reader {
+
+        private final byte[] bytes;
+        private int position;
+
+        Reader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        int readByte() {
+            if (position >= bytes.length) {
+                throw new IllegalArgumentException("Unexpected end of uids cookie");
+            }
+            return bytes[position++] & 0xFF;
+        }
+
+        long readVarint() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                final int current = readByte();
+                value |= (long) (current & 0x7F) << shift;
+                if ((current & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint in uids cookie");
+        }
+
+        String readString() {
+            return readString(readVarint());
+        }
+
+        String readString(long length) {
+            if (length > bytes.length - position) {
+                throw new IllegalArgumentException("Unexpected end of uids cookie");
+            }
+            final String value = new String(bytes, position, (int) length, StandardCharsets.UTF_8);
+            position += (int) length;
+            return value;
+        }
+    }
+}
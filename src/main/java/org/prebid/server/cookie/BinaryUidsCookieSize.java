@@ -0,0 +1,32 @@
+package org.prebid.server.cookie;
+
+import java.util.Objects;
+
+/**
+ * {@link UidsCookieSize} of the cookie in {@link BinaryUidsCookieCodec} format, base64 encoded without padding.
+ */
+public class BinaryUidsCookieSize extends UidsCookieSize {
+
+    private final int cookieSchemaSize;
+    private final BinaryUidsCookieCodec codec;
+    private int binarySize;
+
+    public BinaryUidsCookieSize(int cookieSchemaSize, int maxSize, BinaryUidsCookieCodec codec) {
+        super(cookieSchemaSize, maxSize);
+
+        this.cookieSchemaSize = cookieSchemaSize;
+        this.codec = Objects.requireNonNull(codec);
+
+        binarySize = codec.headerSize();
+    }
+
+    @Override
+    public int totalSize() {
+        return cookieSchemaSize + (binarySize * 4 + 2) / 3;
+    }
+
+    @Override
+    public void addUid(String cookieFamily, String uid) {
+        binarySize += codec.entrySize(cookieFamily, uid);
+    }
+}
@@ -15,6 +15,7 @@ import org.prebid.server.auction.privacy.enforcement.CcpaEnforcement;
 import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.bidder.BidderInfo;
 import org.prebid.server.bidder.UsersyncInfoBuilder;
+import org.prebid.server.bidder.UsersyncInfoTemplate;
 import org.prebid.server.bidder.UsersyncMethod;
 import org.prebid.server.bidder.UsersyncUtil;
 import org.prebid.server.bidder.Usersyncer;
@@ -48,15 +49,18 @@ import org.prebid.server.util.StreamUtil;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class CookieSyncService {
 
@@ -71,6 +75,8 @@ public class CookieSyncService {
     private final CoopSyncProvider coopSyncProvider;
     private final Metrics metrics;
 
+    private final Map<UsersyncMethod, UsersyncInfoTemplate> usersyncInfoTemplates;
+
     public CookieSyncService(String externalUrl,
                              int defaultLimit,
                              int maxLimit,
@@ -92,6 +98,8 @@ public class CookieSyncService {
         this.uidsCookieService = Objects.requireNonNull(uidsCookieService);
         this.coopSyncProvider = Objects.requireNonNull(coopSyncProvider);
         this.metrics = Objects.requireNonNull(metrics);
+
+        usersyncInfoTemplates = createUsersyncInfoTemplates(bidderCatalog);
     }
 
     private static void validateLimits(int limit, int maxLimit) {
@@ -102,17 +110,24 @@ public class CookieSyncService {
         }
     }
 
+    private static Map<UsersyncMethod, UsersyncInfoTemplate> createUsersyncInfoTemplates(BidderCatalog bidderCatalog) {
+        final Map<UsersyncMethod, UsersyncInfoTemplate> templates = new HashMap<>();
+        bidderCatalog.names().stream()
+                .map(bidderCatalog::usersyncerByName)
+                .flatMap(Optional::stream)
+                .flatMap(usersyncer -> Stream.of(usersyncer.getIframe(), usersyncer.getRedirect()))
+                .filter(Objects::nonNull)
+                .forEach(method -> templates.computeIfAbsent(method, UsersyncInfoTemplate::of));
+
+        return templates;
+    }
+
     public Future<CookieSyncContext> processContext(CookieSyncContext cookieSyncContext) {
         return Future.succeededFuture(cookieSyncContext)
                 .map(this::validateCookieSyncContext)
                 .map(this::resolveLimit)
                 .map(this::resolveBiddersToSync)
-                .map(this::filterInvalidBidders)
-                .map(this::filterDisabledBidders)
-                .map(this::filterBiddersWithoutUsersync)
-                .map(this::filterBiddersWithDisabledUsersync)
-                .map(this::filterBiddersByGdpr)
-                .map(this::filterBiddersByGppSid)
+                .map(this::filterBiddersByCatalog)
                 .map(this::applyRequestFilterSettings)
                 .compose(this::applyPrivacyFilteringRules)
                 .map(this::filterInSyncBidders);
@@ -176,52 +191,47 @@ public class CookieSyncService {
         return cookieSyncContext.with(updatedContext);
     }
 
-    private CookieSyncContext filterInvalidBidders(CookieSyncContext cookieSyncContext) {
-        return filterBidders(
-                cookieSyncContext,
-                bidder -> !bidderCatalog.isValidName(bidder),
-                RejectionReason.INVALID_BIDDER);
-    }
+    /**
+     * Rejects invalid and disabled bidders, bidders without enabled usersync and bidders skipped by regulation
+     * scope in a single pass, resolving each bidder in {@link BidderCatalog} once.
+     */
+    private CookieSyncContext filterBiddersByCatalog(CookieSyncContext cookieSyncContext) {
+        final boolean inGdprScope = cookieSyncContext.getPrivacyContext().getTcfContext().isInGdprScope();
+        final List<Integer> gppSid = ListUtils.emptyIfNull(cookieSyncContext.getCookieSyncRequest().getGppSid());
 
-    private CookieSyncContext filterDisabledBidders(CookieSyncContext cookieSyncContext) {
-        return filterBidders(
-                cookieSyncContext,
-                bidder -> !bidderCatalog.isActive(bidder),
-                RejectionReason.DISABLED_BIDDER);
-    }
+        final BiddersContext biddersContext = cookieSyncContext.getBiddersContext();
+        final Map<String, RejectionReason> rejectedBidders = new HashMap<>();
+        for (String bidder : biddersContext.allowedBidders()) {
+            final RejectionReason reason = catalogRejectionReason(bidder, inGdprScope, gppSid);
+            if (reason != null) {
+                rejectedBidders.put(bidder, reason);
+            }
+        }
 
-    private CookieSyncContext filterBiddersWithoutUsersync(CookieSyncContext cookieSyncContext) {
-        return filterBidders(
-                cookieSyncContext,
-                bidder -> bidderCatalog.usersyncerByName(bidder).isEmpty(),
-                RejectionReason.UNCONFIGURED_USERSYNC);
+        return cookieSyncContext.with(biddersContext.withRejectedBidders(rejectedBidders));
     }
 
-    private CookieSyncContext filterBiddersWithDisabledUsersync(CookieSyncContext cookieSyncContext) {
-        return filterBidders(
-                cookieSyncContext,
-                bidder -> !bidderCatalog.usersyncerByName(bidder).orElseThrow().isEnabled(),
-                RejectionReason.DISABLED_USERSYNC);
-    }
+    private RejectionReason catalogRejectionReason(String bidder, boolean inGdprScope, List<Integer> gppSid) {
+        if (!bidderCatalog.isValidName(bidder)) {
+            return RejectionReason.INVALID_BIDDER;
+        }
+        if (!bidderCatalog.isActive(bidder)) {
+            return RejectionReason.DISABLED_BIDDER;
+        }
 
-    private CookieSyncContext filterBiddersByGdpr(CookieSyncContext cookieSyncContext) {
-        return filterBidders(
-                cookieSyncContext,
-                bidder -> cookieSyncContext.getPrivacyContext().getTcfContext().isInGdprScope()
-                        && bidderCatalog.usersyncerByName(bidder).map(Usersyncer::isSkipWhenInGdprScope).orElse(false),
-                RejectionReason.REJECTED_BY_REGULATION_SCOPE);
-    }
+        final Usersyncer usersyncer = bidderCatalog.usersyncerByName(bidder).orElse(null);
+        if (usersyncer == null) {
+            return RejectionReason.UNCONFIGURED_USERSYNC;
+        }
+        if (!usersyncer.isEnabled()) {
+            return RejectionReason.DISABLED_USERSYNC;
+        }
 
-    private CookieSyncContext filterBiddersByGppSid(CookieSyncContext cookieSyncContext) {
-        return filterBidders(
-                cookieSyncContext,
-                bidder -> bidderCatalog.usersyncerByName(bidder)
-                        .map(Usersyncer::getGppSidToSkip)
-                        .map(gppSid -> !Collections.disjoint(
-                                gppSid,
-                                cookieSyncContext.getCookieSyncRequest().getGppSid()))
-                        .orElse(false),
-                RejectionReason.REJECTED_BY_REGULATION_SCOPE);
+        final List<Integer> gppSidToSkip = usersyncer.getGppSidToSkip();
+        final boolean skippedByGppSid = gppSidToSkip != null && !Collections.disjoint(gppSidToSkip, gppSid);
+        return (inGdprScope && usersyncer.isSkipWhenInGdprScope()) || skippedByGppSid
+                ? RejectionReason.REJECTED_BY_REGULATION_SCOPE
+                : null;
     }
 
     /**
@@ -435,18 +445,19 @@ public class CookieSyncService {
                                         String hostCookieUid,
                                         Privacy privacy) {
 
-        final UsersyncInfoBuilder usersyncInfoBuilder = UsersyncInfoBuilder.from(usersyncMethod);
-
-        if (hostCookieUid != null) {
-            final String url = UsersyncUtil.CALLBACK_URL_TEMPLATE.formatted(
-                    externalUrl, HttpUtil.encodeUrl(cookieFamilyName), HttpUtil.encodeUrl(hostCookieUid));
-
-            usersyncInfoBuilder
-                    .usersyncUrl(UsersyncUtil.enrichUrlWithFormat(url, UsersyncUtil.resolveFormat(usersyncMethod)))
-                    .redirectUrl(null);
+        if (hostCookieUid == null) {
+            final UsersyncInfoTemplate usersyncInfoTemplate = usersyncInfoTemplates.get(usersyncMethod);
+            return usersyncInfoTemplate != null
+                    ? usersyncInfoTemplate.render(privacy)
+                    : UsersyncInfoTemplate.of(usersyncMethod).render(privacy);
         }
 
-        return usersyncInfoBuilder
+        final String url = UsersyncUtil.CALLBACK_URL_TEMPLATE.formatted(
+                externalUrl, HttpUtil.encodeUrl(cookieFamilyName), HttpUtil.encodeUrl(hostCookieUid));
+
+        return UsersyncInfoBuilder.from(usersyncMethod)
+                .usersyncUrl(UsersyncUtil.enrichUrlWithFormat(url, UsersyncUtil.resolveFormat(usersyncMethod)))
+                .redirectUrl(null)
                 .privacy(privacy)
                 .build();
     }
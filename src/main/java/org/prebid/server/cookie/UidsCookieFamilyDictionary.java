@@ -0,0 +1,199 @@
+package org.prebid.server.cookie;
+
+import java.util.List;
+
+/**
+ * Cookie family names coded by their index in {@link BinaryUidsCookieCodec} format.
+ * <p>
+ * The dictionary is append-only: codes of already written cookies must stay valid, so entries are never removed
+ * or reordered, even if the bidder is gone. New families are appended to the end, which creates a new dictionary
+ * version identified by the number of entries. Families missing here are still stored, written inline.
+ */
+final class UidsCookieFamilyDictionary {
+
+    static final List<String> FAMILIES = List.of(
+            "33across",
+            "aax",
+            "acuityads",
+            "adagio",
+            "adf",
+            "adipolo",
+            "adkernel",
+            "adkernelAdn",
+            "adman",
+            "admixer",
+            "adnxs",
+            "adot",
+            "adpone",
+            "adport",
+            "adprime",
+            "adquery",
+            "adsinteractive",
+            "adtonos",
+            "aduptech",
+            "advangelists",
+            "adverxo",
+            "adyoulike",
+            "aidem",
+            "aja",
+            "alkimi",
+            "amx",
+            "apacdex",
+            "appStockSSP",
+            "aso",
+            "avocet",
+            "axis",
+            "axonix",
+            "bcmint",
+            "beachfront",
+            "beintoo",
+            "between",
+            "bidagency",
+            "bidfuse",
+            "bidmyadz",
+            "bidsmind",
+            "bidstack",
+            "bidtheatre",
+            "bliink",
+            "blis",
+            "boldwin",
+            "ccx",
+            "colossus",
+            "compass",
+            "connatix",
+            "connectad",
+            "consumable",
+            "contxtful",
+            "conversant",
+            "copper6ssp",
+            "cpmstar",
+            "criteo",
+            "cwire",
+            "datablocks",
+            "deepintent",
+            "dianomi",
+            "driftpixel",
+            "dxkulture",
+            "e_volution",
+            "emtv",
+            "emx_digital",
+            "eplanning",
+            "epsilon",
+            "evtech",
+            "exco",
+            "feedad",
+            "freewheelssp",
+            "frvradn",
+            "fwssp",
+            "gamoshi",
+            "globalsun",
+            "grid",
+            "gumgum",
+            "imds",
+            "impactify",
+            "improvedigital",
+            "inmobi",
+            "insticator",
+            "intertech",
+            "iqzone",
+            "ix",
+            "jixie",
+            "kargo",
+            "kiviads",
+            "krushmedia",
+            "kuantyx",
+            "kueezrtb",
+            "lemmadigital",
+            "lm_kiviads",
+            "lockerdome",
+            "logan",
+            "logicad",
+            "loopme",
+            "lunamedia",
+            "marsmedia",
+            "mediago",
+            "medianet",
+            "metax",
+            "mgid",
+            "mgidX",
+            "minutemedia",
+            "missena",
+            "mobilefuse",
+            "nativo",
+            "nextmillennium",
+            "nexx360",
+            "nobid",
+            "ogury",
+            "omnidex",
+            "onetag",
+            "openweb",
+            "openx",
+            "operaads",
+            "optidigital",
+            "oraki",
+            "orbidder",
+            "outbrain",
+            "ownadx",
+            "pgamssp",
+            "playdigo",
+            "preciso",
+            "progx",
+            "pubmatic",
+            "pubrise",
+            "pulsepoint",
+            "qt",
+            "resetdigital",
+            "richaudience",
+            "rise",
+            "rocketlab",
+            "rtbhouse",
+            "rubicon",
+            "sa_lunamedia",
+            "seedingAlliance",
+            "seedtag",
+            "sharethrough",
+            "smaato",
+            "smartadserver",
+            "smartrtb",
+            "smartyads",
+            "smilewanted",
+            "smoot",
+            "sonobi",
+            "sovrn",
+            "sparteo",
+            "sspbc",
+            "stroeerCore",
+            "suntContent",
+            "taboola",
+            "tagoras",
+            "tappx",
+            "teal",
+            "telaria",
+            "theadx",
+            "tpmn",
+            "triplelift",
+            "triplelift_native",
+            "trustedstack",
+            "ucfunnel",
+            "undertone",
+            "unruly",
+            "vidazoo",
+            "videobyte",
+            "vidoomy",
+            "visiblemeasures",
+            "visx",
+            "vox",
+            "vrtcal",
+            "xapads",
+            "xeworks",
+            "yahooAds",
+            "yandex",
+            "yieldlab",
+            "yieldmo",
+            "yieldone",
+            "zeroclickfraud",
+            "zeta_global_ssp");
+
+    private UidsCookieFamilyDictionary() {
+    }
+}
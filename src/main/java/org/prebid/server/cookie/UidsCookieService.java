@@ -55,6 +55,8 @@ public class UidsCookieService {
     private final PrioritizedCoopSyncProvider prioritizedCoopSyncProvider;
     private final Metrics metrics;
     private final JacksonMapper mapper;
+    private final BinaryUidsCookieCodec binaryCodec;
+    private final boolean binaryFormat;
 
     public UidsCookieService(String optOutCookieName,
                              String optOutCookieValue,
@@ -66,7 +68,9 @@ public class UidsCookieService {
                              int numberOfUidCookies,
                              PrioritizedCoopSyncProvider prioritizedCoopSyncProvider,
                              Metrics metrics,
-                             JacksonMapper mapper) {
+                             JacksonMapper mapper,
+                             BinaryUidsCookieCodec binaryCodec,
+                             boolean binaryFormat) {
 
         if (maxCookieSizeBytes != 0 && maxCookieSizeBytes < MIN_COOKIE_SIZE_BYTES) {
             throw new IllegalArgumentException(
@@ -90,6 +94,8 @@ public class UidsCookieService {
         this.prioritizedCoopSyncProvider = Objects.requireNonNull(prioritizedCoopSyncProvider);
         this.metrics = Objects.requireNonNull(metrics);
         this.mapper = Objects.requireNonNull(mapper);
+        this.binaryCodec = Objects.requireNonNull(binaryCodec);
+        this.binaryFormat = binaryFormat;
     }
 
     /**
@@ -103,6 +109,9 @@ public class UidsCookieService {
      * If request contains 'legacy' UIDs cookie format then it will be interpreted as already expired and forced
      * to re-sync
      * <p>
+     * Both JSON and binary (see {@link BinaryUidsCookieCodec}) values are accepted regardless of the configured
+     * format, so the format can be switched in both directions without losing synced UIDs.
+     * <p>
      * This method also sets 'hostCookieFamily' if 'hostCookie' is present in the request and feature is not opted-out.
      * If feature is opted-out uids attribute will be blank.
      * <p>
@@ -144,8 +153,10 @@ public class UidsCookieService {
             }
 
             try {
-                final Uids parsedUids = mapper.decodeValue(
-                        Buffer.buffer(Base64.getUrlDecoder().decode(cookie.getValue())), Uids.class);
+                final byte[] decodedValue = Base64.getUrlDecoder().decode(cookie.getValue());
+                final Uids parsedUids = BinaryUidsCookieCodec.isBinary(decodedValue)
+                        ? binaryCodec.decode(decodedValue)
+                        : mapper.decodeValue(Buffer.buffer(decodedValue), Uids.class);
                 if (parsedUids != null && parsedUids.getUids() != null) {
                     parsedUids.getUids().forEach((key, value) -> uids.merge(key, value, (newValue, oldValue) ->
                             newValue.getExpires().compareTo(oldValue.getExpires()) > 0 ? newValue : oldValue));
@@ -159,11 +170,14 @@ public class UidsCookieService {
     }
 
     /**
-     * Creates a {@link Cookie} with 'uids' as a name and encoded JSON string representing supplied {@link UidsCookie}
-     * as a value.
+     * Creates a {@link Cookie} with 'uids' as a name and base64 encoded JSON string or binary value (if configured)
+     * representing supplied {@link UidsCookie} as a value.
      */
     public Cookie aliveCookie(String cookieName, UidsCookie uidsCookie) {
-        final String value = Base64.getUrlEncoder().encodeToString(uidsCookie.toJson().getBytes());
+        final String value = binaryFormat
+                ? Base64.getUrlEncoder().withoutPadding().encodeToString(
+                        binaryCodec.encode(uidsCookie.getCookieUids()))
+                : Base64.getUrlEncoder().encodeToString(uidsCookie.toJson().getBytes());
         return makeCookie(cookieName, value, ttlSeconds);
     }
 
@@ -285,7 +299,9 @@ public class UidsCookieService {
         String nextCookieFamily = null;
         for (int i = 0; i < numberOfUidCookies; i++) {
             final int digits = i < 10 ? Integer.signum(i) : 2;
-            final UidsCookieSize uidsCookieSize = new UidsCookieSize(cookieSchemaSize + digits, maxCookieSizeBytes);
+            final UidsCookieSize uidsCookieSize = binaryFormat
+                    ? new BinaryUidsCookieSize(cookieSchemaSize + digits, maxCookieSizeBytes, binaryCodec)
+                    : new UidsCookieSize(cookieSchemaSize + digits, maxCookieSizeBytes);
 
             final Map<String, UidWithExpiry> tempUids = new HashMap<>();
             while (nextCookieFamily != null || cookieFamilies.hasNext()) {
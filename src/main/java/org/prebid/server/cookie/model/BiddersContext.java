@@ -86,6 +86,23 @@ public class BiddersContext {
                 .build();
     }
 
+    public BiddersContext withRejectedBidders(Map<String, RejectionReason> bidderToReason) {
+        if (bidderToReason.isEmpty()) {
+            return this;
+        }
+
+        final Map<String, RejectionReason> updatedRejectedBidders = new HashMap<>(rejectedBidders);
+        updatedRejectedBidders.putAll(bidderToReason);
+
+        final Map<String, UsersyncMethod> updatedMethods = new HashMap<>(bidderUsersyncMethod);
+        updatedMethods.keySet().removeAll(bidderToReason.keySet());
+
+        return toBuilder()
+                .rejectedBidders(updatedRejectedBidders)
+                .bidderUsersyncMethod(updatedMethods)
+                .build();
+    }
+
     public BiddersContext withBidderUsersyncMethod(String bidder, UsersyncMethod method) {
         if (rejectedBidders.containsKey(bidder)) {
             return this;
@@ -1,12 +1,13 @@
 package org.prebid.server.currency;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.iab.openrtb.request.BidRequest;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.BooleanUtils;
-import org.apache.commons.lang3.ObjectUtils;
 import org.prebid.server.currency.proto.CurrencyConversionRates;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.json.JacksonMapper;
@@ -26,9 +27,6 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.Duration;
 import java.time.ZonedDateTime;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -40,14 +38,17 @@ public class CurrencyConversionService implements Initializable {
     private static final Logger logger = LoggerFactory.getLogger(CurrencyConversionService.class);
 
     private static final String DEFAULT_BID_CURRENCY = "USD";
-    // This number is chosen because of PriceGranularities default precision value of 2 + 1 for better accuracy
-    private static final int DEFAULT_PRICE_PRECISION = 3;
 
     private final String currencyServerUrl;
     private final ExternalConversionProperties externalConversionProperties;
     private final JacksonMapper mapper;
 
+    // request rates live as long as the request, so matrices built for them are keyed by identity
+    private final Cache<Map<String, Map<String, BigDecimal>>, CurrencyRatesMatrix> requestRatesMatrices =
+            Caffeine.newBuilder().weakKeys().build();
+
     private Map<String, Map<String, BigDecimal>> externalCurrencyRates;
+    private CurrencyRatesMatrix externalRatesMatrix;
     private ZonedDateTime lastUpdated;
 
     public CurrencyConversionService(ExternalConversionProperties externalConversionProperties) {
@@ -119,6 +120,7 @@ public class CurrencyConversionService implements Initializable {
     private Void updateCurrencyRates(CurrencyConversionRates currencyConversionRates) {
         final Map<String, Map<String, BigDecimal>> receivedCurrencyRates = currencyConversionRates.getConversions();
         if (receivedCurrencyRates != null) {
+            externalRatesMatrix = CurrencyRatesMatrix.of(receivedCurrencyRates);
             externalCurrencyRates = receivedCurrencyRates;
             lastUpdated = now();
         }
@@ -134,6 +136,7 @@ public class CurrencyConversionService implements Initializable {
 
         if (externalRatesAreStale()) {
             externalCurrencyRates = null;
+            externalRatesMatrix = null;
         }
 
         return null;
@@ -199,28 +202,27 @@ public class CurrencyConversionService implements Initializable {
             return price;
         }
 
-        final Map<String, Map<String, BigDecimal>> firstPriorityRates;
-        final Map<String, Map<String, BigDecimal>> secondPriorityRates;
+        final boolean requestRatesFirst = BooleanUtils.isFalse(usepbsrates);
+        final CurrencyRatesMatrix firstPriorityRates = requestRatesFirst
+                ? requestRatesMatrix(requestCurrencyRates)
+                : externalRatesMatrix;
 
-        if (BooleanUtils.isFalse(usepbsrates)) {
-            firstPriorityRates = requestCurrencyRates;
-            secondPriorityRates = externalCurrencyRates;
-        } else {
-            firstPriorityRates = externalCurrencyRates;
-            secondPriorityRates = requestCurrencyRates;
+        BigDecimal conversionRate = rate(firstPriorityRates, effectiveFromCurrency, effectiveToCurrency);
+        if (conversionRate == null) {
+            // request rates matrix is built only when it is really needed
+            final CurrencyRatesMatrix secondPriorityRates = requestRatesFirst
+                    ? externalRatesMatrix
+                    : requestRatesMatrix(requestCurrencyRates);
+            conversionRate = rate(secondPriorityRates, effectiveFromCurrency, effectiveToCurrency);
         }
 
-        final BigDecimal conversionRate = getConversionRateByPriority(firstPriorityRates,
-                secondPriorityRates,
-                effectiveFromCurrency,
-                effectiveToCurrency);
-
         if (conversionRate == null) {
             throw new PreBidException("Unable to convert from currency %s to desired ad server currency %s"
                     .formatted(effectiveFromCurrency, effectiveToCurrency));
         }
 
-        return price.multiply(conversionRate).setScale(DEFAULT_PRICE_PRECISION, RoundingMode.HALF_EVEN);
+        return price.multiply(conversionRate)
+                .setScale(CurrencyRatesMatrix.DEFAULT_PRICE_PRECISION, RoundingMode.HALF_EVEN);
     }
 
     private static Map<String, Map<String, BigDecimal>> currencyRates(BidRequest bidRequest) {
@@ -240,119 +242,14 @@ public class CurrencyConversionService implements Initializable {
         return currency != null ? currency.getUsepbsrates() : null;
     }
 
-    /**
-     * Returns conversion rate from the given currency rates according to priority.
-     */
-    private static BigDecimal getConversionRateByPriority(Map<String, Map<String, BigDecimal>> firstPriorityRates,
-                                                          Map<String, Map<String, BigDecimal>> secondPriorityRates,
-                                                          String fromCurrency,
-                                                          String toCurrency) {
-
-        return ObjectUtils.defaultIfNull(
-                getConversionRate(firstPriorityRates, fromCurrency, toCurrency),
-                getConversionRate(secondPriorityRates, fromCurrency, toCurrency));
-    }
-
-    /**
-     * Looking for rates for a currency pair, using such approaches as straight, reverse and
-     * intermediate rates.
-     */
-    private static BigDecimal getConversionRate(Map<String, Map<String, BigDecimal>> currencyConversionRates,
-                                                String fromCurrency,
-                                                String toCurrency) {
-        if (MapUtils.isEmpty(currencyConversionRates)) {
-            return null;
-        }
-
-        BigDecimal conversionRate;
-        final Map<String, BigDecimal> directCurrencyRates = currencyConversionRates.get(fromCurrency);
-
-        conversionRate = directCurrencyRates != null ? directCurrencyRates.get(toCurrency) : null;
-        if (conversionRate != null) {
-            return conversionRate;
-        }
-
-        final Map<String, BigDecimal> reverseCurrencyRates = currencyConversionRates.get(toCurrency);
-        conversionRate = findReverseConversionRate(reverseCurrencyRates, fromCurrency);
-        if (conversionRate != null) {
-            return conversionRate;
-        }
-
-        final BigDecimal intermediateConversionRate = findIntermediateConversionRate(directCurrencyRates,
-                reverseCurrencyRates);
-        if (intermediateConversionRate != null) {
-            return intermediateConversionRate;
-        }
-
-        return findCrossConversionRate(currencyConversionRates, fromCurrency, toCurrency);
-    }
-
-    /**
-     * Finds reverse conversion rate.
-     * If pair USD : EUR - 1.2 is present and EUR to USD conversion is needed, will return 1/1.2 conversion rate.
-     */
-    private static BigDecimal findReverseConversionRate(Map<String, BigDecimal> currencyRates,
-                                                        String currency) {
-        final BigDecimal reverseConversionRate = currencyRates != null
-                ? currencyRates.get(currency)
+    private CurrencyRatesMatrix requestRatesMatrix(Map<String, Map<String, BigDecimal>> requestCurrencyRates) {
+        return MapUtils.isNotEmpty(requestCurrencyRates)
+                ? requestRatesMatrices.get(requestCurrencyRates, CurrencyRatesMatrix::of)
                 : null;
-
-        return reverseConversionRate != null
-                ? BigDecimal.ONE.divide(reverseConversionRate,
-                getRatePrecision(reverseConversionRate),
-                RoundingMode.HALF_EVEN)
-                : null;
-    }
-
-    /**
-     * Finds intermediate conversion rate.
-     * If pairs USD : AUD - 1.2 and EUR : AUD - 1.5 are present, and EUR to USD conversion is needed, will return
-     * (1/1.5) * 1.2 conversion rate.
-     */
-    private static BigDecimal findIntermediateConversionRate(Map<String, BigDecimal> directCurrencyRates,
-                                                             Map<String, BigDecimal> reverseCurrencyRates) {
-        BigDecimal conversionRate = null;
-        if (MapUtils.isNotEmpty(directCurrencyRates) && MapUtils.isNotEmpty(reverseCurrencyRates)) {
-            final List<String> sharedCurrencies = new ArrayList<>(directCurrencyRates.keySet());
-            sharedCurrencies.retainAll(reverseCurrencyRates.keySet());
-
-            if (!sharedCurrencies.isEmpty()) {
-                // pick any found shared currency
-                final String sharedCurrency = sharedCurrencies.getFirst();
-                final BigDecimal directCurrencyRateIntermediate = directCurrencyRates.get(sharedCurrency);
-                final BigDecimal reverseCurrencyRateIntermediate = reverseCurrencyRates.get(sharedCurrency);
-                conversionRate = directCurrencyRateIntermediate.divide(reverseCurrencyRateIntermediate,
-                        // chose the largest precision among intermediate rates
-                        getRatePrecision(directCurrencyRateIntermediate, reverseCurrencyRateIntermediate),
-                        RoundingMode.HALF_EVEN);
-            }
-        }
-        return conversionRate;
     }
 
-    private static BigDecimal findCrossConversionRate(Map<String, Map<String, BigDecimal>> currencyConversionRates,
-                                                      String fromCurrency,
-                                                      String toCurrency) {
-        for (Map<String, BigDecimal> rates : currencyConversionRates.values()) {
-            final BigDecimal fromRate = rates.get(fromCurrency);
-            final BigDecimal toRate = rates.get(toCurrency);
-            if (fromRate != null && toRate != null) {
-                return toRate.divide(fromRate,
-                        getRatePrecision(fromRate, toRate),
-                        RoundingMode.HALF_EVEN);
-            }
-        }
-
-        return null;
-    }
-
-    private static int getRatePrecision(BigDecimal... rates) {
-        final int precision = Arrays.stream(rates)
-                .map(BigDecimal::precision)
-                .max(Integer::compareTo)
-                .orElse(DEFAULT_PRICE_PRECISION);
-
-        return Math.max(precision, DEFAULT_PRICE_PRECISION);
+    private static BigDecimal rate(CurrencyRatesMatrix ratesMatrix, String fromCurrency, String toCurrency) {
+        return ratesMatrix != null ? ratesMatrix.rate(fromCurrency, toCurrency) : null;
     }
 
     private boolean isRatesStale() {
@@ -0,0 +1,177 @@
+package org.prebid.server.currency;
+
+import org.apache.commons.collections4.MapUtils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable N×N matrix of conversion rates between all currencies mentioned in the given rates.
+ * <p>
+ * Straight, reverse, intermediate and cross rates are resolved (with their precision) once, when the matrix is built,
+ * so looking up a rate for a currency pair costs two index lookups.
+ */
+public class CurrencyRatesMatrix {
+
+    // This number is chosen because of PriceGranularities default precision value of 2 + 1 for better accuracy
+    static final int DEFAULT_PRICE_PRECISION = 3;
+
+    private final Map<String, Integer> currencyIndexes;
+    private final BigDecimal[][] rates;
+
+    private CurrencyRatesMatrix(Map<String, Integer> currencyIndexes, BigDecimal[][] rates) {
+        this.currencyIndexes = currencyIndexes;
+        this.rates = rates;
+    }
+
+    /**
+     * Builds matrix from the rates in currency server format, i.e. map of base currency to map of quote currency
+     * to rate. Returns null if there are no rates.
+     */
+    public static CurrencyRatesMatrix of(Map<String, Map<String, BigDecimal>> currencyConversionRates) {
+        if (MapUtils.isEmpty(currencyConversionRates)) {
+            return null;
+        }
+
+        final Set<String> currencies = new LinkedHashSet<>(currencyConversionRates.keySet());
+        currencyConversionRates.values().stream()
+                .filter(MapUtils::isNotEmpty)
+                .forEach(quoteRates -> currencies.addAll(quoteRates.keySet()));
+
+        final Map<String, Integer> currencyIndexes = new HashMap<>(currencies.size() * 2);
+        for (String currency : currencies) {
+            currencyIndexes.put(currency, currencyIndexes.size());
+        }
+
+        final String[] codes = currencies.toArray(new String[0]);
+        final BigDecimal[][] rates = new BigDecimal[codes.length][codes.length];
+        for (int from = 0; from < codes.length; from++) {
+            for (int to = 0; to < codes.length; to++) {
+                rates[from][to] = from == to
+                        ? BigDecimal.ONE
+                        : resolveConversionRate(currencyConversionRates, codes[from], codes[to]);
+            }
+        }
+
+        return new CurrencyRatesMatrix(currencyIndexes, rates);
+    }
+
+    /**
+     * Returns conversion rate for the given currency pair or null if it is unknown.
+     */
+    public BigDecimal rate(String fromCurrency, String toCurrency) {
+        final Integer from = currencyIndexes.get(fromCurrency);
+        final Integer to = from != null ? currencyIndexes.get(toCurrency) : null;
+        return to != null ? rates[from][to] : null;
+    }
+
+    /**
+     * Looking for rates for a currency pair, using such approaches as straight, reverse and
+     * intermediate rates.
+     */
+    private static BigDecimal resolveConversionRate(Map<String, Map<String, BigDecimal>> currencyConversionRates,
+                                                    String fromCurrency,
+                                                    String toCurrency) {
+
+        BigDecimal conversionRate;
+        final Map<String, BigDecimal> directCurrencyRates = currencyConversionRates.get(fromCurrency);
+
+        conversionRate = directCurrencyRates != null ? directCurrencyRates.get(toCurrency) : null;
+        if (conversionRate != null) {
+            return conversionRate;
+        }
+
+        final Map<String, BigDecimal> reverseCurrencyRates = currencyConversionRates.get(toCurrency);
+        conversionRate = findReverseConversionRate(reverseCurrencyRates, fromCurrency);
+        if (conversionRate != null) {
+            return conversionRate;
+        }
+
+        final BigDecimal intermediateConversionRate = findIntermediateConversionRate(directCurrencyRates,
+                reverseCurrencyRates);
+        if (intermediateConversionRate != null) {
+            return intermediateConversionRate;
+        }
+
+        return findCrossConversionRate(currencyConversionRates, fromCurrency, toCurrency);
+    }
+
+    /**
+     * Finds reverse conversion rate.
+     * If pair USD : EUR - 1.2 is present and EUR to USD conversion is needed, will return 1/1.2 conversion rate.
+     */
+    private static BigDecimal findReverseConversionRate(Map<String, BigDecimal> currencyRates,
+                                                        String currency) {
+        final BigDecimal reverseConversionRate = currencyRates != null
+                ? currencyRates.get(currency)
+                : null;
+
+        return reverseConversionRate != null
+                ? BigDecimal.ONE.divide(reverseConversionRate,
+                getRatePrecision(reverseConversionRate),
+                RoundingMode.HALF_EVEN)
+                : null;
+    }
+
+    /**
+     * Finds intermediate conversion rate.
+     * If pairs USD : AUD - 1.2 and EUR : AUD - 1.5 are present, and EUR to USD conversion is needed, will return
+     * (1/1.5) * 1.2 conversion rate.
+     */
+    private static BigDecimal findIntermediateConversionRate(Map<String, BigDecimal> directCurrencyRates,
+                                                             Map<String, BigDecimal> reverseCurrencyRates) {
+        BigDecimal conversionRate = null;
+        if (MapUtils.isNotEmpty(directCurrencyRates) && MapUtils.isNotEmpty(reverseCurrencyRates)) {
+            final List<String> sharedCurrencies = new ArrayList<>(directCurrencyRates.keySet());
+            sharedCurrencies.retainAll(reverseCurrencyRates.keySet());
+
+            if (!sharedCurrencies.isEmpty()) {
+                // pick any found shared currency
+                final String sharedCurrency = sharedCurrencies.getFirst();
+                final BigDecimal directCurrencyRateIntermediate = directCurrencyRates.get(sharedCurrency);
+                final BigDecimal reverseCurrencyRateIntermediate = reverseCurrencyRates.get(sharedCurrency);
+                conversionRate = directCurrencyRateIntermediate.divide(reverseCurrencyRateIntermediate,
+                        // chose the largest precision among intermediate rates
+                        getRatePrecision(directCurrencyRateIntermediate, reverseCurrencyRateIntermediate),
+                        RoundingMode.HALF_EVEN);
+            }
+        }
+        return conversionRate;
+    }
+
+    private static BigDecimal findCrossConversionRate(Map<String, Map<String, BigDecimal>> currencyConversionRates,
+                                                      String fromCurrency,
+                                                      String toCurrency) {
+        for (Map<String, BigDecimal> rates : currencyConversionRates.values()) {
+            if (rates == null) {
+                continue;
+            }
+
+            final BigDecimal fromRate = rates.get(fromCurrency);
+            final BigDecimal toRate = rates.get(toCurrency);
+            if (fromRate != null && toRate != null) {
+                return toRate.divide(fromRate,
+                        getRatePrecision(fromRate, toRate),
+                        RoundingMode.HALF_EVEN);
+            }
+        }
+
+        return null;
+    }
+
+    private static int getRatePrecision(BigDecimal... rates) {
+        final int precision = Arrays.stream(rates)
+                .map(BigDecimal::precision)
+                .max(Integer::compareTo)
+                .orElse(DEFAULT_PRICE_PRECISION);
+
+        return Math.max(precision, DEFAULT_PRICE_PRECISION);
+    }
+}
@@ -0,0 +1,8 @@
+package org.prebid.server.exception;
+
+public class OverloadedException extends RuntimeException {
+
+    public OverloadedException(String message) {
+        super(message);
+    }
+}
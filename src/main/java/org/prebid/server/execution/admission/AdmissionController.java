@@ -0,0 +1,218 @@
+package org.prebid.server.execution.admission;
+
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.util.system.CpuLoadAverageStats;
+import org.prebid.server.vertx.eventloop.EventLoopMonitor;
+
+import java.time.Clock;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Adaptive limit of auctions in flight, adjusted in additive-increase/multiplicative-decrease (AIMD) manner.
+ * <p>
+ * The limit grows by one per limit's worth of auctions completed within the latency threshold and is multiplied
+ * by the backoff ratio when an auction takes longer than the threshold, CPU load exceeds its threshold or event loop
+ * lag exceeds its threshold.
+ * The limit is adjusted only while at least half of it is in use, so idle periods don't move it, and decreased at
+ * most once per latency threshold, so a burst of slow auctions is counted as a single overload signal.
+ * The limit is kept as raw bits of a double and updated with compare-and-set, so releases from different event
+ * loops never block each other.
+ * <p>
+ * Auctions over the limit are rejected immediately. Accounts of {@link AdmissionPriority#HIGH} priority are
+ * admitted up to the max limit, {@link AdmissionPriority#LOW} ones only up to the given share of the current limit.
+ */
+public class AdmissionController {
+
+    private static final Permit NOOP_PERMIT = new Permit(null, 0L);
+
+    private final boolean enabled;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdMillis;
+    private final double cpuLoadThreshold;
+    private final long eventLoopLagThresholdMillis;
+    private final double lowPriorityShare;
+    private final Set<String> highPriorityAccounts;
+    private final Set<String> lowPriorityAccounts;
+    private final CpuLoadAverageStats cpuLoadAverageStats;
+    private final EventLoopMonitor eventLoopMonitor;
+    private final Clock clock;
+    private final Metrics metrics;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong limitBits;
+    private final AtomicLong lastDecreaseTime = new AtomicLong();
+
+    public AdmissionController(boolean enabled,
+                               int minLimit,
+                               int maxLimit,
+                               double backoffRatio,
+                               long latencyThresholdMillis,
+                               double cpuLoadThreshold,
+                               long eventLoopLagThresholdMillis,
+                               double lowPriorityShare,
+                               Set<String> highPriorityAccounts,
+                               Set<String> lowPriorityAccounts,
+                               CpuLoadAverageStats cpuLoadAverageStats,
+                               EventLoopMonitor eventLoopMonitor,
+                               Clock clock,
+                               Metrics metrics) {
+
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Admission limits should satisfy 1 <= min-limit <= max-limit");
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("Admission backoff ratio should be between 0 and 1 exclusive");
+        }
+        if (lowPriorityShare <= 0 || lowPriorityShare > 1) {
+            throw new IllegalArgumentException("Admission low priority share should be between 0 exclusive and 1");
+        }
+
+        this.enabled = enabled;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyThresholdMillis = latencyThresholdMillis;
+        this.cpuLoadThreshold = cpuLoadThreshold;
+        this.eventLoopLagThresholdMillis = eventLoopLagThresholdMillis;
+        this.lowPriorityShare = lowPriorityShare;
+        this.highPriorityAccounts = Objects.requireNonNull(highPriorityAccounts);
+        this.lowPriorityAccounts = Objects.requireNonNull(lowPriorityAccounts);
+        this.cpuLoadAverageStats = cpuLoadAverageStats;
+        this.eventLoopMonitor = eventLoopMonitor;
+        this.clock = Objects.requireNonNull(clock);
+        this.metrics = Objects.requireNonNull(metrics);
+
+        limitBits = new AtomicLong(Double.doubleToRawLongBits(maxLimit));
+
+        if (enabled) {
+            metrics.createAdmissionGauges(() -> (long) limit(), inFlight::get);
+        }
+    }
+
+    public AdmissionPriority priorityOf(String accountId) {
+        if (accountId == null) {
+            return AdmissionPriority.NORMAL;
+        } else if (highPriorityAccounts.contains(accountId)) {
+            return AdmissionPriority.HIGH;
+        } else if (lowPriorityAccounts.contains(accountId)) {
+            return AdmissionPriority.LOW;
+        }
+        return AdmissionPriority.NORMAL;
+    }
+
+    /**
+     * Returns a permit to run an auction for the given account, which must be released once the auction is
+     * completed, or null if the auction should be rejected.
+     */
+    public Permit tryAcquire(String accountId) {
+        if (!enabled) {
+            return NOOP_PERMIT;
+        }
+
+        final AdmissionPriority priority = priorityOf(accountId);
+        final double allowed = switch (priority) {
+            case HIGH -> maxLimit;
+            case NORMAL -> limit();
+            case LOW -> limit() * lowPriorityShare;
+        };
+
+        if (inFlight.incrementAndGet() > allowed) {
+            inFlight.decrementAndGet();
+            metrics.updateAdmissionRejectedMetric(priority);
+            return null;
+        }
+
+        return new Permit(this, clock.millis());
+    }
+
+    private void release(long startTime) {
+        final int inFlightBeforeRelease = inFlight.getAndDecrement();
+        final long now = clock.millis();
+        final boolean overloaded = now - startTime > latencyThresholdMillis
+                || isCpuOverloaded()
+                || isEventLoopOverloaded();
+        adjustLimit(inFlightBeforeRelease, overloaded, now);
+    }
+
+    private boolean isCpuOverloaded() {
+        return cpuLoadAverageStats != null && cpuLoadAverageStats.getCpuLoadAverage() > cpuLoadThreshold;
+    }
+
+    private boolean isEventLoopOverloaded() {
+        return eventLoopMonitor != null && eventLoopMonitor.getMaxLagMillis() > eventLoopLagThresholdMillis;
+    }
+
+    private void adjustLimit(int inFlightBeforeRelease, boolean overloaded, long now) {
+        if (inFlightBeforeRelease * 2 < limit()) {
+            return;
+        }
+
+        if (!overloaded) {
+            updateLimit(true);
+            return;
+        }
+
+        // only the release winning the race for the decrease window backs the limit off
+        final long lastDecrease = lastDecreaseTime.get();
+        if (now - lastDecrease >= latencyThresholdMillis && lastDecreaseTime.compareAndSet(lastDecrease, now)) {
+            updateLimit(false);
+        }
+    }
+
+    private void updateLimit(boolean increase) {
+        while (true) {
+            final long currentBits = limitBits.get();
+            final double current = Double.longBitsToDouble(currentBits);
+            final double updated = increase
+                    ? Math.min(maxLimit, current + 1 / current)
+                    : Math.max(minLimit, current * backoffRatio);
+
+            if (updated == current || limitBits.compareAndSet(currentBits, Double.doubleToRawLongBits(updated))) {
+                return;
+            }
+        }
+    }
+
+    private double limit() {
+        return Double.longBitsToDouble(limitBits.get());
+    }
+
+    /**
+     * Returns the current limit of auctions in flight.
+     */
+    public int getLimit() {
+        return (int) limit();
+    }
+
+    /**
+     * Admission of a single auction.
+     */
+    public static final class Permit {
+
+        private final AdmissionController controller;
+        private final long startTime;
+        private boolean released;
+
+        private Permit(AdmissionController controller, long startTime) {
+            this.controller = controller;
+            this.startTime = startTime;
+        }
+
+        /**
+         * Releases the permit feeding the auction latency back to the limit, subsequent calls are ignored.
+         */
+        public void release() {
+            if (controller == null || released) {
+                return;
+            }
+
+            released = true;
+            controller.release(startTime);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package org.prebid.server.execution.admission;
+
+/**
+ * Priority class of an account for {@link AdmissionController}.
+ */
+public enum AdmissionPriority {
+
+    /**
+     * Admitted up to the max limit regardless of the current one.
+     */
+    HIGH,
+
+    /**
+     * Admitted up to the current limit.
+     */
+    NORMAL,
+
+    /**
+     * Admitted up to the configured share of the current limit, so it is shed first.
+     */
+    LOW
+}
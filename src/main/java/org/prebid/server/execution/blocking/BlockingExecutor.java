@@ -0,0 +1,33 @@
+package org.prebid.server.execution.blocking;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+
+import java.util.Objects;
+import java.util.concurrent.Callable;
+
+/**
+ * Runs blocking work (file loads, remote storage downloads, etc.) off the event loop.
+ */
+public interface BlockingExecutor {
+
+    /**
+     * Runs the given task and returns {@link Future} completed with its result on the caller's context.
+     */
+    <T> Future<T> execute(Callable<T> task);
+
+    /**
+     * Returns executor running tasks on the shared Vert.x worker pool, as {@link Vertx#executeBlocking} does.
+     */
+    static BlockingExecutor workerPool(Vertx vertx) {
+        Objects.requireNonNull(vertx);
+
+        return new BlockingExecutor() {
+
+            @Override
+            public <T> Future<T> execute(Callable<T> task) {
+                return vertx.executeBlocking(task);
+            }
+        };
+    }
+}
@@ -0,0 +1,110 @@
+package org.prebid.server.execution.blocking;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.prebid.server.metric.Metrics;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Provides named per-subsystem {@link BlockingExecutor}s, so blocking work of different subsystems can be told apart
+ * in metrics and, with virtual threads enabled, doesn't queue behind each other on the shared Vert.x worker pool.
+ * <p>
+ * With virtual threads enabled each task is run on its own virtual thread, otherwise tasks are run on the Vert.x
+ * worker pool.
+ */
+public class BlockingExecutors {
+
+    private final Vertx vertx;
+    private final boolean virtualThreadsEnabled;
+    private final Clock clock;
+    private final Metrics metrics;
+
+    private final Map<String, BlockingExecutor> executors = new ConcurrentHashMap<>();
+
+    public BlockingExecutors(Vertx vertx, boolean virtualThreadsEnabled, Clock clock, Metrics metrics) {
+        this.vertx = Objects.requireNonNull(vertx);
+        this.virtualThreadsEnabled = virtualThreadsEnabled;
+        this.clock = Objects.requireNonNull(clock);
+        this.metrics = Objects.requireNonNull(metrics);
+    }
+
+    /**
+     * Returns executor for the given subsystem, creating it on first use.
+     */
+    public BlockingExecutor forSubsystem(String subsystem) {
+        return executors.computeIfAbsent(Objects.requireNonNull(subsystem), this::createExecutor);
+    }
+
+    private BlockingExecutor createExecutor(String subsystem) {
+        final ExecutorService executorService = virtualThreadsEnabled
+                ? Executors.newThreadPerTaskExecutor(
+                        Thread.ofVirtual().name("blocking-" + subsystem + "-", 0).factory())
+                : null;
+
+        final SubsystemExecutor executor = new SubsystemExecutor(subsystem, executorService);
+        metrics.createBlockingExecutorActiveTasksGauge(subsystem, executor.activeTasks::get);
+        return executor;
+    }
+
+    private class SubsystemExecutor implements BlockingExecutor {
+
+        private final String subsystem;
+        private final ExecutorService executorService;
+
+        private final AtomicInteger activeTasks = new AtomicInteger();
+
+        SubsystemExecutor(String subsystem, ExecutorService executorService) {
+            this.subsystem = subsystem;
+            this.executorService = executorService;
+        }
+
+        @Override
+        public <T> Future<T> execute(Callable<T> task) {
+            final long submitTime = clock.millis();
+            final Callable<T> measuredTask = () -> {
+                metrics.updateBlockingExecutorQueueWaitMetric(subsystem, clock.millis() - submitTime);
+                activeTasks.incrementAndGet();
+                try {
+                    return task.call();
+                } finally {
+                    activeTasks.decrementAndGet();
+                }
+            };
+
+            return executorService != null
+                    ? executeOnVirtualThread(measuredTask)
+                    : vertx.executeBlocking(measuredTask, false);
+        }
+
+        private <T> Future<T> executeOnVirtualThread(Callable<T> task) {
+            final Context context = vertx.getOrCreateContext();
+            final Promise<T> promise = Promise.promise();
+
+            try {
+                executorService.execute(() -> {
+                    try {
+                        final T result = task.call();
+                        context.runOnContext(ignored -> promise.complete(result));
+                    } catch (Throwable e) {
+                        context.runOnContext(ignored -> promise.fail(e));
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                return Future.failedFuture(e);
+            }
+
+            return promise.future();
+        }
+    }
+}
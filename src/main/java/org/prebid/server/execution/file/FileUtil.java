@@ -7,6 +7,7 @@ import io.vertx.core.file.FileSystemException;
 import io.vertx.core.http.HttpClientOptions;
 import org.apache.commons.lang3.ObjectUtils;
 import org.prebid.server.exception.PreBidException;
+import org.prebid.server.execution.blocking.BlockingExecutor;
 import org.prebid.server.execution.file.syncer.FileSyncer;
 import org.prebid.server.execution.file.syncer.LocalFileSyncer;
 import org.prebid.server.execution.file.syncer.RemoteFileSyncerV2;
@@ -49,20 +50,30 @@ public class FileUtil {
                                            FileSyncerProperties properties,
                                            Vertx vertx) {
 
+        return fileSyncerFor(fileProcessor, properties, vertx, BlockingExecutor.workerPool(vertx));
+    }
+
+    public static FileSyncer fileSyncerFor(FileProcessor fileProcessor,
+                                           FileSyncerProperties properties,
+                                           Vertx vertx,
+                                           BlockingExecutor blockingExecutor) {
+
         return switch (properties.getType()) {
             case LOCAL -> new LocalFileSyncer(
                     fileProcessor,
                     properties.getSaveFilepath(),
                     properties.getUpdateIntervalMs(),
                     toRetryPolicy(properties),
-                    vertx);
-            case REMOTE -> remoteFileSyncer(fileProcessor, properties, vertx);
+                    vertx,
+                    blockingExecutor);
+            case REMOTE -> remoteFileSyncer(fileProcessor, properties, vertx, blockingExecutor);
         };
     }
 
     private static RemoteFileSyncerV2 remoteFileSyncer(FileProcessor fileProcessor,
                                                        FileSyncerProperties properties,
-                                                       Vertx vertx) {
+                                                       Vertx vertx,
+                                                       BlockingExecutor blockingExecutor) {
 
         final HttpClientProperties httpClientProperties = properties.getHttpClient();
         final HttpClientOptions httpClientOptions = new HttpClientOptions()
@@ -79,7 +90,8 @@ public class FileUtil {
                 properties.isCheckSize(),
                 properties.getUpdateIntervalMs(),
                 toRetryPolicy(properties),
-                vertx);
+                vertx,
+                blockingExecutor);
     }
 
     // TODO: remove after transition period
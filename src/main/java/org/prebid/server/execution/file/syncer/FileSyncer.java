@@ -2,6 +2,7 @@ package org.prebid.server.execution.file.syncer;
 
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
+import org.prebid.server.execution.blocking.BlockingExecutor;
 import org.prebid.server.execution.file.FileProcessor;
 import org.prebid.server.execution.retry.RetryPolicy;
 import org.prebid.server.execution.retry.Retryable;
@@ -19,16 +20,27 @@ public abstract class FileSyncer {
     private final long updatePeriod;
     private final RetryPolicy retryPolicy;
     private final Vertx vertx;
+    private final BlockingExecutor blockingExecutor;
 
     protected FileSyncer(FileProcessor fileProcessor,
                          long updatePeriod,
                          RetryPolicy retryPolicy,
                          Vertx vertx) {
 
+        this(fileProcessor, updatePeriod, retryPolicy, vertx, BlockingExecutor.workerPool(vertx));
+    }
+
+    protected FileSyncer(FileProcessor fileProcessor,
+                         long updatePeriod,
+                         RetryPolicy retryPolicy,
+                         Vertx vertx,
+                         BlockingExecutor blockingExecutor) {
+
         this.fileProcessor = Objects.requireNonNull(fileProcessor);
         this.updatePeriod = updatePeriod;
         this.retryPolicy = Objects.requireNonNull(retryPolicy);
         this.vertx = Objects.requireNonNull(vertx);
+        this.blockingExecutor = Objects.requireNonNull(blockingExecutor);
     }
 
     public void sync() {
@@ -46,7 +58,7 @@ public abstract class FileSyncer {
 
     private Future<?> processFile(String filePath) {
         return filePath != null
-                ? vertx.executeBlocking(() -> fileProcessor.setDataPath(filePath))
+                ? blockingExecutor.execute(() -> fileProcessor.setDataPath(filePath))
                 .compose(Function.identity())
                 .onFailure(error -> logger.error("Can't process saved file: " + filePath))
                 : Future.succeededFuture();
@@ -2,6 +2,7 @@ package org.prebid.server.execution.file.syncer;
 
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
+import org.prebid.server.execution.blocking.BlockingExecutor;
 import org.prebid.server.execution.file.FileProcessor;
 import org.prebid.server.execution.file.supplier.LocalFileSupplier;
 import org.prebid.server.execution.retry.RetryPolicy;
@@ -14,9 +15,10 @@ public class LocalFileSyncer extends FileSyncer {
                            String localFile,
                            long updatePeriod,
                            RetryPolicy retryPolicy,
-                           Vertx vertx) {
+                           Vertx vertx,
+                           BlockingExecutor blockingExecutor) {
 
-        super(fileProcessor, updatePeriod, retryPolicy, vertx);
+        super(fileProcessor, updatePeriod, retryPolicy, vertx, blockingExecutor);
 
         localFileSupplier = new LocalFileSupplier(localFile, vertx.fileSystem());
     }
@@ -4,6 +4,7 @@ import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.core.file.FileSystem;
 import io.vertx.core.http.HttpClient;
+import org.prebid.server.execution.blocking.BlockingExecutor;
 import org.prebid.server.execution.file.FileProcessor;
 import org.prebid.server.execution.file.supplier.LocalFileSupplier;
 import org.prebid.server.execution.file.supplier.RemoteFileSupplier;
@@ -23,9 +24,10 @@ public class RemoteFileSyncerV2 extends FileSyncer {
                               boolean checkSize,
                               long updatePeriod,
                               RetryPolicy retryPolicy,
-                              Vertx vertx) {
+                              Vertx vertx,
+                              BlockingExecutor blockingExecutor) {
 
-        super(fileProcessor, updatePeriod, retryPolicy, vertx);
+        super(fileProcessor, updatePeriod, retryPolicy, vertx, blockingExecutor);
 
         final FileSystem fileSystem = vertx.fileSystem();
         localFileSupplier = new LocalFileSupplier(saveFilePath, fileSystem);
@@ -0,0 +1,138 @@
+package org.prebid.server.execution.timer;
+
+import org.prebid.server.log.Logger;
+import org.prebid.server.log.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+/**
+ * Hashed timer wheel: timers are put into one of the fixed number of buckets by their deadline tick, so scheduling
+ * and cancelling are O(1) and expiring touches only the bucket of the current tick.
+ * <p>
+ * This class is not thread-safe and is intended to be owned by a single event loop thread.
+ */
+public class HashedTimerWheel {
+
+    private static final Logger logger = LoggerFactory.getLogger(HashedTimerWheel.class);
+
+    private final long tickDurationMs;
+    private final int mask;
+    private final List<List<Entry>> buckets;
+    private final long startTimeMs;
+    private final LongConsumer latenessListener;
+
+    private long currentTick;
+    private int pendingTimers;
+
+    public HashedTimerWheel(long tickDurationMs, int wheelSize, long startTimeMs, LongConsumer latenessListener) {
+        if (tickDurationMs < 1) {
+            throw new IllegalArgumentException("Tick duration must be positive");
+        }
+        if (wheelSize < 1 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("Wheel size must be a positive power of two");
+        }
+
+        this.tickDurationMs = tickDurationMs;
+        this.mask = wheelSize - 1;
+        this.startTimeMs = startTimeMs;
+        this.latenessListener = latenessListener;
+
+        buckets = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Schedules action to be run on the first {@link #advanceTo(long)} call reaching the deadline.
+     * Deadline is rounded up to the tick duration.
+     */
+    public TimerScheduler.ScheduledTimer schedule(long nowMs, long delayMs, Runnable action) {
+        if (pendingTimers == 0) {
+            // nothing to expire in between, so the wheel may skip the ticks it was not advanced through while idle
+            currentTick = Math.max(currentTick, (nowMs - startTimeMs) / tickDurationMs);
+        }
+
+        final long deadlineMs = nowMs + Math.max(0, delayMs);
+        final long deadlineTick = Math.max(currentTick + 1, Math.ceilDiv(deadlineMs - startTimeMs, tickDurationMs));
+
+        final Entry entry = new Entry(action, deadlineMs, deadlineTick);
+        buckets.get((int) (deadlineTick & mask)).add(entry);
+        pendingTimers++;
+
+        return entry;
+    }
+
+    /**
+     * Advances wheel up to the given time running all the expired actions.
+     */
+    public void advanceTo(long nowMs) {
+        final long targetTick = (nowMs - startTimeMs) / tickDurationMs;
+        while (currentTick < targetTick) {
+            currentTick++;
+            if (pendingTimers > 0) {
+                expireBucket(buckets.get((int) (currentTick & mask)), nowMs);
+            }
+        }
+    }
+
+    private void expireBucket(List<Entry> bucket, long nowMs) {
+        // actions may schedule new timers into this bucket, they are appended after the snapshot size and kept
+        final int size = bucket.size();
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            final Entry entry = bucket.get(i);
+            if (entry.cancelled) {
+                pendingTimers--;
+            } else if (entry.deadlineTick <= currentTick) {
+                pendingTimers--;
+                entry.cancelled = true;
+                runExpired(entry, nowMs);
+            } else {
+                bucket.set(kept++, entry);
+            }
+        }
+        bucket.subList(kept, size).clear();
+    }
+
+    private void runExpired(Entry entry, long nowMs) {
+        if (latenessListener != null) {
+            latenessListener.accept(Math.max(0, nowMs - entry.deadlineMs));
+        }
+
+        try {
+            entry.action.run();
+        } catch (RuntimeException e) {
+            logger.warn("Timer action failed", e);
+        }
+    }
+
+    /**
+     * Returns the number of timers that are neither fired nor removed from the wheel after cancellation.
+     */
+    public int pendingTimers() {
+        return pendingTimers;
+    }
+
+    private static class Entry implements TimerScheduler.ScheduledTimer {
+
+        private final Runnable action;
+        private final long deadlineMs;
+        private final long deadlineTick;
+
+        private boolean cancelled;
+
+        Entry(Runnable action, long deadlineMs, long deadlineTick) {
+            this.action = action;
+            this.deadlineMs = deadlineMs;
+            this.deadlineTick = deadlineTick;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+}
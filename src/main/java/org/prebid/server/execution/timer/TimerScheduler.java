@@ -0,0 +1,26 @@
+package org.prebid.server.execution.timer;
+
+/**
+ * Schedules one-shot timers, e.g. for timing out asynchronous actions.
+ */
+public interface TimerScheduler {
+
+    /**
+     * Schedules given action to be run once after specified amount of milliseconds.
+     * <p>
+     * When called from event loop thread, the action is run on the same thread.
+     */
+    ScheduledTimer schedule(long delayMs, Runnable action);
+
+    /**
+     * Handle of a scheduled timer.
+     */
+    @FunctionalInterface
+    interface ScheduledTimer {
+
+        /**
+         * Cancels the timer, cancelling already fired or cancelled timer has no effect.
+         */
+        void cancel();
+    }
+}
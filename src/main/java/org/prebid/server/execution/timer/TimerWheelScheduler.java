@@ -0,0 +1,97 @@
+package org.prebid.server.execution.timer;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+import java.time.Clock;
+import java.util.Objects;
+import java.util.function.LongConsumer;
+
+/**
+ * {@link TimerScheduler} backed by a {@link HashedTimerWheel} per event loop thread.
+ * <p>
+ * Instead of arming and cancelling a Vert.x timer for every action, each event loop gets a single periodic timer
+ * advancing its own wheel. Timers are fired with up to one tick of delay. Actions scheduled outside of event loop
+ * threads fall back to regular Vert.x timers.
+ * <p>
+ * Periodic timer of the event loop is armed only while its wheel has pending timers and is cancelled once the wheel
+ * drains, so idle event loops are not woken up every tick and no periodic timer outlives the work it serves.
+ */
+public class TimerWheelScheduler implements TimerScheduler {
+
+    private final Vertx vertx;
+    private final Clock clock;
+    private final long tickDurationMs;
+    private final int wheelSize;
+    private final LongConsumer latenessListener;
+    private final TimerScheduler fallbackScheduler;
+
+    private final ThreadLocal<EventLoopWheel> wheels = new ThreadLocal<>();
+
+    public TimerWheelScheduler(Vertx vertx,
+                               Clock clock,
+                               long tickDurationMs,
+                               int wheelSize,
+                               LongConsumer latenessListener) {
+
+        this.vertx = Objects.requireNonNull(vertx);
+        this.clock = Objects.requireNonNull(clock);
+        this.tickDurationMs = tickDurationMs;
+        this.wheelSize = wheelSize;
+        this.latenessListener = latenessListener;
+
+        fallbackScheduler = new VertxTimerScheduler(vertx);
+    }
+
+    @Override
+    public ScheduledTimer schedule(long delayMs, Runnable action) {
+        if (!Context.isOnEventLoopThread()) {
+            return fallbackScheduler.schedule(delayMs, action);
+        }
+
+        final EventLoopWheel eventLoopWheel = eventLoopWheel();
+        final ScheduledTimer timer = eventLoopWheel.wheel.schedule(clock.millis(), delayMs, action);
+        eventLoopWheel.startTicking();
+        return timer;
+    }
+
+    private EventLoopWheel eventLoopWheel() {
+        final EventLoopWheel existingWheel = wheels.get();
+        if (existingWheel != null) {
+            return existingWheel;
+        }
+
+        final EventLoopWheel eventLoopWheel = new EventLoopWheel(
+                new HashedTimerWheel(tickDurationMs, wheelSize, clock.millis(), latenessListener));
+        wheels.set(eventLoopWheel);
+        return eventLoopWheel;
+    }
+
+    private class EventLoopWheel {
+
+        private static final long NOT_TICKING = -1L;
+
+        private final HashedTimerWheel wheel;
+
+        private long periodicTimerId = NOT_TICKING;
+
+        EventLoopWheel(HashedTimerWheel wheel) {
+            this.wheel = wheel;
+        }
+
+        void startTicking() {
+            if (periodicTimerId == NOT_TICKING) {
+                // periodic timer is bound to the current event loop, so the wheel is always accessed from one thread
+                periodicTimerId = vertx.setPeriodic(tickDurationMs, id -> tick());
+            }
+        }
+
+        private void tick() {
+            wheel.advanceTo(clock.millis());
+            if (wheel.pendingTimers() == 0) {
+                vertx.cancelTimer(periodicTimerId);
+                periodicTimerId = NOT_TICKING;
+            }
+        }
+    }
+}
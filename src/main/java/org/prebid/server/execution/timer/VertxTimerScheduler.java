@@ -0,0 +1,23 @@
+package org.prebid.server.execution.timer;
+
+import io.vertx.core.Vertx;
+
+import java.util.Objects;
+
+/**
+ * {@link TimerScheduler} arming separate Vert.x timer for each scheduled action.
+ */
+public class VertxTimerScheduler implements TimerScheduler {
+
+    private final Vertx vertx;
+
+    public VertxTimerScheduler(Vertx vertx) {
+        this.vertx = Objects.requireNonNull(vertx);
+    }
+
+    @Override
+    public ScheduledTimer schedule(long delayMs, Runnable action) {
+        final long timerId = vertx.setTimer(delayMs, id -> action.run());
+        return () -> vertx.cancelTimer(timerId);
+    }
+}
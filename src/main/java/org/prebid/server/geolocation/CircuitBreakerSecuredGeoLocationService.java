@@ -2,6 +2,7 @@ package org.prebid.server.geolocation;
 
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
+import org.prebid.server.execution.blocking.BlockingExecutor;
 import org.prebid.server.execution.timeout.Timeout;
 import org.prebid.server.geolocation.model.GeoInfo;
 import org.prebid.server.log.ConditionalLogger;
@@ -34,10 +35,24 @@ public class CircuitBreakerSecuredGeoLocationService implements GeoLocationServi
                                                    long closingIntervalMs,
                                                    Clock clock) {
 
+        this(vertx, geoLocationService, metrics, openingThreshold, openingIntervalMs, closingIntervalMs, clock,
+                BlockingExecutor.workerPool(vertx));
+    }
+
+    public CircuitBreakerSecuredGeoLocationService(Vertx vertx,
+                                                   GeoLocationService geoLocationService,
+                                                   Metrics metrics,
+                                                   int openingThreshold,
+                                                   long openingIntervalMs,
+                                                   long closingIntervalMs,
+                                                   Clock clock,
+                                                   BlockingExecutor blockingExecutor) {
+
         this.geoLocationService = Objects.requireNonNull(geoLocationService);
 
         breaker = new CircuitBreaker("geo_cb", Objects.requireNonNull(vertx),
-                openingThreshold, openingIntervalMs, closingIntervalMs, Objects.requireNonNull(clock))
+                openingThreshold, openingIntervalMs, closingIntervalMs, Objects.requireNonNull(clock),
+                blockingExecutor)
                 .openHandler(ignored -> circuitOpened())
                 .halfOpenHandler(ignored -> circuitHalfOpened())
                 .closeHandler(ignored -> circuitClosed());
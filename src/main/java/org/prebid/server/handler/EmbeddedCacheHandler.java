@@ -0,0 +1,150 @@
+package org.prebid.server.handler;
+
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.ext.web.RoutingContext;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.cache.EmbeddedCacheStore;
+import org.prebid.server.cache.model.EmbeddedCacheEntry;
+import org.prebid.server.cache.proto.request.bid.BidCacheRequest;
+import org.prebid.server.cache.proto.request.bid.BidPutObject;
+import org.prebid.server.cache.proto.response.bid.BidCacheResponse;
+import org.prebid.server.cache.utils.CacheServiceUtil;
+import org.prebid.server.json.DecodeException;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.util.HttpUtil;
+import org.prebid.server.vertx.verticles.server.HttpEndpoint;
+import org.prebid.server.vertx.verticles.server.application.ApplicationResource;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Serves Prebid Cache compatible endpoint backed by {@link EmbeddedCacheStore}, so cached creatives are
+ * retrieved from this server itself.
+ * <p>
+ * Like Prebid Cache, writes require API key when it is configured, and custom keys are accepted only if allowed.
+ */
+public class EmbeddedCacheHandler implements ApplicationResource {
+
+    private static final String UUID_PARAMETER = "uuid";
+
+    private final String path;
+    private final EmbeddedCacheStore embeddedCacheStore;
+    private final String apiKey;
+    private final boolean allowCustomKeys;
+    private final JacksonMapper mapper;
+
+    public EmbeddedCacheHandler(String path,
+                                EmbeddedCacheStore embeddedCacheStore,
+                                String apiKey,
+                                boolean apiKeySecured,
+                                boolean allowCustomKeys,
+                                JacksonMapper mapper) {
+
+        this.path = Objects.requireNonNull(path);
+        this.embeddedCacheStore = Objects.requireNonNull(embeddedCacheStore);
+        this.apiKey = apiKeySecured ? Objects.requireNonNull(apiKey) : null;
+        this.allowCustomKeys = allowCustomKeys;
+        this.mapper = Objects.requireNonNull(mapper);
+    }
+
+    @Override
+    public List<HttpEndpoint> endpoints() {
+        return List.of(
+                HttpEndpoint.of(HttpMethod.GET, path),
+                HttpEndpoint.of(HttpMethod.POST, path));
+    }
+
+    @Override
+    public void handle(RoutingContext routingContext) {
+        if (routingContext.request().method() == HttpMethod.POST) {
+            handlePut(routingContext);
+        } else {
+            handleGet(routingContext);
+        }
+    }
+
+    private void handleGet(RoutingContext routingContext) {
+        final String uuid = routingContext.request().getParam(UUID_PARAMETER);
+        if (StringUtils.isBlank(uuid)) {
+            respondWith(routingContext, HttpResponseStatus.BAD_REQUEST, "Missing required parameter uuid");
+            return;
+        }
+
+        final EmbeddedCacheEntry entry = embeddedCacheStore.get(uuid);
+        if (entry == null) {
+            respondWith(routingContext, HttpResponseStatus.NOT_FOUND, "Resource Not Found: uuid " + uuid);
+            return;
+        }
+
+        HttpUtil.executeSafely(routingContext, path,
+                response -> response
+                        .putHeader(HttpUtil.CONTENT_TYPE_HEADER, CacheServiceUtil.contentTypeOf(entry.getType()))
+                        .end(entry.getValue()));
+    }
+
+    private void handlePut(RoutingContext routingContext) {
+        if (apiKey != null && !apiKey.equals(routingContext.request().getHeader(HttpUtil.X_PBC_API_KEY_HEADER))) {
+            respondWith(routingContext, HttpResponseStatus.UNAUTHORIZED, "Missing or invalid API key");
+            return;
+        }
+
+        final List<BidPutObject> puts;
+        try {
+            puts = puts(routingContext);
+        } catch (IllegalArgumentException e) {
+            respondWith(routingContext, HttpResponseStatus.BAD_REQUEST, e.getMessage());
+            return;
+        }
+
+        final BidCacheResponse bidCacheResponse = embeddedCacheStore.put(puts);
+        HttpUtil.executeSafely(routingContext, path,
+                response -> response
+                        .putHeader(HttpUtil.CONTENT_TYPE_HEADER, HttpHeaderValues.APPLICATION_JSON)
+                        .end(mapper.encodeToString(bidCacheResponse)));
+    }
+
+    private List<BidPutObject> puts(RoutingContext routingContext) {
+        final Buffer body = routingContext.body().buffer();
+        if (body == null || body.length() == 0) {
+            throw new IllegalArgumentException("Incoming request has no body");
+        }
+
+        final BidCacheRequest bidCacheRequest;
+        try {
+            bidCacheRequest = mapper.decodeValue(body, BidCacheRequest.class);
+        } catch (DecodeException e) {
+            throw new IllegalArgumentException("Failed to parse request body", e);
+        }
+
+        final List<BidPutObject> puts = bidCacheRequest.getPuts();
+        if (CollectionUtils.isEmpty(puts)) {
+            throw new IllegalArgumentException("No puts specified");
+        }
+
+        for (BidPutObject put : puts) {
+            if (!CacheServiceUtil.XML_CREATIVE_TYPE.equals(put.getType())
+                    && !CacheServiceUtil.JSON_CREATIVE_TYPE.equals(put.getType())) {
+                throw new IllegalArgumentException("Type must be one of [\"json\", \"xml\"]. Found " + put.getType());
+            }
+            if (put.getValue() == null || put.getValue().isNull()) {
+                throw new IllegalArgumentException("Missing value");
+            }
+            if (put.getKey() != null && !allowCustomKeys) {
+                throw new IllegalArgumentException("Custom keys are not allowed");
+            }
+        }
+        return puts;
+    }
+
+    private void respondWith(RoutingContext routingContext, HttpResponseStatus status, String body) {
+        HttpUtil.executeSafely(routingContext, path,
+                response -> response
+                        .setStatusCode(status.code())
+                        .end(body));
+    }
+}
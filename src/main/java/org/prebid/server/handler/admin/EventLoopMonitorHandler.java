@@ -0,0 +1,57 @@
+package org.prebid.server.handler.admin;
+
+import io.vertx.core.Handler;
+import io.vertx.ext.web.RoutingContext;
+import lombok.Value;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.util.HttpUtil;
+import org.prebid.server.vertx.eventloop.EventLoopMonitor;
+import org.prebid.server.vertx.eventloop.model.EventLoopStats;
+import org.prebid.server.vertx.eventloop.model.StackSample;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Handles HTTP request for event loops lag and blocking information.
+ * <p>
+ * Responds with state of every event loop and the latest stack samples taken while they were blocked. With
+ * {@code stacks=true} query parameter responds with stack traces of all event loop threads taken right away instead.
+ */
+public class EventLoopMonitorHandler implements Handler<RoutingContext> {
+
+    private static final String STACKS_PARAM = "stacks";
+
+    private final EventLoopMonitor eventLoopMonitor;
+    private final JacksonMapper mapper;
+    private final String endpoint;
+
+    public EventLoopMonitorHandler(EventLoopMonitor eventLoopMonitor, JacksonMapper mapper, String endpoint) {
+        this.eventLoopMonitor = Objects.requireNonNull(eventLoopMonitor);
+        this.mapper = Objects.requireNonNull(mapper);
+        this.endpoint = Objects.requireNonNull(endpoint);
+    }
+
+    @Override
+    public void handle(RoutingContext routingContext) {
+        final boolean sampleStacks = Boolean.parseBoolean(routingContext.request().getParam(STACKS_PARAM));
+        final List<StackSample> stackSamples = sampleStacks
+                ? eventLoopMonitor.sampleStacks()
+                : eventLoopMonitor.getStackSamples();
+
+        final String body = mapper.encodeToString(Response.of(eventLoopMonitor.getStats(), stackSamples));
+
+        HttpUtil.executeSafely(routingContext, endpoint,
+                response -> response
+                        .putHeader(HttpUtil.CONTENT_TYPE_HEADER, HttpUtil.APPLICATION_JSON_CONTENT_TYPE)
+                        .end(body));
+    }
+
+    @Value(staticConstructor = "of")
+    private static class Response {
+
+        List<EventLoopStats> eventLoops;
+
+        List<StackSample> stackSamples;
+    }
+}
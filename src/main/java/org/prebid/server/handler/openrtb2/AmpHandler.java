@@ -35,10 +35,13 @@ import org.prebid.server.exception.BlocklistedAccountException;
 import org.prebid.server.exception.BlocklistedAppException;
 import org.prebid.server.exception.InvalidAccountConfigException;
 import org.prebid.server.exception.InvalidRequestException;
+import org.prebid.server.exception.OverloadedException;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.exception.UnauthorizedAccountException;
+import org.prebid.server.execution.admission.AdmissionController;
 import org.prebid.server.hooks.execution.HookStageExecutor;
 import org.prebid.server.hooks.execution.model.HookStageExecutionResult;
+import org.prebid.server.json.EncodeException;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.log.ConditionalLogger;
 import org.prebid.server.log.HttpInteractionLogger;
@@ -81,9 +84,11 @@ public class AmpHandler implements ApplicationResource {
 
     public static final String PREBID_EXT = "prebid";
     private static final MetricName REQUEST_TYPE_METRIC = MetricName.amp;
+    private static final String ACCOUNT_REQUEST_PARAM = "account";
 
     private final AmpRequestFactory ampRequestFactory;
     private final ExchangeService exchangeService;
+    private final AdmissionController admissionController;
     private final AnalyticsReporterDelegator analyticsDelegator;
     private final Metrics metrics;
     private final HooksMetricsService hooksMetricsService;
@@ -99,6 +104,7 @@ public class AmpHandler implements ApplicationResource {
 
     public AmpHandler(AmpRequestFactory ampRequestFactory,
                       ExchangeService exchangeService,
+                      AdmissionController admissionController,
                       AnalyticsReporterDelegator analyticsDelegator,
                       Metrics metrics,
                       HooksMetricsService hooksMetricsService,
@@ -114,6 +120,7 @@ public class AmpHandler implements ApplicationResource {
 
         this.ampRequestFactory = Objects.requireNonNull(ampRequestFactory);
         this.exchangeService = Objects.requireNonNull(exchangeService);
+        this.admissionController = Objects.requireNonNull(admissionController);
         this.analyticsDelegator = Objects.requireNonNull(analyticsDelegator);
         this.metrics = Objects.requireNonNull(metrics);
         this.hooksMetricsService = Objects.requireNonNull(hooksMetricsService);
@@ -144,10 +151,7 @@ public class AmpHandler implements ApplicationResource {
         final AmpEvent.AmpEventBuilder ampEventBuilder = AmpEvent.builder()
                 .httpContext(HttpRequestContext.from(routingContext));
 
-        ampRequestFactory.fromRequest(routingContext, startTime)
-                .map(context -> addToEvent(context, ampEventBuilder::auctionContext, context))
-                .map(this::updateAppAndNoCookieAndImpsMetrics)
-                .compose(exchangeService::holdAuction)
+        admitAndHoldAuction(routingContext, startTime, ampEventBuilder)
                 .map(context -> addContextAndBidResponseToEvent(context, ampEventBuilder, context))
                 .compose(context -> prepareSuccessfulResponse(context, routingContext, ampEventBuilder))
                 .compose(this::invokeExitpointHooks)
@@ -169,6 +173,34 @@ public class AmpHandler implements ApplicationResource {
         return result;
     }
 
+    /**
+     * Admits the auction before building its context, so rejected requests don't pay for account and stored data
+     * lookups. Account priority is taken from the account request parameter alone.
+     */
+    private Future<AuctionContext> admitAndHoldAuction(RoutingContext routingContext,
+                                                       long startTime,
+                                                       AmpEvent.AmpEventBuilder ampEventBuilder) {
+
+        final AdmissionController.Permit permit = admissionController.tryAcquire(
+                StringUtils.trimToNull(routingContext.request().getParam(ACCOUNT_REQUEST_PARAM)));
+        if (permit == null) {
+            return Future.failedFuture(new OverloadedException("Server is overloaded, try again later"));
+        }
+
+        final Future<AuctionContext> auctionFuture;
+        try {
+            auctionFuture = ampRequestFactory.fromRequest(routingContext, startTime)
+                    .map(context -> addToEvent(context, ampEventBuilder::auctionContext, context))
+                    .map(this::updateAppAndNoCookieAndImpsMetrics)
+                    .compose(exchangeService::holdAuction);
+        } catch (RuntimeException e) {
+            permit.release();
+            throw e;
+        }
+
+        return auctionFuture.onComplete(ignored -> permit.release());
+    }
+
     private AuctionContext updateAppAndNoCookieAndImpsMetrics(AuctionContext context) {
         if (!context.isRequestRejected()) {
             final BidRequest bidRequest = context.getBidRequest();
@@ -194,11 +226,21 @@ public class AmpHandler implements ApplicationResource {
 
         return prepareAmpResponse(auctionContext, routingContext)
                 .map(result -> addToEvent(result.getLeft().getTargeting(), ampEventBuilder::targeting, result))
-                .map(result -> RawResponseContext.builder()
-                        .responseBody(mapper.encodeToString(result.getLeft()))
-                        .responseHeaders(responseHeaders)
-                        .auctionContext(auctionContext)
-                        .build());
+                .map(result -> toRawResponseContext(result.getLeft(), responseHeaders, auctionContext));
+    }
+
+    private RawResponseContext toRawResponseContext(AmpResponse ampResponse,
+                                                    MultiMap responseHeaders,
+                                                    AuctionContext auctionContext) {
+
+        final RawResponseContext.RawResponseContextBuilder rawResponseContextBuilder = RawResponseContext.builder()
+                .responseHeaders(responseHeaders)
+                .auctionContext(auctionContext);
+
+        // body is streamed right into the response when there are no exitpoint hooks to look at it as a string
+        return hookStageExecutor.isExitpointStageEmpty(auctionContext)
+                ? rawResponseContextBuilder.responseValue(ampResponse).build()
+                : rawResponseContextBuilder.responseBody(mapper.encodeToString(ampResponse)).build();
     }
 
     private Future<RawResponseContext> invokeExitpointHooks(RawResponseContext rawResponseContext) {
@@ -216,6 +258,7 @@ public class AmpHandler implements ApplicationResource {
                                 .auctionContext(context)
                                 .responseHeaders(payload.responseHeaders())
                                 .responseBody(payload.responseBody())
+                                .responseValue(rawResponseContext.getResponseValue())
                                 .build()));
     }
 
@@ -330,13 +373,21 @@ public class AmpHandler implements ApplicationResource {
                               RoutingContext routingContext,
                               long startTime) {
 
+        final ResponseBody successfulResponseBody;
+        try {
+            successfulResponseBody = responseResult.succeeded() ? responseBodyOf(responseResult.result()) : null;
+        } catch (EncodeException e) {
+            handleResult(Future.failedFuture(e), ampEventBuilder, routingContext, startTime);
+            return;
+        }
+
         final boolean responseSucceeded = responseResult.succeeded();
         final RawResponseContext rawResponseContext = responseSucceeded ? responseResult.result() : null;
 
         final MetricName metricRequestStatus;
         final List<String> errorMessages;
         final HttpResponseStatus status;
-        final String body;
+        final ResponseBody body;
 
         final String origin = originFrom(routingContext);
         ampEventBuilder.origin(origin);
@@ -352,7 +403,7 @@ public class AmpHandler implements ApplicationResource {
             rawResponseContext.getResponseHeaders()
                     .forEach(header -> HttpUtil.addHeaderIfValueIsNotEmpty(
                             responseHeaders, header.getKey(), header.getValue()));
-            body = rawResponseContext.getResponseBody();
+            body = successfulResponseBody;
         } else {
             getCommonResponseHeaders(routingContext, origin)
                     .forEach(header -> HttpUtil.addHeaderIfValueIsNotEmpty(
@@ -373,7 +424,7 @@ public class AmpHandler implements ApplicationResource {
                         100);
 
                 status = HttpResponseStatus.BAD_REQUEST;
-                body = message;
+                body = ResponseBody.of(message);
             } else if (exception instanceof UnauthorizedAccountException) {
                 metricRequestStatus = MetricName.badinput;
                 final String message = exception.getMessage();
@@ -382,7 +433,7 @@ public class AmpHandler implements ApplicationResource {
                 errorMessages = Collections.singletonList(message);
 
                 status = HttpResponseStatus.UNAUTHORIZED;
-                body = message;
+                body = ResponseBody.of(message);
             } else if (exception instanceof BlocklistedAppException
                     || exception instanceof BlocklistedAccountException) {
                 metricRequestStatus = exception instanceof BlocklistedAccountException
@@ -393,7 +444,7 @@ public class AmpHandler implements ApplicationResource {
 
                 errorMessages = Collections.singletonList(message);
                 status = HttpResponseStatus.FORBIDDEN;
-                body = message;
+                body = ResponseBody.of(message);
             } else if (exception instanceof InvalidAccountConfigException) {
                 metricRequestStatus = MetricName.bad_requests;
                 final String message = exception.getMessage();
@@ -401,7 +452,15 @@ public class AmpHandler implements ApplicationResource {
 
                 errorMessages = Collections.singletonList(message);
                 status = HttpResponseStatus.BAD_REQUEST;
-                body = "Invalid account configuration: " + message;
+                body = ResponseBody.of("Invalid account configuration: " + message);
+            } else if (exception instanceof OverloadedException) {
+                metricRequestStatus = MetricName.overloaded;
+                final String message = exception.getMessage();
+                conditionalLogger.warn(message, logSamplingRate);
+
+                errorMessages = Collections.singletonList(message);
+                status = HttpResponseStatus.SERVICE_UNAVAILABLE;
+                body = ResponseBody.of(message);
             } else {
                 final String message = exception.getMessage();
 
@@ -410,7 +469,7 @@ public class AmpHandler implements ApplicationResource {
                 logger.error("Critical error while running the auction", exception);
 
                 status = HttpResponseStatus.INTERNAL_SERVER_ERROR;
-                body = "Critical error while running the auction: " + message;
+                body = ResponseBody.of("Critical error while running the auction: " + message);
             }
         }
 
@@ -420,9 +479,22 @@ public class AmpHandler implements ApplicationResource {
 
         final PrivacyContext privacyContext = auctionContext != null ? auctionContext.getPrivacyContext() : null;
         final TcfContext tcfContext = privacyContext != null ? privacyContext.getTcfContext() : TcfContext.empty();
-        respondWith(routingContext, status, body, startTime, metricRequestStatus, ampEvent, tcfContext);
+        try {
+            respondWith(routingContext, status, body, startTime, metricRequestStatus, ampEvent, tcfContext);
+
+            httpInteractionLogger.maybeLogOpenrtb2Amp(auctionContext, routingContext, statusCode, body::asString);
+        } finally {
+            body.release();
+        }
+    }
+
+    private ResponseBody responseBodyOf(RawResponseContext rawResponseContext) {
+        final String responseBody = rawResponseContext.getResponseBody();
+        final Object responseValue = rawResponseContext.getResponseValue();
 
-        httpInteractionLogger.maybeLogOpenrtb2Amp(auctionContext, routingContext, statusCode, body);
+        return responseBody == null && responseValue != null
+                ? ResponseBody.encode(responseValue, mapper)
+                : ResponseBody.of(responseBody);
     }
 
     private static String originFrom(RoutingContext routingContext) {
@@ -440,17 +512,16 @@ public class AmpHandler implements ApplicationResource {
 
     private void respondWith(RoutingContext routingContext,
                              HttpResponseStatus status,
-                             String body,
+                             ResponseBody body,
                              long startTime,
                              MetricName metricRequestStatus,
                              AmpEvent event,
                              TcfContext tcfContext) {
 
         final boolean responseSent = HttpUtil.executeSafely(routingContext, Endpoint.openrtb2_amp,
-                response -> response
+                response -> body.end(response
                         .exceptionHandler(this::handleResponseException)
-                        .setStatusCode(status.code())
-                        .end(body));
+                        .setStatusCode(status.code())));
 
         if (responseSent) {
             metrics.updateRequestTimeMetric(MetricName.request_time, clock.millis() - startTime);
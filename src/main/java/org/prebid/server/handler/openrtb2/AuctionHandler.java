@@ -2,6 +2,7 @@ package org.prebid.server.handler.openrtb2;
 
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.response.BidResponse;
 import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.AsyncResult;
@@ -24,14 +25,18 @@ import org.prebid.server.exception.BlocklistedAccountException;
 import org.prebid.server.exception.BlocklistedAppException;
 import org.prebid.server.exception.InvalidAccountConfigException;
 import org.prebid.server.exception.InvalidRequestException;
+import org.prebid.server.exception.OverloadedException;
 import org.prebid.server.exception.UnauthorizedAccountException;
+import org.prebid.server.execution.admission.AdmissionController;
 import org.prebid.server.hooks.execution.HookStageExecutor;
 import org.prebid.server.hooks.execution.model.HookStageExecutionResult;
+import org.prebid.server.json.EncodeException;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.log.ConditionalLogger;
 import org.prebid.server.log.HttpInteractionLogger;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.log.capture.TrafficCaptureService;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.model.Endpoint;
@@ -57,6 +62,7 @@ public class AuctionHandler implements ApplicationResource {
     private final double logSamplingRate;
     private final AuctionRequestFactory auctionRequestFactory;
     private final ExchangeService exchangeService;
+    private final AdmissionController admissionController;
     private final SkippedAuctionService skippedAuctionService;
     private final AnalyticsReporterDelegator analyticsDelegator;
     private final Metrics metrics;
@@ -66,10 +72,12 @@ public class AuctionHandler implements ApplicationResource {
     private final PrebidVersionProvider prebidVersionProvider;
     private final HookStageExecutor hookStageExecutor;
     private final JacksonMapper mapper;
+    private final TrafficCaptureService trafficCaptureService;
 
     public AuctionHandler(double logSamplingRate,
                           AuctionRequestFactory auctionRequestFactory,
                           ExchangeService exchangeService,
+                          AdmissionController admissionController,
                           SkippedAuctionService skippedAuctionService,
                           AnalyticsReporterDelegator analyticsDelegator,
                           Metrics metrics,
@@ -78,11 +86,13 @@ public class AuctionHandler implements ApplicationResource {
                           HttpInteractionLogger httpInteractionLogger,
                           PrebidVersionProvider prebidVersionProvider,
                           HookStageExecutor hookStageExecutor,
-                          JacksonMapper mapper) {
+                          JacksonMapper mapper,
+                          TrafficCaptureService trafficCaptureService) {
 
         this.logSamplingRate = logSamplingRate;
         this.auctionRequestFactory = Objects.requireNonNull(auctionRequestFactory);
         this.exchangeService = Objects.requireNonNull(exchangeService);
+        this.admissionController = Objects.requireNonNull(admissionController);
         this.skippedAuctionService = Objects.requireNonNull(skippedAuctionService);
         this.analyticsDelegator = Objects.requireNonNull(analyticsDelegator);
         this.metrics = Objects.requireNonNull(metrics);
@@ -92,6 +102,7 @@ public class AuctionHandler implements ApplicationResource {
         this.prebidVersionProvider = Objects.requireNonNull(prebidVersionProvider);
         this.hookStageExecutor = Objects.requireNonNull(hookStageExecutor);
         this.mapper = Objects.requireNonNull(mapper);
+        this.trafficCaptureService = trafficCaptureService;
     }
 
     @Override
@@ -130,14 +141,32 @@ public class AuctionHandler implements ApplicationResource {
         return result;
     }
 
+    /**
+     * Admits the auction before enriching its context, so rejected requests don't pay for account and stored data
+     * lookups. Account priority is taken from the parsed request alone.
+     */
     private Future<AuctionContext> holdAuction(AuctionEvent.AuctionEventBuilder auctionEventBuilder,
                                                AuctionContext auctionContext) {
 
-        return auctionRequestFactory.enrichAuctionContext(auctionContext)
-                .map(this::updateAppAndNoCookieAndImpsMetrics)
-                // In case of holdAuction Exception and auctionContext is not present below
-                .map(context -> addToEvent(context, auctionEventBuilder::auctionContext, context))
-                .compose(exchangeService::holdAuction);
+        final AdmissionController.Permit permit = admissionController.tryAcquire(
+                auctionRequestFactory.accountIdFrom(auctionContext));
+        if (permit == null) {
+            return Future.failedFuture(new OverloadedException("Server is overloaded, try again later"));
+        }
+
+        final Future<AuctionContext> auctionFuture;
+        try {
+            auctionFuture = auctionRequestFactory.enrichAuctionContext(auctionContext)
+                    .map(this::updateAppAndNoCookieAndImpsMetrics)
+                    // In case of holdAuction Exception and auctionContext is not present below
+                    .map(context -> addToEvent(context, auctionEventBuilder::auctionContext, context))
+                    .compose(exchangeService::holdAuction);
+        } catch (RuntimeException e) {
+            permit.release();
+            throw e;
+        }
+
+        return auctionFuture.onComplete(ignored -> permit.release());
     }
 
     private static <T, R> R addToEvent(T field, Consumer<T> consumer, R result) {
@@ -166,11 +195,15 @@ public class AuctionHandler implements ApplicationResource {
         final MultiMap responseHeaders = getCommonResponseHeaders(routingContext)
                 .add(HttpUtil.CONTENT_TYPE_HEADER, HttpHeaderValues.APPLICATION_JSON);
 
-        return RawResponseContext.builder()
-                .responseBody(mapper.encodeToString(auctionContext.getBidResponse()))
+        final BidResponse bidResponse = auctionContext.getBidResponse();
+        final RawResponseContext.RawResponseContextBuilder rawResponseContextBuilder = RawResponseContext.builder()
                 .responseHeaders(responseHeaders)
-                .auctionContext(auctionContext)
-                .build();
+                .auctionContext(auctionContext);
+
+        // body is streamed right into the response when there are no exitpoint hooks to look at it as a string
+        return !auctionContext.isAuctionSkipped() && hookStageExecutor.isExitpointStageEmpty(auctionContext)
+                ? rawResponseContextBuilder.responseValue(bidResponse).build()
+                : rawResponseContextBuilder.responseBody(mapper.encodeToString(bidResponse)).build();
     }
 
     private Future<RawResponseContext> invokeExitpointHooks(RawResponseContext rawResponseContext) {
@@ -195,6 +228,7 @@ public class AuctionHandler implements ApplicationResource {
                                 .auctionContext(context)
                                 .responseHeaders(payload.responseHeaders())
                                 .responseBody(payload.responseBody())
+                                .responseValue(rawResponseContext.getResponseValue())
                                 .build()));
     }
 
@@ -203,6 +237,14 @@ public class AuctionHandler implements ApplicationResource {
                               RoutingContext routingContext,
                               long startTime) {
 
+        final ResponseBody successfulResponseBody;
+        try {
+            successfulResponseBody = responseResult.succeeded() ? responseBodyOf(responseResult.result()) : null;
+        } catch (EncodeException e) {
+            handleResult(Future.failedFuture(e), auctionEventBuilder, routingContext, startTime);
+            return;
+        }
+
         final boolean responseSucceeded = responseResult.succeeded();
 
         final RawResponseContext rawResponseContext = responseSucceeded ? responseResult.result() : null;
@@ -217,7 +259,7 @@ public class AuctionHandler implements ApplicationResource {
         final MetricName metricRequestStatus;
         final List<String> errorMessages;
         final HttpResponseStatus status;
-        final String body;
+        final ResponseBody body;
 
         final HttpServerResponse response = routingContext.response();
         final MultiMap responseHeaders = response.headers();
@@ -230,7 +272,7 @@ public class AuctionHandler implements ApplicationResource {
             rawResponseContext.getResponseHeaders()
                     .forEach(header -> HttpUtil.addHeaderIfValueIsNotEmpty(
                             responseHeaders, header.getKey(), header.getValue()));
-            body = rawResponseContext.getResponseBody();
+            body = successfulResponseBody;
         } else {
             getCommonResponseHeaders(routingContext)
                     .forEach(header -> HttpUtil.addHeaderIfValueIsNotEmpty(
@@ -248,7 +290,7 @@ public class AuctionHandler implements ApplicationResource {
                 conditionalLogger.info("%s, Referer: %s".formatted(message, referer), logSamplingRate);
 
                 status = HttpResponseStatus.BAD_REQUEST;
-                body = message;
+                body = ResponseBody.of(message);
             } else if (exception instanceof UnauthorizedAccountException) {
                 metricRequestStatus = MetricName.badinput;
                 final String message = exception.getMessage();
@@ -257,7 +299,7 @@ public class AuctionHandler implements ApplicationResource {
 
                 status = HttpResponseStatus.UNAUTHORIZED;
 
-                body = message;
+                body = ResponseBody.of(message);
             } else if (exception instanceof BlocklistedAppException
                     || exception instanceof BlocklistedAccountException) {
                 metricRequestStatus = exception instanceof BlocklistedAccountException
@@ -268,7 +310,7 @@ public class AuctionHandler implements ApplicationResource {
 
                 errorMessages = Collections.singletonList(message);
                 status = HttpResponseStatus.FORBIDDEN;
-                body = message;
+                body = ResponseBody.of(message);
             } else if (exception instanceof InvalidAccountConfigException) {
                 metricRequestStatus = MetricName.bad_requests;
                 final String message = exception.getMessage();
@@ -276,7 +318,15 @@ public class AuctionHandler implements ApplicationResource {
 
                 errorMessages = Collections.singletonList(message);
                 status = HttpResponseStatus.BAD_REQUEST;
-                body = message;
+                body = ResponseBody.of(message);
+            } else if (exception instanceof OverloadedException) {
+                metricRequestStatus = MetricName.overloaded;
+                final String message = exception.getMessage();
+                conditionalLogger.warn(message, logSamplingRate);
+
+                errorMessages = Collections.singletonList(message);
+                status = HttpResponseStatus.SERVICE_UNAVAILABLE;
+                body = ResponseBody.of(message);
             } else {
                 metricRequestStatus = MetricName.err;
                 logger.error("Critical error while running the auction", exception);
@@ -285,7 +335,7 @@ public class AuctionHandler implements ApplicationResource {
                 errorMessages = Collections.singletonList(message);
 
                 status = HttpResponseStatus.INTERNAL_SERVER_ERROR;
-                body = "Critical error while running the auction: " + message;
+                body = ResponseBody.of("Critical error while running the auction: " + message);
             }
         }
 
@@ -293,33 +343,49 @@ public class AuctionHandler implements ApplicationResource {
         final PrivacyContext privacyContext = auctionContext != null ? auctionContext.getPrivacyContext() : null;
         final TcfContext tcfContext = privacyContext != null ? privacyContext.getTcfContext() : TcfContext.empty();
 
-        final boolean responseSent = respondWith(routingContext, status, body, requestType);
+        try {
+            final boolean responseSent = respondWith(routingContext, status, body, requestType);
 
-        if (responseSent) {
-            metrics.updateRequestTimeMetric(MetricName.request_time, clock.millis() - startTime);
-            metrics.updateRequestTypeMetric(requestType, metricRequestStatus);
-            if (!isAuctionSkipped) {
-                analyticsDelegator.processEvent(auctionEvent, tcfContext);
+            if (responseSent) {
+                metrics.updateRequestTimeMetric(MetricName.request_time, clock.millis() - startTime);
+                metrics.updateRequestTypeMetric(requestType, metricRequestStatus);
+                if (!isAuctionSkipped) {
+                    analyticsDelegator.processEvent(auctionEvent, tcfContext);
+                }
+            } else {
+                metrics.updateRequestTypeMetric(requestType, MetricName.networkerr);
             }
-        } else {
-            metrics.updateRequestTypeMetric(requestType, MetricName.networkerr);
+
+            httpInteractionLogger.maybeLogOpenrtb2Auction(
+                    auctionContext, routingContext, status.code(), body::asString);
+            if (trafficCaptureService != null) {
+                trafficCaptureService.captureAuction(auctionContext, routingContext);
+            }
+        } finally {
+            body.release();
         }
+    }
+
+    private ResponseBody responseBodyOf(RawResponseContext rawResponseContext) {
+        final String responseBody = rawResponseContext.getResponseBody();
+        final Object responseValue = rawResponseContext.getResponseValue();
 
-        httpInteractionLogger.maybeLogOpenrtb2Auction(auctionContext, routingContext, status.code(), body);
+        return responseBody == null && responseValue != null
+                ? ResponseBody.encode(responseValue, mapper)
+                : ResponseBody.of(responseBody);
     }
 
     private boolean respondWith(RoutingContext routingContext,
                                 HttpResponseStatus status,
-                                String body,
+                                ResponseBody body,
                                 MetricName requestType) {
 
         return HttpUtil.executeSafely(
                 routingContext,
                 Endpoint.openrtb2_auction,
-                response -> response
+                response -> body.end(response
                         .exceptionHandler(throwable -> handleResponseException(throwable, requestType))
-                        .setStatusCode(status.code())
-                        .end(body));
+                        .setStatusCode(status.code())));
 
     }
 
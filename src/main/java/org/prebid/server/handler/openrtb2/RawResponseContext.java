@@ -13,5 +13,11 @@ public class RawResponseContext {
 
     String responseBody;
 
+    /**
+     * Response to be streamed into the body right before sending, set instead of {@link #responseBody}
+     * when no exitpoint hook needs the body as a string.
+     */
+    Object responseValue;
+
     MultiMap responseHeaders;
 }
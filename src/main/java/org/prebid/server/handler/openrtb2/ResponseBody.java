@@ -0,0 +1,73 @@
+package org.prebid.server.handler.openrtb2;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.core.Future;
+import io.vertx.core.buffer.impl.BufferImpl;
+import io.vertx.core.http.HttpServerResponse;
+import org.prebid.server.json.JacksonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Body of the endpoint response: either a plain string or JSON streamed into a pooled buffer.
+ * <p>
+ * Pooled buffer is owned by this object and must be given back with {@link #release()} once the response
+ * is sent and the body is not needed anymore (e.g. for interaction logging).
+ * Compression is left to the HTTP server, which compresses the buffer as is if the client accepts it.
+ */
+public class ResponseBody {
+
+    private final String string;
+
+    private final ByteBuf byteBuf;
+
+    private ResponseBody(String string, ByteBuf byteBuf) {
+        this.string = string;
+        this.byteBuf = byteBuf;
+    }
+
+    public static ResponseBody of(String body) {
+        return new ResponseBody(body, null);
+    }
+
+    /**
+     * Encodes given value as JSON into pooled buffer.
+     *
+     * @throws org.prebid.server.json.EncodeException if the value cannot be encoded.
+     */
+    public static ResponseBody encode(Object value, JacksonMapper mapper) {
+        return new ResponseBody(null, Objects.requireNonNull(mapper).encodeToByteBuf(value));
+    }
+
+    /**
+     * Ends given response with this body. Buffer is kept alive until the response is written.
+     */
+    public Future<Void> end(HttpServerResponse response) {
+        if (byteBuf == null) {
+            return response.end(string);
+        }
+
+        byteBuf.retain();
+        try {
+            // BufferImpl wraps the pooled buffer without copying, the deprecated Buffer.buffer(ByteBuf) delegates to it
+            return response.end(BufferImpl.buffer(byteBuf)).onComplete(ignored -> byteBuf.release());
+        } catch (RuntimeException e) {
+            byteBuf.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns body as a string, should be called only when really needed since it copies the buffer.
+     */
+    public String asString() {
+        return byteBuf != null ? byteBuf.toString(StandardCharsets.UTF_8) : string;
+    }
+
+    public void release() {
+        if (byteBuf != null) {
+            byteBuf.release();
+        }
+    }
+}
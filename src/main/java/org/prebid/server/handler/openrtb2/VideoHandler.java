@@ -25,6 +25,7 @@ import org.prebid.server.exception.InvalidRequestException;
 import org.prebid.server.exception.UnauthorizedAccountException;
 import org.prebid.server.hooks.execution.HookStageExecutor;
 import org.prebid.server.hooks.execution.model.HookStageExecutionResult;
+import org.prebid.server.json.EncodeException;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
@@ -141,11 +142,21 @@ public class VideoHandler implements ApplicationResource {
 
         return toVideoResponse(auctionContext, context.getPodErrors())
                 .map(videoResponse -> addToEvent(videoResponse, videoEventBuilder::bidResponse, videoResponse))
-                .map(videoResponse -> RawResponseContext.builder()
-                        .responseBody(mapper.encodeToString(videoResponse))
-                        .responseHeaders(responseHeaders)
-                        .auctionContext(auctionContext)
-                        .build());
+                .map(videoResponse -> toRawResponseContext(videoResponse, responseHeaders, auctionContext));
+    }
+
+    private RawResponseContext toRawResponseContext(VideoResponse videoResponse,
+                                                    MultiMap responseHeaders,
+                                                    AuctionContext auctionContext) {
+
+        final RawResponseContext.RawResponseContextBuilder rawResponseContextBuilder = RawResponseContext.builder()
+                .responseHeaders(responseHeaders)
+                .auctionContext(auctionContext);
+
+        // body is streamed right into the response when there are no exitpoint hooks to look at it as a string
+        return hookStageExecutor.isExitpointStageEmpty(auctionContext)
+                ? rawResponseContextBuilder.responseValue(videoResponse).build()
+                : rawResponseContextBuilder.responseBody(mapper.encodeToString(videoResponse)).build();
     }
 
     private Future<VideoResponse> toVideoResponse(AuctionContext auctionContext, List<PodError> podErrors) {
@@ -168,6 +179,7 @@ public class VideoHandler implements ApplicationResource {
                                 .auctionContext(context)
                                 .responseHeaders(payload.responseHeaders())
                                 .responseBody(payload.responseBody())
+                                .responseValue(rawResponseContext.getResponseValue())
                                 .build()));
     }
 
@@ -181,11 +193,19 @@ public class VideoHandler implements ApplicationResource {
                               RoutingContext routingContext,
                               long startTime) {
 
+        final ResponseBody successfulResponseBody;
+        try {
+            successfulResponseBody = responseResult.succeeded() ? responseBodyOf(responseResult.result()) : null;
+        } catch (EncodeException e) {
+            handleResult(Future.failedFuture(e), videoEventBuilder, routingContext, startTime);
+            return;
+        }
+
         final boolean responseSucceeded = responseResult.succeeded();
         final MetricName metricRequestStatus;
         final List<String> errorMessages;
         final HttpResponseStatus status;
-        final String body;
+        final ResponseBody body;
         final RawResponseContext rawResponseContext = responseSucceeded ? responseResult.result() : null;
 
         final HttpServerResponse response = routingContext.response();
@@ -199,7 +219,7 @@ public class VideoHandler implements ApplicationResource {
             rawResponseContext.getResponseHeaders()
                     .forEach(header -> HttpUtil.addHeaderIfValueIsNotEmpty(
                             responseHeaders, header.getKey(), header.getValue()));
-            body = rawResponseContext.getResponseBody();
+            body = successfulResponseBody;
         } else {
             getCommonResponseHeaders(routingContext)
                     .forEach(header -> HttpUtil.addHeaderIfValueIsNotEmpty(
@@ -212,9 +232,9 @@ public class VideoHandler implements ApplicationResource {
                 logger.info("Invalid request format: {}", errorMessages);
 
                 status = HttpResponseStatus.BAD_REQUEST;
-                body = errorMessages.stream()
+                body = ResponseBody.of(errorMessages.stream()
                         .map(msg -> "Invalid request format: " + msg)
-                        .collect(Collectors.joining("\n"));
+                        .collect(Collectors.joining("\n")));
             } else if (exception instanceof UnauthorizedAccountException) {
                 metricRequestStatus = MetricName.badinput;
                 final String errorMessage = exception.getMessage();
@@ -222,7 +242,7 @@ public class VideoHandler implements ApplicationResource {
                 errorMessages = Collections.singletonList(errorMessage);
 
                 status = HttpResponseStatus.UNAUTHORIZED;
-                body = "Unauthorised: " + errorMessage;
+                body = ResponseBody.of("Unauthorised: " + errorMessage);
             } else {
                 metricRequestStatus = MetricName.err;
                 logger.error("Critical error while running the auction", exception);
@@ -231,7 +251,7 @@ public class VideoHandler implements ApplicationResource {
                 errorMessages = Collections.singletonList(message);
 
                 status = HttpResponseStatus.INTERNAL_SERVER_ERROR;
-                body = "Critical error while running the auction: " + message;
+                body = ResponseBody.of("Critical error while running the auction: " + message);
             }
         }
 
@@ -248,7 +268,20 @@ public class VideoHandler implements ApplicationResource {
         final PrivacyContext privacyContext = auctionContext != null ? auctionContext.getPrivacyContext() : null;
         final TcfContext tcfContext = privacyContext != null ? privacyContext.getTcfContext() : TcfContext.empty();
 
-        respondWith(routingContext, status, body, startTime, metricRequestStatus, videoEvent, tcfContext);
+        try {
+            respondWith(routingContext, status, body, startTime, metricRequestStatus, videoEvent, tcfContext);
+        } finally {
+            body.release();
+        }
+    }
+
+    private ResponseBody responseBodyOf(RawResponseContext rawResponseContext) {
+        final String responseBody = rawResponseContext.getResponseBody();
+        final Object responseValue = rawResponseContext.getResponseValue();
+
+        return responseBody == null && responseValue != null
+                ? ResponseBody.encode(responseValue, mapper)
+                : ResponseBody.of(responseBody);
     }
 
     private boolean shouldCacheLog(int status, CachedDebugLog cachedDebugLog) {
@@ -276,17 +309,16 @@ public class VideoHandler implements ApplicationResource {
 
     private void respondWith(RoutingContext routingContext,
                              HttpResponseStatus status,
-                             String body,
+                             ResponseBody body,
                              long startTime,
                              MetricName metricRequestStatus,
                              VideoEvent event,
                              TcfContext tcfContext) {
 
         final boolean responseSent = HttpUtil.executeSafely(routingContext, Endpoint.openrtb2_video,
-                response -> response
+                response -> body.end(response
                         .exceptionHandler(this::handleResponseException)
-                        .setStatusCode(status.code())
-                        .end(body));
+                        .setStatusCode(status.code())));
 
         if (responseSent) {
             metrics.updateRequestTimeMetric(REQUEST_TYPE_METRIC, clock.millis() - startTime);
@@ -3,7 +3,7 @@ package org.prebid.server.hooks.execution;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
-import io.vertx.core.Vertx;
+import org.prebid.server.execution.timer.TimerScheduler;
 import org.prebid.server.hooks.execution.model.ExecutionGroup;
 import org.prebid.server.hooks.execution.model.HookExecutionContext;
 import org.prebid.server.hooks.execution.model.HookId;
@@ -11,15 +11,18 @@ import org.prebid.server.hooks.execution.provider.HookProvider;
 import org.prebid.server.hooks.v1.Hook;
 import org.prebid.server.hooks.v1.InvocationContext;
 import org.prebid.server.hooks.v1.InvocationResult;
+import org.prebid.server.util.system.ResourceUsage;
+import org.prebid.server.util.system.ThreadResourceMeter;
 
 import java.time.Clock;
 import java.util.Map;
 import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 
 class GroupExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
 
-    private final Vertx vertx;
+    private final TimerScheduler timerScheduler;
     private final Clock clock;
     private final Map<String, Boolean> modulesExecution;
 
@@ -29,19 +32,21 @@ class GroupExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
     private InvocationContextProvider<CONTEXT> invocationContextProvider;
     private HookExecutionContext hookExecutionContext;
     private boolean rejectAllowed;
+    private ThreadResourceMeter resourceMeter;
+    private BiConsumer<HookId, ResourceUsage> resourceUsageConsumer;
 
-    private GroupExecutor(Vertx vertx, Clock clock, Map<String, Boolean> modulesExecution) {
-        this.vertx = vertx;
+    private GroupExecutor(TimerScheduler timerScheduler, Clock clock, Map<String, Boolean> modulesExecution) {
+        this.timerScheduler = timerScheduler;
         this.clock = clock;
         this.modulesExecution = modulesExecution;
     }
 
     public static <PAYLOAD, CONTEXT extends InvocationContext> GroupExecutor<PAYLOAD, CONTEXT> create(
-            Vertx vertx,
+            TimerScheduler timerScheduler,
             Clock clock,
             Map<String, Boolean> modulesExecution) {
 
-        return new GroupExecutor<>(vertx, clock, modulesExecution);
+        return new GroupExecutor<>(timerScheduler, clock, modulesExecution);
     }
 
     public GroupExecutor<PAYLOAD, CONTEXT> withGroup(ExecutionGroup group) {
@@ -76,6 +81,18 @@ class GroupExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
         return this;
     }
 
+    public GroupExecutor<PAYLOAD, CONTEXT> withResourceMeter(ThreadResourceMeter resourceMeter) {
+        this.resourceMeter = resourceMeter;
+        return this;
+    }
+
+    public GroupExecutor<PAYLOAD, CONTEXT> withResourceUsageConsumer(
+            BiConsumer<HookId, ResourceUsage> resourceUsageConsumer) {
+
+        this.resourceUsageConsumer = resourceUsageConsumer;
+        return this;
+    }
+
     public Future<GroupResult<PAYLOAD>> execute() {
         final GroupResult<PAYLOAD> initialGroupResult = GroupResult.of(initialPayload, rejectAllowed);
         Future<GroupResult<PAYLOAD>> groupFuture = Future.succeededFuture(initialGroupResult);
@@ -112,16 +129,22 @@ class GroupExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
                                                           HookId hookId) {
 
         final CONTEXT invocationContext = invocationContextProvider.apply(timeout, hookId, moduleContextFor(hookId));
-        return executeWithTimeout(() -> hook.call(groupResult.payload(), invocationContext), timeout);
+        return executeWithTimeout(
+                () -> resourceMeter.measure(
+                        () -> hook.call(groupResult.payload(), invocationContext),
+                        false,
+                        resourceUsage -> resourceUsageConsumer.accept(hookId, resourceUsage)),
+                timeout);
     }
 
     private <T> Future<T> executeWithTimeout(Supplier<Future<T>> action, Long timeout) {
         final Promise<T> promise = Promise.promise();
 
-        final long timeoutTimerId = vertx.setTimer(timeout, id -> failWithTimeout(promise));
+        final TimerScheduler.ScheduledTimer timeoutTimer =
+                timerScheduler.schedule(timeout, () -> failWithTimeout(promise));
 
         executeSafely(action)
-                .onComplete(result -> completeWithActionResult(promise, timeoutTimerId, result));
+                .onComplete(result -> completeWithActionResult(promise, timeoutTimer, result));
 
         return promise.future();
     }
@@ -142,8 +165,11 @@ class GroupExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
         }
     }
 
-    private <T> void completeWithActionResult(Promise<T> promise, long timeoutTimerId, AsyncResult<T> result) {
-        vertx.cancelTimer(timeoutTimerId);
+    private static <T> void completeWithActionResult(Promise<T> promise,
+                                                     TimerScheduler.ScheduledTimer timeoutTimer,
+                                                     AsyncResult<T> result) {
+
+        timeoutTimer.cancel();
 
         // check is to avoid harmless exception if timeout exceeds before successful result becomes ready
         if (!promise.future().isComplete()) {
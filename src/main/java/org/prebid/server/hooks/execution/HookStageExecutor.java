@@ -2,11 +2,12 @@ package org.prebid.server.hooks.execution;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.response.BidResponse;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
-import io.vertx.core.Vertx;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.collections4.MapUtils;
@@ -21,7 +22,9 @@ import org.prebid.server.auction.model.Rejection;
 import org.prebid.server.bidder.model.BidderBid;
 import org.prebid.server.execution.timeout.Timeout;
 import org.prebid.server.execution.timeout.TimeoutFactory;
+import org.prebid.server.execution.timer.TimerScheduler;
 import org.prebid.server.hooks.execution.model.ABTest;
+import org.prebid.server.hooks.execution.model.AccountExecutionPlan;
 import org.prebid.server.hooks.execution.model.EndpointExecutionPlan;
 import org.prebid.server.hooks.execution.model.ExecutionGroup;
 import org.prebid.server.hooks.execution.model.ExecutionPlan;
@@ -56,11 +59,13 @@ import org.prebid.server.hooks.v1.entrypoint.EntrypointPayload;
 import org.prebid.server.hooks.v1.exitpoint.ExitpointPayload;
 import org.prebid.server.json.DecodeException;
 import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
 import org.prebid.server.model.Endpoint;
 import org.prebid.server.settings.model.Account;
 import org.prebid.server.settings.model.AccountHooksConfiguration;
 import org.prebid.server.settings.model.HooksAdminConfig;
+import org.prebid.server.util.system.ThreadResourceMeter;
 
 import java.time.Clock;
 import java.util.Collection;
@@ -88,33 +93,46 @@ public class HookStageExecutor {
     private final Map<String, Boolean> hostModuleExecution;
     private final HookCatalog hookCatalog;
     private final TimeoutFactory timeoutFactory;
-    private final Vertx vertx;
+    private final TimerScheduler timerScheduler;
     private final Clock clock;
     private final ObjectMapper mapper;
     private final boolean isConfigToInvokeRequired;
     private final double logSamplingRate;
+    private final Metrics metrics;
+    private final ThreadResourceMeter resourceMeter;
+
+    private final Cache<String, CachedAccountExecutionPlan> accountExecutionPlans;
 
     private HookStageExecutor(ExecutionPlan hostExecutionPlan,
                               ExecutionPlan defaultAccountExecutionPlan,
                               Map<String, Boolean> hostModuleExecution,
                               HookCatalog hookCatalog,
                               TimeoutFactory timeoutFactory,
-                              Vertx vertx,
+                              TimerScheduler timerScheduler,
                               Clock clock,
                               ObjectMapper mapper,
                               boolean isConfigToInvokeRequired,
-                              double logSamplingRate) {
+                              double logSamplingRate,
+                              int planCacheSize,
+                              Metrics metrics,
+                              ThreadResourceMeter resourceMeter) {
 
         this.hostExecutionPlan = hostExecutionPlan;
         this.defaultAccountExecutionPlan = defaultAccountExecutionPlan;
         this.hookCatalog = hookCatalog;
         this.timeoutFactory = timeoutFactory;
-        this.vertx = vertx;
+        this.timerScheduler = timerScheduler;
         this.clock = clock;
         this.mapper = mapper;
         this.isConfigToInvokeRequired = isConfigToInvokeRequired;
         this.hostModuleExecution = hostModuleExecution;
         this.logSamplingRate = logSamplingRate;
+        this.metrics = metrics;
+        this.resourceMeter = resourceMeter;
+
+        accountExecutionPlans = Caffeine.newBuilder()
+                .maximumSize(planCacheSize)
+                .build();
     }
 
     public static HookStageExecutor create(String hostExecutionPlan,
@@ -122,11 +140,14 @@ public class HookStageExecutor {
                                            Map<String, Boolean> hostModuleExecution,
                                            HookCatalog hookCatalog,
                                            TimeoutFactory timeoutFactory,
-                                           Vertx vertx,
+                                           TimerScheduler timerScheduler,
                                            Clock clock,
                                            JacksonMapper mapper,
                                            boolean isConfigToInvokeRequired,
-                                           double logSamplingRate) {
+                                           double logSamplingRate,
+                                           int planCacheSize,
+                                           Metrics metrics,
+                                           ThreadResourceMeter resourceMeter) {
 
         Objects.requireNonNull(hookCatalog);
         Objects.requireNonNull(mapper);
@@ -137,11 +158,14 @@ public class HookStageExecutor {
                 hostModuleExecution,
                 hookCatalog,
                 Objects.requireNonNull(timeoutFactory),
-                Objects.requireNonNull(vertx),
+                Objects.requireNonNull(timerScheduler),
                 Objects.requireNonNull(clock),
                 mapper.mapper(),
                 isConfigToInvokeRequired,
-                logSamplingRate);
+                logSamplingRate,
+                planCacheSize,
+                Objects.requireNonNull(metrics),
+                Objects.requireNonNull(resourceMeter));
     }
 
     private static ExecutionPlan parseAndValidateExecutionPlan(String executionPlan,
@@ -355,15 +379,34 @@ public class HookStageExecutor {
                 .execute();
     }
 
+    /**
+     * Tells whether there are no exitpoint hooks to run for given auction, so the caller does not need
+     * to render the response body as a string for them.
+     */
+    public boolean isExitpointStageEmpty(AuctionContext auctionContext) {
+        final Account account = ObjectUtils.defaultIfNull(auctionContext.getAccount(), EMPTY_ACCOUNT);
+        final Endpoint endpoint = auctionContext.getHookExecutionContext().getEndpoint();
+
+        final AccountExecutionPlan cachedPlan = cachedAccountExecutionPlan(account);
+        final AccountExecutionPlan accountExecutionPlan = cachedPlan != null
+                ? cachedPlan
+                : cacheAccountExecutionPlan(account);
+
+        return accountExecutionPlan.stagePlan(endpoint, Stage.exitpoint).isEmpty();
+    }
+
     private <PAYLOAD, CONTEXT extends InvocationContext> StageExecutor<PAYLOAD, CONTEXT> stageExecutor(
             StageWithHookType<? extends Hook<PAYLOAD, CONTEXT>> stage,
             String entity,
             HookExecutionContext context) {
 
-        return StageExecutor.<PAYLOAD, CONTEXT>create(vertx, clock)
+        return StageExecutor.<PAYLOAD, CONTEXT>create(timerScheduler, clock)
                 .withStage(stage)
                 .withEntity(entity)
-                .withHookExecutionContext(context);
+                .withHookExecutionContext(context)
+                .withResourceMeter(resourceMeter)
+                .withResourceUsageConsumer((hookId, resourceUsage) -> metrics.updateHookResourceUsageMetrics(
+                        hookId.getModuleCode(), stage.stage(), hookId.getHookImplCode(), resourceUsage));
     }
 
     private <PAYLOAD, CONTEXT extends InvocationContext> StageExecutor<PAYLOAD, CONTEXT> stageExecutor(
@@ -373,10 +416,50 @@ public class HookStageExecutor {
             Account account,
             Endpoint endpoint) {
 
+        final AccountExecutionPlan accountExecutionPlan = accountExecutionPlan(account, stage.stage());
+
         return stageExecutor(stage, entity, context)
-                .withModulesExecution(modulesExecutionForAccount(account))
-                .withExecutionPlan(planForStage(account, endpoint, stage.stage()))
-                .withHookProvider(hookProvider(stage, account, context));
+                .withModulesExecution(accountExecutionPlan.getModulesExecution())
+                .withExecutionPlan(accountExecutionPlan.stagePlan(endpoint, stage.stage()))
+                .withHookProvider(hookProvider(stage, accountExecutionPlan.getAbTests(), context));
+    }
+
+    private AccountExecutionPlan accountExecutionPlan(Account account, Stage stage) {
+        final AccountExecutionPlan cachedPlan = cachedAccountExecutionPlan(account);
+        metrics.updateHooksPlanCacheMetric(stage, cachedPlan != null);
+
+        return cachedPlan != null ? cachedPlan : cacheAccountExecutionPlan(account);
+    }
+
+    /**
+     * Returns the plan resolved for the same hooks configuration instance of the account, if any. Instances are
+     * compared by identity, which holds across requests when accounts come from the settings cache and at least
+     * across the stages of a single request otherwise.
+     */
+    private AccountExecutionPlan cachedAccountExecutionPlan(Account account) {
+        final CachedAccountExecutionPlan cachedPlan = accountExecutionPlans.getIfPresent(accountKey(account));
+        return cachedPlan != null && cachedPlan.hooks() == account.getHooks() ? cachedPlan.plan() : null;
+    }
+
+    private AccountExecutionPlan cacheAccountExecutionPlan(Account account) {
+        final AccountExecutionPlan accountExecutionPlan = createAccountExecutionPlan(account);
+        accountExecutionPlans.put(
+                accountKey(account),
+                new CachedAccountExecutionPlan(account.getHooks(), accountExecutionPlan));
+        return accountExecutionPlan;
+    }
+
+    private static String accountKey(Account account) {
+        return StringUtils.defaultString(account.getId());
+    }
+
+    private AccountExecutionPlan createAccountExecutionPlan(Account account) {
+        final ExecutionPlan accountExecutionPlan = effectiveExecutionPlanFor(account);
+
+        return AccountExecutionPlan.of(
+                (endpoint, stage) -> effectiveStagePlanFrom(accountExecutionPlan, endpoint, stage),
+                modulesExecutionForAccount(account),
+                abTests(account));
     }
 
     private Map<String, Boolean> modulesExecutionForAccount(Account account) {
@@ -404,10 +487,6 @@ public class HookStageExecutor {
         return effectiveStagePlanFrom(ExecutionPlan.empty(), endpoint, Stage.entrypoint);
     }
 
-    private StageExecutionPlan planForStage(Account account, Endpoint endpoint, Stage stage) {
-        return effectiveStagePlanFrom(effectiveExecutionPlanFor(account), endpoint, stage);
-    }
-
     private StageExecutionPlan effectiveStagePlanFrom(
             ExecutionPlan accountExecutionPlan, Endpoint endpoint, Stage stage) {
 
@@ -455,12 +534,12 @@ public class HookStageExecutor {
 
     private <PAYLOAD, CONTEXT extends InvocationContext> HookProvider<PAYLOAD, CONTEXT> hookProvider(
             StageWithHookType<? extends Hook<PAYLOAD, CONTEXT>> stage,
-            Account account,
+            List<ABTest> abTests,
             HookExecutionContext context) {
 
         return new ABTestHookProvider<>(
                 defaultHookProvider(stage),
-                abTests(account),
+                abTests,
                 context,
                 mapper);
     }
@@ -590,4 +669,7 @@ public class HookStageExecutor {
 
         return result;
     }
+
+    private record CachedAccountExecutionPlan(AccountHooksConfiguration hooks, AccountExecutionPlan plan) {
+    }
 }
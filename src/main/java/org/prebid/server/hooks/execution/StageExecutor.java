@@ -1,23 +1,27 @@
 package org.prebid.server.hooks.execution;
 
 import io.vertx.core.Future;
-import io.vertx.core.Vertx;
+import org.prebid.server.execution.timer.TimerScheduler;
 import org.prebid.server.hooks.execution.model.ExecutionGroup;
 import org.prebid.server.hooks.execution.model.HookExecutionContext;
+import org.prebid.server.hooks.execution.model.HookId;
 import org.prebid.server.hooks.execution.model.HookStageExecutionResult;
 import org.prebid.server.hooks.execution.model.StageExecutionPlan;
 import org.prebid.server.hooks.execution.model.StageWithHookType;
 import org.prebid.server.hooks.execution.provider.HookProvider;
 import org.prebid.server.hooks.v1.Hook;
 import org.prebid.server.hooks.v1.InvocationContext;
+import org.prebid.server.util.system.ResourceUsage;
+import org.prebid.server.util.system.ThreadResourceMeter;
 
 import java.time.Clock;
 import java.util.ArrayList;
 import java.util.Map;
+import java.util.function.BiConsumer;
 
 class StageExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
 
-    private final Vertx vertx;
+    private final TimerScheduler timerScheduler;
     private final Clock clock;
 
     private StageWithHookType<? extends Hook<PAYLOAD, CONTEXT>> stage;
@@ -29,17 +33,19 @@ class StageExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
     private HookExecutionContext hookExecutionContext;
     private boolean rejectAllowed;
     private Map<String, Boolean> modulesExecution;
+    private ThreadResourceMeter resourceMeter;
+    private BiConsumer<HookId, ResourceUsage> resourceUsageConsumer;
 
-    private StageExecutor(Vertx vertx, Clock clock) {
-        this.vertx = vertx;
+    private StageExecutor(TimerScheduler timerScheduler, Clock clock) {
+        this.timerScheduler = timerScheduler;
         this.clock = clock;
     }
 
     public static <PAYLOAD, CONTEXT extends InvocationContext> StageExecutor<PAYLOAD, CONTEXT> create(
-            Vertx vertx,
+            TimerScheduler timerScheduler,
             Clock clock) {
 
-        return new StageExecutor<>(vertx, clock);
+        return new StageExecutor<>(timerScheduler, clock);
     }
 
     public StageExecutor<PAYLOAD, CONTEXT> withStage(StageWithHookType<? extends Hook<PAYLOAD, CONTEXT>> stage) {
@@ -89,6 +95,18 @@ class StageExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
         return this;
     }
 
+    public StageExecutor<PAYLOAD, CONTEXT> withResourceMeter(ThreadResourceMeter resourceMeter) {
+        this.resourceMeter = resourceMeter;
+        return this;
+    }
+
+    public StageExecutor<PAYLOAD, CONTEXT> withResourceUsageConsumer(
+            BiConsumer<HookId, ResourceUsage> resourceUsageConsumer) {
+
+        this.resourceUsageConsumer = resourceUsageConsumer;
+        return this;
+    }
+
     public Future<HookStageExecutionResult<PAYLOAD>> execute() {
         Future<StageResult<PAYLOAD>> stageFuture = Future.succeededFuture(StageResult.of(initialPayload, entity));
 
@@ -105,13 +123,15 @@ class StageExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
     }
 
     private Future<GroupResult<PAYLOAD>> executeGroup(ExecutionGroup group, PAYLOAD initialPayload) {
-        return GroupExecutor.<PAYLOAD, CONTEXT>create(vertx, clock, modulesExecution)
+        return GroupExecutor.<PAYLOAD, CONTEXT>create(timerScheduler, clock, modulesExecution)
                 .withGroup(group)
                 .withInitialPayload(initialPayload)
                 .withHookProvider(hookProvider)
                 .withInvocationContextProvider(invocationContextProvider)
                 .withHookExecutionContext(hookExecutionContext)
                 .withRejectAllowed(rejectAllowed)
+                .withResourceMeter(resourceMeter)
+                .withResourceUsageConsumer(resourceUsageConsumer)
                 .execute();
     }
 
@@ -0,0 +1,62 @@
+package org.prebid.server.hooks.execution.model;
+
+import lombok.Getter;
+import org.prebid.server.model.Endpoint;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiFunction;
+
+/**
+ * Everything resolved from host and account configuration that is needed to execute hooks for particular account:
+ * effective stage plans, modules execution flags and applicable A/B tests.
+ * <p>
+ * Stage plans are resolved lazily on first use of (endpoint, stage) pair, since a request only ever touches stages
+ * of its own endpoint.
+ */
+public class AccountExecutionPlan {
+
+    private static final int STAGES_COUNT = Stage.values().length;
+
+    private final BiFunction<Endpoint, Stage, StageExecutionPlan> stagePlanResolver;
+    private final AtomicReferenceArray<StageExecutionPlan> stagePlans;
+
+    @Getter
+    private final Map<String, Boolean> modulesExecution;
+
+    @Getter
+    private final List<ABTest> abTests;
+
+    private AccountExecutionPlan(BiFunction<Endpoint, Stage, StageExecutionPlan> stagePlanResolver,
+                                 Map<String, Boolean> modulesExecution,
+                                 List<ABTest> abTests) {
+
+        this.stagePlanResolver = Objects.requireNonNull(stagePlanResolver);
+        this.stagePlans = new AtomicReferenceArray<>(Endpoint.values().length * STAGES_COUNT);
+        this.modulesExecution = modulesExecution;
+        this.abTests = abTests;
+    }
+
+    public static AccountExecutionPlan of(BiFunction<Endpoint, Stage, StageExecutionPlan> stagePlanResolver,
+                                          Map<String, Boolean> modulesExecution,
+                                          List<ABTest> abTests) {
+
+        return new AccountExecutionPlan(stagePlanResolver, modulesExecution, abTests);
+    }
+
+    public StageExecutionPlan stagePlan(Endpoint endpoint, Stage stage) {
+        final int index = endpoint.ordinal() * STAGES_COUNT + stage.ordinal();
+
+        final StageExecutionPlan stagePlan = stagePlans.get(index);
+        if (stagePlan != null) {
+            return stagePlan;
+        }
+
+        // concurrent resolutions of the same pair produce equal plans, so the last one written wins harmlessly
+        final StageExecutionPlan resolvedStagePlan = stagePlanResolver.apply(endpoint, stage);
+        stagePlans.set(index, resolvedStagePlan);
+        return resolvedStagePlan;
+    }
+}
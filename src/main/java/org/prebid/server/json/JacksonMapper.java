@@ -1,14 +1,19 @@
 package org.prebid.server.json;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.vertx.core.buffer.Buffer;
 import org.prebid.server.proto.openrtb.ext.FlexibleExtension;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Objects;
 
 public class JacksonMapper {
@@ -40,6 +45,25 @@ public class JacksonMapper {
         }
     }
 
+    /**
+     * Streams JSON straight into a buffer taken from the pooled allocator, without intermediate string or byte array.
+     * <p>
+     * Caller owns the returned buffer and is responsible for releasing it.
+     */
+    public <T> ByteBuf encodeToByteBuf(T obj) throws EncodeException {
+        final ByteBuf byteBuf = PooledByteBufAllocator.DEFAULT.buffer();
+        try (JsonGenerator generator = mapper.createGenerator((OutputStream) new ByteBufOutputStream(byteBuf))) {
+            mapper.writeValue(generator, obj);
+        } catch (IOException e) {
+            byteBuf.release();
+            throw new EncodeException("Failed to encode as JSON: " + e.getMessage());
+        } catch (RuntimeException e) {
+            byteBuf.release();
+            throw e;
+        }
+        return byteBuf;
+    }
+
     public <T> T decodeValue(String str, Class<T> clazz) throws DecodeException {
         try {
             return mapper.readValue(str, clazz);
@@ -20,6 +20,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 public class HttpInteractionLogger {
 
@@ -41,7 +42,7 @@ public class HttpInteractionLogger {
     public void maybeLogOpenrtb2Auction(AuctionContext auctionContext,
                                         RoutingContext routingContext,
                                         int statusCode,
-                                        String responseBody) {
+                                        Supplier<String> responseBody) {
 
         if (interactionSatisfiesSpec(HttpLogSpec.Endpoint.auction, statusCode, auctionContext)) {
             logger.info(
@@ -49,7 +50,7 @@ public class HttpInteractionLogger {
                     routingContext.request().uri(),
                     toOneLineString(routingContext.body().asString()),
                     statusCode,
-                    responseBody);
+                    responseBody.get());
 
             incLoggedInteractions();
         }
@@ -66,14 +67,14 @@ public class HttpInteractionLogger {
     public void maybeLogOpenrtb2Amp(AuctionContext auctionContext,
                                     RoutingContext routingContext,
                                     int statusCode,
-                                    String responseBody) {
+                                    Supplier<String> responseBody) {
 
         if (interactionSatisfiesSpec(HttpLogSpec.Endpoint.amp, statusCode, auctionContext)) {
             logger.info(
                     "Requested URL: \"{}\", response status: \"{}\", response body: \"{}\"",
                     routingContext.request().uri(),
                     statusCode,
-                    responseBody);
+                    responseBody.get());
 
             incLoggedInteractions();
         }
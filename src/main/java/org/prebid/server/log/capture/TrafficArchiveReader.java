@@ -0,0 +1,91 @@
+package org.prebid.server.log.capture;
+
+import org.prebid.server.log.capture.model.TrafficRecord;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Reads {@link TrafficRecord}s from archive written by {@link TrafficArchiveWriter}.
+ * <p>
+ * Archive of the server which was stopped without closing it is truncated, so records are read up to the last
+ * complete one.
+ */
+public class TrafficArchiveReader {
+
+    private static final TrafficRecord.Type[] TYPES = TrafficRecord.Type.values();
+
+    private TrafficArchiveReader() {
+    }
+
+    public static List<TrafficRecord> read(Path path) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            return read(inputStream);
+        }
+    }
+
+    public static List<TrafficRecord> read(InputStream inputStream) throws IOException {
+        final DataInputStream input = new DataInputStream(
+                new BufferedInputStream(new GZIPInputStream(inputStream)));
+
+        if (input.readInt() != TrafficArchiveWriter.MAGIC) {
+            throw new IOException("Not a traffic archive");
+        }
+        final int version = input.readUnsignedByte();
+        if (version != TrafficArchiveWriter.VERSION) {
+            throw new IOException("Unsupported traffic archive version: " + version);
+        }
+
+        final List<TrafficRecord> records = new ArrayList<>();
+        try {
+            while (true) {
+                final int type = input.read();
+                if (type == -1) {
+                    break;
+                }
+                records.add(readRecord(input, type));
+            }
+        } catch (EOFException e) {
+            // archive is truncated, keep what was read so far
+        }
+
+        return records;
+    }
+
+    private static TrafficRecord readRecord(DataInputStream input, int type) throws IOException {
+        if (type >= TYPES.length) {
+            throw new IOException("Unknown traffic record type: " + type);
+        }
+
+        return TrafficRecord.builder()
+                .type(TYPES[type])
+                .timestamp(input.readLong())
+                .id(readString(input))
+                .bidder(readString(input))
+                .uri(readString(input))
+                .status(input.readInt())
+                .latency(input.readLong())
+                .body(readString(input))
+                .build();
+    }
+
+    private static String readString(DataInputStream input) throws IOException {
+        final int length = input.readInt();
+        if (length < 0) {
+            return null;
+        }
+
+        final byte[] bytes = new byte[length];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,80 @@
+package org.prebid.server.log.capture;
+
+import org.prebid.server.log.capture.model.TrafficRecord;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes {@link TrafficRecord}s into gzip-compressed binary archive readable by {@link TrafficArchiveReader}.
+ * <p>
+ * Archive starts with magic number and format version followed by records, each of them is record type ordinal,
+ * timestamp, ID, bidder, URI, status, latency and body. Strings are written as length in bytes (-1 for null)
+ * followed by UTF-8 bytes.
+ */
+public class TrafficArchiveWriter implements Closeable {
+
+    static final int MAGIC = 0x50425354;
+    static final int VERSION = 1;
+
+    private final DataOutputStream output;
+
+    private boolean closed;
+
+    public TrafficArchiveWriter(OutputStream outputStream) throws IOException {
+        output = new DataOutputStream(new BufferedOutputStream(
+                new GZIPOutputStream(Objects.requireNonNull(outputStream))));
+
+        output.writeInt(MAGIC);
+        output.writeByte(VERSION);
+    }
+
+    public static TrafficArchiveWriter create(Path path) throws IOException {
+        return new TrafficArchiveWriter(Files.newOutputStream(path));
+    }
+
+    /**
+     * Appends the given record to archive. Records written after archive is closed are ignored.
+     */
+    public synchronized void write(TrafficRecord record) throws IOException {
+        if (closed) {
+            return;
+        }
+
+        output.writeByte(record.getType().ordinal());
+        output.writeLong(record.getTimestamp());
+        writeString(record.getId());
+        writeString(record.getBidder());
+        writeString(record.getUri());
+        output.writeInt(record.getStatus());
+        output.writeLong(record.getLatency());
+        writeString(record.getBody());
+    }
+
+    private void writeString(String value) throws IOException {
+        if (value == null) {
+            output.writeInt(-1);
+            return;
+        }
+
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            output.close();
+        }
+    }
+}
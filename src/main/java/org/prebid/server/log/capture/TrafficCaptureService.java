@@ -0,0 +1,224 @@
+package org.prebid.server.log.capture;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.iab.openrtb.request.BidRequest;
+import io.vertx.core.Future;
+import io.vertx.ext.web.RoutingContext;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.bidder.model.BidderCall;
+import org.prebid.server.bidder.model.HttpResponse;
+import org.prebid.server.execution.blocking.BlockingExecutor;
+import org.prebid.server.execution.timeout.TimeoutFactory;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.log.Logger;
+import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.log.capture.model.TrafficRecord;
+import org.prebid.server.settings.ApplicationSettings;
+import org.prebid.server.settings.model.Account;
+import org.prebid.server.settings.model.StoredDataResult;
+import org.prebid.server.util.ObjectUtil;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Clock;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Captures sampled auctions into {@link TrafficArchiveWriter} archive, so they can be replayed offline later:
+ * auction requests as they were received, snapshots of accounts and stored data they refer to and raw responses
+ * of bidders with their latencies.
+ * <p>
+ * Auctions are sampled by auction ID, so bidder calls and auction request of the same auction are captured together.
+ * Each account and stored data item is captured once. Capturing stops after the given number of records.
+ */
+public class TrafficCaptureService implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrafficCaptureService.class);
+
+    private static final int SAMPLING_BUCKETS = 10_000;
+    private static final JsonPointer STORED_REQUEST_ID_POINTER = JsonPointer.compile("/ext/prebid/storedrequest/id");
+
+    private final TrafficArchiveWriter archiveWriter;
+    private final double samplingRate;
+    private final long maxRecords;
+    private final long storedDataTimeoutMs;
+    private final ApplicationSettings applicationSettings;
+    private final TimeoutFactory timeoutFactory;
+    private final BlockingExecutor blockingExecutor;
+    private final Clock clock;
+    private final JacksonMapper mapper;
+
+    private final Set<String> capturedAccounts = ConcurrentHashMap.newKeySet();
+    private final Set<String> capturedStoredRequests = ConcurrentHashMap.newKeySet();
+    private final Set<String> capturedStoredImps = ConcurrentHashMap.newKeySet();
+    private final AtomicLong capturedRecords = new AtomicLong();
+
+    public TrafficCaptureService(TrafficArchiveWriter archiveWriter,
+                                 double samplingRate,
+                                 long maxRecords,
+                                 long storedDataTimeoutMs,
+                                 ApplicationSettings applicationSettings,
+                                 TimeoutFactory timeoutFactory,
+                                 BlockingExecutor blockingExecutor,
+                                 Clock clock,
+                                 JacksonMapper mapper) {
+
+        if (samplingRate < 0 || samplingRate > 1) {
+            throw new IllegalArgumentException("Sampling rate should be between 0 and 1");
+        }
+
+        this.archiveWriter = Objects.requireNonNull(archiveWriter);
+        this.samplingRate = samplingRate;
+        this.maxRecords = maxRecords;
+        this.storedDataTimeoutMs = storedDataTimeoutMs;
+        this.applicationSettings = Objects.requireNonNull(applicationSettings);
+        this.timeoutFactory = Objects.requireNonNull(timeoutFactory);
+        this.blockingExecutor = Objects.requireNonNull(blockingExecutor);
+        this.clock = Objects.requireNonNull(clock);
+        this.mapper = Objects.requireNonNull(mapper);
+    }
+
+    /**
+     * Makes bidder call and, if auction is sampled, captures its response and latency.
+     */
+    public <T> Future<BidderCall<T>> captureBidderCall(String bidder,
+                                                       String auctionId,
+                                                       Supplier<Future<BidderCall<T>>> bidderCall) {
+
+        if (!shouldCapture(auctionId)) {
+            return bidderCall.get();
+        }
+
+        final long startTime = clock.millis();
+        return bidderCall.get().onSuccess(call -> {
+            final HttpResponse response = call.getResponse();
+
+            write(TrafficRecord.builder()
+                    .type(TrafficRecord.Type.bidder_response)
+                    .timestamp(startTime)
+                    .id(auctionId)
+                    .bidder(bidder)
+                    .uri(call.getRequest().getUri())
+                    .status(response != null ? response.getStatusCode() : 0)
+                    .latency(clock.millis() - startTime)
+                    .body(response != null ? response.getBody() : null)
+                    .build());
+        });
+    }
+
+    /**
+     * Captures auction request, if it is sampled, along with account and stored data it refers to.
+     */
+    public void captureAuction(AuctionContext auctionContext, RoutingContext routingContext) {
+        final BidRequest bidRequest = ObjectUtil.getIfNotNull(auctionContext, AuctionContext::getBidRequest);
+        final String auctionId = ObjectUtil.getIfNotNull(bidRequest, BidRequest::getId);
+        if (!shouldCapture(auctionId)) {
+            return;
+        }
+
+        final String body = routingContext.body().asString();
+        write(TrafficRecord.builder()
+                .type(TrafficRecord.Type.auction)
+                .timestamp(clock.millis())
+                .id(auctionId)
+                .uri(routingContext.request().uri())
+                .body(body)
+                .build());
+
+        final Account account = auctionContext.getAccount();
+        final String accountId = ObjectUtil.getIfNotNull(account, Account::getId);
+        if (StringUtils.isNotEmpty(accountId) && capturedAccounts.add(accountId)) {
+            write(snapshotRecord(TrafficRecord.Type.account, accountId, mapper.encodeToString(account)));
+        }
+
+        captureStoredData(accountId, body);
+    }
+
+    private boolean shouldCapture(String auctionId) {
+        return auctionId != null
+                && capturedRecords.get() < maxRecords
+                && Math.floorMod(auctionId.hashCode(), SAMPLING_BUCKETS) < samplingRate * SAMPLING_BUCKETS;
+    }
+
+    private void captureStoredData(String accountId, String body) {
+        final JsonNode request;
+        try {
+            request = mapper.mapper().readTree(body);
+        } catch (JsonProcessingException e) {
+            return;
+        }
+
+        final Set<String> requestIds = new HashSet<>();
+        addNotCaptured(request.at(STORED_REQUEST_ID_POINTER), capturedStoredRequests, requestIds);
+
+        final Set<String> impIds = new HashSet<>();
+        for (JsonNode imp : request.path("imp")) {
+            addNotCaptured(imp.at(STORED_REQUEST_ID_POINTER), capturedStoredImps, impIds);
+        }
+
+        if (requestIds.isEmpty() && impIds.isEmpty()) {
+            return;
+        }
+
+        applicationSettings.getStoredData(accountId, requestIds, impIds, timeoutFactory.create(storedDataTimeoutMs))
+                .onSuccess(this::writeStoredData)
+                .onFailure(error -> logger.warn("Failed to capture stored data: {}", error.getMessage()));
+    }
+
+    private static void addNotCaptured(JsonNode idNode, Set<String> capturedIds, Set<String> ids) {
+        final String id = idNode.isTextual() ? idNode.textValue() : null;
+        if (StringUtils.isNotEmpty(id) && capturedIds.add(id)) {
+            ids.add(id);
+        }
+    }
+
+    private void writeStoredData(StoredDataResult<String> storedDataResult) {
+        writeStoredData(TrafficRecord.Type.stored_request, storedDataResult.getStoredIdToRequest());
+        writeStoredData(TrafficRecord.Type.stored_imp, storedDataResult.getStoredIdToImp());
+    }
+
+    private void writeStoredData(TrafficRecord.Type type, Map<String, String> idToStoredData) {
+        if (idToStoredData != null) {
+            idToStoredData.forEach((id, storedData) -> write(snapshotRecord(type, id, storedData)));
+        }
+    }
+
+    private TrafficRecord snapshotRecord(TrafficRecord.Type type, String id, String body) {
+        return TrafficRecord.builder()
+                .type(type)
+                .timestamp(clock.millis())
+                .id(id)
+                .body(body)
+                .build();
+    }
+
+    private void write(TrafficRecord record) {
+        final long recordNumber = capturedRecords.incrementAndGet();
+        if (recordNumber > maxRecords) {
+            return;
+        }
+        if (recordNumber == maxRecords) {
+            logger.info("Traffic capture reached {} records and stopped", maxRecords);
+        }
+
+        blockingExecutor.execute(() -> {
+                    archiveWriter.write(record);
+                    return null;
+                })
+                .onFailure(error -> logger.warn("Failed to write traffic record: {}", error.getMessage()));
+    }
+
+    @Override
+    public void close() throws IOException {
+        archiveWriter.close();
+    }
+}
@@ -0,0 +1,35 @@
+package org.prebid.server.log.capture.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class TrafficRecord {
+
+    Type type;
+
+    long timestamp;
+
+    /**
+     * Auction ID for auction and bidder response records, account or stored data ID otherwise.
+     */
+    String id;
+
+    String bidder;
+
+    String uri;
+
+    /**
+     * HTTP status of bidder response, 0 if bidder call failed without response.
+     */
+    int status;
+
+    long latency;
+
+    String body;
+
+    public enum Type {
+        auction, account, stored_request, stored_imp, bidder_response
+    }
+}
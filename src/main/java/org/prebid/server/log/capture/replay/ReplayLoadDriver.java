@@ -0,0 +1,140 @@
+package org.prebid.server.log.capture.replay;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.RequestOptions;
+import lombok.Value;
+import org.prebid.server.log.capture.model.TrafficRecord;
+import org.prebid.server.util.HttpUtil;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends captured auction requests to the server under test with fixed concurrency and measures their latencies.
+ */
+public class ReplayLoadDriver {
+
+    private final Vertx vertx;
+    private final HttpClient httpClient;
+    private final URI target;
+    private final List<TrafficRecord> auctions;
+    private final int concurrency;
+
+    public ReplayLoadDriver(Vertx vertx, URI target, List<TrafficRecord> records, int concurrency) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Concurrency should be positive");
+        }
+
+        this.vertx = Objects.requireNonNull(vertx);
+        this.httpClient = vertx.createHttpClient();
+        this.target = Objects.requireNonNull(target);
+        this.auctions = records.stream()
+                .filter(record -> record.getType() == TrafficRecord.Type.auction)
+                .toList();
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * Sends every captured auction the given number of times and completes with the report when all of them are done.
+     */
+    public Future<Report> run(int iterations) {
+        final int total = auctions.size() * iterations;
+        if (total == 0) {
+            return Future.succeededFuture(Report.of(0, 0, 0, new long[0]));
+        }
+
+        final Run run = new Run(total);
+        for (int i = 0; i < Math.min(concurrency, total); i++) {
+            vertx.runOnContext(ignored -> run.sendNext());
+        }
+        return run.promise.future();
+    }
+
+    private class Run {
+
+        private final long[] latencies;
+        private final AtomicInteger sent = new AtomicInteger();
+        private final AtomicInteger completed = new AtomicInteger();
+        private final AtomicInteger failures = new AtomicInteger();
+        private final long startTime = System.nanoTime();
+        private final Promise<Report> promise = Promise.promise();
+
+        Run(int total) {
+            latencies = new long[total];
+        }
+
+        void sendNext() {
+            final int index = sent.getAndIncrement();
+            if (index >= latencies.length) {
+                return;
+            }
+
+            final TrafficRecord auction = auctions.get(index % auctions.size());
+            final long requestStartTime = System.nanoTime();
+
+            send(auction).onComplete(result -> {
+                latencies[index] = System.nanoTime() - requestStartTime;
+                if (result.failed() || result.result() != 200) {
+                    failures.incrementAndGet();
+                }
+
+                if (completed.incrementAndGet() == latencies.length) {
+                    promise.complete(Report.of(
+                            latencies.length, failures.get(), System.nanoTime() - startTime, latencies));
+                } else {
+                    sendNext();
+                }
+            });
+        }
+    }
+
+    private Future<Integer> send(TrafficRecord auction) {
+        final RequestOptions options = new RequestOptions()
+                .setMethod(HttpMethod.POST)
+                .setHost(target.getHost())
+                .setPort(target.getPort() != -1 ? target.getPort() : 80)
+                .setURI(auction.getUri())
+                .putHeader(HttpUtil.CONTENT_TYPE_HEADER, HttpUtil.APPLICATION_JSON_CONTENT_TYPE);
+
+        return httpClient.request(options)
+                .compose(request -> request.send(auction.getBody()))
+                .compose(response -> response.body().map(ignored -> response.statusCode()));
+    }
+
+    @Value(staticConstructor = "of")
+    public static class Report {
+
+        int requests;
+
+        int failures;
+
+        long durationNanos;
+
+        long[] latenciesNanos;
+
+        public double throughput() {
+            return durationNanos > 0 ? requests * 1_000_000_000.0 / durationNanos : 0;
+        }
+
+        /**
+         * Returns latency percentile in milliseconds.
+         */
+        public double latencyPercentile(double percentile) {
+            if (latenciesNanos.length == 0) {
+                return 0;
+            }
+
+            final long[] sorted = latenciesNanos.clone();
+            Arrays.sort(sorted);
+            final int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package org.prebid.server.log.capture.replay;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.log.capture.model.TrafficRecord;
+import org.prebid.server.settings.model.Account;
+import org.prebid.server.settings.model.SettingsFile;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Turns captured snapshots of accounts and stored data into file system settings and writes application config
+ * which makes the server under test read them and send bidder requests to {@link StubBidderServer}.
+ */
+public class ReplaySettingsWriter {
+
+    private static final String SETTINGS_FILENAME = "settings.yaml";
+    private static final String CONFIG_FILENAME = "replay-config.yaml";
+    private static final String JSON_SUFFIX = ".json";
+
+    private final JacksonMapper mapper;
+    private final YAMLMapper yamlMapper;
+
+    public ReplaySettingsWriter(JacksonMapper mapper) {
+        this.mapper = Objects.requireNonNull(mapper);
+        this.yamlMapper = YAMLMapper.builder().serializationInclusion(JsonInclude.Include.NON_NULL).build();
+    }
+
+    /**
+     * Writes settings of the given records into output directory and returns path of the application config.
+     */
+    public Path write(List<TrafficRecord> records, Path outputDir, int stubPort) throws IOException {
+        final Path storedRequestsDir = Files.createDirectories(outputDir.resolve("stored-requests"));
+        final Path storedImpsDir = Files.createDirectories(outputDir.resolve("stored-imps"));
+        final Path storedResponsesDir = Files.createDirectories(outputDir.resolve("stored-responses"));
+        final Path categoriesDir = Files.createDirectories(outputDir.resolve("categories"));
+        final Path profilesDir = Files.createDirectories(outputDir.resolve("profiles"));
+
+        final Map<String, Account> accounts = new TreeMap<>();
+        final Map<String, Object> adapters = new TreeMap<>();
+        for (TrafficRecord record : records) {
+            switch (record.getType()) {
+                case account -> accounts.put(record.getId(), mapper.decodeValue(record.getBody(), Account.class));
+                case stored_request -> writeStoredData(storedRequestsDir, record);
+                case stored_imp -> writeStoredData(storedImpsDir, record);
+                case bidder_response -> adapters.put(
+                        record.getBidder(),
+                        Map.of("endpoint", "http://localhost:%d/%s".formatted(stubPort, record.getBidder())));
+            }
+        }
+
+        final Path settingsFile = outputDir.resolve(SETTINGS_FILENAME);
+        yamlMapper.writeValue(settingsFile.toFile(), new SettingsFile(List.copyOf(accounts.values()), null));
+
+        final Map<String, Object> filesystem = new LinkedHashMap<>();
+        filesystem.put("settings-filename", settingsFile.toAbsolutePath().toString());
+        filesystem.put("stored-requests-dir", storedRequestsDir.toAbsolutePath().toString());
+        filesystem.put("stored-imps-dir", storedImpsDir.toAbsolutePath().toString());
+        filesystem.put("stored-responses-dir", storedResponsesDir.toAbsolutePath().toString());
+        filesystem.put("categories-dir", categoriesDir.toAbsolutePath().toString());
+        filesystem.put("profiles-dir", profilesDir.toAbsolutePath().toString());
+
+        final Map<String, Object> config = new LinkedHashMap<>();
+        config.put("settings", Map.of("filesystem", filesystem));
+        config.put("currency-converter", Map.of("external-rates", Map.of("enabled", false)));
+        config.put("adapters", adapters);
+
+        final Path configFile = outputDir.resolve(CONFIG_FILENAME);
+        yamlMapper.writeValue(configFile.toFile(), config);
+        return configFile;
+    }
+
+    private static void writeStoredData(Path dir, TrafficRecord record) throws IOException {
+        Files.writeString(dir.resolve(record.getId() + JSON_SUFFIX), record.getBody(), StandardCharsets.UTF_8);
+    }
+}
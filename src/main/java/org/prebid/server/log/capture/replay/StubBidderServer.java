@@ -0,0 +1,130 @@
+package org.prebid.server.log.capture.replay;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.log.capture.model.TrafficRecord;
+import org.prebid.server.util.HttpUtil;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Serves captured bidder responses on {@code /<bidder>} paths with their captured latencies.
+ * <p>
+ * Response is looked up by bidder and ID of the incoming request (which is the auction ID for most bidders), then
+ * by the request ID only, since aliases share endpoint of their core bidder. Otherwise, responses captured for
+ * the bidder are served in round-robin. Captured failures without response are served by closing the connection.
+ */
+public class StubBidderServer {
+
+    private final Vertx vertx;
+    private final JacksonMapper mapper;
+
+    private final Map<String, Responses> bidderAndIdToResponses = new HashMap<>();
+    private final Map<String, Responses> idToResponses = new HashMap<>();
+    private final Map<String, Responses> bidderToResponses = new HashMap<>();
+
+    public StubBidderServer(Vertx vertx, List<TrafficRecord> records, JacksonMapper mapper) {
+        this.vertx = Objects.requireNonNull(vertx);
+        this.mapper = Objects.requireNonNull(mapper);
+
+        records.stream()
+                .filter(record -> record.getType() == TrafficRecord.Type.bidder_response)
+                .forEach(this::index);
+    }
+
+    private void index(TrafficRecord record) {
+        bidderAndIdToResponses.computeIfAbsent(record.getBidder() + "/" + record.getId(), key -> new Responses())
+                .add(record);
+        idToResponses.computeIfAbsent(record.getId(), key -> new Responses()).add(record);
+        bidderToResponses.computeIfAbsent(record.getBidder(), key -> new Responses()).add(record);
+    }
+
+    public Future<HttpServer> start(int port) {
+        return vertx.createHttpServer()
+                .requestHandler(request -> request.body()
+                        .onSuccess(body -> handle(request, body))
+                        .onFailure(error -> request.connection().close()))
+                .listen(port);
+    }
+
+    private void handle(HttpServerRequest request, Buffer body) {
+        final String bidder = StringUtils.substringBetween(request.path() + "/", "/", "/");
+        final TrafficRecord record = findResponse(bidder, requestId(body));
+
+        final HttpServerResponse response = request.response();
+        if (record == null) {
+            response.setStatusCode(HttpResponseStatus.NO_CONTENT.code()).end();
+            return;
+        }
+
+        vertx.setTimer(Math.max(1, record.getLatency()), ignored -> respond(request, response, record));
+    }
+
+    private String requestId(Buffer body) {
+        try {
+            final JsonNode id = mapper.mapper().readTree(body.getBytes()).path("id");
+            return id.isTextual() ? id.textValue() : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private synchronized TrafficRecord findResponse(String bidder, String requestId) {
+        final TrafficRecord byBidderAndId = next(bidderAndIdToResponses, bidder + "/" + requestId);
+        if (byBidderAndId != null) {
+            return byBidderAndId;
+        }
+
+        final TrafficRecord byId = next(idToResponses, requestId);
+        return byId != null ? byId : next(bidderToResponses, bidder);
+    }
+
+    private static TrafficRecord next(Map<String, Responses> keyToResponses, String key) {
+        final Responses responses = key != null ? keyToResponses.get(key) : null;
+        return responses != null ? responses.next() : null;
+    }
+
+    private static void respond(HttpServerRequest request, HttpServerResponse response, TrafficRecord record) {
+        if (record.getStatus() == 0) {
+            request.connection().close();
+            return;
+        }
+
+        response.setStatusCode(record.getStatus());
+        if (record.getBody() == null) {
+            response.end();
+            return;
+        }
+
+        response.putHeader(HttpUtil.CONTENT_TYPE_HEADER, HttpUtil.APPLICATION_JSON_CONTENT_TYPE)
+                .end(record.getBody());
+    }
+
+    private static class Responses {
+
+        private final List<TrafficRecord> records = new ArrayList<>();
+
+        private int cursor;
+
+        void add(TrafficRecord record) {
+            records.add(record);
+        }
+
+        TrafficRecord next() {
+            return records.get(Math.floorMod(cursor++, records.size()));
+        }
+    }
+}
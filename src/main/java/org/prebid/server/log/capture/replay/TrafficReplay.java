@@ -0,0 +1,73 @@
+package org.prebid.server.log.capture.replay;
+
+import io.vertx.core.Vertx;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.json.ObjectMapperProvider;
+import org.prebid.server.log.Logger;
+import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.log.capture.TrafficArchiveReader;
+import org.prebid.server.log.capture.model.TrafficRecord;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Command line tool replaying traffic captured by {@link org.prebid.server.log.capture.TrafficCaptureService}.
+ * <p>
+ * {@code prepare <archive> <output-dir> <stub-port>} writes settings and application config for the server under
+ * test, {@code run <archive> <target-url> <stub-port> [concurrency] [iterations]} starts stub bidder server and sends
+ * captured auctions to the server under test, which should be started with the prepared config.
+ */
+public class TrafficReplay {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrafficReplay.class);
+
+    private TrafficReplay() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 4 || !(args[0].equals("prepare") || args[0].equals("run"))) {
+            logger.error("""
+                    Usage: prepare <archive> <output-dir> <stub-port>
+                           run <archive> <target-url> <stub-port> [concurrency] [iterations]""");
+            System.exit(1);
+        }
+
+        final List<TrafficRecord> records = TrafficArchiveReader.read(Path.of(args[1]));
+        final JacksonMapper mapper = new JacksonMapper(ObjectMapperProvider.mapper());
+        final int stubPort = Integer.parseInt(args[3]);
+
+        if (args[0].equals("prepare")) {
+            final Path config = new ReplaySettingsWriter(mapper).write(records, Path.of(args[2]), stubPort);
+            logger.info("Replay config is written to {}, start the server with "
+                    + "--spring.config.additional-location={}", config, config);
+            return;
+        }
+
+        final int concurrency = args.length > 4 ? Integer.parseInt(args[4]) : 10;
+        final int iterations = args.length > 5 ? Integer.parseInt(args[5]) : 1;
+
+        final Vertx vertx = Vertx.vertx();
+        new StubBidderServer(vertx, records, mapper).start(stubPort)
+                .compose(ignored -> new ReplayLoadDriver(vertx, URI.create(args[2]), records, concurrency)
+                        .run(iterations))
+                .onSuccess(TrafficReplay::logReport)
+                .onFailure(error -> logger.error("Replay failed", error))
+                .onComplete(ignored -> vertx.close());
+    }
+
+    private static void logReport(ReplayLoadDriver.Report report) {
+        logger.info(
+                "Replayed {} auctions, failed: {}, throughput: {} rps, latency p50: {} ms, p90: {} ms, p99: {} ms, "
+                        + "max: {} ms",
+                report.getRequests(),
+                report.getFailures(),
+                "%.1f".formatted(report.throughput()),
+                "%.1f".formatted(report.latencyPercentile(50)),
+                "%.1f".formatted(report.latencyPercentile(90)),
+                "%.1f".formatted(report.latencyPercentile(99)),
+                "%.1f".formatted(report.latencyPercentile(100)));
+    }
+}
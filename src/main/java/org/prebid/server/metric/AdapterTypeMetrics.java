@@ -19,6 +19,8 @@ class AdapterTypeMetrics extends UpdatableMetrics {
     private final Map<String, BidTypeMetrics> bidTypeMetrics;
     private final ResponseMetrics responseMetrics;
     private final ActivitiesMetrics activitiesMetrics;
+    private final Function<MetricName, ResourceUsageMetrics> resourceUsageMetricsCreator;
+    private final Map<MetricName, ResourceUsageMetrics> resourceUsageMetrics;
 
     AdapterTypeMetrics(MetricRegistry metricRegistry, CounterType counterType, String adapterType) {
         super(
@@ -35,6 +37,9 @@ class AdapterTypeMetrics extends UpdatableMetrics {
         bidTypeMetrics = new HashMap<>();
         responseMetrics = new ResponseMetrics(metricRegistry, counterType, createAdapterPrefix(adapterType));
         activitiesMetrics = new ActivitiesMetrics(metricRegistry, counterType, createAdapterPrefix(adapterType));
+        resourceUsageMetricsCreator = phase -> new ResourceUsageMetrics(
+                metricRegistry, counterType, createAdapterPrefix(createAdapterPrefix(adapterType), phase.toString()));
+        resourceUsageMetrics = new HashMap<>();
     }
 
     AdapterTypeMetrics(MetricRegistry metricRegistry,
@@ -61,6 +66,8 @@ class AdapterTypeMetrics extends UpdatableMetrics {
         bidTypeMetrics = null;
         responseMetrics = null;
         activitiesMetrics = null;
+        resourceUsageMetricsCreator = null;
+        resourceUsageMetrics = null;
     }
 
     private static String createAdapterPrefix(String adapterType) {
@@ -94,4 +101,8 @@ class AdapterTypeMetrics extends UpdatableMetrics {
     ActivitiesMetrics activities() {
         return activitiesMetrics;
     }
+
+    ResourceUsageMetrics forResourceUsage(MetricName phase) {
+        return resourceUsageMetrics.computeIfAbsent(phase, resourceUsageMetricsCreator);
+    }
 }
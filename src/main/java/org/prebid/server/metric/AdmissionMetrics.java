@@ -0,0 +1,16 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.MetricRegistry;
+
+import java.util.Objects;
+
+/**
+ * Auction admission control metrics support.
+ */
+class AdmissionMetrics extends UpdatableMetrics {
+
+    AdmissionMetrics(MetricRegistry metricRegistry, CounterType counterType) {
+        super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                metricName -> "admission." + metricName);
+    }
+}
@@ -0,0 +1,23 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.MetricRegistry;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Per-subsystem blocking executor metrics support.
+ */
+class BlockingExecutorMetrics extends UpdatableMetrics {
+
+    BlockingExecutorMetrics(MetricRegistry metricRegistry, CounterType counterType, String subsystem) {
+        super(
+                Objects.requireNonNull(metricRegistry),
+                Objects.requireNonNull(counterType),
+                nameCreator(Objects.requireNonNull(subsystem)));
+    }
+
+    private static Function<MetricName, String> nameCreator(String subsystem) {
+        return metricName -> "blocking_executor.%s.%s".formatted(subsystem, metricName);
+    }
+}
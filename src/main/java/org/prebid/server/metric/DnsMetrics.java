@@ -0,0 +1,16 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.MetricRegistry;
+
+import java.util.Objects;
+
+/**
+ * Outbound hosts DNS cache metrics support.
+ */
+class DnsMetrics extends UpdatableMetrics {
+
+    DnsMetrics(MetricRegistry metricRegistry, CounterType counterType) {
+        super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                metricName -> "dns." + metricName);
+    }
+}
@@ -0,0 +1,16 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.MetricRegistry;
+
+import java.util.Objects;
+
+/**
+ * Embedded creative cache metrics support.
+ */
+class EmbeddedCacheMetrics extends UpdatableMetrics {
+
+    EmbeddedCacheMetrics(MetricRegistry metricRegistry, CounterType counterType) {
+        super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                metricName -> "embedded_cache." + metricName);
+    }
+}
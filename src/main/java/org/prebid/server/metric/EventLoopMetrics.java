@@ -0,0 +1,23 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.MetricRegistry;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Per-event-loop lag and blocking metrics support.
+ */
+class EventLoopMetrics extends UpdatableMetrics {
+
+    EventLoopMetrics(MetricRegistry metricRegistry, CounterType counterType, int eventLoop) {
+        super(
+                Objects.requireNonNull(metricRegistry),
+                Objects.requireNonNull(counterType),
+                nameCreator(eventLoop));
+    }
+
+    private static Function<MetricName, String> nameCreator(int eventLoop) {
+        return metricName -> "event_loop.%d.%s".formatted(eventLoop, metricName);
+    }
+}
@@ -1,7 +1,9 @@
 package org.prebid.server.metric;
 
 import com.codahale.metrics.MetricRegistry;
+import org.prebid.server.hooks.execution.model.Stage;
 
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -14,6 +16,8 @@ class HooksMetrics extends UpdatableMetrics {
     // thread-safe
     private final Function<String, ModuleMetrics> moduleMetricsCreator;
     private final Map<String, ModuleMetrics> moduleMetrics;
+    private final Function<Stage, StageMetrics> stageMetricsCreator;
+    private final Map<Stage, StageMetrics> stageMetrics;
 
     HooksMetrics(MetricRegistry metricRegistry, CounterType counterType, String prefix) {
         super(
@@ -24,6 +28,8 @@ class HooksMetrics extends UpdatableMetrics {
         moduleMetricsCreator = moduleCode ->
                 new ModuleMetrics(metricRegistry, counterType, createPrefix(prefix), moduleCode);
         moduleMetrics = new HashMap<>();
+        stageMetricsCreator = stage -> new StageMetrics(metricRegistry, counterType, createPrefix(prefix), stage);
+        stageMetrics = new EnumMap<>(Stage.class);
     }
 
     HooksMetrics(MetricRegistry metricRegistry, CounterType counterType) {
@@ -35,6 +41,8 @@ class HooksMetrics extends UpdatableMetrics {
         moduleMetricsCreator = moduleCode ->
                 new ModuleMetrics(metricRegistry, counterType, createPrefix(), moduleCode);
         moduleMetrics = new HashMap<>();
+        stageMetricsCreator = stage -> new StageMetrics(metricRegistry, counterType, createPrefix(), stage);
+        stageMetrics = new EnumMap<>(Stage.class);
     }
 
     private static Function<MetricName, String> nameCreator(String prefix) {
@@ -52,4 +60,8 @@ class HooksMetrics extends UpdatableMetrics {
     ModuleMetrics module(String moduleCode) {
         return moduleMetrics.computeIfAbsent(moduleCode, moduleMetricsCreator);
     }
+
+    StageMetrics stage(Stage stage) {
+        return stageMetrics.computeIfAbsent(stage, stageMetricsCreator);
+    }
 }
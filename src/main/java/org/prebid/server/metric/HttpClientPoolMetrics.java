@@ -0,0 +1,23 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.MetricRegistry;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Dedicated HTTP client connection pool metrics support.
+ */
+class HttpClientPoolMetrics extends UpdatableMetrics {
+
+    HttpClientPoolMetrics(MetricRegistry metricRegistry, CounterType counterType, String pool) {
+        super(
+                Objects.requireNonNull(metricRegistry),
+                Objects.requireNonNull(counterType),
+                nameCreator(Objects.requireNonNull(pool)));
+    }
+
+    private static Function<MetricName, String> nameCreator(String pool) {
+        return metricName -> "http_client.%s.%s".formatted(pool, metricName);
+    }
+}
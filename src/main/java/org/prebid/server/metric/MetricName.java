@@ -14,6 +14,36 @@ public enum MetricName {
     opened,
     existing,
 
+    // http client pools
+    connection_wait,
+    connections_opened,
+
+    // dns cache
+    resolve_time,
+    resolve_failed,
+    stale_served,
+
+    // embedded cache
+    expired,
+    evicted,
+
+    // blocking executors
+    queue_wait,
+    active_tasks,
+
+    // event loops
+    lag,
+    pending_tasks,
+    max_task_duration,
+
+    // resource accounting
+    cpu_time,
+    allocated_bytes,
+    make_http_requests,
+    make_bidder_response,
+    prepare_bidder_requests,
+    create_bid_response,
+
     // database
     db_query_time,
 
@@ -75,6 +105,7 @@ public enum MetricName {
     unknown_error,
     err,
     networkerr,
+    overloaded,
     buyeruid_scrubbed,
     seat,
 
@@ -107,6 +138,17 @@ public enum MetricName {
     in_geo("in-geo"),
     out_geo("out-geo"),
     unknown_geo("unknown-geo"),
+    masking_classes("masking-classes"),
+    model_cache_hit("model-cache.hit"),
+    model_cache_miss("model-cache.miss"),
+    decode_time,
+
+    // admission control
+    limit,
+    in_flight,
+    rejected_high("rejected.high"),
+    rejected_normal("rejected.normal"),
+    rejected_low("rejected.low"),
 
     // vendor list
     missing,
@@ -123,6 +165,10 @@ public enum MetricName {
     xml,
     text,
 
+    // cache write batching
+    cache_batch_size("batch.size"),
+    cache_batch_wait("batch.wait"),
+
     // account.*.requests.
     rejected_by_invalid_account("rejected.invalid-account"),
     rejected_by_invalid_stored_impr("rejected.invalid-stored-impr"),
@@ -138,8 +184,12 @@ public enum MetricName {
     account,
     initialize,
     update,
+    objects_fetched,
+    bytes_fetched,
     hit,
     miss,
+    settings_batch_size("settings.batch.size"),
+    settings_batch_wait("settings.batch.wait"),
 
     // hooks
     call,
@@ -151,6 +201,9 @@ public enum MetricName {
     failure,
     execution_error("execution-error"),
     duration,
+    plan_cache_hit("plan-cache.hit"),
+    plan_cache_miss("plan-cache.miss"),
+    timer_lateness("timer.lateness"),
 
     // price-floors
     price_floors("price-floors"),
@@ -5,11 +5,13 @@ import com.iab.openrtb.request.Imp;
 import org.prebid.server.activity.Activity;
 import org.prebid.server.activity.ComponentType;
 import org.prebid.server.activity.infrastructure.ActivityInfrastructure;
+import org.prebid.server.execution.admission.AdmissionPriority;
 import org.prebid.server.hooks.execution.model.ExecutionAction;
 import org.prebid.server.hooks.execution.model.ExecutionStatus;
 import org.prebid.server.hooks.execution.model.Stage;
 import org.prebid.server.metric.model.AccountMetricsVerbosityLevel;
 import org.prebid.server.settings.model.Account;
+import org.prebid.server.util.system.ResourceUsage;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -39,6 +41,10 @@ public class Metrics extends UpdatableMetrics {
     private final Function<Integer, BidderCardinalityMetrics> bidderCardinalityMetricsCreator;
     private final Function<MetricName, CircuitBreakerMetrics> circuitBreakerMetricsCreator;
     private final Function<MetricName, SettingsCacheMetrics> settingsCacheMetricsCreator;
+    private final Function<String, HttpClientPoolMetrics> httpClientPoolMetricsCreator;
+    private final Function<String, BlockingExecutorMetrics> blockingExecutorMetricsCreator;
+    private final Function<MetricName, ResourceUsageMetrics> resourceUsageMetricsCreator;
+    private final Function<Integer, EventLoopMetrics> eventLoopMetricsCreator;
     // not thread-safe maps are intentionally used here because it's harmless in this particular case - eventually
     // this all boils down to metrics lookup by underlying metric registry and that operation is guaranteed to be
     // thread-safe
@@ -60,6 +66,13 @@ public class Metrics extends UpdatableMetrics {
     private final Map<MetricName, SettingsCacheMetrics> settingsCacheMetrics;
     private final HooksMetrics hooksMetrics;
     private final ProfileMetrics profileMetrics;
+    private final AdmissionMetrics admissionMetrics;
+    private final Map<String, HttpClientPoolMetrics> httpClientPoolMetrics;
+    private final DnsMetrics dnsMetrics;
+    private final EmbeddedCacheMetrics embeddedCacheMetrics;
+    private final Map<String, BlockingExecutorMetrics> blockingExecutorMetrics;
+    private final Map<MetricName, ResourceUsageMetrics> resourceUsageMetrics;
+    private final Map<Integer, EventLoopMetrics> eventLoopMetrics;
 
     public Metrics(MetricRegistry metricRegistry,
                    CounterType counterType,
@@ -80,6 +93,12 @@ public class Metrics extends UpdatableMetrics {
                 metricRegistry, counterType, moduleType);
         circuitBreakerMetricsCreator = type -> new CircuitBreakerMetrics(metricRegistry, counterType, type);
         settingsCacheMetricsCreator = type -> new SettingsCacheMetrics(metricRegistry, counterType, type);
+        httpClientPoolMetricsCreator = pool -> new HttpClientPoolMetrics(metricRegistry, counterType, pool);
+        blockingExecutorMetricsCreator = subsystem -> new BlockingExecutorMetrics(
+                metricRegistry, counterType, subsystem);
+        resourceUsageMetricsCreator = phase -> new ResourceUsageMetrics(
+                metricRegistry, counterType, "auction." + phase);
+        eventLoopMetricsCreator = eventLoop -> new EventLoopMetrics(metricRegistry, counterType, eventLoop);
 
         requestsMetrics = new RequestsMetrics(metricRegistry, counterType);
         requestMetrics = new EnumMap<>(MetricName.class);
@@ -99,6 +118,13 @@ public class Metrics extends UpdatableMetrics {
         settingsCacheMetrics = new HashMap<>();
         hooksMetrics = new HooksMetrics(metricRegistry, counterType);
         profileMetrics = new ProfileMetrics(metricRegistry, counterType);
+        admissionMetrics = new AdmissionMetrics(metricRegistry, counterType);
+        httpClientPoolMetrics = new HashMap<>();
+        dnsMetrics = new DnsMetrics(metricRegistry, counterType);
+        embeddedCacheMetrics = new EmbeddedCacheMetrics(metricRegistry, counterType);
+        blockingExecutorMetrics = new HashMap<>();
+        resourceUsageMetrics = new HashMap<>();
+        eventLoopMetrics = new HashMap<>();
     }
 
     RequestsMetrics requests() {
@@ -169,6 +195,34 @@ public class Metrics extends UpdatableMetrics {
         return hooksMetrics;
     }
 
+    AdmissionMetrics admission() {
+        return admissionMetrics;
+    }
+
+    HttpClientPoolMetrics forHttpClientPool(String pool) {
+        return httpClientPoolMetrics.computeIfAbsent(pool, httpClientPoolMetricsCreator);
+    }
+
+    DnsMetrics dns() {
+        return dnsMetrics;
+    }
+
+    EmbeddedCacheMetrics embeddedCache() {
+        return embeddedCacheMetrics;
+    }
+
+    BlockingExecutorMetrics forBlockingExecutor(String subsystem) {
+        return blockingExecutorMetrics.computeIfAbsent(subsystem, blockingExecutorMetricsCreator);
+    }
+
+    ResourceUsageMetrics forAuctionResourceUsage(MetricName phase) {
+        return resourceUsageMetrics.computeIfAbsent(phase, resourceUsageMetricsCreator);
+    }
+
+    EventLoopMetrics forEventLoop(int eventLoop) {
+        return eventLoopMetrics.computeIfAbsent(eventLoop, eventLoopMetricsCreator);
+    }
+
     public void updateDebugRequestMetrics(boolean debugEnabled) {
         if (debugEnabled) {
             incCounter(MetricName.debug_requests);
@@ -511,6 +565,18 @@ public class Metrics extends UpdatableMetrics {
         }
     }
 
+    public void updatePrivacyMaskingClassesMetric(int maskingClasses) {
+        privacy().updateHistogram(MetricName.masking_classes, maskingClasses);
+    }
+
+    public void updatePrivacyGppModelCacheMetric(boolean hit) {
+        privacy().gpp().incCounter(hit ? MetricName.model_cache_hit : MetricName.model_cache_miss);
+    }
+
+    public void updatePrivacyGppDecodeTimeMetric(long nanos) {
+        privacy().gpp().updateTimerNanos(MetricName.decode_time, nanos);
+    }
+
     public void updatePrivacyTcfMissingMetric() {
         privacy().tcf().incCounter(MetricName.missing);
     }
@@ -563,6 +629,14 @@ public class Metrics extends UpdatableMetrics {
         updateTimer(MetricName.db_query_time, millis);
     }
 
+    public void updateSettingsBatchSizeMetric(int size) {
+        updateHistogram(MetricName.settings_batch_size, size);
+    }
+
+    public void updateSettingsBatchWaitMetric(long millis) {
+        updateTimer(MetricName.settings_batch_wait, millis);
+    }
+
     public void createDatabaseCircuitBreakerGauge(BooleanSupplier stateSupplier) {
         forCircuitBreakerType(MetricName.db)
                 .createGauge(MetricName.opened, () -> stateSupplier.getAsBoolean() ? 1 : 0);
@@ -582,6 +656,75 @@ public class Metrics extends UpdatableMetrics {
         forCircuitBreakerType(MetricName.http).createGauge(MetricName.existing, numberSupplier);
     }
 
+    public void updateHttpClientConnectionWaitMetric(String pool, long millis) {
+        forHttpClientPool(pool).updateTimer(MetricName.connection_wait, millis);
+    }
+
+    public void updateHttpClientConnectionOpenedMetric(String pool) {
+        forHttpClientPool(pool).incCounter(MetricName.connections_opened);
+    }
+
+    public void updateDnsResolveTimeMetric(long millis) {
+        dns().updateTimer(MetricName.resolve_time, millis);
+    }
+
+    public void updateDnsResolveFailedMetric() {
+        dns().incCounter(MetricName.resolve_failed);
+    }
+
+    public void updateDnsStaleServedMetric() {
+        dns().incCounter(MetricName.stale_served);
+    }
+
+    public void updateEmbeddedCacheHitMetric() {
+        embeddedCache().incCounter(MetricName.hit);
+    }
+
+    public void updateEmbeddedCacheMissMetric() {
+        embeddedCache().incCounter(MetricName.miss);
+    }
+
+    public void updateEmbeddedCacheExpiredMetric() {
+        embeddedCache().incCounter(MetricName.expired);
+    }
+
+    public void updateEmbeddedCacheEvictedMetric() {
+        embeddedCache().incCounter(MetricName.evicted);
+    }
+
+    public void createBlockingExecutorActiveTasksGauge(String subsystem, LongSupplier activeTasksSupplier) {
+        forBlockingExecutor(subsystem).createGauge(MetricName.active_tasks, activeTasksSupplier);
+    }
+
+    public void updateBlockingExecutorQueueWaitMetric(String subsystem, long millis) {
+        forBlockingExecutor(subsystem).updateTimer(MetricName.queue_wait, millis);
+    }
+
+    public void createEventLoopGauges(int eventLoop,
+                                      LongSupplier pendingTasksSupplier,
+                                      LongSupplier maxTaskDurationSupplier) {
+
+        final EventLoopMetrics loopMetrics = forEventLoop(eventLoop);
+        loopMetrics.createGauge(MetricName.pending_tasks, pendingTasksSupplier);
+        loopMetrics.createGauge(MetricName.max_task_duration, maxTaskDurationSupplier);
+    }
+
+    public void updateEventLoopLagMetric(int eventLoop, long nanos) {
+        forEventLoop(eventLoop).updateTimerNanos(MetricName.lag, nanos);
+    }
+
+    public void updateEventLoopBlockedMetric(int eventLoop) {
+        forEventLoop(eventLoop).incCounter(MetricName.blocked);
+    }
+
+    public void updateAdapterResourceUsageMetrics(String bidder, MetricName phase, ResourceUsage resourceUsage) {
+        forAdapter(bidder).forResourceUsage(phase).update(resourceUsage);
+    }
+
+    public void updateAuctionResourceUsageMetrics(MetricName phase, ResourceUsage resourceUsage) {
+        forAuctionResourceUsage(phase).update(resourceUsage);
+    }
+
     public void updateGeoLocationMetric(boolean successful) {
         incCounter(MetricName.geolocation_requests);
         if (successful) {
@@ -662,6 +805,14 @@ public class Metrics extends UpdatableMetrics {
         forAccount(accountId).cache().creativeTtl().updateHistogram(creativeType, creativeTtl);
     }
 
+    public void updateCacheBatchSizeMetric(int size) {
+        cache().updateHistogram(MetricName.cache_batch_size, size);
+    }
+
+    public void updateCacheBatchWaitMetric(long millis) {
+        cache().updateTimer(MetricName.cache_batch_wait, millis);
+    }
+
     public void updateTimeoutNotificationMetric(boolean success) {
         if (success) {
             timeoutNotificationMetrics.incCounter(MetricName.ok);
@@ -670,6 +821,19 @@ public class Metrics extends UpdatableMetrics {
         }
     }
 
+    public void createAdmissionGauges(LongSupplier limitSupplier, LongSupplier inFlightSupplier) {
+        admission().createGauge(MetricName.limit, limitSupplier);
+        admission().createGauge(MetricName.in_flight, inFlightSupplier);
+    }
+
+    public void updateAdmissionRejectedMetric(AdmissionPriority priority) {
+        admission().incCounter(switch (priority) {
+            case HIGH -> MetricName.rejected_high;
+            case NORMAL -> MetricName.rejected_normal;
+            case LOW -> MetricName.rejected_low;
+        });
+    }
+
     public void createCurrencyRatesGauge(BooleanSupplier stateSupplier) {
         currencyRates().createGauge(MetricName.stale, () -> stateSupplier.getAsBoolean() ? 1 : 0);
     }
@@ -682,6 +846,16 @@ public class Metrics extends UpdatableMetrics {
         forSettingsCacheType(cacheType).forRefreshType(refreshType).incCounter(MetricName.err);
     }
 
+    public void updateSettingsCacheRefreshFetchedMetrics(MetricName cacheType,
+                                                         MetricName refreshType,
+                                                         int objectsFetched,
+                                                         long bytesFetched) {
+
+        final UpdatableMetrics refreshMetrics = forSettingsCacheType(cacheType).forRefreshType(refreshType);
+        refreshMetrics.incCounter(MetricName.objects_fetched, objectsFetched);
+        refreshMetrics.incCounter(MetricName.bytes_fetched, bytesFetched);
+    }
+
     public void updateSettingsCacheEventMetric(MetricName cacheType, MetricName event) {
         forSettingsCacheType(cacheType).incCounter(event);
     }
@@ -712,6 +886,24 @@ public class Metrics extends UpdatableMetrics {
 
     }
 
+    public void updateHookResourceUsageMetrics(String moduleCode,
+                                               Stage stage,
+                                               String hookImplCode,
+                                               ResourceUsage resourceUsage) {
+
+        final HookImplMetrics hookImplMetrics = hooks().module(moduleCode).stage(stage).hookImpl(hookImplCode);
+        hookImplMetrics.updateHistogram(MetricName.cpu_time, resourceUsage.getCpuTimeNanos());
+        hookImplMetrics.updateHistogram(MetricName.allocated_bytes, resourceUsage.getAllocatedBytes());
+    }
+
+    public void updateHooksPlanCacheMetric(Stage stage, boolean hit) {
+        hooks().stage(stage).incCounter(hit ? MetricName.plan_cache_hit : MetricName.plan_cache_miss);
+    }
+
+    public void updateHooksTimerLatenessMetric(long lateness) {
+        hooks().updateTimer(MetricName.timer_lateness, lateness);
+    }
+
     public void updateAccountHooksMetrics(
             Account account,
             String moduleCode,
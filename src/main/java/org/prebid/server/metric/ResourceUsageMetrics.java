@@ -0,0 +1,29 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.MetricRegistry;
+import org.prebid.server.util.system.ResourceUsage;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * CPU time and allocation metrics support of a single processing phase.
+ */
+class ResourceUsageMetrics extends UpdatableMetrics {
+
+    ResourceUsageMetrics(MetricRegistry metricRegistry, CounterType counterType, String prefix) {
+        super(
+                Objects.requireNonNull(metricRegistry),
+                Objects.requireNonNull(counterType),
+                nameCreator(Objects.requireNonNull(prefix)));
+    }
+
+    private static Function<MetricName, String> nameCreator(String prefix) {
+        return metricName -> "%s.%s".formatted(prefix, metricName);
+    }
+
+    void update(ResourceUsage resourceUsage) {
+        updateHistogram(MetricName.cpu_time, resourceUsage.getCpuTimeNanos());
+        updateHistogram(MetricName.allocated_bytes, resourceUsage.getAllocatedBytes());
+    }
+}
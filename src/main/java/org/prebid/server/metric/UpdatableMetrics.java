@@ -54,6 +54,13 @@ class UpdatableMetrics {
         metricRegistry.timer(name(metricName)).update(millis, TimeUnit.MILLISECONDS);
     }
 
+    /**
+     * Updates metric's timer with a given value in nanoseconds, for operations too short to be measured in millis.
+     */
+    void updateTimerNanos(MetricName metricName, long nanos) {
+        metricRegistry.timer(name(metricName)).update(nanos, TimeUnit.NANOSECONDS);
+    }
+
     /**
      * Updates metric's histogram with a given value.
      */
@@ -0,0 +1,20 @@
+package org.prebid.server.proto.openrtb.ext.response;
+
+import lombok.Value;
+
+/**
+ * Defines the contract for bidresponse.ext.debug.resourceusage.{bidder}
+ */
+@Value(staticConstructor = "of")
+public class ExtResourceUsage {
+
+    /**
+     * CPU time in nanoseconds spent by bidder on building requests and processing responses
+     */
+    Long cputimens;
+
+    /**
+     * Bytes allocated by bidder while building requests and processing responses
+     */
+    Long allocatedbytes;
+}
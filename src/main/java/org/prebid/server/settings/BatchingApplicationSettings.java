@@ -0,0 +1,380 @@
+package org.prebid.server.settings;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.apache.commons.collections4.CollectionUtils;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.execution.timeout.Timeout;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.settings.helper.AccountsFetcher;
+import org.prebid.server.settings.helper.StoredDataFetcher;
+import org.prebid.server.settings.model.Account;
+import org.prebid.server.settings.model.Profile;
+import org.prebid.server.settings.model.StoredDataResult;
+import org.prebid.server.settings.model.StoredResponseDataResult;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * Decorator of {@link ApplicationSettings} which collects account and stored data lookups issued on the same
+ * event loop during a short window (or until the batch reaches its maximum size) and sends them to the delegate
+ * as a single multi-id lookup, fanning the results back to the waiting callers.
+ * <p>
+ * Accounts are batched only when {@link AccountsFetcher} is given, since not every source can fetch several accounts
+ * at once. Stored data is batched per account and kind of stored data. Lookups made outside of event loop threads
+ * and other methods go straight to the delegate.
+ * <p>
+ * The batched lookup is waiting as long as the most patient caller of the batch can wait, the others are failed
+ * by timeout on their own deadlines.
+ */
+public class BatchingApplicationSettings implements ApplicationSettings {
+
+    private static final Pattern ERROR_WORDS_DELIMITER = Pattern.compile("[\\s,:\\[\\]]+");
+
+    private final ApplicationSettings delegate;
+    private final AccountsFetcher accountsFetcher;
+    private final Vertx vertx;
+    private final long windowMs;
+    private final int maxBatchSize;
+    private final Clock clock;
+    private final Metrics metrics;
+
+    // event loop threads are never shared, so every one of them has its own batches without any synchronization
+    private final ThreadLocal<Batch<String, Account>> accountBatch = new ThreadLocal<>();
+    private final ThreadLocal<Map<StoredDataKind, Map<String, Batch<StoredDataIds, StoredDataResult<String>>>>>
+            storedDataBatches = ThreadLocal.withInitial(() -> new EnumMap<>(StoredDataKind.class));
+
+    public BatchingApplicationSettings(ApplicationSettings delegate,
+                                       AccountsFetcher accountsFetcher,
+                                       Vertx vertx,
+                                       long windowMs,
+                                       int maxBatchSize,
+                                       Clock clock,
+                                       Metrics metrics) {
+
+        if (windowMs <= 0 || maxBatchSize <= 0) {
+            throw new IllegalArgumentException("windowMs and maxBatchSize must be positive");
+        }
+
+        this.delegate = Objects.requireNonNull(delegate);
+        this.accountsFetcher = accountsFetcher;
+        this.vertx = Objects.requireNonNull(vertx);
+        this.windowMs = windowMs;
+        this.maxBatchSize = maxBatchSize;
+        this.clock = Objects.requireNonNull(clock);
+        this.metrics = Objects.requireNonNull(metrics);
+    }
+
+    @Override
+    public Future<Account> getAccountById(String accountId, Timeout timeout) {
+        if (accountsFetcher == null || !Context.isOnEventLoopThread()) {
+            return delegate.getAccountById(accountId, timeout);
+        }
+
+        Batch<String, Account> batch = accountBatch.get();
+        if (batch == null) {
+            batch = new Batch<>(clock.millis());
+            accountBatch.set(batch);
+            scheduleFlush(batch, this::flushAccounts);
+        }
+
+        final Future<Account> result = batch.add(accountId, timeout, Collections.singleton(accountId));
+        if (batch.idsCount() >= maxBatchSize) {
+            flushAccounts(batch);
+        }
+        return result;
+    }
+
+    private void flushAccounts(Batch<String, Account> batch) {
+        if (accountBatch.get() != batch) {
+            return;
+        }
+        accountBatch.remove();
+        if (!onFlush(batch)) {
+            return;
+        }
+
+        final Set<String> accountIds = new HashSet<>();
+        batch.waiters.forEach(waiter -> accountIds.add(waiter.request()));
+
+        accountsFetcher.apply(accountIds, batch.timeout)
+                .onComplete(result -> batch.complete(result, BatchingApplicationSettings::findAccount));
+    }
+
+    private static Account findAccount(String accountId, Set<Account> accounts) {
+        for (Account account : accounts) {
+            if (Objects.equals(account.getId(), accountId)) {
+                return account;
+            }
+        }
+        throw new PreBidException("Account with id : %s not found".formatted(accountId));
+    }
+
+    @Override
+    public Future<StoredDataResult<String>> getStoredData(String accountId,
+                                                          Set<String> requestIds,
+                                                          Set<String> impIds,
+                                                          Timeout timeout) {
+
+        return getStoredDataBatched(StoredDataKind.DEFAULT, accountId, requestIds, impIds, timeout);
+    }
+
+    @Override
+    public Future<StoredDataResult<String>> getAmpStoredData(String accountId,
+                                                             Set<String> requestIds,
+                                                             Set<String> impIds,
+                                                             Timeout timeout) {
+
+        return getStoredDataBatched(StoredDataKind.AMP, accountId, requestIds, impIds, timeout);
+    }
+
+    @Override
+    public Future<StoredDataResult<String>> getVideoStoredData(String accountId,
+                                                               Set<String> requestIds,
+                                                               Set<String> impIds,
+                                                               Timeout timeout) {
+
+        return getStoredDataBatched(StoredDataKind.VIDEO, accountId, requestIds, impIds, timeout);
+    }
+
+    private Future<StoredDataResult<String>> getStoredDataBatched(StoredDataKind kind,
+                                                                  String accountId,
+                                                                  Set<String> requestIds,
+                                                                  Set<String> impIds,
+                                                                  Timeout timeout) {
+
+        if ((CollectionUtils.isEmpty(requestIds) && CollectionUtils.isEmpty(impIds))
+                || !Context.isOnEventLoopThread()) {
+            return fetcher(kind).apply(accountId, requestIds, impIds, timeout);
+        }
+
+        // null account id is a valid key too, it means stored data not bound to any account
+        final Map<String, Batch<StoredDataIds, StoredDataResult<String>>> kindBatches =
+                storedDataBatches.get().computeIfAbsent(kind, key -> new HashMap<>());
+
+        Batch<StoredDataIds, StoredDataResult<String>> batch = kindBatches.get(accountId);
+        if (batch == null) {
+            batch = new Batch<>(clock.millis());
+            kindBatches.put(accountId, batch);
+            scheduleFlush(batch, scheduledBatch -> flushStoredData(kind, accountId, scheduledBatch));
+        }
+
+        final Set<String> safeRequestIds = CollectionUtils.isEmpty(requestIds) ? Collections.emptySet() : requestIds;
+        final Set<String> safeImpIds = CollectionUtils.isEmpty(impIds) ? Collections.emptySet() : impIds;
+        final Set<String> allIds = new HashSet<>(safeRequestIds);
+        allIds.addAll(safeImpIds);
+
+        final Future<StoredDataResult<String>> result =
+                batch.add(new StoredDataIds(safeRequestIds, safeImpIds), timeout, allIds);
+        if (batch.idsCount() >= maxBatchSize) {
+            flushStoredData(kind, accountId, batch);
+        }
+        return result;
+    }
+
+    private void flushStoredData(StoredDataKind kind,
+                                 String accountId,
+                                 Batch<StoredDataIds, StoredDataResult<String>> batch) {
+
+        final Map<String, Batch<StoredDataIds, StoredDataResult<String>>> kindBatches =
+                storedDataBatches.get().get(kind);
+        if (kindBatches == null || kindBatches.get(accountId) != batch) {
+            return;
+        }
+        kindBatches.remove(accountId);
+        if (!onFlush(batch)) {
+            return;
+        }
+
+        final Set<String> requestIds = new HashSet<>();
+        final Set<String> impIds = new HashSet<>();
+        for (Waiter<StoredDataIds, StoredDataResult<String>> waiter : batch.waiters) {
+            requestIds.addAll(waiter.request().requestIds());
+            impIds.addAll(waiter.request().impIds());
+        }
+
+        fetcher(kind).apply(accountId, requestIds, impIds, batch.timeout)
+                .onComplete(result -> batch.complete(result, BatchingApplicationSettings::storedDataResultFor));
+    }
+
+    /**
+     * Cuts the result of the whole batch down to the ids requested by single caller.
+     * <p>
+     * Error messages are formatted by the delegate and cannot be split reliably, so the caller gets the ones
+     * mentioning any of its missing ids as a separate word, or all of them if none does.
+     */
+    private static StoredDataResult<String> storedDataResultFor(StoredDataIds ids, StoredDataResult<String> result) {
+        final Set<String> missedIds = new HashSet<>();
+        final Map<String, String> storedIdToRequest =
+                filterByIds(result.getStoredIdToRequest(), ids.requestIds(), missedIds);
+        final Map<String, String> storedIdToImp = filterByIds(result.getStoredIdToImp(), ids.impIds(), missedIds);
+
+        if (missedIds.isEmpty() || CollectionUtils.isEmpty(result.getErrors())) {
+            return StoredDataResult.of(storedIdToRequest, storedIdToImp, Collections.emptyList());
+        }
+
+        final List<String> errors = result.getErrors().stream()
+                .filter(error -> mentionsAnyOf(error, missedIds))
+                .toList();
+
+        return StoredDataResult.of(storedIdToRequest, storedIdToImp, errors.isEmpty() ? result.getErrors() : errors);
+    }
+
+    private static boolean mentionsAnyOf(String error, Set<String> ids) {
+        for (String word : ERROR_WORDS_DELIMITER.split(error)) {
+            if (ids.contains(word)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Map<String, String> filterByIds(Map<String, String> idToData,
+                                                   Set<String> ids,
+                                                   Set<String> missedIds) {
+
+        final Map<String, String> result = new HashMap<>(ids.size());
+        for (String id : ids) {
+            final String data = idToData != null ? idToData.get(id) : null;
+            if (data != null) {
+                result.put(id, data);
+            } else {
+                missedIds.add(id);
+            }
+        }
+        return result;
+    }
+
+    private StoredDataFetcher<String> fetcher(StoredDataKind kind) {
+        return switch (kind) {
+            case DEFAULT -> delegate::getStoredData;
+            case AMP -> delegate::getAmpStoredData;
+            case VIDEO -> delegate::getVideoStoredData;
+        };
+    }
+
+    private <T extends Batch<?, ?>> void scheduleFlush(T batch, Consumer<T> flusher) {
+        vertx.setTimer(windowMs, ignored -> flusher.accept(batch));
+    }
+
+    /**
+     * Reports the batch and arms timers for callers who can't wait as long as the batch is going to.
+     * Returns false if there is no time left for the lookup at all.
+     */
+    private boolean onFlush(Batch<?, ?> batch) {
+        metrics.updateSettingsBatchSizeMetric(batch.idsCount());
+        metrics.updateSettingsBatchWaitMetric(clock.millis() - batch.startedAt);
+
+        final long timeoutMs = batch.timeout.remaining();
+        if (timeoutMs <= 0) {
+            batch.waiters.forEach(waiter -> waiter.promise().tryFail(timeoutException()));
+            return false;
+        }
+
+        for (Waiter<?, ?> waiter : batch.waiters) {
+            final long waiterTimeoutMs = waiter.timeout().remaining();
+            if (waiterTimeoutMs <= 0) {
+                waiter.promise().tryFail(timeoutException());
+            } else if (waiterTimeoutMs < timeoutMs) {
+                final long timerId = vertx.setTimer(
+                        waiterTimeoutMs, ignored -> waiter.promise().tryFail(timeoutException()));
+                waiter.promise().future().onComplete(ignored -> vertx.cancelTimer(timerId));
+            }
+        }
+        return true;
+    }
+
+    private static TimeoutException timeoutException() {
+        return new TimeoutException("Timeout has been exceeded");
+    }
+
+    @Override
+    public Future<StoredDataResult<Profile>> getProfiles(String accountId,
+                                                         Set<String> requestIds,
+                                                         Set<String> impIds,
+                                                         Timeout timeout) {
+
+        return delegate.getProfiles(accountId, requestIds, impIds, timeout);
+    }
+
+    @Override
+    public Future<StoredResponseDataResult> getStoredResponses(Set<String> responseIds, Timeout timeout) {
+        return delegate.getStoredResponses(responseIds, timeout);
+    }
+
+    @Override
+    public Future<Map<String, String>> getCategories(String primaryAdServer, String publisher, Timeout timeout) {
+        return delegate.getCategories(primaryAdServer, publisher, timeout);
+    }
+
+    private enum StoredDataKind {
+
+        DEFAULT, AMP, VIDEO
+    }
+
+    private record StoredDataIds(Set<String> requestIds, Set<String> impIds) {
+    }
+
+    private record Waiter<R, T>(R request, Timeout timeout, Promise<T> promise) {
+    }
+
+    /**
+     * Lookups collected on one event loop. The batch is waiting as long as its most patient caller can wait.
+     */
+    private static class Batch<R, T> {
+
+        private final long startedAt;
+        private final List<Waiter<R, T>> waiters = new ArrayList<>();
+        private final Set<String> ids = new HashSet<>();
+        private Timeout timeout;
+
+        Batch(long startedAt) {
+            this.startedAt = startedAt;
+        }
+
+        Future<T> add(R request, Timeout requestTimeout, Set<String> requestIds) {
+            final Promise<T> promise = Promise.promise();
+            waiters.add(new Waiter<>(request, requestTimeout, promise));
+            ids.addAll(requestIds);
+            if (timeout == null || requestTimeout.remaining() > timeout.remaining()) {
+                timeout = requestTimeout;
+            }
+            return promise.future();
+        }
+
+        int idsCount() {
+            return ids.size();
+        }
+
+        <B> void complete(AsyncResult<B> result, BiFunction<R, B, T> resultForRequest) {
+            for (Waiter<R, T> waiter : waiters) {
+                if (result.failed()) {
+                    waiter.promise().tryFail(result.cause());
+                    continue;
+                }
+
+                try {
+                    waiter.promise().tryComplete(resultForRequest.apply(waiter.request(), result.result()));
+                } catch (RuntimeException e) {
+                    waiter.promise().tryFail(e);
+                }
+            }
+        }
+    }
+}
@@ -2,12 +2,15 @@ package org.prebid.server.settings;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.FileProps;
 import io.vertx.core.file.FileSystem;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.SetUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.auction.model.Tuple2;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.execution.timeout.Timeout;
 import org.prebid.server.json.DecodeException;
@@ -26,6 +29,7 @@ import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -42,6 +46,12 @@ import java.util.stream.Stream;
  * <p>
  * Immediately loads stored request data from local files. These are stored in memory for low-latency reads.
  * This expects each file in the directory to be named "{config_id}.json".
+ * <p>
+ * In lazy mode only the index of stored request, imp and response files is kept in memory, and the files are read
+ * on demand, leaving caching of their content to the operating system page cache and the in-memory settings cache.
+ * <p>
+ * If changes are tracked, {@link #reload()} re-reads only the files modified since the previous read and replaces
+ * affected data at once, so readers never see partially applied changes.
  */
 public class FileApplicationSettings implements ApplicationSettings {
 
@@ -50,12 +60,26 @@ public class FileApplicationSettings implements ApplicationSettings {
             };
     private static final String JSON_SUFFIX = ".json";
 
-    private final Map<String, Account> accounts;
-    private final Map<String, String> storedIdToRequest;
-    private final Map<String, String> storedIdToImp;
-    private final Map<String, Set<StoredItem<Profile>>> profileIdToProfile;
-    private final Map<String, String> storedIdToSeatBid;
-    private final Map<String, Map<String, Category>> fileToCategories;
+    private final FileSystem fileSystem;
+    private final String settingsFileName;
+    private final String profilesDir;
+    private final String categoriesDir;
+    private final boolean trackChanges;
+    private final JacksonMapper jacksonMapper;
+
+    private final StoredDataFiles storedRequests;
+    private final StoredDataFiles storedImps;
+    private final StoredDataFiles storedResponses;
+
+    // replaced as a whole on reload
+    private volatile Map<String, Account> accounts;
+    private volatile Map<String, Set<StoredItem<Profile>>> profileIdToProfile;
+    private volatile Map<String, Map<String, Category>> fileToCategories;
+
+    // accessed only under reload lock
+    private Map<String, FileVersion> settingsFileVersion;
+    private Map<String, FileVersion> profilesVersions;
+    private Map<String, FileVersion> categoriesVersions;
 
     public FileApplicationSettings(FileSystem fileSystem,
                                    String settingsFileName,
@@ -64,24 +88,104 @@ public class FileApplicationSettings implements ApplicationSettings {
                                    String profilesDir,
                                    String storedResponsesDir,
                                    String categoriesDir,
+                                   boolean lazyStoredData,
+                                   boolean trackChanges,
                                    JacksonMapper jacksonMapper) {
 
-        final SettingsFile settingsFile = readSettingsFile(
-                Objects.requireNonNull(fileSystem),
-                Objects.requireNonNull(settingsFileName));
+        this.fileSystem = Objects.requireNonNull(fileSystem);
+        this.settingsFileName = Objects.requireNonNull(settingsFileName);
+        this.profilesDir = profilesDir; // TODO: require in PBS 4.0
+        this.categoriesDir = Objects.requireNonNull(categoriesDir);
+        this.trackChanges = trackChanges;
+        this.jacksonMapper = jacksonMapper;
 
-        accounts = toMap(
-                settingsFile.getAccounts(),
-                Account::getId,
-                Function.identity());
+        settingsFileVersion = trackChanges ? readVersion(fileSystem, settingsFileName) : null;
+        accounts = readAccounts(fileSystem, settingsFileName);
 
-        storedIdToRequest = readStoredData(fileSystem, Objects.requireNonNull(storedRequestsDir));
-        storedIdToImp = readStoredData(fileSystem, Objects.requireNonNull(storedImpsDir));
-        profileIdToProfile = profilesDir != null // TODO: require in PBS 4.0
-                ? readProfiles(fileSystem, Objects.requireNonNull(profilesDir), jacksonMapper)
+        storedRequests = new StoredDataFiles(fileSystem, Objects.requireNonNull(storedRequestsDir), lazyStoredData);
+        storedImps = new StoredDataFiles(fileSystem, Objects.requireNonNull(storedImpsDir), lazyStoredData);
+        storedResponses = new StoredDataFiles(fileSystem, Objects.requireNonNull(storedResponsesDir), lazyStoredData);
+
+        storedRequests.load(trackChanges);
+        storedImps.load(trackChanges);
+
+        profilesVersions = trackChanges && profilesDir != null ? readVersions(fileSystem, profilesDir) : null;
+        profileIdToProfile = profilesDir != null
+                ? readProfiles(fileSystem, profilesDir, jacksonMapper)
                 : Collections.emptyMap();
-        storedIdToSeatBid = readStoredData(fileSystem, Objects.requireNonNull(storedResponsesDir));
-        fileToCategories = readCategories(fileSystem, Objects.requireNonNull(categoriesDir), jacksonMapper);
+
+        storedResponses.load(trackChanges);
+
+        categoriesVersions = trackChanges ? readVersions(fileSystem, categoriesDir) : null;
+        fileToCategories = readCategories(fileSystem, categoriesDir, jacksonMapper);
+    }
+
+    /**
+     * Re-reads settings files changed since the previous read (or reload) and returns ids of the accounts, profiles
+     * and stored data that were changed or deleted. Should be called only if changes are tracked, from a thread
+     * that is allowed to block.
+     */
+    public synchronized ReloadResult reload() {
+        if (!trackChanges) {
+            throw new IllegalStateException("Changes of file settings are not tracked");
+        }
+
+        final Map<String, FileVersion> newSettingsFileVersion = readVersion(fileSystem, settingsFileName);
+        List<String> changedAccountIds = Collections.emptyList();
+        if (!newSettingsFileVersion.equals(settingsFileVersion)) {
+            final Map<String, Account> newAccounts = readAccounts(fileSystem, settingsFileName);
+            changedAccountIds = changedKeys(accounts, newAccounts);
+            accounts = newAccounts;
+            settingsFileVersion = newSettingsFileVersion;
+        }
+
+        List<String> changedProfileIds = Collections.emptyList();
+        if (profilesDir != null) {
+            final Map<String, FileVersion> newProfilesVersions = readVersions(fileSystem, profilesDir);
+            if (!newProfilesVersions.equals(profilesVersions)) {
+                final Map<String, Set<StoredItem<Profile>>> newProfileIdToProfile =
+                        readProfiles(fileSystem, profilesDir, jacksonMapper);
+                changedProfileIds = changedKeys(profileIdToProfile, newProfileIdToProfile);
+                profileIdToProfile = newProfileIdToProfile;
+                profilesVersions = newProfilesVersions;
+            }
+        }
+
+        final Map<String, FileVersion> newCategoriesVersions = readVersions(fileSystem, categoriesDir);
+        if (!newCategoriesVersions.equals(categoriesVersions)) {
+            fileToCategories = readCategories(fileSystem, categoriesDir, jacksonMapper);
+            categoriesVersions = newCategoriesVersions;
+        }
+
+        final Map<StoredDataType, List<String>> changedIds = new EnumMap<>(StoredDataType.class);
+        changedIds.put(StoredDataType.request, storedRequests.reload());
+        changedIds.put(StoredDataType.imp, storedImps.reload());
+        changedIds.put(StoredDataType.seatbid, storedResponses.reload());
+        return new ReloadResult(changedAccountIds, changedProfileIds, changedIds);
+    }
+
+    private static <T> List<String> changedKeys(Map<String, T> oldMap, Map<String, T> newMap) {
+        return Stream.concat(oldMap.keySet().stream(), newMap.keySet().stream())
+                .distinct()
+                .filter(key -> !Objects.equals(oldMap.get(key), newMap.get(key)))
+                .toList();
+    }
+
+    private static Map<String, FileVersion> readVersion(FileSystem fileSystem, String filepath) {
+        return Collections.singletonMap(filepath, FileVersion.of(fileSystem.propsBlocking(filepath)));
+    }
+
+    private static Map<String, FileVersion> readVersions(FileSystem fileSystem, String dir) {
+        return fileSystem.readDirBlocking(dir).stream()
+                .filter(filepath -> filepath.endsWith(JSON_SUFFIX))
+                .collect(Collectors.toMap(
+                        Function.identity(),
+                        filepath -> FileVersion.of(fileSystem.propsBlocking(filepath))));
+    }
+
+    private static Map<String, Account> readAccounts(FileSystem fileSystem, String settingsFileName) {
+        final SettingsFile settingsFile = readSettingsFile(fileSystem, settingsFileName);
+        return toMap(settingsFile.getAccounts(), Account::getId, Function.identity());
     }
 
     private static SettingsFile readSettingsFile(FileSystem fileSystem, String fileName) {
@@ -99,12 +203,8 @@ public class FileApplicationSettings implements ApplicationSettings {
                 : Collections.emptyMap();
     }
 
-    private static Map<String, String> readStoredData(FileSystem fileSystem, String dir) {
-        return fileSystem.readDirBlocking(dir).stream()
-                .filter(filepath -> filepath.endsWith(JSON_SUFFIX))
-                .collect(Collectors.toMap(
-                        filepath -> StringUtils.removeEnd(new File(filepath).getName(), JSON_SUFFIX),
-                        filepath -> fileSystem.readFileBlocking(filepath).toString()));
+    private static String storedDataId(String filepath) {
+        return StringUtils.removeEnd(new File(filepath).getName(), JSON_SUFFIX);
     }
 
     private static Map<String, Set<StoredItem<Profile>>> readProfiles(FileSystem fileSystem,
@@ -123,7 +223,7 @@ public class FileApplicationSettings implements ApplicationSettings {
                                                                       String profileFilePath,
                                                                       JacksonMapper jacksonMapper) {
 
-        final String profileFileName = StringUtils.removeEnd(new File(profileFilePath).getName(), JSON_SUFFIX);
+        final String profileFileName = storedDataId(profileFilePath);
         final String[] accountIdAndProfileId = profileFileName.split("-");
         if (accountIdAndProfileId.length != 2) {
             throw new IllegalArgumentException("Invalid name of profile file: " + profileFileName);
@@ -142,7 +242,7 @@ public class FileApplicationSettings implements ApplicationSettings {
         return fileSystem.readDirBlocking(dir).stream()
                 .filter(filepath -> filepath.endsWith(JSON_SUFFIX))
                 .collect(Collectors.toMap(
-                        filepath -> StringUtils.removeEnd(new File(filepath).getName(), JSON_SUFFIX),
+                        FileApplicationSettings::storedDataId,
                         filepath -> parseCategories(filepath, fileSystem.readFileBlocking(filepath), jacksonMapper)));
     }
 
@@ -178,16 +278,24 @@ public class FileApplicationSettings implements ApplicationSettings {
                     Collections.emptyList()));
         }
 
-        final Map<String, String> storedRequests = existingStoredIdToJson(requestIds, storedIdToRequest);
-        final Map<String, String> storedImps = existingStoredIdToJson(impIds, storedIdToImp);
+        return Future.all(storedRequests.read(requestIds), storedImps.read(impIds))
+                .map(results -> toStoredDataResult(requestIds, impIds, results));
+    }
 
-        return Future.succeededFuture(StoredDataResult.of(
-                storedRequests,
-                storedImps,
+    private static StoredDataResult<String> toStoredDataResult(Set<String> requestIds,
+                                                               Set<String> impIds,
+                                                               CompositeFuture results) {
+
+        final Map<String, String> foundRequests = results.resultAt(0);
+        final Map<String, String> foundImps = results.resultAt(1);
+
+        return StoredDataResult.of(
+                foundRequests,
+                foundImps,
                 Stream.concat(
-                                errorsForMissedIds(requestIds, storedRequests.keySet(), StoredDataType.request.name()),
-                                errorsForMissedIds(impIds, storedImps.keySet(), StoredDataType.imp.name()))
-                        .toList()));
+                                errorsForMissedIds(requestIds, foundRequests.keySet(), StoredDataType.request.name()),
+                                errorsForMissedIds(impIds, foundImps.keySet(), StoredDataType.imp.name()))
+                        .toList());
     }
 
     @Override
@@ -271,11 +379,11 @@ public class FileApplicationSettings implements ApplicationSettings {
             return Future.succeededFuture(StoredResponseDataResult.of(Collections.emptyMap(), Collections.emptyList()));
         }
 
-        final Map<String, String> storedResponses = existingStoredIdToJson(responseIds, storedIdToSeatBid);
-
-        return Future.succeededFuture(StoredResponseDataResult.of(
-                storedResponses,
-                errorsForMissedIds(responseIds, storedResponses.keySet(), StoredDataType.seatbid.name()).toList()));
+        return storedResponses.read(responseIds)
+                .map(foundResponses -> StoredResponseDataResult.of(
+                        foundResponses,
+                        errorsForMissedIds(responseIds, foundResponses.keySet(), StoredDataType.seatbid.name())
+                                .toList()));
     }
 
     @Override
@@ -299,16 +407,113 @@ public class FileApplicationSettings implements ApplicationSettings {
                         catToCategory -> catToCategory.getValue().getId()));
     }
 
-    private static Map<String, String> existingStoredIdToJson(Set<String> requestedIds,
-                                                              Map<String, String> storedIdToJson) {
-
-        return requestedIds.stream()
-                .filter(storedIdToJson::containsKey)
-                .collect(Collectors.toMap(Function.identity(), storedIdToJson::get));
-    }
-
     private static Stream<String> errorsForMissedIds(Set<String> requestedIds, Set<String> foundIds, String type) {
         return SetUtils.difference(requestedIds, foundIds).stream()
                 .map(id -> "No stored %s found for id: %s".formatted(type, id));
     }
+
+    /**
+     * Ids of the accounts, profiles and stored data (grouped by its type) changed or deleted by {@link #reload()}.
+     */
+    public record ReloadResult(List<String> accountIds,
+                               List<String> profileIds,
+                               Map<StoredDataType, List<String>> storedDataIds) {
+    }
+
+    private record FileVersion(long lastModifiedTime, long size) {
+
+        static FileVersion of(FileProps props) {
+            return new FileVersion(props.lastModifiedTime(), props.size());
+        }
+    }
+
+    /**
+     * Stored data of a single directory, where every "{id}.json" file holds data with such id.
+     */
+    private static class StoredDataFiles {
+
+        private final FileSystem fileSystem;
+        private final String dir;
+        private final boolean lazy;
+
+        // content of the file, or its path in lazy mode, replaced as a whole on reload
+        private volatile Map<String, String> idToData = Collections.emptyMap();
+        private Map<String, FileVersion> versions = Collections.emptyMap();
+
+        StoredDataFiles(FileSystem fileSystem, String dir, boolean lazy) {
+            this.fileSystem = fileSystem;
+            this.dir = dir;
+            this.lazy = lazy;
+        }
+
+        void load(boolean trackChanges) {
+            if (trackChanges) {
+                reload();
+                return;
+            }
+
+            idToData = fileSystem.readDirBlocking(dir).stream()
+                    .filter(filepath -> filepath.endsWith(JSON_SUFFIX))
+                    .collect(Collectors.toMap(FileApplicationSettings::storedDataId, this::readData));
+        }
+
+        /**
+         * Reads files changed since the previous reload and returns ids of changed and deleted ones.
+         */
+        List<String> reload() {
+            final Map<String, FileVersion> newVersions = readVersions(fileSystem, dir);
+            final Map<String, String> newIdToData = new HashMap<>(idToData);
+            final List<String> changedIds = new ArrayList<>();
+
+            newVersions.forEach((filepath, version) -> {
+                if (!version.equals(versions.get(filepath))) {
+                    final String id = storedDataId(filepath);
+                    newIdToData.put(id, readData(filepath));
+                    changedIds.add(id);
+                }
+            });
+            versions.keySet().stream()
+                    .filter(filepath -> !newVersions.containsKey(filepath))
+                    .map(FileApplicationSettings::storedDataId)
+                    .forEach(id -> {
+                        newIdToData.remove(id);
+                        changedIds.add(id);
+                    });
+
+            idToData = newIdToData;
+            versions = newVersions;
+            return changedIds;
+        }
+
+        private String readData(String filepath) {
+            return lazy ? filepath : fileSystem.readFileBlocking(filepath).toString();
+        }
+
+        Future<Map<String, String>> read(Set<String> ids) {
+            if (CollectionUtils.isEmpty(ids)) {
+                return Future.succeededFuture(Collections.emptyMap());
+            }
+
+            final Map<String, String> currentIdToData = idToData;
+            if (!lazy) {
+                return Future.succeededFuture(ids.stream()
+                        .filter(currentIdToData::containsKey)
+                        .collect(Collectors.toMap(Function.identity(), currentIdToData::get)));
+            }
+
+            final List<Future<Tuple2<String, String>>> files = ids.stream()
+                    .filter(currentIdToData::containsKey)
+                    .map(id -> fileSystem.readFile(currentIdToData.get(id))
+                            .map(content -> Tuple2.of(id, content.toString()))
+                            // file could be deleted since the last reload
+                            .otherwiseEmpty())
+                    .toList();
+
+            return Future.all(files)
+                    .map(CompositeFuture::<Tuple2<String, String>>list)
+                    .map(idToContent -> idToContent.stream()
+                            .filter(Objects::nonNull)
+                            .collect(Collectors.toMap(Tuple2::getLeft, Tuple2::getRight)));
+        }
+    }
 }
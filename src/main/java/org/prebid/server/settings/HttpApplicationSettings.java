@@ -105,14 +105,17 @@ public class HttpApplicationSettings implements ApplicationSettings {
 
     @Override
     public Future<Account> getAccountById(String accountId, Timeout timeout) {
-        return fetchAccountsByIds(Collections.singleton(accountId), timeout)
+        return getAccountsByIds(Collections.singleton(accountId), timeout)
                 .map(accounts -> accounts.stream()
                         .findFirst()
                         .orElseThrow(() ->
                                 new PreBidException("Account with id : %s not found".formatted(accountId))));
     }
 
-    private Future<Set<Account>> fetchAccountsByIds(Set<String> accountIds, Timeout timeout) {
+    /**
+     * Fetches several accounts with a single HTTP call. Accounts which were not found are absent in the result.
+     */
+    public Future<Set<Account>> getAccountsByIds(Set<String> accountIds, Timeout timeout) {
         if (CollectionUtils.isEmpty(accountIds)) {
             return Future.succeededFuture(Collections.emptySet());
         }
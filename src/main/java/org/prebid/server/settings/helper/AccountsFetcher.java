@@ -0,0 +1,13 @@
+package org.prebid.server.settings.helper;
+
+import io.vertx.core.Future;
+import org.prebid.server.execution.timeout.Timeout;
+import org.prebid.server.settings.model.Account;
+
+import java.util.Set;
+
+@FunctionalInterface
+public interface AccountsFetcher {
+
+    Future<Set<Account>> apply(Set<String> accountIds, Timeout timeout);
+}
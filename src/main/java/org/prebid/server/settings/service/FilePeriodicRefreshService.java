@@ -0,0 +1,128 @@
+package org.prebid.server.settings.service;
+
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.prebid.server.execution.blocking.BlockingExecutor;
+import org.prebid.server.log.Logger;
+import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.settings.CacheNotificationListener;
+import org.prebid.server.settings.CachingApplicationSettings;
+import org.prebid.server.settings.FileApplicationSettings;
+import org.prebid.server.settings.model.Profile;
+import org.prebid.server.settings.model.StoredDataType;
+import org.prebid.server.vertx.Initializable;
+
+import java.time.Clock;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * <p>
+ * Service that periodically polls settings files for changes.
+ * If refreshRate is negative, then the data will never be refreshed.
+ * <p>
+ * Changed files are re-read by {@link FileApplicationSettings} on a blocking executor. Changed or deleted stored
+ * requests and imps are invalidated in all stored data caches (auction, AMP and video), changed profiles in the
+ * profile cache and changed accounts in the {@link CachingApplicationSettings} (if any), so the next lookup gets
+ * them from the files. Stored responses need no invalidation, since they are not cached by their ids.
+ * <p>
+ * A poll that fires while the previous one is still running is skipped.
+ */
+public class FilePeriodicRefreshService implements Initializable {
+
+    private static final Logger logger = LoggerFactory.getLogger(FilePeriodicRefreshService.class);
+
+    private final FileApplicationSettings fileApplicationSettings;
+    private final long refreshPeriod;
+    private final List<CacheNotificationListener<String>> storedDataCacheListeners;
+    private final CacheNotificationListener<Profile> profileCacheListener;
+    private final CachingApplicationSettings cachingApplicationSettings;
+    private final MetricName cacheType;
+    private final Clock clock;
+    private final Metrics metrics;
+    private final Vertx vertx;
+    private final BlockingExecutor blockingExecutor;
+
+    private final AtomicBoolean refreshInProgress = new AtomicBoolean();
+
+    public FilePeriodicRefreshService(FileApplicationSettings fileApplicationSettings,
+                                      long refreshPeriod,
+                                      List<CacheNotificationListener<String>> storedDataCacheListeners,
+                                      CacheNotificationListener<Profile> profileCacheListener,
+                                      CachingApplicationSettings cachingApplicationSettings,
+                                      MetricName cacheType,
+                                      Clock clock,
+                                      Metrics metrics,
+                                      Vertx vertx,
+                                      BlockingExecutor blockingExecutor) {
+
+        this.fileApplicationSettings = Objects.requireNonNull(fileApplicationSettings);
+        this.refreshPeriod = refreshPeriod;
+        this.storedDataCacheListeners = Objects.requireNonNull(storedDataCacheListeners);
+        this.profileCacheListener = profileCacheListener;
+        this.cachingApplicationSettings = cachingApplicationSettings;
+        this.cacheType = Objects.requireNonNull(cacheType);
+        this.clock = Objects.requireNonNull(clock);
+        this.metrics = Objects.requireNonNull(metrics);
+        this.vertx = Objects.requireNonNull(vertx);
+        this.blockingExecutor = Objects.requireNonNull(blockingExecutor);
+    }
+
+    @Override
+    public void initialize(Promise<Void> initializePromise) {
+        // files are already read on creation of the settings
+        if (refreshPeriod > 0) {
+            logger.info("Starting file settings periodic refresh every " + refreshPeriod + " ms");
+            vertx.setPeriodic(refreshPeriod, ignored -> refresh());
+        }
+
+        initializePromise.tryComplete();
+    }
+
+    private void refresh() {
+        if (!refreshInProgress.compareAndSet(false, true)) {
+            logger.warn("Skipping file settings refresh, previous one is still in progress");
+            return;
+        }
+
+        final long startTime = clock.millis();
+
+        blockingExecutor.execute(fileApplicationSettings::reload)
+                .onSuccess(reloadResult -> handleResult(reloadResult, startTime))
+                .onFailure(exception -> handleFailure(exception, startTime))
+                .onComplete(ignored -> refreshInProgress.set(false));
+    }
+
+    private void handleResult(FileApplicationSettings.ReloadResult reloadResult, long startTime) {
+        final Map<StoredDataType, List<String>> storedDataIds = reloadResult.storedDataIds();
+        final List<String> requestIds = storedDataIds.getOrDefault(StoredDataType.request, Collections.emptyList());
+        final List<String> impIds = storedDataIds.getOrDefault(StoredDataType.imp, Collections.emptyList());
+        if (!requestIds.isEmpty() || !impIds.isEmpty()) {
+            storedDataCacheListeners.forEach(listener -> listener.invalidate(requestIds, impIds));
+        }
+
+        // profile ids are shared by request and imp profiles
+        final List<String> profileIds = reloadResult.profileIds();
+        if (profileCacheListener != null && !profileIds.isEmpty()) {
+            profileCacheListener.invalidate(profileIds, profileIds);
+        }
+
+        if (cachingApplicationSettings != null) {
+            reloadResult.accountIds().forEach(cachingApplicationSettings::invalidateAccountCache);
+        }
+
+        metrics.updateSettingsCacheRefreshTime(cacheType, MetricName.update, clock.millis() - startTime);
+    }
+
+    private void handleFailure(Throwable exception, long startTime) {
+        logger.warn("Error occurred while refreshing file settings", exception);
+
+        metrics.updateSettingsCacheRefreshTime(cacheType, MetricName.update, clock.millis() - startTime);
+        metrics.updateSettingsCacheRefreshErrorMetric(cacheType, MetricName.update);
+    }
+}
@@ -1,16 +1,16 @@
 package org.prebid.server.settings.service;
 
-import io.vertx.core.CompositeFuture;
+import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import lombok.Value;
 import org.prebid.server.auction.model.Tuple2;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.settings.CacheNotificationListener;
-import org.prebid.server.settings.model.StoredDataResult;
 import org.prebid.server.vertx.Initializable;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
@@ -18,19 +18,30 @@ import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.ListObjectsRequest;
 import software.amazon.awssdk.services.s3.model.S3Object;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Clock;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * <p>
  * Service that periodically calls s3 for stored request updates.
  * If refreshRate is negative, then the data will never be refreshed.
  * <p>
- * Fetches all files from the specified folders/prefixes in s3 and downloads all files.
+ * Lists all files from the specified folders/prefixes in s3 and downloads them, at most maxConcurrentDownloads
+ * at a time. In incremental mode the version (ETag or, if missing, last modification time) of every listed file
+ * is remembered, so subsequent refreshes download only new and changed files and invalidate the deleted ones.
+ * Unchanged files are not saved to the cache again, so every fullRefreshPeriod all files are downloaded anyway
+ * to restore the entries expired or evicted from the cache meanwhile.
+ * <p>
+ * A refresh is skipped if the previous one is still in progress.
  */
 public class S3PeriodicRefreshService implements Initializable {
 
@@ -43,28 +54,48 @@ public class S3PeriodicRefreshService implements Initializable {
     private final String storedRequestsDirectory;
     private final String storedImpressionsDirectory;
     private final long refreshPeriod;
+    private final boolean incremental;
+    private final long fullRefreshPeriod;
+    private final int maxConcurrentDownloads;
     private final CacheNotificationListener<String> cacheNotificationListener;
     private final MetricName cacheType;
     private final Clock clock;
     private final Metrics metrics;
     private final Vertx vertx;
 
+    private final AtomicBoolean refreshInProgress = new AtomicBoolean();
+
+    // file key to its version as of the last successful refresh, replaced as a whole
+    private volatile Map<String, String> storedRequestVersions = Collections.emptyMap();
+    private volatile Map<String, String> storedImpressionVersions = Collections.emptyMap();
+    private volatile long lastFullRefreshTime = -1L;
+
     public S3PeriodicRefreshService(S3AsyncClient asyncClient,
                                     String bucket,
                                     String storedRequestsDirectory,
                                     String storedImpressionsDirectory,
                                     long refreshPeriod,
+                                    boolean incremental,
+                                    long fullRefreshPeriod,
+                                    int maxConcurrentDownloads,
                                     CacheNotificationListener<String> cacheNotificationListener,
                                     MetricName cacheType,
                                     Clock clock,
                                     Metrics metrics,
                                     Vertx vertx) {
 
+        if (maxConcurrentDownloads <= 0) {
+            throw new IllegalArgumentException("maxConcurrentDownloads must be positive");
+        }
+
         this.asyncClient = Objects.requireNonNull(asyncClient);
         this.bucket = Objects.requireNonNull(bucket);
         this.storedRequestsDirectory = Objects.requireNonNull(storedRequestsDirectory);
         this.storedImpressionsDirectory = Objects.requireNonNull(storedImpressionsDirectory);
         this.refreshPeriod = refreshPeriod;
+        this.incremental = incremental;
+        this.fullRefreshPeriod = fullRefreshPeriod;
+        this.maxConcurrentDownloads = maxConcurrentDownloads;
         this.cacheNotificationListener = Objects.requireNonNull(cacheNotificationListener);
         this.cacheType = Objects.requireNonNull(cacheType);
         this.clock = Objects.requireNonNull(clock);
@@ -74,56 +105,124 @@ public class S3PeriodicRefreshService implements Initializable {
 
     @Override
     public void initialize(Promise<Void> initializePromise) {
-        fetchStoredDataResult(clock.millis(), MetricName.initialize)
-                .<Void>mapEmpty()
-                .onComplete(initializePromise);
+        refresh(clock.millis(), MetricName.initialize).onComplete(initializePromise);
 
         if (refreshPeriod > 0) {
             logger.info("Starting s3 periodic refresh for " + cacheType + " every " + refreshPeriod + " s");
-            vertx.setPeriodic(refreshPeriod, ignored -> fetchStoredDataResult(clock.millis(), MetricName.update));
+            vertx.setPeriodic(refreshPeriod, ignored -> refresh(clock.millis(), MetricName.update));
         }
     }
 
-    private Future<StoredDataResult<String>> fetchStoredDataResult(long startTime, MetricName metricName) {
+    private Future<Void> refresh(long startTime, MetricName refreshType) {
+        if (!refreshInProgress.compareAndSet(false, true)) {
+            logger.warn("Skipping s3 refresh for " + cacheType + ", previous one is still in progress");
+            return Future.succeededFuture();
+        }
+
+        // all callbacks of a single refresh are run on the same context, so its state needs no synchronization
+        final Context context = vertx.getOrCreateContext();
+        final boolean full = !incremental
+                || lastFullRefreshTime < 0
+                || startTime - lastFullRefreshTime >= fullRefreshPeriod;
+
         return Future.all(
-                        getFileContentsForDirectory(storedRequestsDirectory),
-                        getFileContentsForDirectory(storedImpressionsDirectory))
-                .map(CompositeFuture::<Map<String, String>>list)
-                .map(results -> StoredDataResult.of(results.getFirst(), results.get(1), Collections.emptyList()))
-                .onSuccess(storedDataResult -> handleResult(storedDataResult, startTime, metricName))
-                .onFailure(exception -> handleFailure(exception, startTime, metricName));
+                        refreshDirectory(storedRequestsDirectory, storedRequestVersions, full, context),
+                        refreshDirectory(storedImpressionsDirectory, storedImpressionVersions, full, context))
+                .onSuccess(results -> handleResult(
+                        results.resultAt(0), results.resultAt(1), full, startTime, refreshType))
+                .onFailure(exception -> handleFailure(exception, startTime, refreshType))
+                .onComplete(ignored -> refreshInProgress.set(false))
+                .mapEmpty();
     }
 
-    private Future<Map<String, String>> getFileContentsForDirectory(String directory) {
-        return listFiles(directory)
-                .map(files -> files.stream().map(this::downloadFile).toList())
-                .compose(Future::all)
-                .map(CompositeFuture::<Tuple2<String, String>>list)
-                .map(fileNameToContent -> fileNameToContent.stream()
-                        .collect(Collectors.toMap(
-                                entry -> stripFileName(directory, entry.getLeft()),
-                                Tuple2::getRight)));
+    private Future<DirectoryUpdate> refreshDirectory(String directory,
+                                                     Map<String, String> knownVersions,
+                                                     boolean full,
+                                                     Context context) {
+
+        return listFiles(directory, null, new ArrayList<>(), context)
+                .compose(files -> {
+                    final Map<String, String> versions = new HashMap<>();
+                    final List<String> keysToDownload = new ArrayList<>();
+                    for (S3Object file : files) {
+                        final String version = versionOf(file);
+                        versions.put(file.key(), version);
+                        if (full || version == null || !version.equals(knownVersions.get(file.key()))) {
+                            keysToDownload.add(file.key());
+                        }
+                    }
+
+                    final List<String> deletedIds = incremental
+                            ? knownVersions.keySet().stream()
+                            .filter(key -> !versions.containsKey(key))
+                            .map(key -> stripFileName(directory, key))
+                            .toList()
+                            : Collections.emptyList();
+
+                    return downloadFiles(keysToDownload, context)
+                            .map(downloaded -> DirectoryUpdate.from(directory, versions, downloaded, deletedIds));
+                });
     }
 
-    private Future<List<String>> listFiles(String prefix) {
+    private static String versionOf(S3Object file) {
+        if (file.eTag() != null) {
+            return file.eTag();
+        }
+        return file.lastModified() != null ? file.lastModified().toString() : null;
+    }
+
+    /**
+     * Lists all files under the given prefix, following the pages if listing is truncated.
+     */
+    private Future<List<S3Object>> listFiles(String prefix, String marker, List<S3Object> files, Context context) {
         final ListObjectsRequest listObjectsRequest = ListObjectsRequest.builder()
                 .bucket(bucket)
                 .prefix(prefix)
+                .marker(marker)
                 .build();
 
-        return Future.fromCompletionStage(asyncClient.listObjects(listObjectsRequest), vertx.getOrCreateContext())
-                .map(response -> response.contents().stream()
-                        .map(S3Object::key)
-                        .collect(Collectors.toList()));
+        return Future.fromCompletionStage(asyncClient.listObjects(listObjectsRequest), context)
+                .compose(response -> {
+                    files.addAll(response.contents());
+                    return Boolean.TRUE.equals(response.isTruncated()) && !response.contents().isEmpty()
+                            ? listFiles(prefix, response.contents().getLast().key(), files, context)
+                            : Future.succeededFuture(files);
+                });
+    }
+
+    private Future<List<Tuple2<String, byte[]>>> downloadFiles(List<String> keys, Context context) {
+        final Queue<String> pendingKeys = new ArrayDeque<>(keys);
+        final List<Tuple2<String, byte[]>> downloaded = new ArrayList<>(keys.size());
+
+        final int workersCount = Math.min(maxConcurrentDownloads, keys.size());
+        final List<Future<Void>> workers = new ArrayList<>(workersCount);
+        for (int i = 0; i < workersCount; i++) {
+            workers.add(downloadNextFile(pendingKeys, downloaded, context));
+        }
+
+        return Future.all(workers).map(ignored -> downloaded);
     }
 
-    private Future<Tuple2<String, String>> downloadFile(String key) {
+    private Future<Void> downloadNextFile(Queue<String> pendingKeys,
+                                          List<Tuple2<String, byte[]>> downloaded,
+                                          Context context) {
+
+        final String key = pendingKeys.poll();
+        if (key == null) {
+            return Future.succeededFuture();
+        }
+
+        return downloadFile(key, context).compose(file -> {
+            downloaded.add(file);
+            return downloadNextFile(pendingKeys, downloaded, context);
+        });
+    }
+
+    private Future<Tuple2<String, byte[]>> downloadFile(String key, Context context) {
         final GetObjectRequest request = GetObjectRequest.builder().bucket(bucket).key(key).build();
 
-        return Future.fromCompletionStage(
-                        asyncClient.getObject(request, AsyncResponseTransformer.toBytes()),
-                        vertx.getOrCreateContext())
-                .map(content -> Tuple2.of(key, content.asUtf8String()));
+        return Future.fromCompletionStage(asyncClient.getObject(request, AsyncResponseTransformer.toBytes()), context)
+                .map(content -> Tuple2.of(key, content.asByteArrayUnsafe()));
     }
 
     private static String stripFileName(String directory, String name) {
@@ -132,9 +231,36 @@ public class S3PeriodicRefreshService implements Initializable {
                 .replace(JSON_SUFFIX, "");
     }
 
-    private void handleResult(StoredDataResult<String> storedDataResult, long startTime, MetricName refreshType) {
-        cacheNotificationListener.save(storedDataResult.getStoredIdToRequest(), storedDataResult.getStoredIdToImp());
+    private void handleResult(DirectoryUpdate storedRequests,
+                              DirectoryUpdate storedImpressions,
+                              boolean full,
+                              long startTime,
+                              MetricName refreshType) {
+
+        storedRequestVersions = storedRequests.getVersions();
+        storedImpressionVersions = storedImpressions.getVersions();
+        if (full) {
+            lastFullRefreshTime = startTime;
+        }
+
+        final Map<String, String> storedIdToRequest = storedRequests.getIdToContent();
+        final Map<String, String> storedIdToImp = storedImpressions.getIdToContent();
+        if (full || !storedIdToRequest.isEmpty() || !storedIdToImp.isEmpty()) {
+            cacheNotificationListener.save(storedIdToRequest, storedIdToImp);
+        }
+
+        final List<String> deletedRequestIds = storedRequests.getDeletedIds();
+        final List<String> deletedImpIds = storedImpressions.getDeletedIds();
+        if (!deletedRequestIds.isEmpty() || !deletedImpIds.isEmpty()) {
+            cacheNotificationListener.invalidate(deletedRequestIds, deletedImpIds);
+        }
+
         metrics.updateSettingsCacheRefreshTime(cacheType, refreshType, clock.millis() - startTime);
+        metrics.updateSettingsCacheRefreshFetchedMetrics(
+                cacheType,
+                refreshType,
+                storedIdToRequest.size() + storedIdToImp.size(),
+                storedRequests.getBytesFetched() + storedImpressions.getBytesFetched());
     }
 
     private void handleFailure(Throwable exception, long startTime, MetricName refreshType) {
@@ -143,4 +269,32 @@ public class S3PeriodicRefreshService implements Initializable {
         metrics.updateSettingsCacheRefreshTime(cacheType, refreshType, clock.millis() - startTime);
         metrics.updateSettingsCacheRefreshErrorMetric(cacheType, refreshType);
     }
+
+    @Value(staticConstructor = "of")
+    private static class DirectoryUpdate {
+
+        Map<String, String> versions;
+
+        Map<String, String> idToContent;
+
+        List<String> deletedIds;
+
+        long bytesFetched;
+
+        static DirectoryUpdate from(String directory,
+                                    Map<String, String> versions,
+                                    List<Tuple2<String, byte[]>> downloaded,
+                                    List<String> deletedIds) {
+
+            final Map<String, String> idToContent = new HashMap<>(downloaded.size());
+            long bytesFetched = 0;
+            for (Tuple2<String, byte[]> file : downloaded) {
+                idToContent.put(stripFileName(directory, file.getLeft()),
+                        new String(file.getRight(), StandardCharsets.UTF_8));
+                bytesFetched += file.getRight().length;
+            }
+
+            return of(versions, idToContent, deletedIds, bytesFetched);
+        }
+    }
 }
@@ -5,6 +5,7 @@ import lombok.Data;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.auction.GeoLocationServiceWrapper;
 import org.prebid.server.auction.requestfactory.Ortb2ImplicitParametersResolver;
+import org.prebid.server.execution.blocking.BlockingExecutors;
 import org.prebid.server.execution.file.FileUtil;
 import org.prebid.server.execution.file.syncer.FileSyncer;
 import org.prebid.server.geolocation.CircuitBreakerSecuredGeoLocationService;
@@ -59,9 +60,10 @@ public class GeoLocationConfiguration {
         @ConditionalOnProperty(prefix = "geolocation.circuit-breaker", name = "enabled", havingValue = "false",
                 matchIfMissing = true)
         GeoLocationService basicGeoLocationService(FileSyncerProperties fileSyncerProperties,
-                                                   Vertx vertx) {
+                                                   Vertx vertx,
+                                                   BlockingExecutors blockingExecutors) {
 
-            return createGeoLocationService(fileSyncerProperties, vertx);
+            return createGeoLocationService(fileSyncerProperties, vertx, blockingExecutors);
         }
 
         @Bean
@@ -71,17 +73,23 @@ public class GeoLocationConfiguration {
                 Metrics metrics,
                 FileSyncerProperties fileSyncerProperties,
                 @Qualifier("maxMindCircuitBreakerProperties") CircuitBreakerProperties circuitBreakerProperties,
-                Clock clock) {
+                Clock clock,
+                BlockingExecutors blockingExecutors) {
 
             return new CircuitBreakerSecuredGeoLocationService(vertx,
-                    createGeoLocationService(fileSyncerProperties, vertx), metrics,
+                    createGeoLocationService(fileSyncerProperties, vertx, blockingExecutors), metrics,
                     circuitBreakerProperties.getOpeningThreshold(), circuitBreakerProperties.getOpeningIntervalMs(),
-                    circuitBreakerProperties.getClosingIntervalMs(), clock);
+                    circuitBreakerProperties.getClosingIntervalMs(), clock,
+                    blockingExecutors.forSubsystem("circuit_breaker"));
         }
 
-        private GeoLocationService createGeoLocationService(FileSyncerProperties properties, Vertx vertx) {
+        private GeoLocationService createGeoLocationService(FileSyncerProperties properties,
+                                                            Vertx vertx,
+                                                            BlockingExecutors blockingExecutors) {
+
             final MaxMindGeoLocationService maxMindGeoLocationService = new MaxMindGeoLocationService();
-            final FileSyncer fileSyncer = FileUtil.fileSyncerFor(maxMindGeoLocationService, properties, vertx);
+            final FileSyncer fileSyncer = FileUtil.fileSyncerFor(
+                    maxMindGeoLocationService, properties, vertx, blockingExecutors.forSubsystem("maxmind"));
             fileSyncer.sync();
             return maxMindGeoLocationService;
         }
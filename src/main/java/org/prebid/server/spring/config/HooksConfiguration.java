@@ -4,17 +4,24 @@ import io.vertx.core.Vertx;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.prebid.server.execution.timeout.TimeoutFactory;
+import org.prebid.server.execution.timer.TimerScheduler;
+import org.prebid.server.execution.timer.TimerWheelScheduler;
+import org.prebid.server.execution.timer.VertxTimerScheduler;
 import org.prebid.server.hooks.execution.HookCatalog;
 import org.prebid.server.hooks.execution.HookStageExecutor;
 import org.prebid.server.hooks.v1.Module;
 import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.settings.model.HooksAdminConfig;
+import org.prebid.server.util.system.ThreadResourceMeter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.validation.annotation.Validated;
 
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
 import java.time.Clock;
 import java.util.Collection;
 import java.util.Collections;
@@ -28,13 +35,34 @@ public class HooksConfiguration {
         return new HookCatalog(modules);
     }
 
+    @Bean
+    TimerScheduler hooksTimerScheduler(HooksConfigurationProperties hooksConfiguration,
+                                       Vertx vertx,
+                                       Clock clock,
+                                       Metrics metrics) {
+
+        final TimerWheelProperties timerWheel = hooksConfiguration.getTimerWheel();
+        if (timerWheel == null || !timerWheel.isEnabled()) {
+            return new VertxTimerScheduler(vertx);
+        }
+
+        return new TimerWheelScheduler(
+                vertx,
+                clock,
+                timerWheel.getTickMs(),
+                timerWheel.getWheelSize(),
+                metrics::updateHooksTimerLatenessMetric);
+    }
+
     @Bean
     HookStageExecutor hookStageExecutor(HooksConfigurationProperties hooksConfiguration,
                                         HookCatalog hookCatalog,
                                         TimeoutFactory timeoutFactory,
-                                        Vertx vertx,
+                                        TimerScheduler hooksTimerScheduler,
                                         Clock clock,
                                         JacksonMapper mapper,
+                                        Metrics metrics,
+                                        ThreadResourceMeter threadResourceMeter,
                                         @Value("${settings.modules.require-config-to-invoke:false}")
                                         boolean isConfigToInvokeRequired,
                                         @Value("${logging.sampling-rate:0.01}") double logSamplingRate) {
@@ -47,11 +75,14 @@ public class HooksConfiguration {
                         .orElseGet(Collections::emptyMap),
                 hookCatalog,
                 timeoutFactory,
-                vertx,
+                hooksTimerScheduler,
                 clock,
                 mapper,
                 isConfigToInvokeRequired,
-                logSamplingRate);
+                logSamplingRate,
+                hooksConfiguration.getPlanCacheSize(),
+                metrics,
+                threadResourceMeter);
     }
 
     @Bean
@@ -70,5 +101,24 @@ public class HooksConfiguration {
         String defaultAccountExecutionPlan;
 
         HooksAdminConfig admin;
+
+        @Min(1)
+        int planCacheSize = 10000;
+
+        @Valid
+        TimerWheelProperties timerWheel;
+    }
+
+    @Data
+    @NoArgsConstructor
+    private static class TimerWheelProperties {
+
+        boolean enabled;
+
+        @Min(1)
+        long tickMs = 10;
+
+        @Min(1)
+        int wheelSize = 512;
     }
 }
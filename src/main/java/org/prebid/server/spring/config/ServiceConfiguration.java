@@ -1,12 +1,17 @@
 package org.prebid.server.spring.config;
 
+import com.github.benmanes.caffeine.cache.Ticker;
 import de.malkusch.whoisServerList.publicSuffixList.PublicSuffixList;
 import de.malkusch.whoisServerList.publicSuffixList.PublicSuffixListFactory;
 import io.vertx.core.Vertx;
+import io.vertx.core.dns.DnsClientOptions;
 import io.vertx.core.file.FileSystem;
 import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpVersion;
 import io.vertx.core.net.JksOptions;
 import lombok.Data;
+import org.apache.commons.collections4.ListUtils;
+import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.activity.ActivitiesConfigResolver;
@@ -49,6 +54,7 @@ import org.prebid.server.auction.gpp.AuctionGppService;
 import org.prebid.server.auction.gpp.CookieSyncGppService;
 import org.prebid.server.auction.gpp.GppService;
 import org.prebid.server.auction.gpp.SetuidGppService;
+import org.prebid.server.auction.gpp.model.GppModelCache;
 import org.prebid.server.auction.gpp.processor.GppContextProcessor;
 import org.prebid.server.auction.gpp.processor.tcfeuv2.TcfEuV2ContextProcessor;
 import org.prebid.server.auction.gpp.processor.uspv1.UspV1ContextProcessor;
@@ -74,14 +80,18 @@ import org.prebid.server.bidadjustments.BidAdjustmentsRulesResolver;
 import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.bidder.BidderDeps;
 import org.prebid.server.bidder.BidderErrorNotifier;
+import org.prebid.server.bidder.BidderInfo;
 import org.prebid.server.bidder.BidderRequestCompletionTrackerFactory;
 import org.prebid.server.bidder.HttpBidderRequestEnricher;
 import org.prebid.server.bidder.HttpBidderRequester;
 import org.prebid.server.cache.BasicPbcStorageService;
+import org.prebid.server.cache.CacheWriteBatcher;
 import org.prebid.server.cache.CoreCacheService;
+import org.prebid.server.cache.EmbeddedCacheStore;
 import org.prebid.server.cache.PbcStorageService;
 import org.prebid.server.cache.model.CacheTtl;
 import org.prebid.server.cache.utils.CacheServiceUtil;
+import org.prebid.server.cookie.BinaryUidsCookieCodec;
 import org.prebid.server.cookie.CookieDeprecationService;
 import org.prebid.server.cookie.CookieSyncService;
 import org.prebid.server.cookie.CoopSyncProvider;
@@ -89,6 +99,8 @@ import org.prebid.server.cookie.PrioritizedCoopSyncProvider;
 import org.prebid.server.cookie.UidsCookieService;
 import org.prebid.server.currency.CurrencyConversionService;
 import org.prebid.server.events.EventsService;
+import org.prebid.server.execution.admission.AdmissionController;
+import org.prebid.server.execution.blocking.BlockingExecutors;
 import org.prebid.server.execution.timeout.TimeoutFactory;
 import org.prebid.server.floors.PriceFloorAdjuster;
 import org.prebid.server.floors.PriceFloorEnforcer;
@@ -105,6 +117,8 @@ import org.prebid.server.log.CriteriaLogManager;
 import org.prebid.server.log.CriteriaManager;
 import org.prebid.server.log.HttpInteractionLogger;
 import org.prebid.server.log.LoggerControlKnob;
+import org.prebid.server.log.capture.TrafficArchiveWriter;
+import org.prebid.server.log.capture.TrafficCaptureService;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.optout.GoogleRecaptchaVerifier;
 import org.prebid.server.privacy.HostVendorTcfDefinerService;
@@ -115,9 +129,11 @@ import org.prebid.server.settings.model.BidValidationEnforcement;
 import org.prebid.server.spring.config.model.CacheDefaultTtlProperties;
 import org.prebid.server.spring.config.model.ExternalConversionProperties;
 import org.prebid.server.spring.config.model.HttpClientCircuitBreakerProperties;
+import org.prebid.server.spring.config.model.HttpClientPoolProperties;
 import org.prebid.server.spring.config.model.HttpClientProperties;
 import org.prebid.server.util.VersionInfo;
 import org.prebid.server.util.system.CpuLoadAverageStats;
+import org.prebid.server.util.system.ThreadResourceMeter;
 import org.prebid.server.validation.BidderParamValidator;
 import org.prebid.server.validation.ImpValidator;
 import org.prebid.server.validation.RequestValidator;
@@ -125,9 +141,12 @@ import org.prebid.server.validation.ResponseBidValidator;
 import org.prebid.server.validation.VideoRequestValidator;
 import org.prebid.server.vast.VastModifier;
 import org.prebid.server.version.PrebidVersionProvider;
+import org.prebid.server.vertx.eventloop.EventLoopMonitor;
 import org.prebid.server.vertx.httpclient.BasicHttpClient;
+import org.prebid.server.vertx.httpclient.CachingHostResolver;
 import org.prebid.server.vertx.httpclient.CircuitBreakerSecuredHttpClient;
 import org.prebid.server.vertx.httpclient.HttpClient;
+import org.prebid.server.vertx.httpclient.model.HttpClientPool;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
@@ -140,6 +159,7 @@ import org.springframework.context.annotation.ScopedProxyMode;
 
 import jakarta.validation.constraints.Min;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.time.Clock;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -171,7 +191,9 @@ public class ServiceConfiguration {
             HttpClient httpClient,
             Metrics metrics,
             Clock clock,
-            JacksonMapper mapper) {
+            JacksonMapper mapper,
+            @Autowired(required = false) CacheWriteBatcher cacheWriteBatcher,
+            @Autowired(required = false) EmbeddedCacheStore embeddedCacheStore) {
 
         final String scheme = cacheConfigurationProperties.getScheme();
         final String host = cacheConfigurationProperties.getHost();
@@ -198,6 +220,64 @@ public class ServiceConfiguration {
                 metrics,
                 clock,
                 new UUIDIdGenerator(),
+                mapper,
+                cacheWriteBatcher,
+                embeddedCacheStore);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "cache.embedded", name = "enabled", havingValue = "true")
+    EmbeddedCacheStore embeddedCacheStore(
+            @Value("${cache.embedded.max-size-bytes:268435456}") long maxSizeBytes,
+            @Value("${cache.embedded.default-ttl-seconds:300}") int defaultTtlSeconds,
+            @Value("${cache.embedded.max-ttl-seconds:3600}") int maxTtlSeconds,
+            JacksonMapper mapper,
+            Metrics metrics) {
+
+        return new EmbeddedCacheStore(
+                maxSizeBytes,
+                defaultTtlSeconds,
+                maxTtlSeconds,
+                new UUIDIdGenerator(),
+                Ticker.systemTicker(),
+                mapper,
+                metrics);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "auction.cache.batching", name = "enabled", havingValue = "true")
+    CacheWriteBatcher cacheWriteBatcher(
+            CacheConfigurationProperties cacheConfigurationProperties,
+            @Value("${auction.cache.batching.window-ms:2}") long windowMs,
+            @Value("${auction.cache.batching.max-batch-size:64}") int maxBatchSize,
+            @Value("${pbc.api.key:#{null}}") String apiKey,
+            HttpClient httpClient,
+            Vertx vertx,
+            Metrics metrics,
+            Clock clock,
+            JacksonMapper mapper) {
+
+        final CacheConfigurationProperties.InternalCacheConfigurationProperties internalProperties =
+                cacheConfigurationProperties.getInternal();
+        final String url = internalProperties != null
+                ? CacheServiceUtil.getCacheEndpointUrl(
+                        internalProperties.getScheme(),
+                        internalProperties.getHost(),
+                        internalProperties.getPath()).toString()
+                : CacheServiceUtil.getCacheEndpointUrl(
+                        cacheConfigurationProperties.getScheme(),
+                        cacheConfigurationProperties.getHost(),
+                        cacheConfigurationProperties.getPath()).toString();
+
+        return new CacheWriteBatcher(
+                httpClient,
+                url,
+                CacheServiceUtil.cacheHeaders(apiKey, cacheConfigurationProperties.isApiKeySecured()),
+                vertx,
+                windowMs,
+                maxBatchSize,
+                clock,
+                metrics,
                 mapper);
     }
 
@@ -252,7 +332,8 @@ public class ServiceConfiguration {
             HttpClient httpClient,
             JacksonMapper mapper,
             Clock clock,
-            Metrics metrics) {
+            Metrics metrics,
+            @Autowired(required = false) EmbeddedCacheStore embeddedCacheStore) {
 
         return new BasicPbcStorageService(
                 httpClient,
@@ -261,7 +342,8 @@ public class ServiceConfiguration {
                 callTimeoutMs,
                 mapper,
                 clock,
-                metrics);
+                metrics,
+                embeddedCacheStore);
     }
 
     @Bean
@@ -295,11 +377,12 @@ public class ServiceConfiguration {
     @Bean
     IpAddressHelper ipAddressHelper(@Value("${ipv6.always-mask-right}") int ipv6AlwaysMaskBits,
                                     @Value("${ipv6.anon-left-mask-bits}") int ipv6AnonLeftMaskBits,
-                                    @Value("${ipv6.private-networks}") String ipv6PrivateNetworksAsString) {
+                                    @Value("${ipv6.private-networks}") String ipv6PrivateNetworksAsString,
+                                    @Value("${ip-address.cache.max-size:10000}") int cacheMaxSize) {
 
         final List<String> ipv6LocalNetworks = Arrays.asList(ipv6PrivateNetworksAsString.trim().split(","));
 
-        return new IpAddressHelper(ipv6AlwaysMaskBits, ipv6AnonLeftMaskBits, ipv6LocalNetworks);
+        return new IpAddressHelper(ipv6AlwaysMaskBits, ipv6AnonLeftMaskBits, ipv6LocalNetworks, cacheMaxSize);
     }
 
     @Bean
@@ -411,23 +494,28 @@ public class ServiceConfiguration {
     }
 
     @Bean
-    AuctionGppService auctionGppProcessor(GppService gppService) {
-        return new AuctionGppService(gppService);
+    GppModelCache gppModelCache(@Value("${gpp.model-cache.max-size:10000}") int maxSize, Metrics metrics) {
+        return new GppModelCache(maxSize, metrics);
     }
 
     @Bean
-    AmpGppService ampGppProcessor(GppService gppService) {
-        return new AmpGppService(gppService);
+    AuctionGppService auctionGppProcessor(GppService gppService, GppModelCache gppModelCache) {
+        return new AuctionGppService(gppService, gppModelCache);
     }
 
     @Bean
-    CookieSyncGppService cookieSyncGppProcessor(GppService gppService) {
-        return new CookieSyncGppService(gppService);
+    AmpGppService ampGppProcessor(GppService gppService, GppModelCache gppModelCache) {
+        return new AmpGppService(gppService, gppModelCache);
     }
 
     @Bean
-    SetuidGppService setuidGppService(GppService gppService) {
-        return new SetuidGppService(gppService);
+    CookieSyncGppService cookieSyncGppProcessor(GppService gppService, GppModelCache gppModelCache) {
+        return new CookieSyncGppService(gppService, gppModelCache);
+    }
+
+    @Bean
+    SetuidGppService setuidGppService(GppService gppService, GppModelCache gppModelCache) {
+        return new SetuidGppService(gppService, gppModelCache);
     }
 
     @Bean
@@ -630,6 +718,40 @@ public class ServiceConfiguration {
         return new GoogleRecaptchaVerifier(recaptchaUrl, recaptchaSecret, httpClient, mapper);
     }
 
+    @Bean
+    @ConditionalOnProperty(prefix = "http-client.dns-cache", name = "enabled", havingValue = "true")
+    CachingHostResolver cachingHostResolver(
+            Vertx vertx,
+            BidderCatalog bidderCatalog,
+            @Value("${http-client.dns-cache.refresh-period-ms:30000}") long refreshPeriodMs,
+            @Value("${http-client.dns-cache.max-stale-ms:600000}") long maxStaleMs,
+            @Value("${http-client.dns-cache.server-host:#{null}}") String serverHost,
+            @Value("${http-client.dns-cache.server-port:53}") int serverPort,
+            @Value("${http-client.dns-cache.query-timeout-ms:5000}") long queryTimeoutMs,
+            Clock clock,
+            Metrics metrics) {
+
+        final DnsClientOptions dnsClientOptions = new DnsClientOptions()
+                .setHost(serverHost)
+                .setPort(serverPort)
+                .setQueryTimeout(queryTimeoutMs);
+
+        final Set<String> hosts = CachingHostResolver.hostsOf(bidderCatalog.names().stream()
+                .filter(bidderCatalog::isActive)
+                .map(bidderCatalog::bidderInfoByName)
+                .map(BidderInfo::getEndpoint)
+                .toList());
+
+        return new CachingHostResolver(
+                vertx,
+                vertx.createDnsClient(dnsClientOptions),
+                hosts,
+                refreshPeriodMs,
+                maxStaleMs,
+                clock,
+                metrics);
+    }
+
     @Bean
     @ConfigurationProperties(prefix = "http-client")
     HttpClientProperties httpClientProperties() {
@@ -640,8 +762,13 @@ public class ServiceConfiguration {
     @Scope(scopeName = VertxContextScope.NAME, proxyMode = ScopedProxyMode.INTERFACES)
     @ConditionalOnProperty(prefix = "http-client.circuit-breaker", name = "enabled", havingValue = "false",
             matchIfMissing = true)
-    BasicHttpClient basicHttpClient(Vertx vertx, HttpClientProperties httpClientProperties) {
-        return createBasicHttpClient(vertx, httpClientProperties);
+    BasicHttpClient basicHttpClient(Vertx vertx,
+                                    HttpClientProperties httpClientProperties,
+                                    @Autowired(required = false) CachingHostResolver cachingHostResolver,
+                                    Metrics metrics,
+                                    Clock clock) {
+
+        return createBasicHttpClient(vertx, httpClientProperties, cachingHostResolver, metrics, clock);
     }
 
     @Bean
@@ -660,9 +787,12 @@ public class ServiceConfiguration {
             HttpClientProperties httpClientProperties,
             @Qualifier("httpClientCircuitBreakerProperties")
             HttpClientCircuitBreakerProperties circuitBreakerProperties,
-            Clock clock) {
+            @Autowired(required = false) CachingHostResolver cachingHostResolver,
+            Clock clock,
+            BlockingExecutors blockingExecutors) {
 
-        final HttpClient httpClient = createBasicHttpClient(vertx, httpClientProperties);
+        final HttpClient httpClient = createBasicHttpClient(
+                vertx, httpClientProperties, cachingHostResolver, metrics, clock);
 
         return new CircuitBreakerSecuredHttpClient(
                 vertx,
@@ -672,10 +802,16 @@ public class ServiceConfiguration {
                 circuitBreakerProperties.getOpeningIntervalMs(),
                 circuitBreakerProperties.getClosingIntervalMs(),
                 circuitBreakerProperties.getIdleExpireHours(),
-                clock);
+                clock,
+                blockingExecutors.forSubsystem("circuit_breaker"));
     }
 
-    private static BasicHttpClient createBasicHttpClient(Vertx vertx, HttpClientProperties httpClientProperties) {
+    private static BasicHttpClient createBasicHttpClient(Vertx vertx,
+                                                         HttpClientProperties httpClientProperties,
+                                                         CachingHostResolver cachingHostResolver,
+                                                         Metrics metrics,
+                                                         Clock clock) {
+
         final HttpClientOptions options = new HttpClientOptions()
                 .setMaxPoolSize(httpClientProperties.getMaxPoolSize())
                 .setIdleTimeoutUnit(TimeUnit.MILLISECONDS)
@@ -697,7 +833,50 @@ public class ServiceConfiguration {
                     .setKeyCertOptions(jksOptions);
         }
 
-        return new BasicHttpClient(vertx, vertx.createHttpClient(options));
+        final List<HttpClientPool> pools = ListUtils.emptyIfNull(httpClientProperties.getPools()).stream()
+                .map(poolProperties -> createHttpClientPool(vertx, options, poolProperties, metrics))
+                .toList();
+
+        return new BasicHttpClient(
+                vertx, vertx.createHttpClient(options), pools, cachingHostResolver, metrics, clock);
+    }
+
+    private static HttpClientPool createHttpClientPool(Vertx vertx,
+                                                       HttpClientOptions defaultOptions,
+                                                       HttpClientPoolProperties poolProperties,
+                                                       Metrics metrics) {
+
+        final HttpClientOptions options = new HttpClientOptions(defaultOptions)
+                .setMaxPoolSize(ObjectUtils.defaultIfNull(
+                        poolProperties.getMaxPoolSize(), defaultOptions.getMaxPoolSize()))
+                .setKeepAlive(true);
+
+        if (poolProperties.getKeepAliveTimeoutSec() != null) {
+            options.setKeepAliveTimeout(poolProperties.getKeepAliveTimeoutSec());
+        }
+
+        if (BooleanUtils.isTrue(poolProperties.getHttp2())) {
+            options
+                    .setProtocolVersion(HttpVersion.HTTP_2)
+                    .setUseAlpn(true)
+                    .setHttp2MaxPoolSize(options.getMaxPoolSize())
+                    .setHttp2KeepAliveTimeout(options.getKeepAliveTimeout())
+                    .setHttp2MultiplexingLimit(ObjectUtils.defaultIfNull(
+                            poolProperties.getHttp2MultiplexingLimit(), -1));
+        }
+
+        final String name = poolProperties.getName();
+        final io.vertx.core.http.HttpClient httpClient = vertx.httpClientBuilder()
+                .with(options)
+                .withConnectHandler(connection -> metrics.updateHttpClientConnectionOpenedMetric(name))
+                .build();
+
+        return HttpClientPool.of(
+                name,
+                poolProperties.getUrl(),
+                httpClient,
+                ObjectUtils.defaultIfNull(poolProperties.getPrewarmConnections(), 0),
+                ObjectUtils.defaultIfNull(poolProperties.getPrewarmPeriodMs(), 0L));
     }
 
     @Bean
@@ -718,6 +897,7 @@ public class ServiceConfiguration {
             @Value("${host-cookie.ttl-days}") Integer ttlDays,
             @Value("${host-cookie.max-cookie-size-bytes}") Integer maxCookieSizeBytes,
             @Value("${setuid.number-of-uid-cookies:1}") int numberOfUidCookies,
+            @Value("${host-cookie.binary-format.enabled:false}") boolean binaryFormat,
             PrioritizedCoopSyncProvider prioritizedCoopSyncProvider,
             Metrics metrics,
             JacksonMapper mapper) {
@@ -733,7 +913,9 @@ public class ServiceConfiguration {
                 numberOfUidCookies,
                 prioritizedCoopSyncProvider,
                 metrics,
-                mapper);
+                mapper,
+                new BinaryUidsCookieCodec(),
+                binaryFormat);
     }
 
     @Bean
@@ -836,7 +1018,10 @@ public class ServiceConfiguration {
             @Autowired(required = false) BidderRequestCompletionTrackerFactory bidderRequestCompletionTrackerFactory,
             BidderErrorNotifier bidderErrorNotifier,
             HttpBidderRequestEnricher requestEnricher,
-            JacksonMapper mapper) {
+            JacksonMapper mapper,
+            ThreadResourceMeter threadResourceMeter,
+            Metrics metrics,
+            @Autowired(required = false) TrafficCaptureService trafficCaptureService) {
 
         return new HttpBidderRequester(
                 httpClient,
@@ -844,7 +1029,10 @@ public class ServiceConfiguration {
                 bidderErrorNotifier,
                 requestEnricher,
                 mapper,
-                logSamplingRate);
+                threadResourceMeter,
+                metrics,
+                logSamplingRate,
+                trafficCaptureService);
     }
 
     @Bean
@@ -904,6 +1092,7 @@ public class ServiceConfiguration {
             Clock clock,
             JacksonMapper mapper,
             Metrics metrics,
+            ThreadResourceMeter threadResourceMeter,
             @Value("${cache.banner-ttl-seconds:#{null}}") Integer bannerCacheTtl,
             @Value("${cache.video-ttl-seconds:#{null}}") Integer videoCacheTtl,
             CacheDefaultTtlProperties cacheDefaultTtlProperties) {
@@ -925,6 +1114,7 @@ public class ServiceConfiguration {
                 clock,
                 mapper,
                 metrics,
+                threadResourceMeter,
                 CacheTtl.of(bannerCacheTtl, videoCacheTtl),
                 cacheDefaultTtlProperties);
     }
@@ -953,6 +1143,7 @@ public class ServiceConfiguration {
             PriceFloorProcessor priceFloorProcessor,
             BidsAdjuster bidsAdjuster,
             Metrics metrics,
+            ThreadResourceMeter threadResourceMeter,
             Clock clock,
             JacksonMapper mapper,
             CriteriaLogManager criteriaLogManager,
@@ -981,6 +1172,7 @@ public class ServiceConfiguration {
                 priceFloorProcessor,
                 bidsAdjuster,
                 metrics,
+                threadResourceMeter,
                 clock,
                 mapper,
                 criteriaLogManager,
@@ -1050,15 +1242,18 @@ public class ServiceConfiguration {
     }
 
     @Bean
-    StoredResponseProcessor storedResponseProcessor(ApplicationSettings applicationSettings,
-                                                    JacksonMapper mapper) {
+    StoredResponseProcessor storedResponseProcessor(
+            ApplicationSettings applicationSettings,
+            JacksonMapper mapper,
+            @Value("${auction.stored-responses.parsed-cache-ttl-seconds:3600}") int parsedCacheTtlSeconds,
+            @Value("${auction.stored-responses.parsed-cache-size:1000}") int parsedCacheSize) {
 
-        return new StoredResponseProcessor(applicationSettings, mapper);
+        return new StoredResponseProcessor(applicationSettings, mapper, parsedCacheTtlSeconds, parsedCacheSize);
     }
 
     @Bean
-    PrivacyEnforcementService privacyEnforcementService(List<PrivacyEnforcement> enforcements) {
-        return new PrivacyEnforcementService(enforcements);
+    PrivacyEnforcementService privacyEnforcementService(List<PrivacyEnforcement> enforcements, Metrics metrics) {
+        return new PrivacyEnforcementService(enforcements, metrics);
     }
 
     @Bean
@@ -1235,6 +1430,40 @@ public class ServiceConfiguration {
         return new CpuLoadAverageStats(vertx, measurementIntervalMillis);
     }
 
+    @Bean
+    AdmissionController admissionController(
+            @Value("${auction.admission-control.enabled:false}") boolean enabled,
+            @Value("${auction.admission-control.min-limit:10}") int minLimit,
+            @Value("${auction.admission-control.max-limit:1000}") int maxLimit,
+            @Value("${auction.admission-control.backoff-ratio:0.9}") double backoffRatio,
+            @Value("${auction.admission-control.latency-threshold-ms:1000}") long latencyThresholdMillis,
+            @Value("${auction.admission-control.cpu-load-threshold:0.9}") double cpuLoadThreshold,
+            @Value("${auction.admission-control.event-loop-lag-threshold-ms:100}") long eventLoopLagThresholdMillis,
+            @Value("${auction.admission-control.low-priority-share:0.5}") double lowPriorityShare,
+            @Value("${auction.admission-control.high-priority-accounts:#{null}}") String highPriorityAccounts,
+            @Value("${auction.admission-control.low-priority-accounts:#{null}}") String lowPriorityAccounts,
+            @Autowired(required = false) CpuLoadAverageStats cpuLoadAverageStats,
+            @Autowired(required = false) EventLoopMonitor eventLoopMonitor,
+            Clock clock,
+            Metrics metrics) {
+
+        return new AdmissionController(
+                enabled,
+                minLimit,
+                maxLimit,
+                backoffRatio,
+                latencyThresholdMillis,
+                cpuLoadThreshold,
+                eventLoopLagThresholdMillis,
+                lowPriorityShare,
+                splitToSet(highPriorityAccounts),
+                splitToSet(lowPriorityAccounts),
+                cpuLoadAverageStats,
+                eventLoopMonitor,
+                clock,
+                metrics);
+    }
+
     @Bean
     CurrencyConversionService currencyConversionService(
             @Autowired(required = false) ExternalConversionProperties externalConversionProperties) {
@@ -1274,6 +1503,31 @@ public class ServiceConfiguration {
         return new HttpInteractionLogger(mapper);
     }
 
+    @Bean
+    @ConditionalOnProperty(prefix = "logging.traffic-capture", name = "enabled", havingValue = "true")
+    TrafficCaptureService trafficCaptureService(
+            @Value("${logging.traffic-capture.archive-path}") String archivePath,
+            @Value("${logging.traffic-capture.sampling-rate:0.01}") double samplingRate,
+            @Value("${logging.traffic-capture.max-records:100000}") long maxRecords,
+            @Value("${logging.traffic-capture.stored-data-timeout-ms:1000}") long storedDataTimeoutMs,
+            ApplicationSettings applicationSettings,
+            TimeoutFactory timeoutFactory,
+            BlockingExecutors blockingExecutors,
+            Clock clock,
+            JacksonMapper mapper) throws IOException {
+
+        return new TrafficCaptureService(
+                TrafficArchiveWriter.create(Path.of(archivePath)),
+                samplingRate,
+                maxRecords,
+                storedDataTimeoutMs,
+                applicationSettings,
+                timeoutFactory,
+                blockingExecutors.forSubsystem("traffic_capture"),
+                clock,
+                mapper);
+    }
+
     @Bean
     LoggerControlKnob loggerControlKnob(Vertx vertx) {
         return new LoggerControlKnob(vertx);
@@ -8,6 +8,7 @@ import lombok.experimental.UtilityClass;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.activity.ActivitiesConfigResolver;
+import org.prebid.server.execution.blocking.BlockingExecutors;
 import org.prebid.server.execution.timeout.TimeoutFactory;
 import org.prebid.server.floors.PriceFloorsConfigResolver;
 import org.prebid.server.json.JacksonMapper;
@@ -17,6 +18,8 @@ import org.prebid.server.log.LoggerFactory;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.settings.ApplicationSettings;
+import org.prebid.server.settings.BatchingApplicationSettings;
+import org.prebid.server.settings.CacheNotificationListener;
 import org.prebid.server.settings.CachingApplicationSettings;
 import org.prebid.server.settings.CompositeApplicationSettings;
 import org.prebid.server.settings.DatabaseApplicationSettings;
@@ -25,9 +28,11 @@ import org.prebid.server.settings.FileApplicationSettings;
 import org.prebid.server.settings.HttpApplicationSettings;
 import org.prebid.server.settings.S3ApplicationSettings;
 import org.prebid.server.settings.SettingsCache;
+import org.prebid.server.settings.helper.AccountsFetcher;
 import org.prebid.server.settings.helper.ParametrizedQueryHelper;
 import org.prebid.server.settings.model.Profile;
 import org.prebid.server.settings.service.DatabasePeriodicRefreshService;
+import org.prebid.server.settings.service.FilePeriodicRefreshService;
 import org.prebid.server.settings.service.HttpPeriodicRefreshService;
 import org.prebid.server.settings.service.S3PeriodicRefreshService;
 import org.prebid.server.spring.config.database.DatabaseConfiguration;
@@ -60,6 +65,7 @@ import java.time.Clock;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
 @UtilityClass
@@ -80,6 +86,8 @@ public class SettingsConfiguration {
                 @Value("${settings.filesystem.profiles-dir:#{null}}") String profilesDir,
                 @Value("${settings.filesystem.stored-responses-dir}") String storedResponsesDir,
                 @Value("${settings.filesystem.categories-dir}") String categoriesDir,
+                @Value("${settings.filesystem.lazy-stored-data:false}") boolean lazyStoredData,
+                @Value("${settings.filesystem.refresh-rate:0}") long refreshPeriod,
                 FileSystem fileSystem,
                 JacksonMapper jacksonMapper) {
 
@@ -91,8 +99,43 @@ public class SettingsConfiguration {
                     profilesDir,
                     storedResponsesDir,
                     categoriesDir,
+                    lazyStoredData,
+                    refreshPeriod > 0,
                     jacksonMapper);
         }
+
+        @Bean
+        @ConditionalOnProperty(prefix = "settings.filesystem", name = "refresh-rate")
+        FilePeriodicRefreshService filePeriodicRefreshService(
+                FileApplicationSettings fileApplicationSettings,
+                @Value("${settings.filesystem.refresh-rate}") long refreshPeriod,
+                @Autowired(required = false) @Qualifier("settingsCache") SettingsCache<String> settingsCache,
+                @Autowired(required = false) @Qualifier("ampSettingsCache") SettingsCache<String> ampSettingsCache,
+                @Autowired(required = false) @Qualifier("videoSettingCache") SettingsCache<String> videoSettingCache,
+                @Autowired(required = false) @Qualifier("profileSettingCache") SettingsCache<Profile> profileCache,
+                @Autowired(required = false) CachingApplicationSettings cachingApplicationSettings,
+                Clock clock,
+                Metrics metrics,
+                Vertx vertx,
+                BlockingExecutors blockingExecutors) {
+
+            final List<CacheNotificationListener<String>> storedDataCaches =
+                    Stream.<CacheNotificationListener<String>>of(settingsCache, ampSettingsCache, videoSettingCache)
+                            .filter(Objects::nonNull)
+                            .toList();
+
+            return new FilePeriodicRefreshService(
+                    fileApplicationSettings,
+                    refreshPeriod,
+                    storedDataCaches,
+                    profileCache,
+                    cachingApplicationSettings,
+                    MetricName.stored_request,
+                    clock,
+                    metrics,
+                    vertx,
+                    blockingExecutors.forSubsystem("settings_file"));
+        }
     }
 
     @Configuration
@@ -366,6 +409,9 @@ public class SettingsConfiguration {
                 S3AsyncClient s3AsyncClient,
                 S3SettingsConfiguration.S3ConfigurationProperties s3ConfigurationProperties,
                 @Value("${settings.in-memory-cache.s3-update.refresh-rate}") long refreshPeriod,
+                @Value("${settings.in-memory-cache.s3-update.incremental:false}") boolean incremental,
+                @Value("${settings.in-memory-cache.s3-update.max-concurrent-downloads:32}") int maxConcurrentDownloads,
+                ApplicationSettingsCacheProperties cacheProperties,
                 SettingsCache<String> settingsCache,
                 Clock clock,
                 Metrics metrics,
@@ -377,6 +423,10 @@ public class SettingsConfiguration {
                     s3ConfigurationProperties.getStoredRequestsDir(),
                     s3ConfigurationProperties.getStoredImpsDir(),
                     refreshPeriod,
+                    incremental,
+                    // unchanged entries are not saved again, so they are restored before they could expire
+                    TimeUnit.SECONDS.toMillis(cacheProperties.getTtlSeconds()) / 2,
+                    maxConcurrentDownloads,
                     settingsCache,
                     MetricName.stored_request,
                     clock,
@@ -396,13 +446,24 @@ public class SettingsConfiguration {
                 @Autowired(required = false) FileApplicationSettings fileApplicationSettings,
                 @Autowired(required = false) DatabaseApplicationSettings databaseApplicationSettings,
                 @Autowired(required = false) HttpApplicationSettings httpApplicationSettings,
-                @Autowired(required = false) S3ApplicationSettings s3ApplicationSettings) {
+                @Autowired(required = false) S3ApplicationSettings s3ApplicationSettings,
+                @Autowired(required = false) BatchingSettingsFactory batchingSettingsFactory) {
+
+            final ApplicationSettings effectiveDatabaseApplicationSettings =
+                    databaseApplicationSettings != null && batchingSettingsFactory != null
+                            ? batchingSettingsFactory.create(databaseApplicationSettings, null)
+                            : databaseApplicationSettings;
+            final ApplicationSettings effectiveHttpApplicationSettings =
+                    httpApplicationSettings != null && batchingSettingsFactory != null
+                            ? batchingSettingsFactory.create(
+                                    httpApplicationSettings, httpApplicationSettings::getAccountsByIds)
+                            : httpApplicationSettings;
 
             final List<ApplicationSettings> applicationSettingsList = Stream.of(
                             fileApplicationSettings,
-                            databaseApplicationSettings,
+                            effectiveDatabaseApplicationSettings,
                             s3ApplicationSettings,
-                            httpApplicationSettings)
+                            effectiveHttpApplicationSettings)
                     .filter(Objects::nonNull)
                     .toList();
 
@@ -410,6 +471,33 @@ public class SettingsConfiguration {
         }
     }
 
+    /**
+     * Puts {@link BatchingApplicationSettings} in front of the sources which are able to look up
+     * several ids with a single query.
+     */
+    @Configuration
+    @ConditionalOnProperty(prefix = "settings.batching", name = "enabled", havingValue = "true")
+    static class BatchingSettingsConfiguration {
+
+        @Bean
+        BatchingSettingsFactory batchingSettingsFactory(
+                @Value("${settings.batching.window-ms:2}") long windowMs,
+                @Value("${settings.batching.max-batch-size:100}") int maxBatchSize,
+                Vertx vertx,
+                Clock clock,
+                Metrics metrics) {
+
+            return (delegate, accountsFetcher) -> new BatchingApplicationSettings(
+                    delegate, accountsFetcher, vertx, windowMs, maxBatchSize, clock, metrics);
+        }
+    }
+
+    @FunctionalInterface
+    interface BatchingSettingsFactory {
+
+        ApplicationSettings create(ApplicationSettings delegate, AccountsFetcher accountsFetcher);
+    }
+
     @Configuration
     static class EnrichingSettingsConfiguration {
 
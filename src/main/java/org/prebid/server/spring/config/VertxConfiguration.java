@@ -4,18 +4,25 @@ import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
 import io.vertx.core.dns.AddressResolverOptions;
 import io.vertx.core.file.FileSystem;
+import io.vertx.core.impl.VertxInternal;
 import io.vertx.ext.dropwizard.DropwizardMetricsOptions;
 import io.vertx.ext.dropwizard.Match;
 import io.vertx.ext.dropwizard.MatchType;
 import io.vertx.ext.web.handler.BodyHandler;
+import org.prebid.server.execution.blocking.BlockingExecutors;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.spring.config.metrics.MetricsConfiguration;
 import org.prebid.server.vertx.ContextRunner;
+import org.prebid.server.vertx.eventloop.EventLoopMonitor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Clock;
+
 @Configuration
 public class VertxConfiguration {
 
@@ -59,6 +66,36 @@ public class VertxConfiguration {
         return BodyHandler.create(uploadsDir);
     }
 
+    @Bean
+    BlockingExecutors blockingExecutors(Vertx vertx,
+                                        @Value("${vertx.virtual-threads-enabled:false}") boolean virtualThreadsEnabled,
+                                        Clock clock,
+                                        Metrics metrics) {
+
+        return new BlockingExecutors(vertx, virtualThreadsEnabled, clock, metrics);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "vertx.event-loop-monitor", name = "enabled", havingValue = "true")
+    EventLoopMonitor eventLoopMonitor(
+            Vertx vertx,
+            @Value("${vertx.event-loop-monitor.probe-interval-ms:100}") long probeIntervalMillis,
+            @Value("${vertx.event-loop-monitor.window-ms:10000}") long windowMillis,
+            @Value("${vertx.event-loop-monitor.stack-sample-threshold-ms:200}") long stackSampleThresholdMillis,
+            @Value("${vertx.event-loop-monitor.max-stack-samples:20}") int maxStackSamples,
+            Clock clock,
+            Metrics metrics) {
+
+        return new EventLoopMonitor(
+                ((VertxInternal) vertx).getEventLoopGroup(),
+                probeIntervalMillis,
+                windowMillis,
+                stackSampleThresholdMillis,
+                maxStackSamples,
+                clock,
+                metrics);
+    }
+
     @Bean
     ContextRunner contextRunner(Vertx vertx, @Value("${vertx.init-timeout-ms}") long initTimeoutMs) {
         return new ContextRunner(vertx, initTimeoutMs);
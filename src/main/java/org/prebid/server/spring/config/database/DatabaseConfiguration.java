@@ -7,6 +7,7 @@ import io.vertx.pgclient.PgBuilder;
 import io.vertx.pgclient.PgConnectOptions;
 import io.vertx.sqlclient.Pool;
 import io.vertx.sqlclient.PoolOptions;
+import org.prebid.server.execution.blocking.BlockingExecutors;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.settings.helper.ParametrizedQueryHelper;
 import org.prebid.server.settings.helper.ParametrizedQueryMySqlHelper;
@@ -155,7 +156,8 @@ public class DatabaseConfiguration {
             Metrics metrics,
             Clock clock,
             ContextRunner contextRunner,
-            @Qualifier("databaseCircuitBreakerProperties") CircuitBreakerProperties circuitBreakerProperties) {
+            @Qualifier("databaseCircuitBreakerProperties") CircuitBreakerProperties circuitBreakerProperties,
+            BlockingExecutors blockingExecutors) {
 
         final BasicDatabaseClient databaseClient = createBasicDatabaseClient(pool, metrics, clock, contextRunner);
         return new CircuitBreakerSecuredDatabaseClient(
@@ -165,7 +167,8 @@ public class DatabaseConfiguration {
                 circuitBreakerProperties.getOpeningThreshold(),
                 circuitBreakerProperties.getOpeningIntervalMs(),
                 circuitBreakerProperties.getClosingIntervalMs(),
-                clock);
+                clock,
+                blockingExecutors.forSubsystem("circuit_breaker"));
     }
 
     private static BasicDatabaseClient createBasicDatabaseClient(Pool pool,
@@ -21,6 +21,7 @@ import org.prebid.server.metric.CounterType;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.metric.model.AccountMetricsVerbosityLevel;
 import org.prebid.server.spring.env.YamlPropertySourceFactory;
+import org.prebid.server.util.system.ThreadResourceMeter;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -135,6 +136,14 @@ public class MetricsConfiguration {
                 accountsProperties.getDetailedVerbosity());
     }
 
+    @Bean
+    ThreadResourceMeter threadResourceMeter(
+            @Value("${metrics.resource-accounting.enabled}") boolean enabled,
+            @Value("${metrics.resource-accounting.sampling-rate}") double samplingRate) {
+
+        return enabled ? new ThreadResourceMeter(samplingRate) : ThreadResourceMeter.disabled();
+    }
+
     @Bean
     HooksMetricsService hooksMetricsService(Metrics metrics) {
         return new HooksMetricsService(metrics);
@@ -0,0 +1,37 @@
+package org.prebid.server.spring.config.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+
+@Validated
+@Data
+@NoArgsConstructor
+public class HttpClientPoolProperties {
+
+    @NotBlank
+    private String name;
+
+    @NotBlank
+    private String url;
+
+    @Min(1)
+    private Integer maxPoolSize;
+
+    @Min(1)
+    private Integer keepAliveTimeoutSec;
+
+    private Boolean http2;
+
+    @Min(1)
+    private Integer http2MultiplexingLimit;
+
+    @Min(0)
+    private Integer prewarmConnections;
+
+    @Min(0)
+    private Long prewarmPeriodMs;
+}
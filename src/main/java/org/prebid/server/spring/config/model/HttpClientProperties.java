@@ -4,9 +4,12 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.validation.annotation.Validated;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 
+import java.util.List;
+
 @Validated
 @Data
 @NoArgsConstructor
@@ -33,4 +36,7 @@ public class HttpClientProperties {
     private String jksPath;
 
     private String jksPassword;
+
+    @Valid
+    private List<HttpClientPoolProperties> pools;
 }
@@ -9,6 +9,7 @@ import org.prebid.server.handler.admin.AccountCacheInvalidationHandler;
 import org.prebid.server.handler.admin.AdminResourceWrapper;
 import org.prebid.server.handler.admin.CollectedMetricsHandler;
 import org.prebid.server.handler.admin.CurrencyRatesHandler;
+import org.prebid.server.handler.admin.EventLoopMonitorHandler;
 import org.prebid.server.handler.admin.HttpInteractionLogHandler;
 import org.prebid.server.handler.admin.LoggerControlKnobHandler;
 import org.prebid.server.handler.admin.SettingsCacheNotificationHandler;
@@ -21,6 +22,7 @@ import org.prebid.server.log.LoggerControlKnob;
 import org.prebid.server.settings.CachingApplicationSettings;
 import org.prebid.server.settings.SettingsCache;
 import org.prebid.server.util.VersionInfo;
+import org.prebid.server.vertx.eventloop.EventLoopMonitor;
 import org.prebid.server.vertx.verticles.server.admin.AdminResource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -181,6 +183,23 @@ public class AdminEndpointsConfiguration {
                 new CollectedMetricsHandler(metricRegistry, mapper, path));
     }
 
+    @Bean
+    @ConditionalOnExpression("${vertx.event-loop-monitor.enabled:false}"
+            + " and ${admin-endpoints.event-loops.enabled} == true")
+    AdminResource eventLoopsAdminEndpoint(
+            EventLoopMonitor eventLoopMonitor,
+            JacksonMapper mapper,
+            @Value("${admin-endpoints.event-loops.path}") String path,
+            @Value("${admin-endpoints.event-loops.on-application-port}") boolean isOnApplicationPort,
+            @Value("${admin-endpoints.event-loops.protected}") boolean isProtected) {
+
+        return new AdminResourceWrapper(
+                path,
+                isOnApplicationPort,
+                isProtected,
+                new EventLoopMonitorHandler(eventLoopMonitor, mapper, path));
+    }
+
     @Bean
     AdminResourcesBinder applicationPortAdminResourcesBinder(Map<String, String> adminEndpointCredentials,
                                                              List<AdminResource> resources) {
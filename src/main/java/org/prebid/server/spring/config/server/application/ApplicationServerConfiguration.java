@@ -27,12 +27,15 @@ import org.prebid.server.auction.requestfactory.AuctionRequestFactory;
 import org.prebid.server.auction.requestfactory.VideoRequestFactory;
 import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.cache.CoreCacheService;
+import org.prebid.server.cache.EmbeddedCacheStore;
 import org.prebid.server.cookie.CookieDeprecationService;
 import org.prebid.server.cookie.CookieSyncService;
 import org.prebid.server.cookie.UidsCookieService;
+import org.prebid.server.execution.admission.AdmissionController;
 import org.prebid.server.execution.timeout.TimeoutFactory;
 import org.prebid.server.handler.BidderParamHandler;
 import org.prebid.server.handler.CookieSyncHandler;
+import org.prebid.server.handler.EmbeddedCacheHandler;
 import org.prebid.server.handler.ExceptionHandler;
 import org.prebid.server.handler.GetVtrackHandler;
 import org.prebid.server.handler.GetuidsHandler;
@@ -55,6 +58,7 @@ import org.prebid.server.health.PeriodicHealthChecker;
 import org.prebid.server.hooks.execution.HookStageExecutor;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.log.HttpInteractionLogger;
+import org.prebid.server.log.capture.TrafficCaptureService;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.optout.GoogleRecaptchaVerifier;
 import org.prebid.server.privacy.HostVendorTcfDefinerService;
@@ -66,6 +70,7 @@ import org.prebid.server.version.PrebidVersionProvider;
 import org.prebid.server.vertx.verticles.VerticleDefinition;
 import org.prebid.server.vertx.verticles.server.ServerVerticle;
 import org.prebid.server.vertx.verticles.server.application.ApplicationResource;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -211,6 +216,7 @@ public class ApplicationServerConfiguration {
     @Bean
     AuctionHandler openrtbAuctionHandler(
             ExchangeService exchangeService,
+            AdmissionController admissionController,
             SkippedAuctionService skippedAuctionService,
             AuctionRequestFactory auctionRequestFactory,
             AnalyticsReporterDelegator analyticsReporter,
@@ -220,12 +226,14 @@ public class ApplicationServerConfiguration {
             HttpInteractionLogger httpInteractionLogger,
             PrebidVersionProvider prebidVersionProvider,
             HookStageExecutor hookStageExecutor,
-            JacksonMapper mapper) {
+            JacksonMapper mapper,
+            @Autowired(required = false) TrafficCaptureService trafficCaptureService) {
 
         return new AuctionHandler(
                 logSamplingRate,
                 auctionRequestFactory,
                 exchangeService,
+                admissionController,
                 skippedAuctionService,
                 analyticsReporter,
                 metrics,
@@ -234,13 +242,15 @@ public class ApplicationServerConfiguration {
                 httpInteractionLogger,
                 prebidVersionProvider,
                 hookStageExecutor,
-                mapper);
+                mapper,
+                trafficCaptureService);
     }
 
     @Bean
     AmpHandler openrtbAmpHandler(
             AmpRequestFactory ampRequestFactory,
             ExchangeService exchangeService,
+            AdmissionController admissionController,
             AnalyticsReporterDelegator analyticsReporter,
             Metrics metrics,
             HooksMetricsService hooksMetricsService,
@@ -256,6 +266,7 @@ public class ApplicationServerConfiguration {
         return new AmpHandler(
                 ampRequestFactory,
                 exchangeService,
+                admissionController,
                 analyticsReporter,
                 metrics,
                 hooksMetricsService,
@@ -400,6 +411,19 @@ public class ApplicationServerConfiguration {
         return new GetVtrackHandler(defaultTimeoutMs, coreCacheService, timeoutFactory);
     }
 
+    @Bean
+    @ConditionalOnProperty(prefix = "cache.embedded", name = "enabled", havingValue = "true")
+    EmbeddedCacheHandler embeddedCacheHandler(
+            @Value("${cache.embedded.path:/cache}") String path,
+            @Value("${pbc.api.key:#{null}}") String apiKey,
+            @Value("${cache.api-key-secured:false}") boolean apiKeySecured,
+            @Value("${cache.embedded.allow-custom-keys:false}") boolean allowCustomKeys,
+            EmbeddedCacheStore embeddedCacheStore,
+            JacksonMapper mapper) {
+
+        return new EmbeddedCacheHandler(path, embeddedCacheStore, apiKey, apiKeySecured, allowCustomKeys, mapper);
+    }
+
     @Bean
     OptoutHandler optoutHandler(
             @Value("${external-url}") String externalUrl,
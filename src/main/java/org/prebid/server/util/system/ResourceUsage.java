@@ -0,0 +1,24 @@
+package org.prebid.server.util.system;
+
+import lombok.Value;
+
+/**
+ * CPU time and heap allocation spent by the current thread on a measured piece of work.
+ */
+@Value(staticConstructor = "of")
+public class ResourceUsage {
+
+    private static final ResourceUsage EMPTY = ResourceUsage.of(0L, 0L);
+
+    long cpuTimeNanos;
+
+    long allocatedBytes;
+
+    public ResourceUsage plus(ResourceUsage other) {
+        return ResourceUsage.of(cpuTimeNanos + other.cpuTimeNanos, allocatedBytes + other.allocatedBytes);
+    }
+
+    public static ResourceUsage empty() {
+        return EMPTY;
+    }
+}
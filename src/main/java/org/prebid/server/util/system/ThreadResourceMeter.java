@@ -0,0 +1,89 @@
+package org.prebid.server.util.system;
+
+import com.sun.management.ThreadMXBean;
+import org.prebid.server.log.Logger;
+import org.prebid.server.log.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Measures CPU time and heap allocation of the current thread spent on synchronous pieces of work
+ * (adapter request/response processing, hook invocations, auction phases).
+ * <p>
+ * Reading thread counters is cheap but not free, so only the given share of invocations is measured, unless
+ * measurement is forced (e.g. for debug requests).
+ */
+public class ThreadResourceMeter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ThreadResourceMeter.class);
+
+    private static final ThreadResourceMeter DISABLED = new ThreadResourceMeter(0.0, null);
+
+    private final double samplingRate;
+    private final ThreadMXBean threadMXBean;
+
+    public ThreadResourceMeter(double samplingRate) {
+        this(samplingRate, resolveThreadMXBean());
+    }
+
+    ThreadResourceMeter(double samplingRate, ThreadMXBean threadMXBean) {
+        if (samplingRate < 0 || samplingRate > 1) {
+            throw new IllegalArgumentException("Sampling rate should be between 0 and 1");
+        }
+
+        this.samplingRate = samplingRate;
+        this.threadMXBean = threadMXBean;
+    }
+
+    /**
+     * Returns meter which never measures anything.
+     */
+    public static ThreadResourceMeter disabled() {
+        return DISABLED;
+    }
+
+    private static ThreadMXBean resolveThreadMXBean() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof ThreadMXBean threadMXBean)
+                || !threadMXBean.isCurrentThreadCpuTimeSupported()
+                || !threadMXBean.isThreadAllocatedMemorySupported()) {
+
+            logger.warn("Thread CPU time or allocated memory measurement is not supported by JVM,"
+                    + " resource accounting is disabled");
+            return null;
+        }
+
+        threadMXBean.setThreadCpuTimeEnabled(true);
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+        return threadMXBean;
+    }
+
+    /**
+     * Runs the given action and, if the invocation is sampled or measurement is forced, passes CPU time and
+     * allocation of the current thread spent on it to the given consumer.
+     * <p>
+     * Nothing is reported if the action throws an exception.
+     */
+    public <T> T measure(Supplier<T> action, boolean force, Consumer<ResourceUsage> usageConsumer) {
+        if (!shouldMeasure(force)) {
+            return action.get();
+        }
+
+        final long cpuTimeBefore = threadMXBean.getCurrentThreadCpuTime();
+        final long allocatedBytesBefore = threadMXBean.getCurrentThreadAllocatedBytes();
+
+        final T result = action.get();
+
+        usageConsumer.accept(ResourceUsage.of(
+                threadMXBean.getCurrentThreadCpuTime() - cpuTimeBefore,
+                threadMXBean.getCurrentThreadAllocatedBytes() - allocatedBytesBefore));
+
+        return result;
+    }
+
+    private boolean shouldMeasure(boolean force) {
+        return threadMXBean != null && (force || ThreadLocalRandom.current().nextDouble() < samplingRate);
+    }
+}
@@ -14,24 +14,10 @@ import org.prebid.server.metric.Metrics;
 
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 public class VastModifier {
 
-    private static final Pattern WRAPPER_OPEN_TAG_PATTERN =
-            Pattern.compile("<\\s*wrapper(?:>|\\s.*?>)", Pattern.CASE_INSENSITIVE);
-    private static final Pattern WRAPPER_CLOSE_TAG_PATTERN =
-            Pattern.compile("<\\s*/\\s*wrapper(?:>|\\s.*?>)", Pattern.CASE_INSENSITIVE);
-    private static final Pattern INLINE_OPEN_TAG_PATTERN =
-            Pattern.compile("<\\s*inline(?:>|\\s.*?>)", Pattern.CASE_INSENSITIVE);
-    private static final Pattern INLINE_CLOSE_TAG_PATTERN =
-            Pattern.compile("<\\s*/\\s*inline(?:>|\\s.*?>)", Pattern.CASE_INSENSITIVE);
-    private static final Pattern IMPRESSION_CLOSE_TAG_PATTERN =
-            Pattern.compile("<\\s*/\\s*impression(?:>|\\s.*?>)", Pattern.CASE_INSENSITIVE);
-
     private final BidderCatalog bidderCatalog;
     private final EventsService eventsService;
     private final Metrics metrics;
@@ -110,41 +96,11 @@ public class VastModifier {
     }
 
     private static String appendTrackingUrlToVastXml(String xml, String urlTracking, String bidder) {
-        return appendTrackingUrl(xml, urlTracking, INLINE_OPEN_TAG_PATTERN, INLINE_CLOSE_TAG_PATTERN)
-                .or(() -> appendTrackingUrl(xml, urlTracking, WRAPPER_OPEN_TAG_PATTERN, WRAPPER_CLOSE_TAG_PATTERN))
-                .orElseThrow(() -> new PreBidException(
-                        "VastXml does not contain neither InLine nor Wrapper for %s response".formatted(bidder)));
-    }
-
-    private static Optional<String> appendTrackingUrl(String vastXml,
-                                                      String vastUrlTracking,
-                                                      Pattern openTagPattern,
-                                                      Pattern closeTagPattern) {
-
-        final Matcher openTagMatcher = openTagPattern.matcher(vastXml);
-        if (!openTagMatcher.find()) {
-            return Optional.empty();
-        }
-
-        final Matcher impressionCloseTagMatcher = IMPRESSION_CLOSE_TAG_PATTERN.matcher(vastXml);
-        if (impressionCloseTagMatcher.find(openTagMatcher.end())) {
-            int replacementEnd = impressionCloseTagMatcher.end();
-            while (impressionCloseTagMatcher.find(replacementEnd)) {
-                replacementEnd = impressionCloseTagMatcher.end();
-            }
-            return Optional.of(insertUrlTracking(vastXml, replacementEnd, vastUrlTracking));
-        }
-
-        final Matcher closeTagMatcher = closeTagPattern.matcher(vastXml);
-        if (!closeTagMatcher.find(openTagMatcher.end())) {
-            return Optional.of(vastXml);
+        try {
+            return VastTrackingInserter.insert(xml, urlTracking);
+        } catch (IllegalArgumentException e) {
+            throw new PreBidException(
+                    "VastXml does not contain neither InLine nor Wrapper for %s response".formatted(bidder));
         }
-
-        return Optional.of(insertUrlTracking(vastXml, closeTagMatcher.start(), vastUrlTracking));
-    }
-
-    private static String insertUrlTracking(String vastXml, int index, String vastUrlTracking) {
-        final String impressionTag = "<Impression><![CDATA[" + vastUrlTracking + "]]></Impression>";
-        return vastXml.substring(0, index) + impressionTag + vastXml.substring(index);
     }
 }
@@ -0,0 +1,197 @@
+package org.prebid.server.vast;
+
+/**
+ * Inserts impression tracking URL into VAST XML in a single forward scan.
+ * <p>
+ * The tracker goes right after the last {@code </Impression>} tag found after the first {@code <InLine>}
+ * (or {@code <Wrapper>} if there is no InLine) element, or right before the element's close tag if there
+ * are no impressions. Tag names are matched case-insensitively and content of comments and CDATA sections is
+ * skipped.
+ * <p>
+ * Works on {@link String} only: VAST markup comes from {@code bid.adm} or cached bid value, which are already
+ * decoded by JSON parsing, so a byte-based variant would require re-encoding the document first.
+ */
+public class VastTrackingInserter {
+
+    /**
+     * Document has neither InLine nor Wrapper element.
+     */
+    private static final int NO_AD_ELEMENT = -1;
+
+    /**
+     * Document has InLine or Wrapper element, but there is no place to insert the tracker.
+     */
+    private static final int NO_INSERTION_POINT = -2;
+
+    private static final String INLINE = "inline";
+    private static final String WRAPPER = "wrapper";
+    private static final String IMPRESSION = "impression";
+    private static final String COMMENT_START = "<!--";
+    private static final String COMMENT_END = "-->";
+    private static final String CDATA_START = "<![CDATA[";
+    private static final String CDATA_END = "]]>";
+
+    private VastTrackingInserter() {
+    }
+
+    /**
+     * Returns VAST XML with impression tag tracking given URL inserted.
+     * Returns the same instance if there is no place to insert the tracker.
+     *
+     * @throws IllegalArgumentException if VAST XML has neither InLine nor Wrapper element.
+     */
+    public static String insert(String vastXml, String trackingUrl) {
+        final int index = insertionIndex(vastXml);
+        if (index == NO_AD_ELEMENT) {
+            throw new IllegalArgumentException("VastXml does not contain neither InLine nor Wrapper");
+        }
+        if (index == NO_INSERTION_POINT) {
+            return vastXml;
+        }
+
+        final String impressionTag = impressionTag(trackingUrl);
+        return new StringBuilder(vastXml.length() + impressionTag.length())
+                .append(vastXml, 0, index)
+                .append(impressionTag)
+                .append(vastXml, index, vastXml.length())
+                .toString();
+    }
+
+    private static String impressionTag(String trackingUrl) {
+        return "<Impression><![CDATA[" + trackingUrl + "]]></Impression>";
+    }
+
+    /**
+     * Returns position to insert impression tracker at, {@link #NO_AD_ELEMENT} or {@link #NO_INSERTION_POINT}.
+     */
+    private static int insertionIndex(CharSequence xml) {
+        final int length = xml.length();
+
+        int inlineOpenEnd = -1;
+        int inlineCloseStart = -1;
+        int wrapperOpenEnd = -1;
+        int wrapperCloseStart = -1;
+        int lastImpressionCloseEnd = -1;
+
+        int position = 0;
+        while (position < length) {
+            final int tagStart = indexOf(xml, '<', position);
+            if (tagStart == -1) {
+                break;
+            }
+
+            if (regionMatches(xml, tagStart, COMMENT_START)) {
+                position = skipPast(xml, tagStart + COMMENT_START.length(), COMMENT_END);
+                continue;
+            }
+            if (regionMatches(xml, tagStart, CDATA_START)) {
+                position = skipPast(xml, tagStart + CDATA_START.length(), CDATA_END);
+                continue;
+            }
+
+            int nameStart = skipWhitespaces(xml, tagStart + 1);
+            final boolean closing = nameStart < length && xml.charAt(nameStart) == '/';
+            if (closing) {
+                nameStart = skipWhitespaces(xml, nameStart + 1);
+            }
+            int nameEnd = nameStart;
+            while (nameEnd < length && !isTagNameEnd(xml.charAt(nameEnd))) {
+                nameEnd++;
+            }
+
+            final int tagEnd = indexOf(xml, '>', nameEnd);
+            if (tagEnd == -1) {
+                break;
+            }
+            position = tagEnd + 1;
+
+            if (nameEqualsIgnoreCase(xml, nameStart, nameEnd, IMPRESSION)) {
+                if (closing) {
+                    lastImpressionCloseEnd = position;
+                }
+            } else if (nameEqualsIgnoreCase(xml, nameStart, nameEnd, INLINE)) {
+                if (!closing && inlineOpenEnd == -1) {
+                    inlineOpenEnd = position;
+                } else if (closing && inlineOpenEnd != -1 && inlineCloseStart == -1) {
+                    inlineCloseStart = tagStart;
+                }
+            } else if (nameEqualsIgnoreCase(xml, nameStart, nameEnd, WRAPPER)) {
+                if (!closing && wrapperOpenEnd == -1) {
+                    wrapperOpenEnd = position;
+                } else if (closing && wrapperOpenEnd != -1 && wrapperCloseStart == -1) {
+                    wrapperCloseStart = tagStart;
+                }
+            }
+        }
+
+        if (inlineOpenEnd != -1) {
+            return insertionIndex(inlineOpenEnd, inlineCloseStart, lastImpressionCloseEnd);
+        }
+        if (wrapperOpenEnd != -1) {
+            return insertionIndex(wrapperOpenEnd, wrapperCloseStart, lastImpressionCloseEnd);
+        }
+        return NO_AD_ELEMENT;
+    }
+
+    private static int insertionIndex(int openEnd, int closeStart, int lastImpressionCloseEnd) {
+        if (lastImpressionCloseEnd > openEnd) {
+            return lastImpressionCloseEnd;
+        }
+        return closeStart != -1 ? closeStart : NO_INSERTION_POINT;
+    }
+
+    private static int indexOf(CharSequence xml, char ch, int from) {
+        for (int i = from; i < xml.length(); i++) {
+            if (xml.charAt(i) == ch) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean regionMatches(CharSequence xml, int offset, String expected) {
+        if (offset + expected.length() > xml.length()) {
+            return false;
+        }
+        for (int i = 0; i < expected.length(); i++) {
+            if (xml.charAt(offset + i) != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int skipPast(CharSequence xml, int from, String terminator) {
+        final char first = terminator.charAt(0);
+        for (int i = from; i <= xml.length() - terminator.length(); i++) {
+            if (xml.charAt(i) == first && regionMatches(xml, i, terminator)) {
+                return i + terminator.length();
+            }
+        }
+        return xml.length();
+    }
+
+    private static int skipWhitespaces(CharSequence xml, int from) {
+        int position = from;
+        while (position < xml.length() && Character.isWhitespace(xml.charAt(position))) {
+            position++;
+        }
+        return position;
+    }
+
+    private static boolean isTagNameEnd(char ch) {
+        return ch == '>' || Character.isWhitespace(ch);
+    }
+
+    private static boolean nameEqualsIgnoreCase(CharSequence xml, int start, int end, String lowerCaseName) {
+        if (end - start != lowerCaseName.length()) {
+            return false;
+        }
+        for (int i = 0; i < lowerCaseName.length(); i++) {
+            if (Character.toLowerCase(xml.charAt(start + i)) != lowerCaseName.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
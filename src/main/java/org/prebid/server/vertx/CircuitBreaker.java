@@ -6,6 +6,7 @@ import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import org.prebid.server.execution.blocking.BlockingExecutor;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
 
@@ -21,7 +22,7 @@ public class CircuitBreaker {
     private static final Logger logger = LoggerFactory.getLogger(CircuitBreaker.class);
 
     private final io.vertx.circuitbreaker.CircuitBreaker breaker;
-    private final Vertx vertx;
+    private final BlockingExecutor blockingExecutor;
     private final long openingIntervalMs;
     private final Clock clock;
 
@@ -34,6 +35,18 @@ public class CircuitBreaker {
                           long closingIntervalMs,
                           Clock clock) {
 
+        this(name, vertx, openingThreshold, openingIntervalMs, closingIntervalMs, clock,
+                BlockingExecutor.workerPool(vertx));
+    }
+
+    public CircuitBreaker(String name,
+                          Vertx vertx,
+                          int openingThreshold,
+                          long openingIntervalMs,
+                          long closingIntervalMs,
+                          Clock clock,
+                          BlockingExecutor blockingExecutor) {
+
         breaker = io.vertx.circuitbreaker.CircuitBreaker.create(
                 Objects.requireNonNull(name),
                 Objects.requireNonNull(vertx),
@@ -42,7 +55,7 @@ public class CircuitBreaker {
                         .setMaxFailures(openingThreshold)
                         .setResetTimeout(closingIntervalMs));
 
-        this.vertx = vertx;
+        this.blockingExecutor = Objects.requireNonNull(blockingExecutor);
         this.openingIntervalMs = openingIntervalMs;
         this.clock = Objects.requireNonNull(clock);
     }
@@ -78,17 +91,14 @@ public class CircuitBreaker {
      * Fails given {@link Promise} and returns corresponding {@link Future}.
      */
     private <T> Future<T> failBreaker(Throwable exception, Promise<T> promise) {
-        final Promise<T> ensureStatePromise = Promise.promise();
-        vertx.executeBlocking(this::ensureState, false, ensureStatePromise);
-
-        return ensureStatePromise.future()
-                .recover(throwable -> {
-                    logger.warn("Resetting circuit breaker state failed", throwable);
-                    promise.fail(throwable);
-                    return promise.future();
-                })
-                .compose(ignored -> { // ensuring state succeeded, propagate real error
-                    promise.fail(exception);
+        return blockingExecutor.execute(this::ensureState)
+                .transform(result -> {
+                    if (result.failed()) {
+                        logger.warn("Resetting circuit breaker state failed", result.cause());
+                        promise.fail(result.cause());
+                    } else { // ensuring state succeeded, propagate real error
+                        promise.fail(exception);
+                    }
                     return promise.future();
                 });
     }
@@ -100,7 +110,7 @@ public class CircuitBreaker {
      * and {@link io.vertx.circuitbreaker.CircuitBreaker#reset()} can take a while,
      * so it is better to perform them on a worker thread.
      */
-    private <T> void ensureState(Promise<T> executeBlockingPromise) {
+    private Void ensureState() {
         final long currentTime = clock.millis();
         if (breaker.state() == CircuitBreakerState.CLOSED && lastFailureTime > 0
                 && currentTime - lastFailureTime > openingIntervalMs) {
@@ -108,7 +118,7 @@ public class CircuitBreaker {
         }
 
         lastFailureTime = currentTime;
-        executeBlockingPromise.complete();
+        return null;
     }
 
     /**
@@ -4,6 +4,7 @@ import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.RowSet;
+import org.prebid.server.execution.blocking.BlockingExecutor;
 import org.prebid.server.execution.timeout.Timeout;
 import org.prebid.server.log.ConditionalLogger;
 import org.prebid.server.log.Logger;
@@ -37,6 +38,19 @@ public class CircuitBreakerSecuredDatabaseClient implements DatabaseClient {
                                                long closingIntervalMs,
                                                Clock clock) {
 
+        this(vertx, databaseClient, metrics, openingThreshold, openingIntervalMs, closingIntervalMs, clock,
+                BlockingExecutor.workerPool(vertx));
+    }
+
+    public CircuitBreakerSecuredDatabaseClient(Vertx vertx,
+                                               DatabaseClient databaseClient,
+                                               Metrics metrics,
+                                               int openingThreshold,
+                                               long openingIntervalMs,
+                                               long closingIntervalMs,
+                                               Clock clock,
+                                               BlockingExecutor blockingExecutor) {
+
         this.databaseClient = Objects.requireNonNull(databaseClient);
 
         breaker = new CircuitBreaker(
@@ -45,7 +59,8 @@ public class CircuitBreakerSecuredDatabaseClient implements DatabaseClient {
                 openingThreshold,
                 openingIntervalMs,
                 closingIntervalMs,
-                Objects.requireNonNull(clock))
+                Objects.requireNonNull(clock),
+                blockingExecutor)
                 .openHandler(ignored -> circuitOpened())
                 .halfOpenHandler(ignored -> circuitHalfOpened())
                 .closeHandler(ignored -> circuitClosed());
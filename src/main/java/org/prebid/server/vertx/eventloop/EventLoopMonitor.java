@@ -0,0 +1,280 @@
+package org.prebid.server.vertx.eventloop;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.SingleThreadEventExecutor;
+import io.vertx.core.Promise;
+import io.vertx.core.impl.VertxThread;
+import org.prebid.server.log.Logger;
+import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.vertx.Initializable;
+import org.prebid.server.vertx.eventloop.model.EventLoopStats;
+import org.prebid.server.vertx.eventloop.model.StackSample;
+
+import java.time.Clock;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Samples Vert.x event loops to detect overload before it shows up in request latencies.
+ * <p>
+ * Every probe interval a probe task is submitted to each event loop, and the time it waits in the loop's queue is
+ * the loop's lag. A loop which hasn't run its probe for longer than the stack sample threshold is blocked, and the
+ * stack trace of its thread is taken to show the task blocking it. Duration of the task currently running on a loop
+ * is read from the Vert.x thread, the same way Vert.x blocked thread checker does.
+ * <p>
+ * Sampling runs on its own daemon thread, so it goes on while event loops are blocked. Max values are kept per
+ * window and reported for the last complete window and the current one.
+ */
+public class EventLoopMonitor implements Initializable {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventLoopMonitor.class);
+
+    private final long probeIntervalMillis;
+    private final long windowNanos;
+    private final long stackSampleThresholdNanos;
+    private final int maxStackSamples;
+    private final Clock clock;
+    private final Metrics metrics;
+
+    private final List<LoopState> loops;
+    private final Deque<StackSample> stackSamples = new ArrayDeque<>();
+    private long windowStart = System.nanoTime();
+
+    public EventLoopMonitor(EventLoopGroup eventLoopGroup,
+                            long probeIntervalMillis,
+                            long windowMillis,
+                            long stackSampleThresholdMillis,
+                            int maxStackSamples,
+                            Clock clock,
+                            Metrics metrics) {
+
+        if (probeIntervalMillis < 1) {
+            throw new IllegalArgumentException("Event loop probe interval should be positive");
+        }
+        if (windowMillis < probeIntervalMillis) {
+            throw new IllegalArgumentException(
+                    "Event loop monitoring window should not be shorter than probe interval");
+        }
+        if (maxStackSamples < 0) {
+            throw new IllegalArgumentException("Max stack samples should not be negative");
+        }
+
+        this.probeIntervalMillis = probeIntervalMillis;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+        this.stackSampleThresholdNanos = TimeUnit.MILLISECONDS.toNanos(stackSampleThresholdMillis);
+        this.maxStackSamples = maxStackSamples;
+        this.clock = Objects.requireNonNull(clock);
+        this.metrics = Objects.requireNonNull(metrics);
+
+        final List<LoopState> loopStates = new ArrayList<>();
+        for (EventExecutor executor : Objects.requireNonNull(eventLoopGroup)) {
+            loopStates.add(new LoopState(loopStates.size(), executor));
+        }
+        loops = Collections.unmodifiableList(loopStates);
+
+        for (LoopState loop : loops) {
+            metrics.createEventLoopGauges(
+                    loop.index, loop::pendingTasks, () -> TimeUnit.NANOSECONDS.toMillis(loop.maxTaskDuration()));
+        }
+    }
+
+    @Override
+    public void initialize(Promise<Void> initializePromise) {
+        final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("event-loop-monitor").daemon().factory());
+        scheduler.scheduleAtFixedRate(
+                this::checkSafely, probeIntervalMillis, probeIntervalMillis, TimeUnit.MILLISECONDS);
+
+        initializePromise.tryComplete();
+    }
+
+    private void checkSafely() {
+        try {
+            check();
+        } catch (RuntimeException e) {
+            // the exception would stop further checks
+            logger.error("Event loop check failed", e);
+        }
+    }
+
+    void check() {
+        final long now = System.nanoTime();
+        if (now - windowStart >= windowNanos) {
+            loops.forEach(LoopState::rollWindow);
+            windowStart = now;
+        }
+
+        for (LoopState loop : loops) {
+            checkLoop(loop, now);
+        }
+    }
+
+    private void checkLoop(LoopState loop, long now) {
+        if (!loop.probePending) {
+            submitProbe(loop, now);
+        } else {
+            final long submitTime = loop.probeSubmitTime;
+            final long lag = now - submitTime;
+            loop.windowMaxLag.accumulateAndGet(lag, Math::max);
+
+            if (lag >= stackSampleThresholdNanos && loop.sampledProbeSubmitTime != submitTime) {
+                loop.sampledProbeSubmitTime = submitTime;
+                sampleBlockedStack(loop, lag);
+            }
+        }
+
+        if (loop.thread instanceof VertxThread vertxThread) {
+            final long taskStartTime = vertxThread.startTime();
+            if (taskStartTime != 0) {
+                loop.windowMaxTaskDuration.accumulateAndGet(now - taskStartTime, Math::max);
+            }
+        }
+    }
+
+    private void submitProbe(LoopState loop, long submitTime) {
+        loop.probeSubmitTime = submitTime;
+        loop.probePending = true;
+        try {
+            loop.executor.execute(() -> completeProbe(loop, submitTime));
+        } catch (RejectedExecutionException e) {
+            // event loop is shutting down
+            loop.probePending = false;
+        }
+    }
+
+    private void completeProbe(LoopState loop, long submitTime) {
+        final long lag = System.nanoTime() - submitTime;
+        loop.thread = Thread.currentThread();
+        loop.windowMaxLag.accumulateAndGet(lag, Math::max);
+        metrics.updateEventLoopLagMetric(loop.index, lag);
+        loop.probePending = false;
+    }
+
+    private void sampleBlockedStack(LoopState loop, long lag) {
+        final StackSample sample = sampleStack(loop, lag);
+        if (sample == null) {
+            return;
+        }
+
+        metrics.updateEventLoopBlockedMetric(loop.index);
+        logger.warn("Event loop {} has been blocked for {} ms, thread {} stack trace:\n\tat {}",
+                sample.getEventLoop(),
+                sample.getBlockedMs(),
+                sample.getThread(),
+                String.join("\n\tat ", sample.getStackTrace()));
+
+        synchronized (stackSamples) {
+            stackSamples.addFirst(sample);
+            while (stackSamples.size() > maxStackSamples) {
+                stackSamples.removeLast();
+            }
+        }
+    }
+
+    private StackSample sampleStack(LoopState loop, long lag) {
+        final Thread thread = loop.thread;
+        if (thread == null) {
+            return null;
+        }
+
+        final List<String> stackTrace = Arrays.stream(thread.getStackTrace())
+                .map(StackTraceElement::toString)
+                .toList();
+        return StackSample.of(
+                loop.index, thread.getName(), clock.millis(), TimeUnit.NANOSECONDS.toMillis(lag), stackTrace);
+    }
+
+    /**
+     * Returns max lag over all event loops, in milliseconds.
+     */
+    public long getMaxLagMillis() {
+        final long maxLag = loops.stream()
+                .mapToLong(LoopState::maxLag)
+                .max()
+                .orElse(0L);
+        return TimeUnit.NANOSECONDS.toMillis(maxLag);
+    }
+
+    public List<EventLoopStats> getStats() {
+        return loops.stream()
+                .map(loop -> EventLoopStats.of(
+                        loop.index,
+                        loop.thread != null ? loop.thread.getName() : null,
+                        loop.pendingTasks(),
+                        TimeUnit.NANOSECONDS.toMillis(loop.maxLag()),
+                        TimeUnit.NANOSECONDS.toMillis(loop.maxTaskDuration())))
+                .toList();
+    }
+
+    /**
+     * Returns stack samples taken while event loops were blocked, the latest first.
+     */
+    public List<StackSample> getStackSamples() {
+        synchronized (stackSamples) {
+            return List.copyOf(stackSamples);
+        }
+    }
+
+    /**
+     * Takes stack traces of all event loop threads right away.
+     */
+    public List<StackSample> sampleStacks() {
+        final long now = System.nanoTime();
+        return loops.stream()
+                .map(loop -> sampleStack(loop, loop.probePending ? now - loop.probeSubmitTime : 0L))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private static class LoopState {
+
+        private final int index;
+        private final EventExecutor executor;
+
+        private volatile Thread thread;
+        private volatile boolean probePending;
+        private volatile long probeSubmitTime;
+        private long sampledProbeSubmitTime;
+
+        private final AtomicLong windowMaxLag = new AtomicLong();
+        private final AtomicLong windowMaxTaskDuration = new AtomicLong();
+        private volatile long lastWindowMaxLag;
+        private volatile long lastWindowMaxTaskDuration;
+
+        LoopState(int index, EventExecutor executor) {
+            this.index = index;
+            this.executor = executor;
+        }
+
+        long pendingTasks() {
+            return executor instanceof SingleThreadEventExecutor singleThreadExecutor
+                    ? singleThreadExecutor.pendingTasks()
+                    : 0L;
+        }
+
+        long maxLag() {
+            return Math.max(lastWindowMaxLag, windowMaxLag.get());
+        }
+
+        long maxTaskDuration() {
+            return Math.max(lastWindowMaxTaskDuration, windowMaxTaskDuration.get());
+        }
+
+        void rollWindow() {
+            lastWindowMaxLag = windowMaxLag.getAndSet(0L);
+            lastWindowMaxTaskDuration = windowMaxTaskDuration.getAndSet(0L);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package org.prebid.server.vertx.eventloop.model;
+
+import lombok.Value;
+
+/**
+ * State of a single event loop, max values cover the last complete monitoring window and the current one.
+ */
+@Value(staticConstructor = "of")
+public class EventLoopStats {
+
+    int index;
+
+    /**
+     * Name of the event loop thread, null until the loop has run its first probe.
+     */
+    String thread;
+
+    long pendingTasks;
+
+    /**
+     * Max time a probe waited in the loop's queue.
+     */
+    long maxLagMs;
+
+    /**
+     * Max observed duration of a single task, zero when the loop thread doesn't expose task start time.
+     */
+    long maxTaskDurationMs;
+}
@@ -0,0 +1,25 @@
+package org.prebid.server.vertx.eventloop.model;
+
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Stack trace of an event loop thread, taken while the loop was blocked or on demand.
+ */
+@Value(staticConstructor = "of")
+public class StackSample {
+
+    int eventLoop;
+
+    String thread;
+
+    long timestamp;
+
+    /**
+     * For how long the loop hadn't run its probe when the stack trace was taken.
+     */
+    long blockedMs;
+
+    List<String> stackTrace;
+}
@@ -9,26 +9,76 @@ import io.vertx.core.http.HttpClientRequest;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.RequestOptions;
+import io.vertx.core.net.SocketAddress;
 import org.prebid.server.exception.PreBidException;
+import org.prebid.server.log.Logger;
+import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.vertx.httpclient.model.HttpClientPool;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
 
 import java.net.MalformedURLException;
+import java.net.URI;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.TimeoutException;
 
 /**
  * Simple wrapper around {@link HttpClient} with general functionality.
+ * <p>
+ * Requests to destinations having a dedicated {@link HttpClientPool} go through the pool's client,
+ * all others share the default one. Hosts known to {@link CachingHostResolver} are connected to by the cached
+ * address, others are resolved by Vert.x.
  */
 public class BasicHttpClient implements HttpClient {
 
+    private static final Logger logger = LoggerFactory.getLogger(BasicHttpClient.class);
+
     private final Vertx vertx;
     private final io.vertx.core.http.HttpClient httpClient;
+    private final Map<String, DedicatedPool> dedicatedPools;
+    private final CachingHostResolver hostResolver;
+    private final Metrics metrics;
+    private final Clock clock;
 
     public BasicHttpClient(Vertx vertx, io.vertx.core.http.HttpClient httpClient) {
         this.vertx = Objects.requireNonNull(vertx);
         this.httpClient = Objects.requireNonNull(httpClient);
+
+        dedicatedPools = Collections.emptyMap();
+        hostResolver = null;
+        metrics = null;
+        clock = null;
+    }
+
+    public BasicHttpClient(Vertx vertx,
+                           io.vertx.core.http.HttpClient httpClient,
+                           List<HttpClientPool> pools,
+                           CachingHostResolver hostResolver,
+                           Metrics metrics,
+                           Clock clock) {
+
+        this.vertx = Objects.requireNonNull(vertx);
+        this.httpClient = Objects.requireNonNull(httpClient);
+        this.hostResolver = hostResolver;
+        this.metrics = Objects.requireNonNull(metrics);
+        this.clock = Objects.requireNonNull(clock);
+
+        dedicatedPools = new HashMap<>();
+        for (HttpClientPool pool : pools) {
+            final DedicatedPool dedicatedPool = new DedicatedPool(pool);
+            dedicatedPools.put(destinationOf(parseUrl(pool.getUrl())), dedicatedPool);
+            prewarm(dedicatedPool);
+            if (pool.getPrewarmPeriodMs() > 0) {
+                vertx.setPeriodic(pool.getPrewarmPeriodMs(), ignored -> prewarmIfIdle(dedicatedPool));
+            }
+        }
     }
 
     @Override
@@ -71,7 +121,19 @@ public class BasicHttpClient implements HttpClient {
                 .setAbsoluteURI(absoluteUrl)
                 .setHeaders(headers);
 
-        final Future<HttpClientRequest> requestFuture = makeRequest(options);
+        if (hostResolver != null) {
+            final String address = hostResolver.resolve(absoluteUrl.getHost());
+            if (address != null) {
+                options.setServer(SocketAddress.inetSocketAddress(portOf(absoluteUrl), address));
+            }
+        }
+
+        final DedicatedPool dedicatedPool = dedicatedPools.isEmpty()
+                ? null
+                : dedicatedPools.get(destinationOf(absoluteUrl));
+        final Future<HttpClientRequest> requestFuture = dedicatedPool != null
+                ? makeRequest(dedicatedPool, options)
+                : makeRequest(httpClient, options);
 
         requestFuture
                 .compose(request -> body != null ? request.send(Buffer.buffer(body)) : request.send())
@@ -84,14 +146,69 @@ public class BasicHttpClient implements HttpClient {
                 .onFailure(ignored -> requestFuture.onSuccess(HttpClientRequest::reset));
     }
 
-    private Future<HttpClientRequest> makeRequest(RequestOptions options) {
+    /**
+     * Requests connection from the dedicated pool, reporting how long it took: the pool wait,
+     * plus connect and TLS handshake time when a new connection had to be opened.
+     */
+    private Future<HttpClientRequest> makeRequest(DedicatedPool dedicatedPool, RequestOptions options) {
+        dedicatedPool.used = true;
+
+        final String name = dedicatedPool.pool.getName();
+        final long startTime = clock.millis();
+        return makeRequest(dedicatedPool.pool.getHttpClient(), options)
+                .onSuccess(ignored -> metrics.updateHttpClientConnectionWaitMetric(name, clock.millis() - startTime));
+    }
+
+    private static Future<HttpClientRequest> makeRequest(io.vertx.core.http.HttpClient client, RequestOptions options) {
         try {
-            return httpClient.request(options);
+            return client.request(options);
         } catch (Throwable e) {
             return Future.failedFuture(e);
         }
     }
 
+    private void prewarmIfIdle(DedicatedPool dedicatedPool) {
+        if (!dedicatedPool.used) {
+            prewarm(dedicatedPool);
+        }
+        dedicatedPool.used = false;
+    }
+
+    /**
+     * Opens connections of the dedicated pool ahead of real traffic by sending concurrent HEAD requests
+     * to the pool's url, which return the connections to the pool once completed.
+     */
+    private static void prewarm(DedicatedPool dedicatedPool) {
+        final HttpClientPool pool = dedicatedPool.pool;
+        for (int i = 0; i < pool.getPrewarmConnections(); i++) {
+            final RequestOptions options = new RequestOptions()
+                    .setMethod(HttpMethod.HEAD)
+                    .setAbsoluteURI(pool.getUrl());
+
+            makeRequest(pool.getHttpClient(), options)
+                    .compose(HttpClientRequest::send)
+                    .compose(io.vertx.core.http.HttpClientResponse::body)
+                    .onFailure(e -> logger.warn("Failed to pre-warm connection to {}: {}",
+                            pool.getUrl(), e.getMessage()));
+        }
+    }
+
+    private static String destinationOf(URL url) {
+        return url.getHost().toLowerCase() + ":" + portOf(url);
+    }
+
+    private static int portOf(URL url) {
+        return url.getPort() != -1 ? url.getPort() : url.getDefaultPort();
+    }
+
+    private static URL parseUrl(String url) {
+        try {
+            return URI.create(url).toURL();
+        } catch (IllegalArgumentException | MalformedURLException e) {
+            throw new PreBidException("Invalid url: " + url, e);
+        }
+    }
+
     private Future<HttpClientResponse> toInternalResponse(io.vertx.core.http.HttpClientResponse response,
                                                           long maxResponseSize) {
 
@@ -109,4 +226,16 @@ public class BasicHttpClient implements HttpClient {
                         body.toString(StandardCharsets.UTF_8)));
 
     }
+
+    private static class DedicatedPool {
+
+        private final HttpClientPool pool;
+
+        // whether the pool was requested since the last idle check
+        private volatile boolean used;
+
+        private DedicatedPool(HttpClientPool pool) {
+            this.pool = pool;
+        }
+    }
 }
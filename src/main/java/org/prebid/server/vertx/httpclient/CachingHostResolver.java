@@ -0,0 +1,198 @@
+package org.prebid.server.vertx.httpclient;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.dns.DnsClient;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.collections4.ListUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.log.Logger;
+import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.vertx.Initializable;
+
+import java.net.URI;
+import java.time.Clock;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Refresh-ahead cache of A/AAAA records for the known outbound hosts, e.g. bidder endpoints.
+ * <p>
+ * Hosts are resolved at startup and re-resolved periodically in background, so requests to them never wait for
+ * DNS lookup. When re-resolving fails, previously resolved addresses are served as stale until max staleness
+ * is reached, so resolver hiccups don't turn into bidder timeouts. Unknown hosts are left to Vert.x resolver.
+ */
+public class CachingHostResolver implements Initializable {
+
+    private static final Logger logger = LoggerFactory.getLogger(CachingHostResolver.class);
+
+    private static final Pattern IPV4_PATTERN = Pattern.compile("^\\d{1,3}(\\.\\d{1,3}){3}$");
+
+    private final Vertx vertx;
+    private final DnsClient dnsClient;
+    private final Set<String> hosts;
+    private final long refreshPeriodMs;
+    private final long maxStaleMs;
+    private final Clock clock;
+    private final Metrics metrics;
+
+    private final Map<String, HostRecord> records = new ConcurrentHashMap<>();
+
+    public CachingHostResolver(Vertx vertx,
+                               DnsClient dnsClient,
+                               Set<String> hosts,
+                               long refreshPeriodMs,
+                               long maxStaleMs,
+                               Clock clock,
+                               Metrics metrics) {
+
+        if (refreshPeriodMs <= 0) {
+            throw new IllegalArgumentException("DNS cache refresh period should be positive");
+        }
+
+        this.vertx = Objects.requireNonNull(vertx);
+        this.dnsClient = Objects.requireNonNull(dnsClient);
+        this.hosts = Objects.requireNonNull(hosts);
+        this.refreshPeriodMs = refreshPeriodMs;
+        this.maxStaleMs = maxStaleMs;
+        this.clock = Objects.requireNonNull(clock);
+        this.metrics = Objects.requireNonNull(metrics);
+    }
+
+    /**
+     * Returns hosts of the given urls which are worth caching: skips malformed urls, IP literals and hosts
+     * containing macros.
+     */
+    public static Set<String> hostsOf(Collection<String> urls) {
+        return urls.stream()
+                .map(CachingHostResolver::hostOf)
+                .filter(StringUtils::isNotBlank)
+                .filter(host -> !StringUtils.containsAny(host, '{', '}', '[', ':'))
+                .filter(host -> !IPV4_PATTERN.matcher(host).matches())
+                .map(String::toLowerCase)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Parses only scheme and authority of the url, so macros in path or query do not make it malformed.
+     */
+    private static String hostOf(String url) {
+        final int authorityStart = url != null ? url.indexOf("://") : -1;
+        if (authorityStart < 0) {
+            return null;
+        }
+
+        int authorityEnd = authorityStart + 3;
+        while (authorityEnd < url.length() && "/?#".indexOf(url.charAt(authorityEnd)) < 0) {
+            authorityEnd++;
+        }
+
+        try {
+            return URI.create(url.substring(0, authorityEnd)).getHost();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public void initialize(Promise<Void> initializePromise) {
+        refreshAll()
+                .onComplete(ignored -> logger.info("Resolved {} of {} outbound hosts", records.size(), hosts.size()))
+                .onComplete(ignored -> initializePromise.tryComplete());
+
+        vertx.setPeriodic(refreshPeriodMs, ignored -> refreshAll());
+    }
+
+    /**
+     * Returns one of the cached addresses of the given host in round-robin manner or null if the host has
+     * no usable record, so it should be resolved by default means.
+     */
+    public String resolve(String host) {
+        final HostRecord record = records.get(host);
+        if (record == null) {
+            return null;
+        }
+
+        if (record.stale) {
+            if (clock.millis() - record.resolvedAt > maxStaleMs) {
+                return null;
+            }
+            metrics.updateDnsStaleServedMetric();
+        }
+
+        return record.nextAddress();
+    }
+
+    private Future<Void> refreshAll() {
+        return Future.join(hosts.stream().map(this::refresh).toList()).mapEmpty();
+    }
+
+    private Future<Void> refresh(String host) {
+        final long startTime = clock.millis();
+        final Future<List<String>> ipv4Addresses = dnsClient.resolveA(host);
+        final Future<List<String>> ipv6Addresses = dnsClient.resolveAAAA(host);
+
+        return Future.join(ipv4Addresses, ipv6Addresses)
+                .transform(ignored -> {
+                    updateRecord(host, addressesOf(ipv4Addresses, ipv6Addresses), startTime);
+                    return Future.succeededFuture();
+                });
+    }
+
+    /**
+     * Prefers IPv4 addresses, same as JVM does by default, and falls back to IPv6 ones for IPv6-only hosts.
+     */
+    private static List<String> addressesOf(Future<List<String>> ipv4Addresses, Future<List<String>> ipv6Addresses) {
+        final List<String> ipv4 = ipv4Addresses.succeeded() ? ipv4Addresses.result() : null;
+        if (CollectionUtils.isNotEmpty(ipv4)) {
+            return ipv4;
+        }
+
+        final List<String> ipv6 = ipv6Addresses.succeeded() ? ipv6Addresses.result() : null;
+        return ListUtils.emptyIfNull(ipv6);
+    }
+
+    private void updateRecord(String host, List<String> addresses, long startTime) {
+        final long now = clock.millis();
+        if (addresses.isEmpty()) {
+            metrics.updateDnsResolveFailedMetric();
+
+            final HostRecord record = records.get(host);
+            if (record != null) {
+                record.stale = true;
+            }
+            return;
+        }
+
+        metrics.updateDnsResolveTimeMetric(now - startTime);
+        records.put(host, new HostRecord(addresses, now));
+    }
+
+    private static class HostRecord {
+
+        private final List<String> addresses;
+        private final long resolvedAt;
+        private final AtomicInteger counter = new AtomicInteger();
+
+        // whether the last attempt to re-resolve the host failed
+        private volatile boolean stale;
+
+        private HostRecord(List<String> addresses, long resolvedAt) {
+            this.addresses = addresses;
+            this.resolvedAt = resolvedAt;
+        }
+
+        private String nextAddress() {
+            return addresses.get(Math.floorMod(counter.getAndIncrement(), addresses.size()));
+        }
+    }
+}
@@ -6,6 +6,7 @@ import io.vertx.core.MultiMap;
 import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpMethod;
 import org.prebid.server.exception.PreBidException;
+import org.prebid.server.execution.blocking.BlockingExecutor;
 import org.prebid.server.log.ConditionalLogger;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
@@ -44,10 +45,24 @@ public class CircuitBreakerSecuredHttpClient implements HttpClient {
                                            int idleExpireHours,
                                            Clock clock) {
 
+        this(vertx, httpClient, metrics, openingThreshold, openingIntervalMs, closingIntervalMs, idleExpireHours,
+                clock, BlockingExecutor.workerPool(vertx));
+    }
+
+    public CircuitBreakerSecuredHttpClient(Vertx vertx,
+                                           HttpClient httpClient,
+                                           Metrics metrics,
+                                           int openingThreshold,
+                                           long openingIntervalMs,
+                                           long closingIntervalMs,
+                                           int idleExpireHours,
+                                           Clock clock,
+                                           BlockingExecutor blockingExecutor) {
+
         this.httpClient = Objects.requireNonNull(httpClient);
 
         circuitBreakerCreator = name -> createCircuitBreaker(
-                name, vertx, openingThreshold, openingIntervalMs, closingIntervalMs, clock, metrics);
+                name, vertx, openingThreshold, openingIntervalMs, closingIntervalMs, clock, blockingExecutor, metrics);
 
         circuitBreakerByName = Caffeine.newBuilder()
                 .expireAfterAccess(idleExpireHours, TimeUnit.HOURS)
@@ -93,6 +108,7 @@ public class CircuitBreakerSecuredHttpClient implements HttpClient {
                                                 long openingIntervalMs,
                                                 long closingIntervalMs,
                                                 Clock clock,
+                                                BlockingExecutor blockingExecutor,
                                                 Metrics metrics) {
 
         final CircuitBreaker circuitBreaker = new CircuitBreaker(
@@ -101,7 +117,8 @@ public class CircuitBreakerSecuredHttpClient implements HttpClient {
                 openingThreshold,
                 openingIntervalMs,
                 closingIntervalMs,
-                Objects.requireNonNull(clock))
+                Objects.requireNonNull(clock),
+                Objects.requireNonNull(blockingExecutor))
                 .openHandler(ignored -> circuitOpened(name))
                 .halfOpenHandler(ignored -> circuitHalfOpened(name))
                 .closeHandler(ignored -> circuitClosed(name));
@@ -0,0 +1,36 @@
+package org.prebid.server.vertx.httpclient.model;
+
+import io.vertx.core.http.HttpClient;
+import lombok.Value;
+
+/**
+ * Connection pool dedicated to a single destination, e.g. a bidder endpoint host.
+ * <p>
+ * Requests to the host and port of the given url go through the pool's own {@link HttpClient}
+ * instead of the shared one, so a busy destination can't starve others of connections.
+ */
+@Value(staticConstructor = "of")
+public class HttpClientPool {
+
+    /**
+     * Name to report pool metrics under.
+     */
+    String name;
+
+    /**
+     * Url of the destination, also requested to pre-warm connections.
+     */
+    String url;
+
+    HttpClient httpClient;
+
+    /**
+     * Number of connections to open at startup and after the pool has been idle.
+     */
+    int prewarmConnections;
+
+    /**
+     * How often to check if the pool has been idle and needs to be pre-warmed again, 0 disables the check.
+     */
+    long prewarmPeriodMs;
+}
@@ -103,6 +103,7 @@ import org.prebid.server.proto.openrtb.ext.response.ExtIgi;
 import org.prebid.server.proto.openrtb.ext.response.ExtIgiIgb;
 import org.prebid.server.proto.openrtb.ext.response.ExtIgiIgs;
 import org.prebid.server.proto.openrtb.ext.response.ExtIgiIgsExt;
+import org.prebid.server.proto.openrtb.ext.response.ExtResourceUsage;
 import org.prebid.server.proto.openrtb.ext.response.ExtResponseCache;
 import org.prebid.server.proto.openrtb.ext.response.ExtResponseDebug;
 import org.prebid.server.proto.openrtb.ext.response.ExtTraceActivityInfrastructure;
@@ -121,6 +122,8 @@ import org.prebid.server.settings.model.AccountBidRankingConfig;
 import org.prebid.server.settings.model.AccountEventsConfig;
 import org.prebid.server.settings.model.VideoStoredDataResult;
 import org.prebid.server.spring.config.model.CacheDefaultTtlProperties;
+import org.prebid.server.util.system.ResourceUsage;
+import org.prebid.server.util.system.ThreadResourceMeter;
 import org.prebid.server.vast.VastModifier;
 
 import java.math.BigDecimal;
@@ -1985,6 +1988,7 @@ public class BidResponseCreatorTest extends VertxTest {
                 clock,
                 jacksonMapper,
                 metrics,
+                ThreadResourceMeter.disabled(),
                 mediaTypeCacheTtl,
                 cacheDefaultProperties);
 
@@ -3397,6 +3401,32 @@ public class BidResponseCreatorTest extends VertxTest {
         verify(coreCacheService).cacheBidsOpenrtb(anyList(), any(), any(), any());
     }
 
+    @Test
+    public void shouldPopulateResponseDebugResourceUsageIfDebugIsEnabled() {
+        // given
+        final Bid bid = Bid.builder().id("bidId1").impid(IMP_ID).price(BigDecimal.valueOf(5.67)).build();
+        final List<BidderResponse> bidderResponses = singletonList(BidderResponse.of(
+                "bidder1",
+                BidderSeatBid.builder()
+                        .bids(singletonList(BidderBid.of(bid, banner, "seat", null)))
+                        .resourceUsage(ResourceUsage.of(1000L, 2048L))
+                        .build(),
+                100));
+
+        final AuctionContext auctionContext = givenAuctionContext(
+                givenBidRequest(givenImp()),
+                builder -> builder
+                        .debugContext(DebugContext.of(true, false, null))
+                        .auctionParticipations(toAuctionParticipant(bidderResponses)));
+
+        // when
+        final BidResponse bidResponse = target.create(auctionContext, CACHE_INFO, MULTI_BIDS).result();
+
+        // then
+        assertThat(bidResponse.getExt().getDebug().getResourceusage())
+                .containsOnly(entry("bidder1", ExtResourceUsage.of(1000L, 2048L)));
+    }
+
     @Test
     public void shouldPassIntegrationToCacheServiceAndBidEvents() {
         // given
@@ -5780,6 +5810,7 @@ public class BidResponseCreatorTest extends VertxTest {
                 clock,
                 jacksonMapper,
                 metrics,
+                ThreadResourceMeter.disabled(),
                 mediaTypeCacheTtl,
                 cacheDefaultProperties);
     }
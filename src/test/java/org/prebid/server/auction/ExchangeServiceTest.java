@@ -160,6 +160,7 @@ import org.prebid.server.settings.model.AccountCacheConfig;
 import org.prebid.server.settings.model.AccountEventsConfig;
 import org.prebid.server.spring.config.bidder.model.CompressionType;
 import org.prebid.server.spring.config.bidder.model.Ortb;
+import org.prebid.server.util.system.ThreadResourceMeter;
 
 import java.io.IOException;
 import java.math.BigDecimal;
@@ -1095,6 +1096,29 @@ public class ExchangeServiceTest extends VertxTest {
                 .contains("test-second-value");
     }
 
+    @Test
+    public void shouldNotPrepareBidderRequestsWhenAllImpsHaveStoredAuctionResponses() {
+        // given
+        final Bidder<?> bidder = mock(Bidder.class);
+        givenBidder("bidder", bidder, givenEmptySeatBid());
+
+        given(storedResponseProcessor.getStoredResponseResult(anyList(), any()))
+                .willReturn(Future.succeededFuture(StoredResponseResult.of(
+                        emptyList(),
+                        singletonList(SeatBid.builder().seat("bidder").build()),
+                        emptyMap())));
+
+        final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("bidder", 1)));
+
+        // when
+        final Future<AuctionContext> result = target.holdAuction(givenRequestContext(bidRequest));
+
+        // then
+        assertThat(result.succeeded()).isTrue();
+        verifyNoInteractions(privacyEnforcementService, httpBidderRequester);
+        verify(storedResponseProcessor).mergeWithBidderResponses(eq(emptyList()), any(), any(), any());
+    }
+
     @Test
     public void shouldExtractRequestByAliasForCorrectBidder() {
         // given
@@ -1367,7 +1391,7 @@ public class ExchangeServiceTest extends VertxTest {
                 .willReturn(Future.succeededFuture(
                         BidResponse.builder()
                                 .ext(ExtBidResponse.builder()
-                                        .debug(ExtResponseDebug.of(null, null, null))
+                                        .debug(ExtResponseDebug.of(null, null, null, null))
                                         .build())
                                 .build()));
 
@@ -1397,7 +1421,7 @@ public class ExchangeServiceTest extends VertxTest {
                 .willReturn(Future.succeededFuture(
                         BidResponse.builder()
                                 .ext(ExtBidResponse.builder()
-                                        .debug(ExtResponseDebug.of(null, null, null))
+                                        .debug(ExtResponseDebug.of(null, null, null, null))
                                         .build())
                                 .build()));
 
@@ -4208,6 +4232,7 @@ public class ExchangeServiceTest extends VertxTest {
                 priceFloorProcessor,
                 bidsAdjuster,
                 metrics,
+                ThreadResourceMeter.disabled(),
                 clock,
                 jacksonMapper,
                 criteriaLogManager,
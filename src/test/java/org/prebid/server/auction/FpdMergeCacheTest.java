@@ -0,0 +1,81 @@
+package org.prebid.server.auction;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.iab.openrtb.request.Site;
+import com.iab.openrtb.request.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.prebid.server.VertxTest;
+import org.prebid.server.json.JsonMerger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FpdMergeCacheTest extends VertxTest {
+
+    private FpdResolver fpdResolver;
+
+    private FpdMergeCache target;
+
+    @BeforeEach
+    public void setUp() {
+        fpdResolver = new FpdResolver(jacksonMapper, new JsonMerger(jacksonMapper));
+
+        target = new FpdMergeCache();
+    }
+
+    @Test
+    public void mergeShouldReuseResultForSameOriginalAndFpd() {
+        // given
+        final Site originSite = Site.builder().id("id").build();
+        final ObjectNode fpdSite = mapper.createObjectNode().put("name", "fpdname");
+
+        // when
+        final Site firstResult = target.merge(originSite, fpdSite, Site.class, fpdResolver::resolveSite);
+        final Site secondResult = target.merge(originSite, fpdSite, Site.class, fpdResolver::resolveSite);
+
+        // then
+        assertThat(firstResult).isEqualTo(Site.builder().id("id").name("fpdname").build());
+        assertThat(secondResult).isSameAs(firstResult);
+    }
+
+    @Test
+    public void mergeShouldNotReuseResultForOtherOriginal() {
+        // given
+        final ObjectNode fpdSite = mapper.createObjectNode().put("name", "fpdname");
+        target.merge(Site.builder().id("id").build(), fpdSite, Site.class, fpdResolver::resolveSite);
+
+        // when
+        final Site result = target.merge(
+                Site.builder().id("otherId").build(), fpdSite, Site.class, fpdResolver::resolveSite);
+
+        // then
+        assertThat(result).isEqualTo(Site.builder().id("otherId").name("fpdname").build());
+    }
+
+    @Test
+    public void mergeShouldNotReuseResultBetweenCaches() {
+        // given
+        final Site originSite = Site.builder().id("id").build();
+        final ObjectNode fpdSite = mapper.createObjectNode().put("name", "fpdname");
+        final Site firstResult = target.merge(originSite, fpdSite, Site.class, fpdResolver::resolveSite);
+
+        // when
+        final Site result = new FpdMergeCache().merge(originSite, fpdSite, Site.class, fpdResolver::resolveSite);
+
+        // then
+        assertThat(result).isEqualTo(firstResult).isNotSameAs(firstResult);
+    }
+
+    @Test
+    public void mergeShouldNotReuseResultForOtherType() {
+        // given
+        final ObjectNode fpd = mapper.createObjectNode().put("id", "fpdid");
+        target.merge(null, fpd, Site.class, fpdResolver::resolveSite);
+
+        // when
+        final User result = target.merge(null, fpd, User.class, fpdResolver::resolveUser);
+
+        // then
+        assertThat(result).isEqualTo(User.builder().id("fpdid").build());
+    }
+}
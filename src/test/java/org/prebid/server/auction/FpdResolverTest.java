@@ -81,6 +81,31 @@ public class FpdResolverTest extends VertxTest {
                 .build());
     }
 
+    @Test
+    public void resolveUserShouldRemoveFieldsWithNullValueInFpdUser() {
+        // given
+        final User originUser = User.builder().id("id").keywords("keywords").build();
+
+        // when
+        final User resultUser = target.resolveUser(originUser, mapper.createObjectNode().putNull("keywords"));
+
+        // then
+        assertThat(resultUser).isEqualTo(User.builder().id("id").build());
+    }
+
+    @Test
+    public void resolveUserShouldIgnoreUnknownFieldsOfFpdUser() {
+        // given
+        final User originUser = User.builder().id("id").build();
+        final ObjectNode fpdUser = mapper.createObjectNode().put("gender", "fpdgender").put("unknown", "value");
+
+        // when
+        final User resultUser = target.resolveUser(originUser, fpdUser);
+
+        // then
+        assertThat(resultUser).isEqualTo(User.builder().id("id").gender("fpdgender").build());
+    }
+
     @Test
     public void resolveUserShouldReturnOriginUserIfFpdUserIsNull() {
         assertThat(target.resolveUser(User.builder().id("origin").build(), null))
@@ -49,6 +49,13 @@ public class IpAddressHelperTest {
                 .withMessage("Unable to process IPv6-related configuration");
     }
 
+    @Test
+    public void creationShouldFailIfCacheMaxSizeIsNegative() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new IpAddressHelper(64, 56, emptyList(), -1))
+                .withMessage("IP address cache max size should be non-negative");
+    }
+
     @Test
     public void maskIpv4ShouldZeroLastOctet() {
         assertThat(ipAddressHelper.maskIpv4("192.168.34.56"))
@@ -138,4 +145,34 @@ public class IpAddressHelperTest {
         assertThat(ipAddressHelper.toIpAddress("2001:1db8:85a3:a5b7:0000:8a2e:0370:7334"))
                 .isEqualTo(IpAddress.of("2001:1db8:85a3:a5b7::", IpAddress.IP.v6));
     }
+
+    @Test
+    public void toIpAddressShouldReturnSameResultFromCache() {
+        // given
+        final IpAddressHelper target = new IpAddressHelper(64, 56, singletonList("fc00::/7"), 10);
+
+        // when
+        final IpAddress first = target.toIpAddress("2001:1db8:85a3:a5b7:0000:8a2e:0370:7334");
+        final IpAddress second = target.toIpAddress("2001:1db8:85a3:a5b7:0000:8a2e:0370:7334");
+
+        // then
+        assertThat(first).isEqualTo(IpAddress.of("2001:1db8:85a3:a5b7::", IpAddress.IP.v6)).isSameAs(second);
+        assertThat(target.toIpAddress("fc00::1")).isNull();
+        assertThat(target.toIpAddress("fc00::1")).isNull();
+    }
+
+    @Test
+    public void anonymizeIpv6ShouldReturnSameResultFromCache() {
+        // given
+        final IpAddressHelper target = new IpAddressHelper(64, 56, emptyList(), 10);
+
+        // when
+        final String first = target.anonymizeIpv6("1111:2222:3333:4444:5555:6666:7777:8888");
+        final String second = target.anonymizeIpv6("1111:2222:3333:4444:5555:6666:7777:8888");
+
+        // then
+        assertThat(first).isEqualTo("1111:2222:3333:4400::").isSameAs(second);
+        assertThat(target.anonymizeIpv6("abc")).isNull();
+        assertThat(target.anonymizeIpv6(null)).isNull();
+    }
 }
@@ -77,7 +77,7 @@ public class StoredResponseProcessorTest extends VertxTest {
         final TimeoutFactory timeoutFactory = new TimeoutFactory(Clock.fixed(Instant.now(), ZoneId.systemDefault()));
         timeout = timeoutFactory.create(500L);
 
-        target = new StoredResponseProcessor(applicationSettings, jacksonMapper);
+        target = new StoredResponseProcessor(applicationSettings, jacksonMapper, 60, 100);
     }
 
     @Test
@@ -104,6 +104,57 @@ public class StoredResponseProcessorTest extends VertxTest {
                 emptyMap()));
     }
 
+    @Test
+    public void getStoredResponseResultShouldReuseParsedSeatBidsForSameAuctionResponse()
+            throws JsonProcessingException {
+
+        // given
+        final List<Imp> imps = singletonList(givenImp("impId", ExtStoredAuctionResponse.of("1", null, null), null));
+
+        given(applicationSettings.getStoredResponses(any(), any()))
+                .willReturn(Future.succeededFuture(StoredResponseDataResult.of(singletonMap("1",
+                                mapper.writeValueAsString(singletonList(SeatBid.builder().seat("rubicon")
+                                        .bid(singletonList(Bid.builder().id("id").impid("impId").build()))
+                                        .build()))),
+                        emptyList())));
+
+        // when
+        final Bid firstBid = target.getStoredResponseResult(imps, timeout).result()
+                .getAuctionStoredResponse().getFirst().getBid().getFirst();
+        final Bid secondBid = target.getStoredResponseResult(imps, timeout).result()
+                .getAuctionStoredResponse().getFirst().getBid().getFirst();
+
+        // then
+        assertThat(secondBid).isSameAs(firstBid);
+    }
+
+    @Test
+    public void getStoredResponseResultShouldParseChangedAuctionResponse() throws JsonProcessingException {
+        // given
+        final List<Imp> imps = singletonList(givenImp("impId", ExtStoredAuctionResponse.of("1", null, null), null));
+
+        given(applicationSettings.getStoredResponses(any(), any()))
+                .willReturn(
+                        Future.succeededFuture(StoredResponseDataResult.of(singletonMap("1",
+                                        mapper.writeValueAsString(singletonList(SeatBid.builder().seat("rubicon")
+                                                .bid(singletonList(Bid.builder().id("id1").build())).build()))),
+                                emptyList())),
+                        Future.succeededFuture(StoredResponseDataResult.of(singletonMap("1",
+                                        mapper.writeValueAsString(singletonList(SeatBid.builder().seat("rubicon")
+                                                .bid(singletonList(Bid.builder().id("id2").build())).build()))),
+                                emptyList())));
+
+        // when
+        target.getStoredResponseResult(imps, timeout);
+        final Future<StoredResponseResult> result = target.getStoredResponseResult(imps, timeout);
+
+        // then
+        assertThat(result.result().getAuctionStoredResponse())
+                .flatExtracting(SeatBid::getBid)
+                .extracting(Bid::getId)
+                .containsExactly("id2");
+    }
+
     @Test
     public void getStoredResponseResultShouldNotChangeImpsAndReturnSeatBidsWhenThereAreNoStoredIds() {
         // given
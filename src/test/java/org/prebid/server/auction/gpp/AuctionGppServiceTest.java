@@ -14,10 +14,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.auction.gpp.model.GppContext;
 import org.prebid.server.auction.gpp.model.GppContextCreator;
 import org.prebid.server.auction.gpp.model.GppContextWrapper;
+import org.prebid.server.auction.gpp.model.GppModelCache;
 import org.prebid.server.auction.gpp.model.privacy.TcfEuV2Privacy;
 import org.prebid.server.auction.gpp.model.privacy.UspV1Privacy;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.debug.DebugContext;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.proto.openrtb.ext.request.ExtRegs;
 import org.prebid.server.proto.openrtb.ext.request.ExtUser;
 import org.prebid.server.proto.openrtb.ext.request.TraceLevel;
@@ -40,11 +42,14 @@ public class AuctionGppServiceTest {
     @Mock
     private GppService gppService;
 
+    @Mock
+    private Metrics metrics;
+
     private AuctionGppService auctionGppService;
 
     @BeforeEach
     public void setUp() {
-        auctionGppService = new AuctionGppService(gppService);
+        auctionGppService = new AuctionGppService(gppService, new GppModelCache(10, metrics));
     }
 
     @Test
@@ -11,9 +11,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.auction.gpp.model.GppContext;
 import org.prebid.server.auction.gpp.model.GppContextCreator;
 import org.prebid.server.auction.gpp.model.GppContextWrapper;
+import org.prebid.server.auction.gpp.model.GppModelCache;
 import org.prebid.server.auction.gpp.model.privacy.TcfEuV2Privacy;
 import org.prebid.server.auction.gpp.model.privacy.UspV1Privacy;
 import org.prebid.server.cookie.model.CookieSyncContext;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.proto.request.CookieSyncRequest;
 
 import java.util.ArrayList;
@@ -34,11 +36,14 @@ public class CookieSyncGppServiceTest {
     @Mock
     private GppService gppService;
 
+    @Mock
+    private Metrics metrics;
+
     private CookieSyncGppService target;
 
     @BeforeEach
     public void setUp() {
-        target = new CookieSyncGppService(gppService);
+        target = new CookieSyncGppService(gppService, new GppModelCache(10, metrics));
     }
 
     @Test
@@ -11,8 +11,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.auction.gpp.model.GppContext;
 import org.prebid.server.auction.gpp.model.GppContextCreator;
 import org.prebid.server.auction.gpp.model.GppContextWrapper;
+import org.prebid.server.auction.gpp.model.GppModelCache;
 import org.prebid.server.auction.gpp.model.privacy.TcfEuV2Privacy;
 import org.prebid.server.auction.model.SetuidContext;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.privacy.model.Privacy;
 import org.prebid.server.privacy.model.PrivacyContext;
 
@@ -31,11 +33,14 @@ public class SetuidGppServiceTest {
     @Mock
     private GppService gppService;
 
+    @Mock
+    private Metrics metrics;
+
     private SetuidGppService target;
 
     @BeforeEach
     public void setUp() {
-        target = new SetuidGppService(gppService);
+        target = new SetuidGppService(gppService, new GppModelCache(10, metrics));
     }
 
     @Test
@@ -0,0 +1,90 @@
+package org.prebid.server.auction.gpp.model;
+
+import com.iab.gpp.encoder.GppModel;
+import com.iab.gpp.encoder.error.EncodingException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.metric.Metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class GppModelCacheTest {
+
+    @Mock
+    private Metrics metrics;
+
+    @Test
+    public void getShouldReturnNullForEmptyGppWithoutUpdatingMetrics() {
+        // given
+        final GppModelCache target = new GppModelCache(10, metrics);
+
+        // when and then
+        assertThat(target.get(null)).isNull();
+        assertThat(target.get("")).isNull();
+        verifyNoInteractions(metrics);
+    }
+
+    @Test
+    public void getShouldDecodeGppOnceAndReturnCachedModelAfterwards() {
+        // given
+        final GppModelCache target = new GppModelCache(10, metrics);
+        final String gpp = givenValidGppString();
+
+        // when
+        final GppModel first = target.get(gpp);
+        final GppModel second = target.get(gpp);
+
+        // then
+        assertThat(first).isInstanceOf(GppModelWrapper.class).isSameAs(second);
+        verify(metrics).updatePrivacyGppModelCacheMetric(false);
+        verify(metrics).updatePrivacyGppModelCacheMetric(true);
+        verify(metrics).updatePrivacyGppDecodeTimeMetric(anyLong());
+    }
+
+    @Test
+    public void getShouldDecodeGppEachTimeWhenCacheIsDisabled() {
+        // given
+        final GppModelCache target = new GppModelCache(0, metrics);
+        final String gpp = givenValidGppString();
+
+        // when
+        final GppModel first = target.get(gpp);
+        final GppModel second = target.get(gpp);
+
+        // then
+        assertThat(first).isNotSameAs(second);
+        verify(metrics, times(2)).updatePrivacyGppModelCacheMetric(false);
+        verify(metrics, times(2)).updatePrivacyGppDecodeTimeMetric(anyLong());
+    }
+
+    @Test
+    public void getShouldNotCacheInvalidGpp() {
+        // given
+        final GppModelCache target = new GppModelCache(10, metrics);
+
+        // when and then
+        assertThatExceptionOfType(PreBidException.class)
+                .isThrownBy(() -> target.get("invalid"))
+                .withMessage("GPP string invalid: Unable to decode 'invalid'");
+        assertThatExceptionOfType(PreBidException.class)
+                .isThrownBy(() -> target.get("invalid"));
+        verify(metrics, times(2)).updatePrivacyGppModelCacheMetric(false);
+    }
+
+    private static String givenValidGppString() {
+        try {
+            return new GppModel().encode();
+        } catch (EncodingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
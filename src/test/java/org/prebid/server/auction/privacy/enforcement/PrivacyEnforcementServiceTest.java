@@ -12,6 +12,7 @@ import org.prebid.server.auction.aliases.BidderAliases;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.BidderPrivacyResult;
 import org.apache.commons.lang3.tuple.Pair;
+import org.prebid.server.metric.Metrics;
 
 import java.util.List;
 import java.util.Map;
@@ -20,6 +21,7 @@ import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 import static org.prebid.server.assertion.FutureAssertion.assertThat;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,6 +36,9 @@ public class PrivacyEnforcementServiceTest {
     @Mock
     private BidderAliases bidderAliases;
 
+    @Mock
+    private Metrics metrics;
+
     @Test
     public void maskShouldPassBidderPrivacyThroughAllEnforcements() {
         // given
@@ -49,7 +54,7 @@ public class PrivacyEnforcementServiceTest {
                 .willReturn(Future.succeededFuture(singletonList(expectedResult)));
 
         final PrivacyEnforcementService target = new PrivacyEnforcementService(
-                List.of(firstEnforcement, secondEnforcement));
+                List.of(firstEnforcement, secondEnforcement), metrics);
 
         final AuctionContext auctionContext = AuctionContext.builder()
                 .bidRequest(BidRequest.builder().device(Device.builder().build()).build())
@@ -71,4 +76,31 @@ public class PrivacyEnforcementServiceTest {
                 .asList()
                 .containsExactlyInAnyOrder(expectedResult);
     }
+
+    @Test
+    public void maskShouldUpdateMaskingClassesMetricWithDistinctUserAndDevicePairsOfNotBlockedBidders() {
+        // given
+        final User user = User.builder().id("user").build();
+        final Device device = Device.builder().build();
+        final Device otherDevice = Device.builder().build();
+
+        given(firstEnforcement.enforce(any(), any(), any()))
+                .willReturn(Future.succeededFuture(List.of(
+                        BidderPrivacyResult.builder().requestBidder("bidder0").user(user).device(device).build(),
+                        BidderPrivacyResult.builder().requestBidder("bidder1").user(user).device(device).build(),
+                        BidderPrivacyResult.builder().requestBidder("bidder2").user(user).device(otherDevice).build(),
+                        BidderPrivacyResult.builder().requestBidder("bidder3").blockedRequestByTcf(true).build())));
+
+        final PrivacyEnforcementService target = new PrivacyEnforcementService(List.of(firstEnforcement), metrics);
+
+        final AuctionContext auctionContext = AuctionContext.builder()
+                .bidRequest(BidRequest.builder().build())
+                .build();
+
+        // when
+        target.mask(auctionContext, singletonMap("bidder0", Pair.of(user, device)), bidderAliases);
+
+        // then
+        verify(metrics).updatePrivacyMaskingClassesMetric(2);
+    }
 }
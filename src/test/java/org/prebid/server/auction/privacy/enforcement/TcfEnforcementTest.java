@@ -400,6 +400,42 @@ public class TcfEnforcementTest {
                         .build());
     }
 
+    @Test
+    public void enforceShouldMaskOnceAndShareResultBetweenBiddersWithSameOutcome() {
+        // given
+        given(userFpdTcfMask.maskUser(any(), anyBoolean(), anyBoolean(), anySet()))
+                .willAnswer(invocation -> User.builder().id("maskedUser").build());
+        given(userFpdTcfMask.maskDevice(any(), anyBoolean(), anyBoolean(), anyBoolean()))
+                .willAnswer(invocation -> Device.builder().ip("maskedDevice").build());
+
+        givenPrivacyEnforcementActions(Map.of(
+                "bidder0", givenEnforcementAction(PrivacyEnforcementAction::setRemoveUserFpd),
+                "bidder1", givenEnforcementAction(PrivacyEnforcementAction::setRemoveUserFpd),
+                "bidder2", givenEnforcementAction(PrivacyEnforcementAction::setMaskDeviceIp)));
+
+        final User user = givenUserWithPrivacyData();
+        final Device device = givenDeviceWithNoPrivacyData();
+        final AuctionContext context = givenAuctionContext(device);
+        final List<BidderPrivacyResult> initialResults = List.of(
+                givenBidderPrivacyResult("bidder0", user, device),
+                givenBidderPrivacyResult("bidder1", user, device),
+                givenBidderPrivacyResult("bidder2", user, device));
+
+        // when
+        final List<BidderPrivacyResult> result = target.enforce(context, aliases, initialResults).result();
+
+        // then
+        assertThat(result.get(0).getUser()).isSameAs(result.get(1).getUser());
+        assertThat(result.get(0).getDevice()).isSameAs(result.get(1).getDevice());
+        assertThat(result.get(2).getUser()).isNotSameAs(result.get(0).getUser());
+        assertThat(result.get(2).getDevice()).isNotSameAs(result.get(0).getDevice());
+
+        verify(userFpdTcfMask).maskUser(same(user), eq(true), eq(false), any());
+        verify(userFpdTcfMask).maskUser(same(user), eq(false), eq(false), any());
+        verify(userFpdTcfMask).maskDevice(same(device), eq(false), eq(false), eq(false));
+        verify(userFpdTcfMask).maskDevice(same(device), eq(true), eq(false), eq(false));
+    }
+
     private void givenPrivacyEnforcementActions(Map<String, PrivacyEnforcementAction> actions) {
         given(tcfDefinerService.resultForBidderNames(any(), any(), any(), any()))
                 .willReturn(Future.succeededFuture(TcfResponse.of(null, actions, null)));
@@ -321,6 +321,24 @@ public class Ortb2RequestFactoryTest extends VertxTest {
         assertThat(result.result()).isSameAs(account);
     }
 
+    @Test
+    public void accountIdFromShouldReturnParentAccountOfPublisherWithoutLookups() {
+        // given
+        final BidRequest bidRequest = givenBidRequest(builder -> builder
+                .site(Site.builder()
+                        .publisher(Publisher.builder().id("accountId")
+                                .ext(ExtPublisher.of(ExtPublisherPrebid.of("parentAccount")))
+                                .build())
+                        .build()));
+
+        // when
+        final String result = target.accountIdFrom(bidRequest);
+
+        // then
+        assertThat(result).isEqualTo("parentAccount");
+        verifyNoInteractions(applicationSettings, storedRequestProcessor);
+    }
+
     @Test
     public void fetchAccountShouldReturnAccountWithAccountIdTakenFromPublisherIdWhenExtIsNull() {
         // given
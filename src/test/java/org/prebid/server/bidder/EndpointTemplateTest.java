@@ -0,0 +1,85 @@
+package org.prebid.server.bidder;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+public class EndpointTemplateTest {
+
+    private static final EndpointTemplate.Macro HOST_MACRO = EndpointTemplate.Macro.plain("{{Host}}");
+    private static final EndpointTemplate.Macro ACCOUNT_ID_MACRO = EndpointTemplate.Macro.encoded("{{AccountID}}");
+
+    @Test
+    public void expandShouldSubstituteAllMacros() {
+        // given
+        final EndpointTemplate target = EndpointTemplate.of(
+                "https://{{Host}}.domain.com/path?account={{AccountID}}&other={{AccountID}}",
+                HOST_MACRO,
+                ACCOUNT_ID_MACRO);
+
+        // when and then
+        assertThat(target.expand("host", "account"))
+                .isEqualTo("https://host.domain.com/path?account=account&other=account");
+    }
+
+    @Test
+    public void expandShouldEncodeValuesOfEncodedMacrosOnly() {
+        // given
+        final EndpointTemplate target = EndpointTemplate.of(
+                "https://{{Host}}/path?account={{AccountID}}", HOST_MACRO, ACCOUNT_ID_MACRO);
+
+        // when and then
+        assertThat(target.expand("host:8080", "a b&c")).isEqualTo("https://host:8080/path?account=a+b%26c");
+    }
+
+    @Test
+    public void expandShouldFailOnNullValue() {
+        // given
+        final EndpointTemplate target = EndpointTemplate.of(
+                "https://{{Host}}domain.com?account={{AccountID}}", HOST_MACRO, ACCOUNT_ID_MACRO);
+
+        // when and then
+        assertThatNullPointerException().isThrownBy(() -> target.expand("host", null));
+    }
+
+    @Test
+    public void expandShouldLeaveUnknownPlaceholdersAsIs() {
+        // given
+        final EndpointTemplate target = EndpointTemplate.of("https://{{Host}}/{{SourceId}}", HOST_MACRO);
+
+        // when and then
+        assertThat(target.expand("host")).isEqualTo("https://host/{{SourceId}}");
+    }
+
+    @Test
+    public void expandShouldNotSubstituteMacrosInsideOfValues() {
+        // given
+        final EndpointTemplate target = EndpointTemplate.of(
+                "https://{{Host}}/?account={{AccountID}}", HOST_MACRO, ACCOUNT_ID_MACRO);
+
+        // when and then
+        assertThat(target.expand("{{AccountID}}", "account")).isEqualTo("https://{{AccountID}}/?account=account");
+    }
+
+    @Test
+    public void expandShouldReturnTemplateWhenThereAreNoMacros() {
+        // given
+        final EndpointTemplate target = EndpointTemplate.of("https://domain.com/path");
+
+        // when and then
+        assertThat(target.expand()).isEqualTo("https://domain.com/path");
+    }
+
+    @Test
+    public void expandShouldFailOnWrongNumberOfValues() {
+        // given
+        final EndpointTemplate target = EndpointTemplate.of("https://{{Host}}/", HOST_MACRO);
+
+        // when and then
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> target.expand("host", "extra"))
+                .withMessage("Expected 1 macro values, but got 2");
+    }
+}
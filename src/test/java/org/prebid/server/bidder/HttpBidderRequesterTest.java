@@ -36,12 +36,17 @@ import org.prebid.server.bidder.model.HttpResponse;
 import org.prebid.server.bidder.model.Result;
 import org.prebid.server.execution.timeout.Timeout;
 import org.prebid.server.execution.timeout.TimeoutFactory;
+import org.prebid.server.log.capture.TrafficCaptureService;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
 import org.prebid.server.proto.openrtb.ext.response.ExtHttpCall;
 import org.prebid.server.proto.openrtb.ext.response.ExtIgi;
 import org.prebid.server.proto.openrtb.ext.response.ExtIgiIgs;
 import org.prebid.server.proto.openrtb.ext.response.FledgeAuctionConfig;
 import org.prebid.server.util.HttpUtil;
+import org.prebid.server.util.system.ResourceUsage;
+import org.prebid.server.util.system.ThreadResourceMeter;
 import org.prebid.server.vertx.httpclient.HttpClient;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
 
@@ -52,6 +57,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
@@ -100,6 +106,10 @@ public class HttpBidderRequesterTest extends VertxTest {
     private RoutingContext routingContext;
     @Mock(strictness = LENIENT)
     private HttpServerRequest httpServerRequest;
+    @Mock
+    private Metrics metrics;
+    @Mock
+    private TrafficCaptureService trafficCaptureService;
 
     private HttpBidderRequester target;
 
@@ -120,7 +130,15 @@ public class HttpBidderRequesterTest extends VertxTest {
         expiredTimeout = timeoutFactory.create(clock.instant().minusMillis(1500L).toEpochMilli(), 1000L);
 
         target = new HttpBidderRequester(
-                httpClient, null, bidderErrorNotifier, requestEnricher, jacksonMapper, 0.0);
+                httpClient,
+                null,
+                bidderErrorNotifier,
+                requestEnricher,
+                jacksonMapper,
+                ThreadResourceMeter.disabled(),
+                metrics,
+                0.0,
+                null);
         given(bidder.makeBidderResponse(any(BidderCall.class), any(BidRequest.class))).willCallRealMethod();
     }
 
@@ -156,6 +174,72 @@ public class HttpBidderRequesterTest extends VertxTest {
         verifyNoInteractions(bidRejectionTracker);
     }
 
+    @Test
+    public void shouldReturnResourceUsageAndUpdateMetricsWhenDebugEnabled() {
+        // given
+        target = new HttpBidderRequester(
+                httpClient,
+                null,
+                bidderErrorNotifier,
+                requestEnricher,
+                jacksonMapper,
+                new ThreadResourceMeter(0.0),
+                metrics,
+                0.0,
+                null);
+
+        given(bidder.makeHttpRequests(any())).willReturn(Result.of(emptyList(), emptyList()));
+
+        final BidderRequest bidderRequest = BidderRequest.builder()
+                .bidder("bidder")
+                .bidRequest(BidRequest.builder().build())
+                .build();
+
+        // when
+        final BidderSeatBid bidderSeatBid =
+                target.requestBids(
+                                bidder,
+                                bidderRequest,
+                                bidRejectionTracker,
+                                timeout,
+                                CaseInsensitiveMultiMap.empty(),
+                                bidderAliases,
+                                true)
+                        .result();
+
+        // then
+        assertThat(bidderSeatBid.getResourceUsage()).isNotNull();
+        verify(metrics).updateAdapterResourceUsageMetrics(
+                eq("bidder"), eq(MetricName.make_http_requests), any(ResourceUsage.class));
+    }
+
+    @Test
+    public void shouldNotReturnResourceUsageWhenDebugDisabled() {
+        // given
+        given(bidder.makeHttpRequests(any())).willReturn(Result.of(emptyList(), emptyList()));
+
+        final BidderRequest bidderRequest = BidderRequest.builder()
+                .bidder("bidder")
+                .bidRequest(BidRequest.builder().build())
+                .build();
+
+        // when
+        final BidderSeatBid bidderSeatBid =
+                target.requestBids(
+                                bidder,
+                                bidderRequest,
+                                bidRejectionTracker,
+                                timeout,
+                                CaseInsensitiveMultiMap.empty(),
+                                bidderAliases,
+                                false)
+                        .result();
+
+        // then
+        assertThat(bidderSeatBid.getResourceUsage()).isNull();
+        verifyNoInteractions(metrics);
+    }
+
     @Test
     public void shouldTolerateBidderReturningErrorsAndNoHttpRequests() {
         // given
@@ -272,6 +356,48 @@ public class HttpBidderRequesterTest extends VertxTest {
         verify(bidRejectionTracker, never()).rejectImps(anyList(), any());
     }
 
+    @Test
+    public void shouldCaptureBidderCallsWhenTrafficCaptureEnabled() {
+        // given
+        given(trafficCaptureService.captureBidderCall(any(), any(), any()))
+                .willAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
+
+        target = new HttpBidderRequester(
+                httpClient,
+                null,
+                bidderErrorNotifier,
+                requestEnricher,
+                jacksonMapper,
+                ThreadResourceMeter.disabled(),
+                metrics,
+                0.0,
+                trafficCaptureService);
+
+        givenHttpClientResponse(200, null);
+        given(bidder.makeHttpRequests(any())).willReturn(Result.of(singletonList(
+                        givenSimpleHttpRequest(httpRequestBuilder -> httpRequestBuilder.uri("uri"))),
+                emptyList()));
+
+        final BidderRequest bidderRequest = BidderRequest.builder()
+                .bidder("bidder")
+                .bidRequest(BidRequest.builder().id("auctionId").build())
+                .build();
+
+        // when
+        target.requestBids(
+                bidder,
+                bidderRequest,
+                bidRejectionTracker,
+                timeout,
+                CaseInsensitiveMultiMap.empty(),
+                bidderAliases,
+                false);
+
+        // then
+        verify(trafficCaptureService).captureBidderCall(eq("bidder"), eq("auctionId"), any());
+        verify(httpClient).request(any(), anyString(), any(), any(byte[].class), anyLong());
+    }
+
     @Test
     public void shouldSendPopulatedGetRequestWithoutBody() {
         // given
@@ -559,7 +685,10 @@ public class HttpBidderRequesterTest extends VertxTest {
                 bidderErrorNotifier,
                 requestEnricher,
                 jacksonMapper,
-                0.0);
+                ThreadResourceMeter.disabled(),
+                metrics,
+                0.0,
+                null);
 
         final BidRequest bidRequest = bidRequestWithDeals("deal1", "deal2");
         final BidderRequest bidderRequest = BidderRequest.builder()
@@ -0,0 +1,90 @@
+package org.prebid.server.bidder;
+
+import org.junit.jupiter.api.Test;
+import org.prebid.server.privacy.ccpa.Ccpa;
+import org.prebid.server.privacy.model.Privacy;
+import org.prebid.server.proto.response.UsersyncInfo;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class UsersyncInfoTemplateTest {
+
+    @Test
+    public void renderShouldPopulateUsersyncUrlWithPrivacyAndRedirectUrl() {
+        // given
+        final UsersyncInfoTemplate target = UsersyncInfoTemplate.of(createUsersyncMethod(
+                """
+                        http://url\
+                        ?gdpr={{gdpr}}\
+                        &{{gdpr_consent}}\
+                        &gpp={{gpp}}\
+                        &gpp_sid={{gpp_sid}}\
+                        &redir={{redirect_url}}""",
+                """
+                        http://localhost:8000/setuid\
+                        ?bidder=adnxs\
+                        &gdpr={{gdpr}}\
+                        &gdpr_consent={{gdpr_consent}}\
+                        &us_privacy={{us_privacy}}\
+                        &gpp={{gpp}}\
+                        &gpp_sid={{gpp_sid}}\
+                        &uid=$UID"""));
+
+        // when
+        final UsersyncInfo result = target.render(Privacy.builder()
+                .gdpr("1")
+                .consentString("consent$1")
+                .ccpa(Ccpa.of("1YNN"))
+                .build());
+
+        // then
+        assertThat(result).isEqualTo(UsersyncInfo.of("""
+                http://url?gdpr=1&consent%241&gpp=&gpp_sid=\
+                &redir=http%3A%2F%2Flocalhost%3A8000%2Fsetuid%3Fbidder%3Dadnxs%26gdpr%3D1\
+                %26gdpr_consent%3Dconsent%241%26us_privacy%3D1YNN\
+                %26gpp%3D%26gpp_sid%3D%26f%3Di%26uid%3D%24UID""", UsersyncMethodType.REDIRECT, false));
+    }
+
+    @Test
+    public void renderShouldReturnSameUsersyncInfoAsBuilder() {
+        // given
+        final List<UsersyncMethod> usersyncMethods = List.of(
+                createUsersyncMethod("http://url/redirect={{redirect_url}}", "http://localhost:8000redirectUrl"),
+                createUsersyncMethod(
+                        "http://url/redirect={{redirect_url}}",
+                        "http://localhost:8000/setuid?gdpr={{gdpr}}?gdpr={{gdpr}}"),
+                createUsersyncMethod("http://url/redirect=", null),
+                createUsersyncMethod("http://url?redir=%26gpp%3D{{gpp}}%26gpp_sid%3D{{gpp_sid}}", null));
+
+        final List<Privacy> privacies = List.of(
+                Privacy.builder().ccpa(Ccpa.EMPTY).build(),
+                Privacy.builder()
+                        .gdpr("1")
+                        .consentString("consent$1")
+                        .ccpa(Ccpa.of("1YNN"))
+                        .gpp("gpp")
+                        .gppSid(List.of(1, 2))
+                        .build());
+
+        for (UsersyncMethod usersyncMethod : usersyncMethods) {
+            for (Privacy privacy : privacies) {
+                // when
+                final UsersyncInfo result = UsersyncInfoTemplate.of(usersyncMethod).render(privacy);
+
+                // then
+                assertThat(result).isEqualTo(UsersyncInfoBuilder.from(usersyncMethod).privacy(privacy).build());
+            }
+        }
+    }
+
+    private static UsersyncMethod createUsersyncMethod(String usersyncUrl, String redirectUrl) {
+        return UsersyncMethod.builder()
+                .type(UsersyncMethodType.REDIRECT)
+                .usersyncUrl(usersyncUrl)
+                .redirectUrl(redirectUrl)
+                .supportCORS(false)
+                .build();
+    }
+}
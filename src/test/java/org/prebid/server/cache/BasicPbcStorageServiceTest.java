@@ -11,6 +11,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.VertxTest;
+import org.prebid.server.cache.model.EmbeddedCacheEntry;
 import org.prebid.server.cache.proto.request.module.ModuleCacheRequest;
 import org.prebid.server.cache.proto.request.module.StorageDataType;
 import org.prebid.server.cache.proto.response.module.ModuleCacheResponse;
@@ -34,6 +35,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mock.Strictness.LENIENT;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
@@ -427,6 +429,93 @@ public class BasicPbcStorageServiceTest extends VertxTest {
         verify(metrics).updateModuleStorageCacheReadRequestTime(eq("some-module-code"), anyLong(), eq(MetricName.err));
     }
 
+    @Test
+    public void storeModuleEntryShouldStoreEntryInEmbeddedCacheWhenProvided() throws MalformedURLException {
+        // given
+        final EmbeddedCacheStore embeddedCacheStore = mock(EmbeddedCacheStore.class);
+        target = givenBasicPbcStorageService(embeddedCacheStore);
+
+        // when
+        final Future<Void> result = target.storeEntry("some-key",
+                "some-value",
+                StorageDataType.TEXT,
+                12,
+                "some-application",
+                "some-module-code");
+
+        // then
+        assertThat(result.succeeded()).isTrue();
+        verify(embeddedCacheStore).putModuleEntry(
+                "some-application.module.some-module-code.some-key", "TEXT", "some-value", 12);
+        verifyNoInteractions(httpClient);
+    }
+
+    @Test
+    public void retrieveModuleEntryShouldReturnEntryFromEmbeddedCacheWhenProvided() throws MalformedURLException {
+        // given
+        final EmbeddedCacheStore embeddedCacheStore = mock(EmbeddedCacheStore.class);
+        given(embeddedCacheStore.getModuleEntry("some-app.module.some-module-code.some-key"))
+                .willReturn(EmbeddedCacheEntry.of("JSON", "some-value", 300));
+        target = givenBasicPbcStorageService(embeddedCacheStore);
+
+        // when
+        final Future<ModuleCacheResponse> result =
+                target.retrieveEntry("some-key", "some-module-code", "some-app");
+
+        // then
+        assertThat(result.result()).isEqualTo(
+                ModuleCacheResponse.of("module.some-module-code.some-key", StorageDataType.JSON, "some-value"));
+        verify(metrics).updateModuleStorageCacheReadRequestTime(eq("some-module-code"), anyLong(), eq(MetricName.ok));
+        verifyNoInteractions(httpClient);
+    }
+
+    @Test
+    public void retrieveModuleEntryShouldFailWhenEmbeddedCacheHasNoEntry() throws MalformedURLException {
+        // given
+        target = givenBasicPbcStorageService(mock(EmbeddedCacheStore.class));
+
+        // when
+        final Future<ModuleCacheResponse> result =
+                target.retrieveEntry("some-key", "some-module-code", "some-app");
+
+        // then
+        assertThat(result.cause()).isInstanceOf(PreBidException.class)
+                .hasMessage("Module cache entry with key 'some-key' is not found");
+        verify(metrics).updateModuleStorageCacheReadRequestTime(eq("some-module-code"), anyLong(), eq(MetricName.err));
+    }
+
+    @Test
+    public void retrieveModuleEntryShouldFailWhenEmbeddedCacheEntryHasUnknownType() throws MalformedURLException {
+        // given
+        final EmbeddedCacheStore embeddedCacheStore = mock(EmbeddedCacheStore.class);
+        given(embeddedCacheStore.getModuleEntry("some-app.module.some-module-code.some-key"))
+                .willReturn(EmbeddedCacheEntry.of("xml", "some-value", 300));
+        target = givenBasicPbcStorageService(embeddedCacheStore);
+
+        // when
+        final Future<ModuleCacheResponse> result =
+                target.retrieveEntry("some-key", "some-module-code", "some-app");
+
+        // then
+        assertThat(result.cause()).isInstanceOf(PreBidException.class)
+                .hasMessage("Module cache entry with key 'some-key' has unknown type 'xml'");
+        verify(metrics).updateModuleStorageCacheReadRequestTime(eq("some-module-code"), anyLong(), eq(MetricName.err));
+    }
+
+    private BasicPbcStorageService givenBasicPbcStorageService(EmbeddedCacheStore embeddedCacheStore)
+            throws MalformedURLException {
+
+        return new BasicPbcStorageService(
+                httpClient,
+                new URL("http://cache-service/cache"),
+                "pbc-api-key",
+                10,
+                jacksonMapper,
+                Clock.fixed(Instant.now(), ZoneId.systemDefault()),
+                metrics,
+                embeddedCacheStore);
+    }
+
     @SneakyThrows
     private ModuleCacheRequest captureModuleCacheRequest() {
         final ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
@@ -0,0 +1,221 @@
+package org.prebid.server.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.VertxTest;
+import org.prebid.server.cache.proto.request.bid.BidCacheRequest;
+import org.prebid.server.cache.proto.request.bid.BidPutObject;
+import org.prebid.server.cache.proto.response.bid.BidCacheResponse;
+import org.prebid.server.cache.proto.response.bid.CacheObject;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.util.HttpUtil;
+import org.prebid.server.vertx.httpclient.HttpClient;
+import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@ExtendWith(VertxExtension.class)
+public class CacheWriteBatcherTest extends VertxTest {
+
+    @Mock
+    private HttpClient httpClient;
+    @Mock
+    private Metrics metrics;
+
+    private Vertx vertx;
+
+    private CacheWriteBatcher target;
+
+    @BeforeEach
+    public void setUp() {
+        vertx = Vertx.vertx();
+
+        target = givenCacheWriteBatcher(5, 100);
+    }
+
+    @AfterEach
+    public void tearDown(VertxTestContext context) {
+        vertx.close(context.succeedingThenComplete());
+    }
+
+    @Test
+    public void writeShouldSendWritesMadeWithinWindowAtOnceAndSplitResponse(VertxTestContext context)
+            throws JsonProcessingException {
+
+        // given
+        givenHttpClientReturnsResponse(200, mapper.writeValueAsString(BidCacheResponse.of(List.of(
+                CacheObject.of("uuid1"), CacheObject.of("uuid2"), CacheObject.of("uuid3")))));
+
+        // when
+        vertx.runOnContext(ignored -> {
+            final Future<HttpClientResponse> first = target.write(List.of(givenPutObject("1")), 1000L);
+            final Future<HttpClientResponse> second = target.write(
+                    List.of(givenPutObject("2"), givenPutObject("3")), 500L);
+
+            // then
+            Future.join(first, second).onComplete(result -> context.verify(() -> {
+                assertThat(toCacheObjects(first.result())).containsExactly(CacheObject.of("uuid1"));
+                assertThat(toCacheObjects(second.result()))
+                        .containsExactly(CacheObject.of("uuid2"), CacheObject.of("uuid3"));
+
+                final ArgumentCaptor<String> bodyCaptor = ArgumentCaptor.forClass(String.class);
+                verify(httpClient).post(eq("http://cache-service/cache"), any(), bodyCaptor.capture(), anyLong());
+                assertThat(mapper.readValue(bodyCaptor.getValue(), BidCacheRequest.class).getPuts())
+                        .extracting(BidPutObject::getBidid)
+                        .containsExactly("1", "2", "3");
+
+                verify(metrics).updateCacheBatchSizeMetric(3);
+                verify(metrics).updateCacheBatchWaitMetric(anyLong());
+                context.completeNow();
+            }));
+        });
+    }
+
+    @Test
+    public void writeShouldFlushBatchWhenItReachesMaxSize(VertxTestContext context) {
+        // given
+        target = givenCacheWriteBatcher(10000, 2);
+        given(httpClient.post(anyString(), any(), anyString(), anyLong()))
+                .willReturn(Promise.<HttpClientResponse>promise().future());
+
+        // when
+        vertx.runOnContext(ignored -> {
+            target.write(List.of(givenPutObject("1")), 1000L);
+            target.write(List.of(givenPutObject("2")), 1000L);
+            target.write(List.of(givenPutObject("3")), 1000L);
+
+            // then
+            context.verify(() -> {
+                verify(httpClient, times(1)).post(anyString(), any(), anyString(), anyLong());
+                verify(metrics, times(1)).updateCacheBatchSizeMetric(anyInt());
+                context.completeNow();
+            });
+        });
+    }
+
+    @Test
+    public void writeShouldSendRightAwayWhenNotOnEventLoop() {
+        // given
+        givenHttpClientReturnsResponse(200, "{}");
+
+        // when
+        final Future<HttpClientResponse> result = target.write(List.of(givenPutObject("1")), 1000L);
+
+        // then
+        assertThat(result.result().getBody()).isEqualTo("{}");
+        verify(httpClient).post(eq("http://cache-service/cache"), any(), anyString(), eq(1000L));
+    }
+
+    @Test
+    public void writeShouldReturnResponseAsIsToEveryWriteWhenStatusCodeIsNot200(VertxTestContext context) {
+        // given
+        givenHttpClientReturnsResponse(503, "Service unavailable");
+
+        // when
+        vertx.runOnContext(ignored -> {
+            final Future<HttpClientResponse> first = target.write(List.of(givenPutObject("1")), 1000L);
+            final Future<HttpClientResponse> second = target.write(List.of(givenPutObject("2")), 1000L);
+
+            // then
+            Future.join(first, second).onComplete(result -> context.verify(() -> {
+                assertThat(first.result().getStatusCode()).isEqualTo(503);
+                assertThat(second.result().getStatusCode()).isEqualTo(503);
+                context.completeNow();
+            }));
+        });
+    }
+
+    @Test
+    public void writeShouldFailEveryWriteWhenNumberOfResponseCacheObjectsDoesNotMatch(VertxTestContext context)
+            throws JsonProcessingException {
+
+        // given
+        givenHttpClientReturnsResponse(200, mapper.writeValueAsString(
+                BidCacheResponse.of(List.of(CacheObject.of("uuid1")))));
+
+        // when
+        vertx.runOnContext(ignored -> {
+            final Future<HttpClientResponse> first = target.write(List.of(givenPutObject("1")), 1000L);
+            final Future<HttpClientResponse> second = target.write(List.of(givenPutObject("2")), 1000L);
+
+            // then
+            Future.join(first, second).onComplete(result -> context.verify(() -> {
+                assertThat(first.cause()).isInstanceOf(PreBidException.class)
+                        .hasMessage("The number of response cache objects doesn't match with bids");
+                assertThat(second.cause()).isInstanceOf(PreBidException.class);
+                context.completeNow();
+            }));
+        });
+    }
+
+    @Test
+    public void writeShouldFailWriteOnItsOwnDeadline(VertxTestContext context) {
+        // given
+        given(httpClient.post(anyString(), any(), anyString(), anyLong()))
+                .willReturn(Promise.<HttpClientResponse>promise().future());
+
+        // when
+        vertx.runOnContext(ignored -> {
+            final Future<HttpClientResponse> first = target.write(List.of(givenPutObject("1")), 20L);
+            target.write(List.of(givenPutObject("2")), 1000L);
+
+            // then
+            first.onComplete(result -> context.verify(() -> {
+                assertThat(result.cause()).isInstanceOf(TimeoutException.class);
+                verify(httpClient).post(anyString(), any(), anyString(), anyLong());
+                context.completeNow();
+            }));
+        });
+    }
+
+    private CacheWriteBatcher givenCacheWriteBatcher(long windowMs, int maxBatchSize) {
+        return new CacheWriteBatcher(
+                httpClient,
+                "http://cache-service/cache",
+                HttpUtil.headers(),
+                vertx,
+                windowMs,
+                maxBatchSize,
+                Clock.systemUTC(),
+                metrics,
+                jacksonMapper);
+    }
+
+    private void givenHttpClientReturnsResponse(int statusCode, String body) {
+        given(httpClient.post(anyString(), any(), anyString(), anyLong()))
+                .willReturn(Future.succeededFuture(HttpClientResponse.of(statusCode, null, body)));
+    }
+
+    private static BidPutObject givenPutObject(String bidId) {
+        return BidPutObject.builder().type("json").bidid(bidId).build();
+    }
+
+    private static List<CacheObject> toCacheObjects(HttpClientResponse response) throws JsonProcessingException {
+        return mapper.readValue(response.getBody(), BidCacheResponse.class).getResponses();
+    }
+}
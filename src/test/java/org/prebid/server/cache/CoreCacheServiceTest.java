@@ -25,6 +25,7 @@ import org.prebid.server.cache.model.CacheHttpRequest;
 import org.prebid.server.cache.model.CacheInfo;
 import org.prebid.server.cache.model.CacheServiceResult;
 import org.prebid.server.cache.model.DebugHttpCall;
+import org.prebid.server.cache.model.EmbeddedCacheEntry;
 import org.prebid.server.cache.proto.request.bid.BidCacheRequest;
 import org.prebid.server.cache.proto.request.bid.BidPutObject;
 import org.prebid.server.cache.proto.response.CacheErrorResponse;
@@ -72,9 +73,11 @@ import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mock.Strictness.LENIENT;
 import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -619,6 +622,63 @@ public class CoreCacheServiceTest extends VertxTest {
                 .containsEntry(bidInfo.getBid(), CacheInfo.of("uuid1", null, null, null));
     }
 
+    @Test
+    public void cacheBidsOpenrtbShouldWritePutObjectsThroughBatcherWhenProvided() throws MalformedURLException,
+            JsonProcessingException {
+
+        // given
+        final CacheWriteBatcher cacheWriteBatcher = mock(CacheWriteBatcher.class);
+        given(cacheWriteBatcher.write(any(), anyLong())).willReturn(Future.succeededFuture(
+                HttpClientResponse.of(200, null, mapper.writeValueAsString(
+                        BidCacheResponse.of(singletonList(CacheObject.of("uuid2")))))));
+
+        target = givenCoreCacheService(cacheWriteBatcher, null);
+
+        final BidInfo bidInfo = givenBidInfo(bidBuilder -> bidBuilder.id("bidId1"));
+
+        // when
+        final Future<CacheServiceResult> future = target.cacheBidsOpenrtb(
+                singletonList(bidInfo),
+                givenAuctionContext(),
+                CacheContext.builder()
+                        .shouldCacheBids(true)
+                        .build(),
+                eventsContext);
+
+        // then
+        assertThat(future.result().getCacheBids()).hasSize(1)
+                .containsEntry(bidInfo.getBid(), CacheInfo.of("uuid2", null, null, null));
+        verify(cacheWriteBatcher).write(
+                argThat(puts -> puts.size() == 1 && puts.getFirst().getType().equals("json")), eq(500L));
+        verifyNoInteractions(httpClient);
+    }
+
+    @Test
+    public void cacheBidsOpenrtbShouldStorePutObjectsInEmbeddedCacheWhenProvided() throws MalformedURLException {
+        // given
+        final EmbeddedCacheStore embeddedCacheStore = mock(EmbeddedCacheStore.class);
+        given(embeddedCacheStore.put(any())).willReturn(BidCacheResponse.of(singletonList(CacheObject.of("uuid3"))));
+
+        target = givenCoreCacheService(null, embeddedCacheStore);
+
+        final BidInfo bidInfo = givenBidInfo(bidBuilder -> bidBuilder.id("bidId1"));
+
+        // when
+        final Future<CacheServiceResult> future = target.cacheBidsOpenrtb(
+                singletonList(bidInfo),
+                givenAuctionContext(),
+                CacheContext.builder()
+                        .shouldCacheBids(true)
+                        .build(),
+                eventsContext);
+
+        // then
+        assertThat(future.result().getCacheBids()).hasSize(1)
+                .containsEntry(bidInfo.getBid(), CacheInfo.of("uuid3", null, null, null));
+        verify(metrics).updateAuctionCacheRequestTime(eq("accountId"), anyLong(), eq(MetricName.ok));
+        verifyNoInteractions(httpClient);
+    }
+
     @Test
     public void cacheBidsOpenrtbShouldReturnExpectedResultForVideoBids() {
         // given
@@ -1828,6 +1888,40 @@ public class CoreCacheServiceTest extends VertxTest {
         verify(metrics).updateVtrackCacheReadRequestTime(anyLong(), eq(MetricName.err));
     }
 
+    @Test
+    public void getCachedObjectShouldReturnEntryFromEmbeddedCacheWhenProvided() throws MalformedURLException {
+        // given
+        final EmbeddedCacheStore embeddedCacheStore = mock(EmbeddedCacheStore.class);
+        given(embeddedCacheStore.get("key")).willReturn(EmbeddedCacheEntry.of("xml", "<VAST/>", 300));
+
+        target = givenCoreCacheService(null, embeddedCacheStore);
+
+        // when
+        final Future<HttpClientResponse> result = target.getCachedObject("key", "ch", timeout);
+
+        // then
+        assertThat(result.result().getStatusCode()).isEqualTo(200);
+        assertThat(result.result().getBody()).isEqualTo("<VAST/>");
+        assertThat(result.result().getHeaders().getAll(HttpUtil.CONTENT_TYPE_HEADER))
+                .containsExactly("application/xml");
+        verify(metrics).updateVtrackCacheReadRequestTime(anyLong(), eq(MetricName.ok));
+        verifyNoInteractions(httpClient);
+    }
+
+    @Test
+    public void getCachedObjectShouldReturnNotFoundWhenEmbeddedCacheHasNoEntry() throws MalformedURLException {
+        // given
+        target = givenCoreCacheService(null, mock(EmbeddedCacheStore.class));
+
+        // when
+        final Future<HttpClientResponse> result = target.getCachedObject("key", "ch", timeout);
+
+        // then
+        assertThat(result.result().getStatusCode()).isEqualTo(404);
+        assertThat(result.result().getBody()).isEqualTo("Resource Not Found: uuid key");
+        verify(metrics).updateVtrackCacheReadRequestTime(anyLong(), eq(MetricName.err));
+    }
+
     @Test
     public void getCachedObjectShouldFailWhenErrorResponseCanNotBeParsed() {
         // given
@@ -1847,6 +1941,30 @@ public class CoreCacheServiceTest extends VertxTest {
         verify(metrics).updateVtrackCacheReadRequestTime(anyLong(), eq(MetricName.err));
     }
 
+    private CoreCacheService givenCoreCacheService(CacheWriteBatcher cacheWriteBatcher,
+                                                   EmbeddedCacheStore embeddedCacheStore)
+            throws MalformedURLException {
+
+        return new CoreCacheService(
+                httpClient,
+                new URL("http://cache-service/cache"),
+                null,
+                "http://cache-service-host/cache?uuid=",
+                100L,
+                null,
+                false,
+                false,
+                null,
+                vastModifier,
+                eventsService,
+                metrics,
+                clock,
+                idGenerator,
+                jacksonMapper,
+                cacheWriteBatcher,
+                embeddedCacheStore);
+    }
+
     private AuctionContext givenAuctionContext(UnaryOperator<Account.AccountBuilder> accountCustomizer,
                                                UnaryOperator<BidRequest.BidRequestBuilder> bidRequestCustomizer) {
 
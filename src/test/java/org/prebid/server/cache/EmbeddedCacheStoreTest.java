@@ -0,0 +1,135 @@
+package org.prebid.server.cache;
+
+import com.fasterxml.jackson.databind.node.TextNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.VertxTest;
+import org.prebid.server.cache.model.EmbeddedCacheEntry;
+import org.prebid.server.cache.proto.request.bid.BidPutObject;
+import org.prebid.server.cache.proto.response.bid.BidCacheResponse;
+import org.prebid.server.cache.proto.response.bid.CacheObject;
+import org.prebid.server.identity.UUIDIdGenerator;
+import org.prebid.server.metric.Metrics;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.apache.commons.lang3.StringUtils.repeat;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class EmbeddedCacheStoreTest extends VertxTest {
+
+    @Mock
+    private UUIDIdGenerator idGenerator;
+    @Mock
+    private Metrics metrics;
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private EmbeddedCacheStore target;
+
+    @BeforeEach
+    public void setUp() {
+        target = givenEmbeddedCacheStore(1000000L);
+    }
+
+    @Test
+    public void creationShouldFailOnInvalidTtls() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new EmbeddedCacheStore(
+                        100L, 300, 60, idGenerator, nanos::get, jacksonMapper, metrics))
+                .withMessage("Embedded cache TTLs should satisfy 1 <= default-ttl <= max-ttl");
+    }
+
+    @Test
+    public void putShouldStoreValuesUnderGeneratedUuids() {
+        // given
+        given(idGenerator.generateId()).willReturn("uuid1", "uuid2");
+
+        // when
+        final BidCacheResponse result = target.put(List.of(
+                BidPutObject.builder().type("json").value(mapper.createObjectNode().put("adm", "adm1")).build(),
+                BidPutObject.builder().type("xml").value(new TextNode("<VAST/>")).ttlseconds(60).build()));
+
+        // then
+        assertThat(result.getResponses()).containsExactly(CacheObject.of("uuid1"), CacheObject.of("uuid2"));
+        assertThat(target.get("uuid1")).isEqualTo(EmbeddedCacheEntry.of("json", "{\"adm\":\"adm1\"}", 300));
+        assertThat(target.get("uuid2")).isEqualTo(EmbeddedCacheEntry.of("xml", "<VAST/>", 60));
+        verify(metrics, times(2)).updateEmbeddedCacheHitMetric();
+    }
+
+    @Test
+    public void putShouldNotReplaceEntryUnderTakenKey() {
+        // given
+        target.put(List.of(BidPutObject.builder().type("xml").value(new TextNode("first")).key("key").build()));
+
+        // when
+        final BidCacheResponse result = target.put(List.of(
+                BidPutObject.builder().type("xml").value(new TextNode("second")).key("key").build()));
+
+        // then
+        assertThat(result.getResponses()).containsExactly(CacheObject.of(""));
+        assertThat(target.get("key").getValue()).isEqualTo("first");
+    }
+
+    @Test
+    public void putModuleEntryShouldCapTtlWithMaxTtl() {
+        // when
+        target.putModuleEntry("key", "text", "value", 100000);
+
+        // then
+        assertThat(target.getModuleEntry("key").getTtlSeconds()).isEqualTo(3600);
+    }
+
+    @Test
+    public void putModuleEntryShouldKeepModuleEntriesApartFromCreatives() {
+        // given
+        target.put(List.of(BidPutObject.builder().type("xml").value(new TextNode("creative")).key("key").build()));
+
+        // when
+        target.putModuleEntry("key", "TEXT", "module", null);
+
+        // then
+        assertThat(target.get("key").getValue()).isEqualTo("creative");
+        assertThat(target.getModuleEntry("key").getValue()).isEqualTo("module");
+    }
+
+    @Test
+    public void getModuleEntryShouldReturnNullWhenEntryExpired() {
+        // given
+        target.putModuleEntry("key", "text", "value", 60);
+
+        // when
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(61));
+
+        // then
+        assertThat(target.getModuleEntry("key")).isNull();
+        verify(metrics).updateEmbeddedCacheMissMetric();
+    }
+
+    @Test
+    public void putShouldEvictEntriesAboveMaxSize() {
+        // given
+        target = givenEmbeddedCacheStore(300L);
+
+        // when
+        target.putModuleEntry("key1", "text", repeat('a', 100), null);
+        target.putModuleEntry("key2", "text", repeat('b', 100), null);
+
+        // then
+        verify(metrics).updateEmbeddedCacheEvictedMetric();
+    }
+
+    private EmbeddedCacheStore givenEmbeddedCacheStore(long maxSizeBytes) {
+        return new EmbeddedCacheStore(maxSizeBytes, 300, 3600, idGenerator, nanos::get, jacksonMapper, metrics);
+    }
+}
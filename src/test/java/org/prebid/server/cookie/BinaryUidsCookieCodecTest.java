@@ -0,0 +1,108 @@
+package org.prebid.server.cookie;
+
+import org.junit.jupiter.api.Test;
+import org.prebid.server.cookie.model.UidWithExpiry;
+import org.prebid.server.cookie.proto.Uids;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class BinaryUidsCookieCodecTest {
+
+    private final BinaryUidsCookieCodec target = new BinaryUidsCookieCodec(List.of("rubicon", "adnxs"));
+
+    @Test
+    public void decodeShouldReturnEncodedUids() {
+        // given
+        final ZonedDateTime expires = ZonedDateTime.of(2030, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+        final Uids uids = Uids.builder()
+                .uids(Map.of(
+                        "rubicon", new UidWithExpiry("rubiconUid", expires),
+                        "adnxs", new UidWithExpiry("adnxsUid", expires.plusDays(14)),
+                        "hostFamily", new UidWithExpiry("hostUid", expires.minusDays(1))))
+                .optout(true)
+                .build();
+
+        // when
+        final Uids result = target.decode(target.encode(uids));
+
+        // then
+        assertThat(result.getOptout()).isTrue();
+        assertThat(result.getUids()).isEqualTo(uids.getUids());
+    }
+
+    @Test
+    public void decodeShouldReadUidsCodedByOlderDictionaryVersion() {
+        // given
+        final Uids uids = Uids.builder()
+                .uids(Map.of(
+                        "rubicon", UidWithExpiry.live("rubiconUid"),
+                        "adnxs", UidWithExpiry.live("adnxsUid")))
+                .build();
+        final BinaryUidsCookieCodec newerCodec = new BinaryUidsCookieCodec(List.of("rubicon", "adnxs", "newFamily"));
+
+        // when
+        final Uids result = newerCodec.decode(target.encode(uids));
+
+        // then
+        assertThat(result.getUids()).containsOnlyKeys("rubicon", "adnxs");
+    }
+
+    @Test
+    public void creationShouldFailOnDuplicateFamilyInDictionary() {
+        // when and then
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new BinaryUidsCookieCodec(List.of("rubicon", "adnxs", "rubicon")))
+                .withMessage("Duplicate family in uids cookie dictionary: rubicon");
+    }
+
+    @Test
+    public void creationShouldSucceedWithDefaultDictionary() {
+        // when and then
+        assertThat(new BinaryUidsCookieCodec().entrySize("rubicon", "uid"))
+                .isLessThan(new BinaryUidsCookieCodec().entrySize("unknownFamily", "uid"));
+    }
+
+    @Test
+    public void encodeShouldProduceBinaryValueSmallerThanJson() {
+        // given
+        final Uids uids = Uids.builder()
+                .uids(Map.of(
+                        "rubicon", UidWithExpiry.live("J5VLCWQP-26-CWFT"),
+                        "adnxs", UidWithExpiry.live("12345")))
+                .build();
+
+        // when
+        final byte[] result = target.encode(uids);
+
+        // then
+        assertThat(BinaryUidsCookieCodec.isBinary(result)).isTrue();
+        assertThat(result.length).isLessThan("{\"tempUIDs\":{\"rubicon\":{\"uid\":\"J5VLCWQP-26-CWFT\"}}}".length());
+    }
+
+    @Test
+    public void isBinaryShouldReturnFalseForJson() {
+        // when and then
+        assertThat(BinaryUidsCookieCodec.isBinary("{\"tempUIDs\":{}}".getBytes(StandardCharsets.UTF_8))).isFalse();
+        assertThat(BinaryUidsCookieCodec.isBinary(new byte[0])).isFalse();
+    }
+
+    @Test
+    public void decodeShouldFailOnTruncatedValue() {
+        // given
+        final byte[] value = target.encode(Uids.builder()
+                .uids(Map.of("rubicon", UidWithExpiry.live("rubiconUid")))
+                .build());
+
+        // when and then
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> target.decode(Arrays.copyOf(value, value.length - 3)));
+    }
+}
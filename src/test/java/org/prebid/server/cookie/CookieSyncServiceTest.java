@@ -41,8 +41,10 @@ import org.prebid.server.settings.model.AccountCookieSyncConfig;
 import org.prebid.server.settings.model.AccountCoopSyncConfig;
 import org.prebid.server.spring.config.bidder.model.usersync.CookieFamilySource;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -50,6 +52,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.emptySet;
@@ -543,6 +546,47 @@ public class CookieSyncServiceTest extends VertxTest {
                         "bidder-skipwhen-sid-1-3", RejectionReason.REJECTED_BY_REGULATION_SCOPE));
     }
 
+    @Test
+    public void processContextShouldRejectEachOfManyBiddersWithFirstMatchingCatalogReason() {
+        // given
+        final List<String> bidders = IntStream.range(0, 64).mapToObj(i -> "bidder-" + i).toList();
+        final List<String> allowedBidders = new ArrayList<>();
+        final Map<String, RejectionReason> expectedRejectedBidders = new HashMap<>();
+        for (int i = 0; i < bidders.size(); i++) {
+            final String bidder = bidders.get(i);
+            switch (i % 4) {
+                case 0 -> expectedRejectedBidders.put(bidder, RejectionReason.INVALID_BIDDER);
+                case 1 -> {
+                    given(bidderCatalog.isValidName(bidder)).willReturn(true);
+                    expectedRejectedBidders.put(bidder, RejectionReason.DISABLED_BIDDER);
+                }
+                case 2 -> {
+                    givenValidActiveBidder(bidder);
+                    expectedRejectedBidders.put(bidder, RejectionReason.UNCONFIGURED_USERSYNC);
+                }
+                default -> {
+                    givenValidActiveBidder(bidder);
+                    givenUsersyncerForBidder(bidder);
+                    allowedBidders.add(bidder);
+                }
+            }
+        }
+        givenAllAllowedTcfResultForBidders(allowedBidders.toArray(String[]::new));
+
+        final CookieSyncContext cookieSyncContext = givenCookieSyncContext(builder ->
+                builder.cookieSyncRequest(givenCookieSyncRequest(bidders.toArray(String[]::new))));
+
+        // when
+        final Future<CookieSyncContext> result = target.processContext(cookieSyncContext);
+
+        // then
+        assertThat(result).isSucceeded()
+                .unwrap()
+                .extracting(CookieSyncContext::getBiddersContext)
+                .extracting(BiddersContext::rejectedBidders)
+                .isEqualTo(expectedRejectedBidders);
+    }
+
     @Test
     public void processContextShouldApplyRequestFilteringRules() {
         // given
@@ -1128,6 +1172,41 @@ public class CookieSyncServiceTest extends VertxTest {
         assertThat(result.getBidderStatus()).containsExactly(status);
     }
 
+    @Test
+    public void prepareResponseShouldRenderUsersyncUrlFromTemplatePrecompiledForCatalogUsersyncers() {
+        // given
+        final UsersyncMethod usersyncMethod = UsersyncMethod.builder()
+                .type(UsersyncMethodType.REDIRECT)
+                .usersyncUrl("https://bidder.com/sync?gdpr={{gdpr}}&consent={{gdpr_consent}}&redir={{redirect_url}}")
+                .redirectUrl("https://external-url.com/setuid?bidder=bidder&gdpr={{gdpr}}&uid=$UID")
+                .build();
+        final Usersyncer usersyncer = Usersyncer.of(
+                true, "bidder-cookie-family", CookieFamilySource.ROOT, null, usersyncMethod, false, null);
+
+        given(bidderCatalog.names()).willReturn(singleton("bidder"));
+        given(bidderCatalog.usersyncerByName(eq("bidder"))).willReturn(Optional.of(usersyncer));
+        given(bidderCatalog.cookieFamilyName(eq("bidder"))).willReturn(Optional.of("bidder-cookie-family"));
+        givenCookieSyncService(Integer.MAX_VALUE, Integer.MAX_VALUE);
+
+        final CookieSyncContext cookieSyncContext = givenCookieSyncContext(
+                UnaryOperator.identity(),
+                biddersContextBuilder -> biddersContextBuilder
+                        .requestedBidders(singleton("bidder"))
+                        .bidderUsersyncMethod(Map.of("bidder", usersyncMethod)));
+
+        // when
+        final CookieSyncResponse result = target.prepareResponse(cookieSyncContext);
+
+        // then
+        final String expectedUrl = """
+                https://bidder.com/sync?gdpr=gdpr&consent=consent-string\
+                &redir=https%3A%2F%2Fexternal-url.com%2Fsetuid\
+                %3Fbidder%3Dbidder%26gdpr%3Dgdpr%26f%3Di%26uid%3D%24UID""";
+        assertThat(result.getBidderStatus())
+                .extracting(BidderUsersyncStatus::getUsersync)
+                .containsExactly(UsersyncInfo.of(expectedUrl, UsersyncMethodType.REDIRECT, false));
+    }
+
     @Test
     public void prepareResponseShouldReturnResponseWithWarningsIfNotEmpty() {
         // given
@@ -56,6 +56,8 @@ public class UidsCookieServiceTest extends VertxTest {
     @Mock
     private Metrics metrics;
 
+    private final BinaryUidsCookieCodec binaryCodec = new BinaryUidsCookieCodec(List.of(RUBICON, ADNXS));
+
     private UidsCookieService target;
 
     @BeforeEach
@@ -71,7 +73,9 @@ public class UidsCookieServiceTest extends VertxTest {
                 1,
                 prioritizedCoopSyncProvider,
                 metrics,
-                jacksonMapper);
+                jacksonMapper,
+                binaryCodec,
+                false);
     }
 
     @Test
@@ -322,7 +326,9 @@ public class UidsCookieServiceTest extends VertxTest {
                 1,
                 prioritizedCoopSyncProvider,
                 metrics,
-                jacksonMapper);
+                jacksonMapper,
+                binaryCodec,
+                false);
         given(routingContext.cookieMap()).willReturn(
                 singletonMap(OPT_OUT_COOKIE_NAME, Cookie.cookie("trp_optout", "true")));
 
@@ -347,7 +353,9 @@ public class UidsCookieServiceTest extends VertxTest {
                 1,
                 prioritizedCoopSyncProvider,
                 metrics,
-                jacksonMapper);
+                jacksonMapper,
+                binaryCodec,
+                false);
         given(routingContext.cookieMap()).willReturn(
                 singletonMap(OPT_OUT_COOKIE_NAME, Cookie.cookie("trp_optout", "true")));
 
@@ -372,7 +380,9 @@ public class UidsCookieServiceTest extends VertxTest {
                 1,
                 prioritizedCoopSyncProvider,
                 metrics,
-                jacksonMapper);
+                jacksonMapper,
+                binaryCodec,
+                false);
         given(routingContext.cookieMap()).willReturn(singletonMap("khaos", Cookie.cookie("khaos", "abc123")));
 
         // when
@@ -396,7 +406,9 @@ public class UidsCookieServiceTest extends VertxTest {
                 1,
                 prioritizedCoopSyncProvider,
                 metrics,
-                jacksonMapper);
+                jacksonMapper,
+                binaryCodec,
+                false);
 
         final Map<String, Cookie> cookies = new HashMap<>();
         // this uids cookie value stands for { "tempUIDs":{ "rubicon":{ "uid": "J5VLCWQP-26-CWFT",
@@ -522,7 +534,9 @@ public class UidsCookieServiceTest extends VertxTest {
                 1,
                 prioritizedCoopSyncProvider,
                 metrics,
-                jacksonMapper);
+                jacksonMapper,
+                binaryCodec,
+                false);
 
         // when
         final String hostCookie = target.parseHostCookie(singletonMap("khaos", "userId"));
@@ -564,7 +578,9 @@ public class UidsCookieServiceTest extends VertxTest {
                 1,
                 prioritizedCoopSyncProvider,
                 metrics,
-                jacksonMapper);
+                jacksonMapper,
+                binaryCodec,
+                false);
 
         // when
         final String result = target.hostCookieUidToSync(routingContext, "cookie-family");
@@ -587,7 +603,9 @@ public class UidsCookieServiceTest extends VertxTest {
                 1,
                 prioritizedCoopSyncProvider,
                 metrics,
-                jacksonMapper);
+                jacksonMapper,
+                binaryCodec,
+                false);
 
         final UidsCookie uidsCookie = new UidsCookie(
                 Uids.builder().uids(Map.of("cookie-family", UidWithExpiry.live("hostCookieUid"))).build(),
@@ -621,7 +639,9 @@ public class UidsCookieServiceTest extends VertxTest {
                 1,
                 prioritizedCoopSyncProvider,
                 metrics,
-                jacksonMapper);
+                jacksonMapper,
+                binaryCodec,
+                false);
 
         given(routingContext.cookieMap()).willReturn(emptyMap());
 
@@ -646,7 +666,9 @@ public class UidsCookieServiceTest extends VertxTest {
                 1,
                 prioritizedCoopSyncProvider,
                 metrics,
-                jacksonMapper);
+                jacksonMapper,
+                binaryCodec,
+                false);
 
         final UidsCookie uidsCookie = new UidsCookie(
                 Uids.builder().uids(Map.of(RUBICON, UidWithExpiry.live("hostCookieUid"))).build(),
@@ -738,7 +760,9 @@ public class UidsCookieServiceTest extends VertxTest {
                 2,
                 prioritizedCoopSyncProvider,
                 metrics,
-                jacksonMapper);
+                jacksonMapper,
+                binaryCodec,
+                false);
 
         final UidsCookie uidsCookie = givenUidsCookie(Map.of("family", UidWithExpiry.live("uid")));
 
@@ -765,7 +789,9 @@ public class UidsCookieServiceTest extends VertxTest {
                 1,
                 prioritizedCoopSyncProvider,
                 metrics,
-                jacksonMapper);
+                jacksonMapper,
+                binaryCodec,
+                false);
         given(prioritizedCoopSyncProvider.isPrioritizedFamily("family")).willReturn(false);
         given(prioritizedCoopSyncProvider.isPrioritizedFamily("very-very-very-very-long-family")).willReturn(true);
         given(prioritizedCoopSyncProvider.isPrioritizedFamily("another-very-very-very-long-family")).willReturn(true);
@@ -801,7 +827,9 @@ public class UidsCookieServiceTest extends VertxTest {
                 1,
                 prioritizedCoopSyncProvider,
                 metrics,
-                jacksonMapper);
+                jacksonMapper,
+                binaryCodec,
+                false);
         given(prioritizedCoopSyncProvider.isPrioritizedFamily(any())).willReturn(true);
 
         // cookie of encoded size 450 bytes
@@ -835,7 +863,9 @@ public class UidsCookieServiceTest extends VertxTest {
                 2,
                 prioritizedCoopSyncProvider,
                 metrics,
-                jacksonMapper);
+                jacksonMapper,
+                binaryCodec,
+                false);
         given(prioritizedCoopSyncProvider.isPrioritizedFamily(any())).willReturn(true);
 
         // cookie of encoded size 450 bytes
@@ -871,7 +901,9 @@ public class UidsCookieServiceTest extends VertxTest {
                 5,
                 prioritizedCoopSyncProvider,
                 metrics,
-                jacksonMapper);
+                jacksonMapper,
+                binaryCodec,
+                false);
         given(prioritizedCoopSyncProvider.isPrioritizedFamily(any())).willReturn(false);
 
         // cookie of encoded size 450 bytes
@@ -922,7 +954,9 @@ public class UidsCookieServiceTest extends VertxTest {
                 2,
                 prioritizedCoopSyncProvider,
                 metrics,
-                jacksonMapper);
+                jacksonMapper,
+                binaryCodec,
+                false);
         given(prioritizedCoopSyncProvider.isPrioritizedFamily(any())).willReturn(false);
 
         // cookie of encoded size 450 bytes
@@ -945,6 +979,144 @@ public class UidsCookieServiceTest extends VertxTest {
         assertThat(decodeUids(result.getLast().getValue()).getOptout()).isTrue();
     }
 
+    @Test
+    public void shouldReturnUidsCookieFromBinaryCookieWhenJsonFormatIsConfigured() {
+        // given
+        final ZonedDateTime expires = ZonedDateTime.now().plusDays(1).truncatedTo(ChronoUnit.SECONDS);
+        final Uids uids = Uids.builder()
+                .uids(Map.of(
+                        RUBICON, new UidWithExpiry("J5VLCWQP-26-CWFT", expires),
+                        "unknownFamily", new UidWithExpiry("12345", expires.plusHours(1))))
+                .build();
+        final Map<String, String> cookies = singletonMap(
+                "uids", Base64.getUrlEncoder().withoutPadding().encodeToString(binaryCodec.encode(uids)));
+
+        // when
+        final UidsCookie uidsCookie = target.parseFromCookies(cookies);
+
+        // then
+        assertThat(uidsCookie.uidFrom(RUBICON)).isEqualTo("J5VLCWQP-26-CWFT");
+        assertThat(uidsCookie.uidFrom("unknownFamily")).isEqualTo("12345");
+        assertThat(uidsCookie.getCookieUids().getUids().get(RUBICON).getExpires().toInstant())
+                .isEqualTo(expires.toInstant());
+    }
+
+    @Test
+    public void shouldMergeJsonAndBinaryUidsCookies() throws JsonProcessingException {
+        // given
+        final Map<String, String> cookies = Map.of(
+                "uids", encodeUids(Uids.builder()
+                        .uids(Map.of(RUBICON, UidWithExpiry.live("rubiconUid")))
+                        .build()),
+                "uids2", Base64.getUrlEncoder().encodeToString(binaryCodec.encode(Uids.builder()
+                        .uids(Map.of(ADNXS, UidWithExpiry.live("adnxsUid")))
+                        .build())));
+
+        // when
+        final UidsCookie uidsCookie = target.parseFromCookies(cookies);
+
+        // then
+        assertThat(uidsCookie.uidFrom(RUBICON)).isEqualTo("rubiconUid");
+        assertThat(uidsCookie.uidFrom(ADNXS)).isEqualTo("adnxsUid");
+    }
+
+    @Test
+    public void shouldSkipUidsCodedByNewerDictionaryVersionOfBinaryCookie() {
+        // given
+        final BinaryUidsCookieCodec newerCodec = new BinaryUidsCookieCodec(List.of(RUBICON, ADNXS, "newFamily"));
+        final Uids uids = Uids.builder()
+                .uids(Map.of(
+                        RUBICON, UidWithExpiry.live("rubiconUid"),
+                        "newFamily", UidWithExpiry.live("newUid"),
+                        "unknownFamily", UidWithExpiry.live("unknownUid")))
+                .build();
+        final Map<String, String> cookies = singletonMap(
+                "uids", Base64.getUrlEncoder().encodeToString(newerCodec.encode(uids)));
+
+        // when
+        final UidsCookie uidsCookie = target.parseFromCookies(cookies);
+
+        // then
+        assertThat(uidsCookie.getCookieUids().getUids()).containsOnlyKeys(RUBICON, "unknownFamily");
+    }
+
+    @Test
+    public void aliveCookieShouldReturnBinaryValueWhenBinaryFormatIsConfigured() {
+        // given
+        target = new UidsCookieService(
+                "trp_optout",
+                "true",
+                null,
+                null,
+                "cookie-domain",
+                90,
+                MAX_COOKIE_SIZE_BYTES,
+                1,
+                prioritizedCoopSyncProvider,
+                metrics,
+                jacksonMapper,
+                binaryCodec,
+                true);
+        final UidsCookie uidsCookie = givenUidsCookie(Map.of(
+                RUBICON, UidWithExpiry.live("rubiconUid"),
+                ADNXS, UidWithExpiry.live("adnxsUid")));
+
+        // when
+        final Cookie cookie = target.aliveCookie(uidsCookie);
+
+        // then
+        final byte[] value = Base64.getUrlDecoder().decode(cookie.getValue());
+        assertThat(BinaryUidsCookieCodec.isBinary(value)).isTrue();
+        assertThat(target.parseFromCookies(singletonMap("uids", cookie.getValue())).getCookieUids().getUids())
+                .containsOnlyKeys(RUBICON, ADNXS);
+    }
+
+    @Test
+    public void splitUidsIntoCookiesShouldFitMoreUidsInBinaryFormat() {
+        // given
+        final Map<String, UidWithExpiry> uids = new HashMap<>();
+        for (int i = 0; i < 40; i++) {
+            uids.put("family" + i, UidWithExpiry.live("8c2f4e0b-1b3a-4f6e-9d6a-%012d".formatted(i)));
+        }
+        uids.put(RUBICON, UidWithExpiry.live("J5VLCWQP-26-CWFT"));
+        uids.put(ADNXS, UidWithExpiry.live("12345"));
+        final UidsCookie uidsCookie = givenUidsCookie(uids);
+
+        final UidsCookieService jsonTarget = givenUidsCookieServiceWithSizeLimit(false);
+        final UidsCookieService binaryTarget = givenUidsCookieServiceWithSizeLimit(true);
+
+        // when
+        final List<Cookie> jsonCookies = jsonTarget.splitUidsIntoCookies(uidsCookie);
+        final List<Cookie> binaryCookies = binaryTarget.splitUidsIntoCookies(uidsCookie);
+
+        // then
+        final int jsonUidsCount = decodeUids(jsonCookies.getFirst().getValue()).getUids().size();
+        final Uids binaryUids = binaryTarget.parseFromCookies(
+                singletonMap("uids", binaryCookies.getFirst().getValue())).getCookieUids();
+
+        assertThat(binaryCookies.getFirst().encode().length()).isLessThanOrEqualTo(1000);
+        assertThat(binaryUids.getUids().size()).isGreaterThan(jsonUidsCount);
+        assertThat(binaryUids.getUids()).allSatisfy((family, uid) ->
+                assertThat(uid.getUid()).isEqualTo(uids.get(family).getUid()));
+    }
+
+    private UidsCookieService givenUidsCookieServiceWithSizeLimit(boolean binaryFormat) {
+        return new UidsCookieService(
+                "trp_optout",
+                "true",
+                null,
+                null,
+                "cookie-domain",
+                90,
+                1000,
+                1,
+                prioritizedCoopSyncProvider,
+                metrics,
+                jacksonMapper,
+                binaryCodec,
+                binaryFormat);
+    }
+
     private UidsCookie givenUidsCookie(Map<String, UidWithExpiry> uids) {
         return new UidsCookie(Uids.builder().uids(uids).build(), jacksonMapper);
     }
@@ -0,0 +1,76 @@
+package org.prebid.server.currency;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CurrencyRatesMatrixTest {
+
+    @Test
+    public void ofShouldReturnNullForEmptyRates() {
+        assertThat(CurrencyRatesMatrix.of(null)).isNull();
+        assertThat(CurrencyRatesMatrix.of(emptyMap())).isNull();
+    }
+
+    @Test
+    public void rateShouldReturnStraightRate() {
+        // given
+        final CurrencyRatesMatrix target = CurrencyRatesMatrix.of(
+                singletonMap("USD", singletonMap("EUR", new BigDecimal("0.8434"))));
+
+        // when and then
+        assertThat(target.rate("USD", "EUR")).isEqualByComparingTo("0.8434");
+        assertThat(target.rate("USD", "USD")).isEqualByComparingTo("1");
+    }
+
+    @Test
+    public void rateShouldReturnReverseRate() {
+        // given
+        final CurrencyRatesMatrix target = CurrencyRatesMatrix.of(
+                singletonMap("USD", singletonMap("EUR", new BigDecimal("1.2"))));
+
+        // when and then
+        assertThat(target.rate("EUR", "USD")).isEqualTo(new BigDecimal("0.833"));
+    }
+
+    @Test
+    public void rateShouldReturnIntermediateRate() {
+        // given
+        final Map<String, Map<String, BigDecimal>> rates = new LinkedHashMap<>();
+        rates.put("USD", singletonMap("AUD", new BigDecimal("1.2")));
+        rates.put("EUR", singletonMap("AUD", new BigDecimal("1.5")));
+        final CurrencyRatesMatrix target = CurrencyRatesMatrix.of(rates);
+
+        // when and then
+        assertThat(target.rate("USD", "EUR")).isEqualTo(new BigDecimal("0.800"));
+    }
+
+    @Test
+    public void rateShouldReturnCrossRate() {
+        // given
+        final Map<String, BigDecimal> usdRates = new LinkedHashMap<>();
+        usdRates.put("EUR", new BigDecimal("0.8"));
+        usdRates.put("GBP", new BigDecimal("0.5"));
+        final CurrencyRatesMatrix target = CurrencyRatesMatrix.of(singletonMap("USD", usdRates));
+
+        // when and then
+        assertThat(target.rate("EUR", "GBP")).isEqualTo(new BigDecimal("0.625"));
+    }
+
+    @Test
+    public void rateShouldReturnNullForUnknownCurrency() {
+        // given
+        final CurrencyRatesMatrix target = CurrencyRatesMatrix.of(
+                singletonMap("USD", singletonMap("EUR", new BigDecimal("1.2"))));
+
+        // when and then
+        assertThat(target.rate("USD", "UAH")).isNull();
+        assertThat(target.rate("UAH", "USD")).isNull();
+    }
+}
@@ -0,0 +1,266 @@
+package org.prebid.server.execution.admission;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.util.system.CpuLoadAverageStats;
+import org.prebid.server.vertx.eventloop.EventLoopMonitor;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static java.util.Collections.emptySet;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class AdmissionControllerTest {
+
+    @Mock
+    private CpuLoadAverageStats cpuLoadAverageStats;
+    @Mock
+    private EventLoopMonitor eventLoopMonitor;
+    @Mock
+    private Clock clock;
+    @Mock
+    private Metrics metrics;
+
+    @Test
+    public void creationShouldFailOnInvalidLimits() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> givenAdmissionController(0, 10, null))
+                .withMessage("Admission limits should satisfy 1 <= min-limit <= max-limit");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> givenAdmissionController(10, 5, null))
+                .withMessage("Admission limits should satisfy 1 <= min-limit <= max-limit");
+    }
+
+    @Test
+    public void creationShouldRegisterGaugesWhenEnabled() {
+        // when
+        givenAdmissionController(1, 10, null);
+
+        // then
+        verify(metrics).createAdmissionGauges(any(), any());
+    }
+
+    @Test
+    public void tryAcquireShouldAlwaysAdmitWhenDisabled() {
+        // given
+        final AdmissionController target = new AdmissionController(
+                false, 1, 1, 0.5, 1000L, 0.9, 100L, 0.5, emptySet(), emptySet(), null, null, clock, metrics);
+
+        // when and then
+        IntStream.range(0, 10).forEach(ignored -> assertThat(target.tryAcquire("accountId")).isNotNull());
+        verifyNoInteractions(metrics);
+    }
+
+    @Test
+    public void tryAcquireShouldRejectAuctionOverLimit() {
+        // given
+        final AdmissionController target = givenAdmissionController(1, 2, null);
+
+        // when
+        final AdmissionController.Permit first = target.tryAcquire("accountId");
+        final AdmissionController.Permit second = target.tryAcquire("accountId");
+        final AdmissionController.Permit third = target.tryAcquire("accountId");
+
+        // then
+        assertThat(first).isNotNull();
+        assertThat(second).isNotNull();
+        assertThat(third).isNull();
+        verify(metrics).updateAdmissionRejectedMetric(AdmissionPriority.NORMAL);
+    }
+
+    @Test
+    public void tryAcquireShouldAdmitLowPriorityAccountsOnlyUpToTheirShareOfLimit() {
+        // given
+        final AdmissionController target = givenAdmissionController(1, 4, null);
+
+        // when
+        final AdmissionController.Permit first = target.tryAcquire("lowAccountId");
+        final AdmissionController.Permit second = target.tryAcquire("lowAccountId");
+        final AdmissionController.Permit third = target.tryAcquire("lowAccountId");
+
+        // then
+        assertThat(first).isNotNull();
+        assertThat(second).isNotNull();
+        assertThat(third).isNull();
+        assertThat(target.tryAcquire("accountId")).isNotNull();
+        verify(metrics).updateAdmissionRejectedMetric(AdmissionPriority.LOW);
+    }
+
+    @Test
+    public void tryAcquireShouldAdmitHighPriorityAccountsUpToMaxLimit() {
+        // given
+        final AdmissionController target = givenAdmissionController(1, 10, null);
+        final List<AdmissionController.Permit> permits = givenPermits(target, "accountId", 5, 0L);
+        givenSlowRelease(permits.getFirst());
+
+        // when
+        final List<AdmissionController.Permit> highPriorityPermits = givenPermits(target, "highAccountId", 6, 2000L);
+
+        // then
+        assertThat(target.getLimit()).isEqualTo(5);
+        assertThat(target.tryAcquire("accountId")).isNull();
+        assertThat(highPriorityPermits).doesNotContainNull();
+        assertThat(target.tryAcquire("highAccountId")).isNull();
+        verify(metrics).updateAdmissionRejectedMetric(AdmissionPriority.HIGH);
+    }
+
+    @Test
+    public void releaseShouldDecreaseLimitOnceWhenAuctionsTakeLongerThanLatencyThreshold() {
+        // given
+        final AdmissionController target = givenAdmissionController(1, 10, null);
+        final List<AdmissionController.Permit> permits = givenPermits(target, "accountId", 5, 0L);
+
+        // when
+        givenSlowRelease(permits.get(0));
+        permits.get(1).release();
+
+        // then
+        assertThat(target.getLimit()).isEqualTo(5);
+    }
+
+    @Test
+    public void releaseShouldNotDecreaseLimitBelowMinLimit() {
+        // given
+        final AdmissionController target = givenAdmissionController(8, 10, null);
+        final List<AdmissionController.Permit> permits = givenPermits(target, "accountId", 5, 0L);
+
+        // when
+        givenSlowRelease(permits.getFirst());
+
+        // then
+        assertThat(target.getLimit()).isEqualTo(8);
+    }
+
+    @Test
+    public void releaseShouldDecreaseLimitWhenCpuLoadExceedsThreshold() {
+        // given
+        given(cpuLoadAverageStats.getCpuLoadAverage()).willReturn(0.95);
+        final AdmissionController target = givenAdmissionController(1, 10, cpuLoadAverageStats);
+        final List<AdmissionController.Permit> permits = givenPermits(target, "accountId", 5, 1000L);
+
+        // when
+        permits.getFirst().release();
+
+        // then
+        assertThat(target.getLimit()).isEqualTo(5);
+    }
+
+    @Test
+    public void releaseShouldDecreaseLimitWhenEventLoopLagExceedsThreshold() {
+        // given
+        given(eventLoopMonitor.getMaxLagMillis()).willReturn(150L);
+        final AdmissionController target = givenAdmissionController(1, 10, null, eventLoopMonitor);
+        final List<AdmissionController.Permit> permits = givenPermits(target, "accountId", 5, 1000L);
+
+        // when
+        permits.getFirst().release();
+
+        // then
+        assertThat(target.getLimit()).isEqualTo(5);
+    }
+
+    @Test
+    public void releaseShouldIncreaseLimitWhenAuctionsCompleteWithinLatencyThreshold() {
+        // given
+        final AdmissionController target = givenAdmissionController(1, 10, null);
+        final List<AdmissionController.Permit> permits = givenPermits(target, "accountId", 5, 0L);
+        givenSlowRelease(permits.getFirst());
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            target.tryAcquire("accountId").release();
+        }
+
+        // then
+        assertThat(target.getLimit()).isEqualTo(6);
+    }
+
+    @Test
+    public void releaseShouldNotAdjustLimitWhenLessThanHalfOfItIsInUse() {
+        // given
+        final AdmissionController target = givenAdmissionController(1, 10, null);
+        final List<AdmissionController.Permit> permits = givenPermits(target, "accountId", 4, 0L);
+
+        // when
+        givenSlowRelease(permits.getFirst());
+
+        // then
+        assertThat(target.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    public void releaseShouldIgnoreSubsequentCalls() {
+        // given
+        final AdmissionController target = givenAdmissionController(1, 1, null);
+        final AdmissionController.Permit permit = target.tryAcquire("accountId");
+
+        // when
+        permit.release();
+        permit.release();
+
+        // then
+        assertThat(target.tryAcquire("accountId")).isNotNull();
+        assertThat(target.tryAcquire("accountId")).isNull();
+    }
+
+    private AdmissionController givenAdmissionController(int minLimit,
+                                                         int maxLimit,
+                                                         CpuLoadAverageStats cpuLoadAverageStats) {
+
+        return givenAdmissionController(minLimit, maxLimit, cpuLoadAverageStats, null);
+    }
+
+    private AdmissionController givenAdmissionController(int minLimit,
+                                                         int maxLimit,
+                                                         CpuLoadAverageStats cpuLoadAverageStats,
+                                                         EventLoopMonitor eventLoopMonitor) {
+
+        return new AdmissionController(
+                true,
+                minLimit,
+                maxLimit,
+                0.5,
+                1000L,
+                0.9,
+                100L,
+                0.5,
+                Set.of("highAccountId"),
+                Set.of("lowAccountId"),
+                cpuLoadAverageStats,
+                eventLoopMonitor,
+                clock,
+                metrics);
+    }
+
+    private List<AdmissionController.Permit> givenPermits(AdmissionController target,
+                                                          String accountId,
+                                                          int count,
+                                                          long startTime) {
+
+        given(clock.millis()).willReturn(startTime);
+
+        final List<AdmissionController.Permit> permits = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            permits.add(target.tryAcquire(accountId));
+        }
+        return permits;
+    }
+
+    private void givenSlowRelease(AdmissionController.Permit permit) {
+        given(clock.millis()).willReturn(2000L);
+        permit.release();
+    }
+}
@@ -0,0 +1,112 @@
+package org.prebid.server.execution.blocking;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.metric.Metrics;
+
+import java.time.Clock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@ExtendWith(VertxExtension.class)
+public class BlockingExecutorsTest {
+
+    @Mock
+    private Metrics metrics;
+
+    private Vertx vertx;
+
+    @BeforeEach
+    public void setUp() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterEach
+    public void tearDown(VertxTestContext context) {
+        vertx.close(context.succeedingThenComplete());
+    }
+
+    @Test
+    public void forSubsystemShouldReturnSameExecutorForSameSubsystem() {
+        // given
+        final BlockingExecutors target = new BlockingExecutors(vertx, true, Clock.systemUTC(), metrics);
+
+        // when
+        final BlockingExecutor first = target.forSubsystem("subsystem");
+        final BlockingExecutor second = target.forSubsystem("subsystem");
+
+        // then
+        assertThat(first).isSameAs(second);
+        verify(metrics).createBlockingExecutorActiveTasksGauge(eq("subsystem"), any());
+    }
+
+    @Test
+    public void executeShouldRunTaskOnVirtualThreadAndCompleteOnCallerContext(VertxTestContext context) {
+        // given
+        final BlockingExecutor target = new BlockingExecutors(vertx, true, Clock.systemUTC(), metrics)
+                .forSubsystem("subsystem");
+
+        // when
+        vertx.runOnContext(ignored -> {
+            final Context callerContext = vertx.getOrCreateContext();
+            target.execute(() -> Thread.currentThread().isVirtual())
+
+                    // then
+                    .onComplete(context.succeeding(result -> context.verify(() -> {
+                        assertThat(result).isTrue();
+                        assertThat(Vertx.currentContext()).isSameAs(callerContext);
+                        verify(metrics).updateBlockingExecutorQueueWaitMetric(eq("subsystem"), anyLong());
+                        context.completeNow();
+                    })));
+        });
+    }
+
+    @Test
+    public void executeShouldRunTaskOnWorkerPoolWhenVirtualThreadsDisabled(VertxTestContext context) {
+        // given
+        final BlockingExecutor target = new BlockingExecutors(vertx, false, Clock.systemUTC(), metrics)
+                .forSubsystem("subsystem");
+
+        // when
+        vertx.runOnContext(ignored -> target.execute(Context::isOnWorkerThread)
+
+                // then
+                .onComplete(context.succeeding(result -> context.verify(() -> {
+                    assertThat(result).isTrue();
+                    verify(metrics).updateBlockingExecutorQueueWaitMetric(eq("subsystem"), anyLong());
+                    context.completeNow();
+                }))));
+    }
+
+    @Test
+    public void executeShouldFailWhenTaskThrowsException(VertxTestContext context) {
+        // given
+        final BlockingExecutor target = new BlockingExecutors(vertx, true, Clock.systemUTC(), metrics)
+                .forSubsystem("subsystem");
+
+        // when
+        vertx.runOnContext(ignored -> target.execute(() -> {
+                    throw new PreBidException("failed");
+                })
+
+                // then
+                .onComplete(context.failing(error -> context.verify(() -> {
+                    assertThat(error).isInstanceOf(PreBidException.class).hasMessage("failed");
+                    context.completeNow();
+                }))));
+    }
+}
@@ -0,0 +1,113 @@
+package org.prebid.server.execution.timer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class HashedTimerWheelTest {
+
+    private final List<String> fired = new ArrayList<>();
+    private final List<Long> lateness = new ArrayList<>();
+
+    private final HashedTimerWheel target = new HashedTimerWheel(10, 4, 0, lateness::add);
+
+    @Test
+    public void creationShouldFailOnWheelSizeNotPowerOfTwo() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new HashedTimerWheel(10, 3, 0, null))
+                .withMessage("Wheel size must be a positive power of two");
+    }
+
+    @Test
+    public void advanceToShouldNotFireTimerBeforeDeadline() {
+        // given
+        target.schedule(0, 25, () -> fired.add("timer"));
+
+        // when
+        target.advanceTo(29);
+
+        // then
+        assertThat(fired).isEmpty();
+        assertThat(target.pendingTimers()).isEqualTo(1);
+    }
+
+    @Test
+    public void advanceToShouldFireTimerOnFirstTickAfterDeadline() {
+        // given
+        target.schedule(0, 25, () -> fired.add("timer"));
+
+        // when
+        target.advanceTo(32);
+
+        // then
+        assertThat(fired).containsExactly("timer");
+        assertThat(lateness).containsExactly(7L);
+        assertThat(target.pendingTimers()).isZero();
+    }
+
+    @Test
+    public void advanceToShouldFireTimersLongerThanWheelRotationOnlyAfterTheirRounds() {
+        // given
+        target.schedule(0, 10, () -> fired.add("short"));
+        target.schedule(0, 50, () -> fired.add("long"));
+
+        // when
+        target.advanceTo(10);
+        final List<String> firedAfterFirstRound = new ArrayList<>(fired);
+        target.advanceTo(50);
+
+        // then
+        assertThat(firedAfterFirstRound).containsExactly("short");
+        assertThat(fired).containsExactly("short", "long");
+    }
+
+    @Test
+    public void advanceToShouldNotFireCancelledTimer() {
+        // given
+        target.schedule(0, 10, () -> fired.add("timer")).cancel();
+
+        // when
+        target.advanceTo(100);
+
+        // then
+        assertThat(fired).isEmpty();
+        assertThat(target.pendingTimers()).isZero();
+    }
+
+    @Test
+    public void advanceToShouldKeepTimersScheduledByExpiredActions() {
+        // given
+        target.schedule(0, 10, () -> target.schedule(10, 40, () -> fired.add("nested")));
+
+        // when
+        target.advanceTo(49);
+        final List<String> firedBeforeDeadline = new ArrayList<>(fired);
+        target.advanceTo(50);
+
+        // then
+        assertThat(firedBeforeDeadline).isEmpty();
+        assertThat(fired).containsExactly("nested");
+    }
+
+    @Test
+    public void scheduleShouldSkipTicksPassedWhileWheelWasIdle() {
+        // given
+        target.schedule(0, 10, () -> fired.add("first"));
+        target.advanceTo(10);
+
+        // when
+        target.schedule(1000000, 10, () -> fired.add("second"));
+        target.advanceTo(1000005);
+        final List<String> firedBeforeDeadline = new ArrayList<>(fired);
+        target.advanceTo(1000010);
+
+        // then
+        assertThat(firedBeforeDeadline).containsExactly("first");
+        assertThat(fired).containsExactly("first", "second");
+        assertThat(lateness).containsExactly(0L, 0L);
+    }
+}
@@ -0,0 +1,211 @@
+package org.prebid.server.handler;
+
+import com.fasterxml.jackson.databind.node.TextNode;
+import io.netty.util.AsciiString;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RequestBody;
+import io.vertx.ext.web.RoutingContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.VertxTest;
+import org.prebid.server.cache.EmbeddedCacheStore;
+import org.prebid.server.cache.model.EmbeddedCacheEntry;
+import org.prebid.server.cache.proto.request.bid.BidCacheRequest;
+import org.prebid.server.cache.proto.request.bid.BidPutObject;
+import org.prebid.server.cache.proto.response.bid.BidCacheResponse;
+import org.prebid.server.cache.proto.response.bid.CacheObject;
+import org.prebid.server.util.HttpUtil;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mock.Strictness.LENIENT;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class EmbeddedCacheHandlerTest extends VertxTest {
+
+    @Mock
+    private EmbeddedCacheStore embeddedCacheStore;
+
+    private EmbeddedCacheHandler target;
+
+    @Mock(strictness = LENIENT)
+    private RoutingContext routingContext;
+    @Mock(strictness = LENIENT)
+    private HttpServerRequest httpRequest;
+    @Mock(strictness = LENIENT)
+    private HttpServerResponse httpResponse;
+    @Mock(strictness = LENIENT)
+    private RequestBody requestBody;
+
+    @BeforeEach
+    public void setUp() {
+        given(routingContext.request()).willReturn(httpRequest);
+        given(routingContext.response()).willReturn(httpResponse);
+        given(routingContext.body()).willReturn(requestBody);
+        given(httpResponse.putHeader(any(CharSequence.class), any(AsciiString.class))).willReturn(httpResponse);
+        given(httpResponse.putHeader(any(CharSequence.class), anyString())).willReturn(httpResponse);
+        given(httpResponse.setStatusCode(anyInt())).willReturn(httpResponse);
+
+        given(httpRequest.method()).willReturn(HttpMethod.GET);
+        given(httpRequest.getParam("uuid")).willReturn("uuid");
+        given(httpRequest.getHeader(HttpUtil.X_PBC_API_KEY_HEADER)).willReturn("api-key");
+
+        target = new EmbeddedCacheHandler("/cache", embeddedCacheStore, "api-key", true, false, jacksonMapper);
+    }
+
+    @Test
+    public void shouldRespondWithBadRequestWhenUuidParameterIsMissing() {
+        // given
+        given(httpRequest.getParam("uuid")).willReturn(null);
+
+        // when
+        target.handle(routingContext);
+
+        // then
+        verifyNoInteractions(embeddedCacheStore);
+        verify(httpResponse).setStatusCode(400);
+        verify(httpResponse).end("Missing required parameter uuid");
+    }
+
+    @Test
+    public void shouldRespondWithNotFoundWhenEntryIsMissing() {
+        // when
+        target.handle(routingContext);
+
+        // then
+        verify(httpResponse).setStatusCode(404);
+        verify(httpResponse).end("Resource Not Found: uuid uuid");
+    }
+
+    @Test
+    public void shouldRespondWithEntryValueAndContentTypeOfItsType() {
+        // given
+        given(embeddedCacheStore.get("uuid")).willReturn(EmbeddedCacheEntry.of("xml", "<VAST/>", 300));
+
+        // when
+        target.handle(routingContext);
+
+        // then
+        verify(httpResponse).putHeader(HttpUtil.CONTENT_TYPE_HEADER, "application/xml");
+        verify(httpResponse).end("<VAST/>");
+    }
+
+    @Test
+    public void shouldStorePutObjectsAndRespondWithUuids() {
+        // given
+        final List<BidPutObject> puts = List.of(
+                BidPutObject.builder().type("xml").value(new TextNode("<VAST/>")).build());
+
+        given(httpRequest.method()).willReturn(HttpMethod.POST);
+        given(requestBody.buffer()).willReturn(Buffer.buffer(jacksonMapper.encodeToString(BidCacheRequest.of(puts))));
+        given(embeddedCacheStore.put(puts)).willReturn(BidCacheResponse.of(List.of(CacheObject.of("uuid"))));
+
+        // when
+        target.handle(routingContext);
+
+        // then
+        verify(httpResponse).end("{\"responses\":[{\"uuid\":\"uuid\"}]}");
+    }
+
+    @Test
+    public void shouldRespondWithBadRequestWhenPutObjectHasUnsupportedType() {
+        // given
+        final List<BidPutObject> puts = List.of(
+                BidPutObject.builder().type("text").value(new TextNode("value")).build());
+
+        given(httpRequest.method()).willReturn(HttpMethod.POST);
+        given(requestBody.buffer()).willReturn(Buffer.buffer(jacksonMapper.encodeToString(BidCacheRequest.of(puts))));
+
+        // when
+        target.handle(routingContext);
+
+        // then
+        verifyNoInteractions(embeddedCacheStore);
+        verify(httpResponse).setStatusCode(400);
+        verify(httpResponse).end("Type must be one of [\"json\", \"xml\"]. Found text");
+    }
+
+    @Test
+    public void shouldRespondWithUnauthorizedWhenApiKeyIsInvalid() {
+        // given
+        given(httpRequest.method()).willReturn(HttpMethod.POST);
+        given(httpRequest.getHeader(HttpUtil.X_PBC_API_KEY_HEADER)).willReturn("invalid");
+
+        // when
+        target.handle(routingContext);
+
+        // then
+        verifyNoInteractions(embeddedCacheStore);
+        verify(httpResponse).setStatusCode(401);
+        verify(httpResponse).end("Missing or invalid API key");
+    }
+
+    @Test
+    public void shouldStorePutObjectsWithoutApiKeyWhenApiKeyIsNotSecured() {
+        // given
+        target = new EmbeddedCacheHandler("/cache", embeddedCacheStore, null, false, false, jacksonMapper);
+
+        final List<BidPutObject> puts = List.of(
+                BidPutObject.builder().type("xml").value(new TextNode("<VAST/>")).build());
+
+        given(httpRequest.method()).willReturn(HttpMethod.POST);
+        given(httpRequest.getHeader(HttpUtil.X_PBC_API_KEY_HEADER)).willReturn(null);
+        given(requestBody.buffer()).willReturn(Buffer.buffer(jacksonMapper.encodeToString(BidCacheRequest.of(puts))));
+        given(embeddedCacheStore.put(puts)).willReturn(BidCacheResponse.of(List.of(CacheObject.of("uuid"))));
+
+        // when
+        target.handle(routingContext);
+
+        // then
+        verify(httpResponse).end("{\"responses\":[{\"uuid\":\"uuid\"}]}");
+    }
+
+    @Test
+    public void shouldRespondWithBadRequestWhenCustomKeysAreNotAllowed() {
+        // given
+        final List<BidPutObject> puts = List.of(
+                BidPutObject.builder().type("xml").value(new TextNode("<VAST/>")).key("key").build());
+
+        given(httpRequest.method()).willReturn(HttpMethod.POST);
+        given(requestBody.buffer()).willReturn(Buffer.buffer(jacksonMapper.encodeToString(BidCacheRequest.of(puts))));
+
+        // when
+        target.handle(routingContext);
+
+        // then
+        verifyNoInteractions(embeddedCacheStore);
+        verify(httpResponse).setStatusCode(400);
+        verify(httpResponse).end("Custom keys are not allowed");
+    }
+
+    @Test
+    public void shouldStorePutObjectsWithCustomKeysWhenAllowed() {
+        // given
+        target = new EmbeddedCacheHandler("/cache", embeddedCacheStore, "api-key", true, true, jacksonMapper);
+
+        final List<BidPutObject> puts = List.of(
+                BidPutObject.builder().type("xml").value(new TextNode("<VAST/>")).key("key").build());
+
+        given(httpRequest.method()).willReturn(HttpMethod.POST);
+        given(requestBody.buffer()).willReturn(Buffer.buffer(jacksonMapper.encodeToString(BidCacheRequest.of(puts))));
+        given(embeddedCacheStore.put(puts)).willReturn(BidCacheResponse.of(List.of(CacheObject.of("key"))));
+
+        // when
+        target.handle(routingContext);
+
+        // then
+        verify(httpResponse).end("{\"responses\":[{\"uuid\":\"key\"}]}");
+    }
+}
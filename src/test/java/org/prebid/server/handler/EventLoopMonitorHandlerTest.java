@@ -0,0 +1,84 @@
+package org.prebid.server.handler;
+
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.VertxTest;
+import org.prebid.server.handler.admin.EventLoopMonitorHandler;
+import org.prebid.server.util.HttpUtil;
+import org.prebid.server.vertx.eventloop.EventLoopMonitor;
+import org.prebid.server.vertx.eventloop.model.EventLoopStats;
+import org.prebid.server.vertx.eventloop.model.StackSample;
+
+import java.util.List;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class EventLoopMonitorHandlerTest extends VertxTest {
+
+    @Mock
+    private EventLoopMonitor eventLoopMonitor;
+    @Mock
+    private RoutingContext routingContext;
+    @Mock
+    private HttpServerRequest httpRequest;
+    @Mock
+    private HttpServerResponse httpResponse;
+
+    private EventLoopMonitorHandler target;
+
+    @BeforeEach
+    public void setUp() {
+        target = new EventLoopMonitorHandler(eventLoopMonitor, jacksonMapper, "/event-loops");
+
+        given(routingContext.request()).willReturn(httpRequest);
+        given(routingContext.response()).willReturn(httpResponse);
+        given(httpResponse.putHeader(any(CharSequence.class), any(CharSequence.class))).willReturn(httpResponse);
+
+        given(eventLoopMonitor.getStats())
+                .willReturn(singletonList(EventLoopStats.of(0, "vert.x-eventloop-thread-0", 2L, 5L, 40L)));
+    }
+
+    @Test
+    public void handleShouldRespondWithEventLoopStatsAndLatestStackSamples() {
+        // given
+        given(eventLoopMonitor.getStackSamples()).willReturn(singletonList(
+                StackSample.of(0, "vert.x-eventloop-thread-0", 1000L, 300L, List.of("Foo.bar(Foo.java:1)"))));
+
+        // when
+        target.handle(routingContext);
+
+        // then
+        verify(httpResponse).putHeader(HttpUtil.CONTENT_TYPE_HEADER, HttpUtil.APPLICATION_JSON_CONTENT_TYPE);
+        verify(httpResponse).end("""
+                {"event_loops":[{"index":0,"thread":"vert.x-eventloop-thread-0","pending_tasks":2,"max_lag_ms":5,\
+                "max_task_duration_ms":40}],"stack_samples":[{"event_loop":0,"thread":"vert.x-eventloop-thread-0",\
+                "timestamp":1000,"blocked_ms":300,"stack_trace":["Foo.bar(Foo.java:1)"]}]}""");
+    }
+
+    @Test
+    public void handleShouldSampleStacksRightAwayWhenRequested() {
+        // given
+        given(httpRequest.getParam("stacks")).willReturn("true");
+        given(eventLoopMonitor.sampleStacks()).willReturn(emptyList());
+
+        // when
+        target.handle(routingContext);
+
+        // then
+        verify(eventLoopMonitor).sampleStacks();
+        verify(httpResponse).end("""
+                {"event_loops":[{"index":0,"thread":"vert.x-eventloop-thread-0","pending_tasks":2,"max_lag_ms":5,\
+                "max_task_duration_ms":40}],"stack_samples":[]}""");
+    }
+}
@@ -40,6 +40,7 @@ import org.prebid.server.exception.BlocklistedAppException;
 import org.prebid.server.exception.InvalidAccountConfigException;
 import org.prebid.server.exception.InvalidRequestException;
 import org.prebid.server.exception.UnauthorizedAccountException;
+import org.prebid.server.execution.admission.AdmissionController;
 import org.prebid.server.execution.timeout.Timeout;
 import org.prebid.server.execution.timeout.TimeoutFactory;
 import org.prebid.server.hooks.execution.HookStageExecutor;
@@ -99,6 +100,7 @@ import java.util.function.UnaryOperator;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptySet;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
@@ -189,6 +191,7 @@ public class AmpHandlerTest extends VertxTest {
         target = new AmpHandler(
                 ampRequestFactory,
                 exchangeService,
+                givenAdmissionController(false, 1),
                 analyticsReporterDelegator,
                 metrics,
                 hooksMetricsService,
@@ -466,6 +469,40 @@ public class AmpHandlerTest extends VertxTest {
         verifyNoInteractions(hookStageExecutor, hooksMetricsService);
     }
 
+    @Test
+    public void shouldRespondWithServiceUnavailableIfAdmissionControllerRejectsAuction() {
+        // given
+        final AdmissionController admissionController = givenAdmissionController(true, 1);
+        admissionController.tryAcquire(null);
+
+        target = new AmpHandler(
+                ampRequestFactory,
+                exchangeService,
+                admissionController,
+                analyticsReporterDelegator,
+                metrics,
+                hooksMetricsService,
+                clock,
+                bidderCatalog,
+                singleton("bidder1"),
+                new AmpResponsePostProcessor.NoOpAmpResponsePostProcessor(),
+                httpInteractionLogger,
+                prebidVersionProvider,
+                hookStageExecutor,
+                jacksonMapper,
+                0);
+
+        // when
+        target.handle(routingContext);
+
+        // then
+        verify(httpResponse).setStatusCode(eq(503));
+        verify(httpResponse).end(eq("Server is overloaded, try again later"));
+
+        verify(metrics).updateRequestTypeMetric(eq(MetricName.amp), eq(MetricName.overloaded));
+        verifyNoInteractions(ampRequestFactory, exchangeService);
+    }
+
     @Test
     public void shouldNotSendResponseIfClientClosedConnection() {
         // given
@@ -698,7 +735,7 @@ public class AmpHandlerTest extends VertxTest {
 
         givenHoldAuction(givenBidResponseWithExt(
                 ExtBidResponse.builder()
-                        .debug(ExtResponseDebug.of(null, auctionContext.getBidRequest(), null))
+                        .debug(ExtResponseDebug.of(null, auctionContext.getBidRequest(), null, null))
                         .prebid(ExtBidResponsePrebid.builder().auctiontimestamp(1000L).targeting(emptyMap()).build())
                         .build()));
 
@@ -1357,6 +1394,11 @@ public class AmpHandlerTest extends VertxTest {
                 .build();
     }
 
+    private AdmissionController givenAdmissionController(boolean enabled, int maxLimit) {
+        return new AdmissionController(
+                enabled, 1, maxLimit, 0.5, 1000L, 1.0, 100L, 1.0, emptySet(), emptySet(), null, null, clock, metrics);
+    }
+
     private void givenHoldAuction(BidResponse bidResponse) {
         given(exchangeService.holdAuction(any()))
                 .willAnswer(inv -> Future.succeededFuture(((AuctionContext) inv.getArgument(0)).toBuilder()
@@ -5,9 +5,12 @@ import com.iab.openrtb.request.App;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Imp;
 import com.iab.openrtb.response.BidResponse;
+import io.netty.buffer.ByteBuf;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.buffer.impl.BufferImpl;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.RoutingContext;
@@ -34,6 +37,7 @@ import org.prebid.server.exception.BlocklistedAppException;
 import org.prebid.server.exception.InvalidAccountConfigException;
 import org.prebid.server.exception.InvalidRequestException;
 import org.prebid.server.exception.UnauthorizedAccountException;
+import org.prebid.server.execution.admission.AdmissionController;
 import org.prebid.server.execution.timeout.Timeout;
 import org.prebid.server.execution.timeout.TimeoutFactory;
 import org.prebid.server.hooks.execution.HookStageExecutor;
@@ -86,6 +90,7 @@ import org.prebid.server.version.PrebidVersionProvider;
 import java.math.BigDecimal;
 import java.time.Clock;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
@@ -94,6 +99,8 @@ import java.util.function.UnaryOperator;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static java.util.function.UnaryOperator.identity;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -104,6 +111,7 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mock.Strictness.LENIENT;
@@ -178,6 +186,7 @@ public class AuctionHandlerTest extends VertxTest {
                 0.01,
                 auctionRequestFactory,
                 exchangeService,
+                givenAdmissionController(false, 1),
                 skippedAuctionService,
                 analyticsReporterDelegator,
                 metrics,
@@ -186,7 +195,8 @@ public class AuctionHandlerTest extends VertxTest {
                 httpInteractionLogger,
                 prebidVersionProvider,
                 hookStageExecutor,
-                jacksonMapper);
+                jacksonMapper,
+                null);
     }
 
     @Test
@@ -417,6 +427,80 @@ public class AuctionHandlerTest extends VertxTest {
         verifyNoInteractions(hooksMetricsService, hookStageExecutor);
     }
 
+    @Test
+    public void shouldRespondWithServiceUnavailableIfAdmissionControllerRejectsAuction() {
+        // given
+        final AdmissionController admissionController = givenAdmissionController(true, 1);
+        admissionController.tryAcquire(null);
+
+        target = new AuctionHandler(
+                0.01,
+                auctionRequestFactory,
+                exchangeService,
+                admissionController,
+                skippedAuctionService,
+                analyticsReporterDelegator,
+                metrics,
+                hooksMetricsService,
+                clock,
+                httpInteractionLogger,
+                prebidVersionProvider,
+                hookStageExecutor,
+                jacksonMapper,
+                null);
+
+        given(auctionRequestFactory.parseRequest(any(), anyLong()))
+                .willReturn(Future.succeededFuture(givenAuctionContext(identity())));
+
+        // when
+        target.handle(routingContext);
+
+        // then
+        verify(httpResponse).setStatusCode(eq(503));
+        verify(httpResponse).end(eq("Server is overloaded, try again later"));
+
+        verify(metrics).updateRequestTypeMetric(eq(MetricName.openrtb2web), eq(MetricName.overloaded));
+        verify(auctionRequestFactory, never()).enrichAuctionContext(any());
+        verifyNoInteractions(exchangeService);
+    }
+
+    @Test
+    public void shouldAdmitAuctionByAccountFromParsedRequest() {
+        // given
+        final AdmissionController admissionController = new AdmissionController(
+                true, 1, 2, 0.5, 1000L, 1.0, 100L, 0.5,
+                emptySet(), singleton("lowAccount"), null, null, clock, metrics);
+        admissionController.tryAcquire(null);
+
+        target = new AuctionHandler(
+                0.01,
+                auctionRequestFactory,
+                exchangeService,
+                admissionController,
+                skippedAuctionService,
+                analyticsReporterDelegator,
+                metrics,
+                hooksMetricsService,
+                clock,
+                httpInteractionLogger,
+                prebidVersionProvider,
+                hookStageExecutor,
+                jacksonMapper,
+                null);
+
+        given(auctionRequestFactory.parseRequest(any(), anyLong()))
+                .willReturn(Future.succeededFuture(givenAuctionContext(identity())));
+        given(auctionRequestFactory.accountIdFrom(any())).willReturn("lowAccount");
+
+        // when
+        target.handle(routingContext);
+
+        // then
+        verify(httpResponse).setStatusCode(eq(503));
+        verify(auctionRequestFactory, never()).enrichAuctionContext(any());
+        verifyNoInteractions(exchangeService);
+    }
+
     @Test
     public void shouldNotSendResponseIfClientClosedConnection() {
         // given
@@ -474,6 +558,39 @@ public class AuctionHandlerTest extends VertxTest {
         verify(hooksMetricsService).updateHooksMetrics(any());
     }
 
+    @Test
+    public void shouldStreamBidResponseWhenThereAreNoExitpointHooks() {
+        // given
+        final AuctionContext auctionContext = givenAuctionContext(identity());
+        given(auctionRequestFactory.parseRequest(any(), anyLong()))
+                .willReturn(Future.succeededFuture(auctionContext));
+        given(auctionRequestFactory.enrichAuctionContext(any()))
+                .willAnswer(invocation -> Future.succeededFuture(invocation.getArgument(0)));
+        given(exchangeService.holdAuction(any()))
+                .willReturn(Future.succeededFuture(auctionContext.with(BidResponse.builder().id("id").build())));
+
+        given(hookStageExecutor.isExitpointStageEmpty(any())).willReturn(true);
+        final List<String> sentBodies = new ArrayList<>();
+        final List<ByteBuf> sentByteBufs = new ArrayList<>();
+        given(httpResponse.end(any(Buffer.class))).willAnswer(invocation -> {
+            // buffer is released once the response is ended, so it is read right away
+            final Buffer buffer = invocation.getArgument(0);
+            sentBodies.add(buffer.toString());
+            sentByteBufs.add(((BufferImpl) buffer).byteBuf());
+            return Future.succeededFuture();
+        });
+
+        // when
+        target.handle(routingContext);
+
+        // then
+        verify(httpResponse, never()).end(anyString());
+        verify(hookStageExecutor).executeExitpointStage(any(), isNull(), any());
+        verify(hooksMetricsService).updateHooksMetrics(any());
+        assertThat(sentBodies).containsExactly("{\"id\":\"id\"}");
+        assertThat(sentByteBufs).singleElement().extracting(ByteBuf::refCnt).isEqualTo(0);
+    }
+
     @Test
     public void shouldRespondWithBidResponseWhenExitpointChangesHeadersAndResponse() {
         // given
@@ -538,7 +655,7 @@ public class AuctionHandlerTest extends VertxTest {
 
         final BidResponse bidResponse = BidResponse.builder()
                 .ext(ExtBidResponse.builder()
-                        .debug(ExtResponseDebug.of(null, resolvedRequest, null))
+                        .debug(ExtResponseDebug.of(null, resolvedRequest, null, null))
                         .build())
                 .build();
         given(exchangeService.holdAuction(any()))
@@ -1231,6 +1348,11 @@ public class AuctionHandlerTest extends VertxTest {
         return captor.getValue();
     }
 
+    private AdmissionController givenAdmissionController(boolean enabled, int maxLimit) {
+        return new AdmissionController(
+                enabled, 1, maxLimit, 0.5, 1000L, 1.0, 100L, 1.0, emptySet(), emptySet(), null, null, clock, metrics);
+    }
+
     private void givenHoldAuction(BidResponse bidResponse) {
         given(exchangeService.holdAuction(any()))
                 .willAnswer(inv -> Future.succeededFuture(((AuctionContext) inv.getArgument(0)).toBuilder()
@@ -35,6 +35,7 @@ import org.prebid.server.auction.model.debug.DebugContext;
 import org.prebid.server.bidder.model.BidderBid;
 import org.prebid.server.bidder.model.BidderSeatBid;
 import org.prebid.server.execution.timeout.TimeoutFactory;
+import org.prebid.server.execution.timer.VertxTimerScheduler;
 import org.prebid.server.hooks.execution.model.ABTest;
 import org.prebid.server.hooks.execution.model.EndpointExecutionPlan;
 import org.prebid.server.hooks.execution.model.ExecutionAction;
@@ -85,11 +86,13 @@ import org.prebid.server.hooks.v1.entrypoint.EntrypointHook;
 import org.prebid.server.hooks.v1.entrypoint.EntrypointPayload;
 import org.prebid.server.hooks.v1.exitpoint.ExitpointHook;
 import org.prebid.server.hooks.v1.exitpoint.ExitpointPayload;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
 import org.prebid.server.model.Endpoint;
 import org.prebid.server.settings.model.Account;
 import org.prebid.server.settings.model.AccountHooksConfiguration;
 import org.prebid.server.settings.model.HooksAdminConfig;
+import org.prebid.server.util.system.ThreadResourceMeter;
 
 import java.time.Clock;
 import java.time.ZoneOffset;
@@ -120,6 +123,7 @@ import static org.mockito.Mock.Strictness.LENIENT;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.prebid.server.assertion.FutureAssertion.assertThat;
 import static org.prebid.server.auction.model.BidRejectionReason.REQUEST_BLOCKED_GENERAL;
 import static org.prebid.server.auction.model.BidRejectionReason.REQUEST_BLOCKED_OPTIMIZED;
@@ -137,6 +141,8 @@ public class HookStageExecutorTest extends VertxTest {
 
     @Mock(strictness = LENIENT)
     private HookCatalog hookCatalog;
+    @Mock
+    private Metrics metrics;
     private TimeoutFactory timeoutFactory;
     private Vertx vertx;
     private Clock clock;
@@ -476,11 +482,14 @@ public class HookStageExecutorTest extends VertxTest {
                 Map.of("module-alpha", false),
                 hookCatalog,
                 timeoutFactory,
-                vertx,
+                new VertxTimerScheduler(vertx),
                 clock,
                 jacksonMapper,
                 false,
-                0.0);
+                0.0,
+                10000,
+                metrics,
+                ThreadResourceMeter.disabled());
 
         final HookExecutionContext hookExecutionContext = HookExecutionContext.of(Endpoint.openrtb2_auction);
         final AuctionContext givenAuctionContext = AuctionContext.builder()
@@ -1478,11 +1487,14 @@ public class HookStageExecutorTest extends VertxTest {
                 Map.of("module-epsilon", true, "module-zeta", false),
                 hookCatalog,
                 timeoutFactory,
-                vertx,
+                new VertxTimerScheduler(vertx),
                 clock,
                 jacksonMapper,
                 false,
-                0.0);
+                0.0,
+                10000,
+                metrics,
+                ThreadResourceMeter.disabled());
 
         final HookExecutionContext hookExecutionContext = HookExecutionContext.of(Endpoint.openrtb2_auction);
 
@@ -1596,11 +1608,14 @@ public class HookStageExecutorTest extends VertxTest {
                 Map.of("module-epsilon", true, "module-zeta", false),
                 hookCatalog,
                 timeoutFactory,
-                vertx,
+                new VertxTimerScheduler(vertx),
                 clock,
                 jacksonMapper,
                 true,
-                0.0);
+                0.0,
+                10000,
+                metrics,
+                ThreadResourceMeter.disabled());
 
         final HookExecutionContext hookExecutionContext = HookExecutionContext.of(Endpoint.openrtb2_auction);
 
@@ -1718,6 +1733,122 @@ public class HookStageExecutorTest extends VertxTest {
         }));
     }
 
+    @Test
+    public void shouldReuseResolvedExecutionPlanForAccountWithSameIdAndConfig(VertxTestContext context) {
+        // given
+        givenRawAuctionRequestHook(
+                "module-alpha",
+                "hook-a",
+                immediateHook(InvocationResultUtils.succeeded(payload -> AuctionRequestPayloadImpl.of(
+                        payload.bidRequest().toBuilder().at(1).build()))));
+
+        final StageExecutionPlan stageExecutionPlan = StageExecutionPlan.of(singletonList(
+                ExecutionGroup.of(200L, singletonList(HookId.of("module-alpha", "hook-a")))));
+
+        final HookStageExecutor executor = createExecutor(
+                executionPlan(singletonMap(
+                        Endpoint.openrtb2_auction,
+                        EndpointExecutionPlan.of(singletonMap(Stage.raw_auction_request, stageExecutionPlan)))));
+
+        final AuctionContext auctionContext = AuctionContext.builder()
+                .bidRequest(BidRequest.builder().build())
+                .account(Account.empty("accountId"))
+                .hookExecutionContext(HookExecutionContext.of(Endpoint.openrtb2_auction))
+                .debugContext(DebugContext.empty())
+                .build();
+        final AuctionContext anotherAuctionContext = auctionContext.toBuilder()
+                .account(Account.empty("accountId"))
+                .build();
+
+        // when
+        final Future<HookStageExecutionResult<AuctionRequestPayload>> future =
+                executor.executeRawAuctionRequestStage(auctionContext)
+                        .compose(ignored -> executor.executeRawAuctionRequestStage(anotherAuctionContext));
+
+        // then
+        future.onComplete(context.succeeding(result -> {
+            assertThat(result.getPayload().bidRequest().getAt()).isEqualTo(1);
+
+            verify(metrics).updateHooksPlanCacheMetric(Stage.raw_auction_request, false);
+            verify(metrics).updateHooksPlanCacheMetric(Stage.raw_auction_request, true);
+
+            context.completeNow();
+        }));
+    }
+
+    @Test
+    public void shouldResolveExecutionPlanAgainWhenAccountHooksConfigChanges(VertxTestContext context) {
+        // given
+        givenRawAuctionRequestHook(
+                "module-alpha",
+                "hook-a",
+                immediateHook(InvocationResultUtils.succeeded(payload -> AuctionRequestPayloadImpl.of(
+                        payload.bidRequest().toBuilder().at(1).build()))));
+
+        final HookStageExecutor executor = createExecutor(null);
+
+        final ExecutionPlan accountPlan = ExecutionPlan.of(emptyList(), singletonMap(
+                Endpoint.openrtb2_auction,
+                EndpointExecutionPlan.of(singletonMap(
+                        Stage.raw_auction_request,
+                        execPlanOneGroupOneHook("module-alpha", "hook-a")))));
+
+        final AuctionContext auctionContext = AuctionContext.builder()
+                .bidRequest(BidRequest.builder().build())
+                .account(Account.builder()
+                        .id("accountId")
+                        .hooks(AccountHooksConfiguration.of(accountPlan, null, null))
+                        .build())
+                .hookExecutionContext(HookExecutionContext.of(Endpoint.openrtb2_auction))
+                .debugContext(DebugContext.empty())
+                .build();
+        final AuctionContext changedAuctionContext = auctionContext.toBuilder()
+                .account(Account.builder()
+                        .id("accountId")
+                        .hooks(AccountHooksConfiguration.of(ExecutionPlan.empty(), null, null))
+                        .build())
+                .build();
+
+        // when
+        final Future<HookStageExecutionResult<AuctionRequestPayload>> future =
+                executor.executeRawAuctionRequestStage(auctionContext)
+                        .compose(ignored -> executor.executeRawAuctionRequestStage(changedAuctionContext));
+
+        // then
+        future.onComplete(context.succeeding(result -> {
+            assertThat(result.getPayload().bidRequest().getAt()).isNull();
+
+            verify(metrics, times(2)).updateHooksPlanCacheMetric(Stage.raw_auction_request, false);
+
+            context.completeNow();
+        }));
+    }
+
+    @Test
+    public void isExitpointStageEmptyShouldTellWhetherThereAreExitpointHooksForEndpoint() {
+        // given
+        final StageExecutionPlan stageExecutionPlan = StageExecutionPlan.of(singletonList(
+                ExecutionGroup.of(200L, singletonList(HookId.of("module-alpha", "hook-a")))));
+
+        final HookStageExecutor executor = createExecutor(
+                executionPlan(singletonMap(
+                        Endpoint.openrtb2_auction,
+                        EndpointExecutionPlan.of(singletonMap(Stage.exitpoint, stageExecutionPlan)))));
+
+        final AuctionContext auctionContext = AuctionContext.builder()
+                .account(Account.empty("accountId"))
+                .hookExecutionContext(HookExecutionContext.of(Endpoint.openrtb2_auction))
+                .build();
+        final AuctionContext ampAuctionContext = auctionContext.toBuilder()
+                .hookExecutionContext(HookExecutionContext.of(Endpoint.openrtb2_amp))
+                .build();
+
+        // when and then
+        assertThat(executor.isExitpointStageEmpty(auctionContext)).isFalse();
+        assertThat(executor.isExitpointStageEmpty(ampAuctionContext)).isTrue();
+        verifyNoInteractions(metrics);
+    }
+
     @Test
     public void shouldExecuteRawAuctionRequestHooksWithAllRejectionsPopulated(VertxTestContext context) {
         // given
@@ -3735,11 +3866,14 @@ public class HookStageExecutorTest extends VertxTest {
                 Collections.emptyMap(),
                 hookCatalog,
                 timeoutFactory,
-                vertx,
+                new VertxTimerScheduler(vertx),
                 clock,
                 jacksonMapper,
                 false,
-                0.0);
+                0.0,
+                10000,
+                metrics,
+                ThreadResourceMeter.disabled());
     }
 
     @Value(staticConstructor = "of")
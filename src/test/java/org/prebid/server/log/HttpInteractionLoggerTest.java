@@ -65,7 +65,7 @@ public class HttpInteractionLoggerTest extends VertxTest {
 
         // when
         target.setSpec(givenSpec);
-        target.maybeLogOpenrtb2Auction(givenAuctionContext, routingContext, 200, "responseBody");
+        target.maybeLogOpenrtb2Auction(givenAuctionContext, routingContext, 200, () -> "responseBody");
 
         // then
         verify(logger)
@@ -85,8 +85,8 @@ public class HttpInteractionLoggerTest extends VertxTest {
 
         // when
         target.setSpec(givenSpec);
-        target.maybeLogOpenrtb2Auction(givenAuctionContext, routingContext, 200, null);
-        target.maybeLogOpenrtb2Auction(givenAuctionContext, routingContext, 200, null);
+        target.maybeLogOpenrtb2Auction(givenAuctionContext, routingContext, 200, () -> null);
+        target.maybeLogOpenrtb2Auction(givenAuctionContext, routingContext, 200, () -> null);
 
         // then
         verify(logger).info(anyString(), anyString(), anyString(), any(), any());
@@ -101,7 +101,7 @@ public class HttpInteractionLoggerTest extends VertxTest {
 
         // when
         target.setSpec(givenSpec);
-        target.maybeLogOpenrtb2Auction(givenAuctionContext, routingContext, 200, null);
+        target.maybeLogOpenrtb2Auction(givenAuctionContext, routingContext, 200, () -> null);
 
         // then
         verifyNoInteractions(logger);
@@ -115,8 +115,8 @@ public class HttpInteractionLoggerTest extends VertxTest {
 
         // when
         target.setSpec(givenSpec);
-        target.maybeLogOpenrtb2Auction(givenAuctionContext, routingContext, 200, null);
-        target.maybeLogOpenrtb2Auction(givenAuctionContext, routingContext, 501, null);
+        target.maybeLogOpenrtb2Auction(givenAuctionContext, routingContext, 200, () -> null);
+        target.maybeLogOpenrtb2Auction(givenAuctionContext, routingContext, 501, () -> null);
 
         // then
         verify(logger).info(anyString(), anyString(), anyString(), eq(501), any());
@@ -131,7 +131,7 @@ public class HttpInteractionLoggerTest extends VertxTest {
 
         // when
         target.setSpec(givenSpec);
-        target.maybeLogOpenrtb2Auction(givenAuctionContext, routingContext, 200, null);
+        target.maybeLogOpenrtb2Auction(givenAuctionContext, routingContext, 200, () -> null);
 
         // then
         verify(logger).info(anyString(), anyString(), anyString(), any(), any());
@@ -145,7 +145,7 @@ public class HttpInteractionLoggerTest extends VertxTest {
 
         // when
         target.setSpec(givenSpec);
-        target.maybeLogOpenrtb2Auction(givenAuctionContext, routingContext, 200, null);
+        target.maybeLogOpenrtb2Auction(givenAuctionContext, routingContext, 200, () -> null);
 
         // then
         verifyNoInteractions(logger);
@@ -164,7 +164,7 @@ public class HttpInteractionLoggerTest extends VertxTest {
 
         // when
         target.setSpec(givenSpec);
-        target.maybeLogOpenrtb2Auction(givenAuctionContext, routingContext, 200, null);
+        target.maybeLogOpenrtb2Auction(givenAuctionContext, routingContext, 200, () -> null);
 
         // then
         verify(logger).info(anyString(), anyString(), eq("{\"param\":\"value\"}"), any(), any());
@@ -180,7 +180,7 @@ public class HttpInteractionLoggerTest extends VertxTest {
 
         // when
         target.setSpec(givenSpec);
-        target.maybeLogOpenrtb2Auction(givenAuctionContext, routingContext, 200, null);
+        target.maybeLogOpenrtb2Auction(givenAuctionContext, routingContext, 200, () -> null);
 
         // then
         verify(logger).info(anyString(), anyString(), eq("Not parseable JSON passed: {"), any(), any());
@@ -195,7 +195,7 @@ public class HttpInteractionLoggerTest extends VertxTest {
 
         // when
         target.setSpec(givenSpec);
-        target.maybeLogOpenrtb2Amp(givenAuctionContext, routingContext, 200, "responseBody");
+        target.maybeLogOpenrtb2Amp(givenAuctionContext, routingContext, 200, () -> "responseBody");
 
         // then
         verify(logger)
@@ -214,8 +214,8 @@ public class HttpInteractionLoggerTest extends VertxTest {
 
         // when
         target.setSpec(givenSpec);
-        target.maybeLogOpenrtb2Amp(givenAuctionContext, routingContext, 200, null);
-        target.maybeLogOpenrtb2Amp(givenAuctionContext, routingContext, 200, null);
+        target.maybeLogOpenrtb2Amp(givenAuctionContext, routingContext, 200, () -> null);
+        target.maybeLogOpenrtb2Amp(givenAuctionContext, routingContext, 200, () -> null);
 
         // then
         verify(logger).info(anyString(), anyString(), any(), any());
@@ -230,7 +230,7 @@ public class HttpInteractionLoggerTest extends VertxTest {
 
         // when
         target.setSpec(givenSpec);
-        target.maybeLogOpenrtb2Amp(givenAuctionContext, routingContext, 200, null);
+        target.maybeLogOpenrtb2Amp(givenAuctionContext, routingContext, 200, () -> null);
 
         // then
         verifyNoInteractions(logger);
@@ -244,8 +244,8 @@ public class HttpInteractionLoggerTest extends VertxTest {
 
         // when
         target.setSpec(givenSpec);
-        target.maybeLogOpenrtb2Amp(givenAuctionContext, routingContext, 200, null);
-        target.maybeLogOpenrtb2Amp(givenAuctionContext, routingContext, 501, null);
+        target.maybeLogOpenrtb2Amp(givenAuctionContext, routingContext, 200, () -> null);
+        target.maybeLogOpenrtb2Amp(givenAuctionContext, routingContext, 501, () -> null);
 
         // then
         verify(logger).info(anyString(), anyString(), eq(501), any());
@@ -260,7 +260,7 @@ public class HttpInteractionLoggerTest extends VertxTest {
 
         // when
         target.setSpec(givenSpec);
-        target.maybeLogOpenrtb2Amp(givenAuctionContext, routingContext, 200, null);
+        target.maybeLogOpenrtb2Amp(givenAuctionContext, routingContext, 200, () -> null);
 
         // then
         verify(logger).info(anyString(), anyString(), any(), any());
@@ -274,7 +274,7 @@ public class HttpInteractionLoggerTest extends VertxTest {
 
         // when
         target.setSpec(givenSpec);
-        target.maybeLogOpenrtb2Amp(givenAuctionContext, routingContext, 200, null);
+        target.maybeLogOpenrtb2Amp(givenAuctionContext, routingContext, 200, () -> null);
 
         // then
         verifyNoInteractions(logger);
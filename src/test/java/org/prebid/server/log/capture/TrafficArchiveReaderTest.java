@@ -0,0 +1,86 @@
+package org.prebid.server.log.capture;
+
+import org.junit.jupiter.api.Test;
+import org.prebid.server.log.capture.model.TrafficRecord;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIOException;
+
+public class TrafficArchiveReaderTest {
+
+    @Test
+    public void readShouldReturnRecordsWrittenByWriter() throws IOException {
+        // given
+        final List<TrafficRecord> records = List.of(
+                TrafficRecord.builder()
+                        .type(TrafficRecord.Type.auction)
+                        .timestamp(1L)
+                        .id("auctionId")
+                        .uri("/openrtb2/auction")
+                        .body("{\"id\":\"auctionId\"}")
+                        .build(),
+                TrafficRecord.builder()
+                        .type(TrafficRecord.Type.bidder_response)
+                        .timestamp(2L)
+                        .id("auctionId")
+                        .bidder("bidder")
+                        .uri("https://bidder.com")
+                        .status(200)
+                        .latency(30L)
+                        .body("{\"seatbid\":[]}")
+                        .build());
+
+        // when
+        final List<TrafficRecord> result = TrafficArchiveReader.read(new ByteArrayInputStream(givenArchive(records)));
+
+        // then
+        assertThat(result).isEqualTo(records);
+    }
+
+    @Test
+    public void readShouldReturnRecordsBeforeTruncation() throws IOException {
+        // given
+        final TrafficRecord record = TrafficRecord.builder()
+                .type(TrafficRecord.Type.account)
+                .id("accountId")
+                .body("{}")
+                .build();
+        final TrafficRecord truncatedRecord = TrafficRecord.builder()
+                .type(TrafficRecord.Type.stored_request)
+                .id("requestId")
+                .body(IntStream.range(0, 1000).mapToObj(Integer::toString).collect(Collectors.joining(",")))
+                .build();
+        final byte[] archive = givenArchive(List.of(record, truncatedRecord));
+
+        // when
+        final List<TrafficRecord> result = TrafficArchiveReader.read(
+                new ByteArrayInputStream(Arrays.copyOf(archive, archive.length - 100)));
+
+        // then
+        assertThat(result).containsExactly(record);
+    }
+
+    @Test
+    public void readShouldFailOnNotArchive() {
+        assertThatIOException()
+                .isThrownBy(() -> TrafficArchiveReader.read(new ByteArrayInputStream(new byte[]{1, 2, 3})));
+    }
+
+    private static byte[] givenArchive(List<TrafficRecord> records) throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (TrafficArchiveWriter writer = new TrafficArchiveWriter(outputStream)) {
+            for (TrafficRecord record : records) {
+                writer.write(record);
+            }
+        }
+        return outputStream.toByteArray();
+    }
+}
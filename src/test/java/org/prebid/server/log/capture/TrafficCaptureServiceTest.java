@@ -0,0 +1,244 @@
+package org.prebid.server.log.capture;
+
+import com.iab.openrtb.request.BidRequest;
+import io.vertx.core.Future;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.ext.web.RequestBody;
+import io.vertx.ext.web.RoutingContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.VertxTest;
+import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.bidder.model.BidderCall;
+import org.prebid.server.bidder.model.BidderError;
+import org.prebid.server.bidder.model.HttpRequest;
+import org.prebid.server.bidder.model.HttpResponse;
+import org.prebid.server.execution.blocking.BlockingExecutor;
+import org.prebid.server.execution.timeout.TimeoutFactory;
+import org.prebid.server.log.capture.model.TrafficRecord;
+import org.prebid.server.settings.ApplicationSettings;
+import org.prebid.server.settings.model.Account;
+import org.prebid.server.settings.model.StoredDataResult;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mock.Strictness.LENIENT;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class TrafficCaptureServiceTest extends VertxTest {
+
+    @Mock
+    private TrafficArchiveWriter archiveWriter;
+    @Mock
+    private ApplicationSettings applicationSettings;
+    @Mock
+    private TimeoutFactory timeoutFactory;
+    @Mock(strictness = LENIENT)
+    private Clock clock;
+    @Mock(strictness = LENIENT)
+    private RoutingContext routingContext;
+    @Mock(strictness = LENIENT)
+    private HttpServerRequest serverRequest;
+    @Mock(strictness = LENIENT)
+    private RequestBody requestBody;
+
+    private final BlockingExecutor blockingExecutor = new BlockingExecutor() {
+
+        @Override
+        public <T> Future<T> execute(Callable<T> task) {
+            try {
+                return Future.succeededFuture(task.call());
+            } catch (Exception e) {
+                return Future.failedFuture(e);
+            }
+        }
+    };
+
+    @BeforeEach
+    public void setUp() {
+        given(clock.millis()).willReturn(100L);
+        given(routingContext.request()).willReturn(serverRequest);
+        given(routingContext.body()).willReturn(requestBody);
+        given(serverRequest.uri()).willReturn("/openrtb2/auction");
+    }
+
+    @Test
+    public void creationShouldFailOnInvalidSamplingRate() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> givenTarget(1.5, 10))
+                .withMessage("Sampling rate should be between 0 and 1");
+    }
+
+    @Test
+    public void captureAuctionShouldWriteAuctionAccountAndStoredData() throws IOException {
+        // given
+        final TrafficCaptureService target = givenTarget(1.0, 10);
+        given(requestBody.asString()).willReturn("""
+                {"id":"auctionId","ext":{"prebid":{"storedrequest":{"id":"requestId"}}},
+                "imp":[{"ext":{"prebid":{"storedrequest":{"id":"impId"}}}}]}""");
+        given(applicationSettings.getStoredData(any(), anySet(), anySet(), any()))
+                .willReturn(Future.succeededFuture(StoredDataResult.of(
+                        Map.of("requestId", "{\"stored\":\"request\"}"),
+                        Map.of("impId", "{\"stored\":\"imp\"}"),
+                        emptyList())));
+
+        // when
+        target.captureAuction(givenAuctionContext("auctionId", "accountId"), routingContext);
+
+        // then
+        verify(applicationSettings)
+                .getStoredData(eq("accountId"), eq(Set.of("requestId")), eq(Set.of("impId")), any());
+
+        final List<TrafficRecord> records = capturedRecords(4);
+        assertThat(records)
+                .extracting(TrafficRecord::getType, TrafficRecord::getId)
+                .containsExactly(
+                        tuple(TrafficRecord.Type.auction, "auctionId"),
+                        tuple(TrafficRecord.Type.account, "accountId"),
+                        tuple(TrafficRecord.Type.stored_request, "requestId"),
+                        tuple(TrafficRecord.Type.stored_imp, "impId"));
+        assertThat(records.getFirst().getUri()).isEqualTo("/openrtb2/auction");
+        assertThat(records.get(2).getBody()).isEqualTo("{\"stored\":\"request\"}");
+    }
+
+    @Test
+    public void captureAuctionShouldCaptureAccountAndStoredDataOnlyOnce() throws IOException {
+        // given
+        final TrafficCaptureService target = givenTarget(1.0, 10);
+        given(requestBody.asString()).willReturn("""
+                {"ext":{"prebid":{"storedrequest":{"id":"requestId"}}}}""");
+        given(applicationSettings.getStoredData(any(), anySet(), anySet(), any()))
+                .willReturn(Future.succeededFuture(StoredDataResult.of(emptyMap(), emptyMap(), emptyList())));
+
+        // when
+        target.captureAuction(givenAuctionContext("auctionId1", "accountId"), routingContext);
+        target.captureAuction(givenAuctionContext("auctionId2", "accountId"), routingContext);
+
+        // then
+        verify(applicationSettings).getStoredData(anyString(), anySet(), anySet(), any());
+        assertThat(capturedRecords(3))
+                .extracting(TrafficRecord::getType)
+                .containsExactly(TrafficRecord.Type.auction, TrafficRecord.Type.account, TrafficRecord.Type.auction);
+    }
+
+    @Test
+    public void captureAuctionShouldNotCaptureNotSampledAuction() {
+        // given
+        final TrafficCaptureService target = givenTarget(0.0, 10);
+
+        // when
+        target.captureAuction(givenAuctionContext("auctionId", "accountId"), routingContext);
+
+        // then
+        verifyNoInteractions(archiveWriter, applicationSettings);
+    }
+
+    @Test
+    public void captureBidderCallShouldWriteBidderResponseWithLatency() throws IOException {
+        // given
+        final TrafficCaptureService target = givenTarget(1.0, 10);
+        given(clock.millis()).willReturn(100L, 130L);
+        final BidderCall<BidRequest> bidderCall = BidderCall.succeededHttp(
+                givenHttpRequest(), HttpResponse.of(200, null, "responseBody"), null);
+
+        // when
+        final Future<BidderCall<BidRequest>> result = target.captureBidderCall(
+                "bidder", "auctionId", () -> Future.succeededFuture(bidderCall));
+
+        // then
+        assertThat(result.result()).isSameAs(bidderCall);
+        assertThat(capturedRecords(1)).containsExactly(TrafficRecord.builder()
+                .type(TrafficRecord.Type.bidder_response)
+                .timestamp(100L)
+                .id("auctionId")
+                .bidder("bidder")
+                .uri("https://bidder.com")
+                .status(200)
+                .latency(30L)
+                .body("responseBody")
+                .build());
+    }
+
+    @Test
+    public void captureBidderCallShouldWriteZeroStatusForCallWithoutResponse() throws IOException {
+        // given
+        final TrafficCaptureService target = givenTarget(1.0, 10);
+        final BidderCall<BidRequest> bidderCall = BidderCall.failedHttp(
+                givenHttpRequest(), BidderError.timeout("Timeout"));
+
+        // when
+        target.captureBidderCall("bidder", "auctionId", () -> Future.succeededFuture(bidderCall));
+
+        // then
+        assertThat(capturedRecords(1))
+                .extracting(TrafficRecord::getStatus, TrafficRecord::getBody)
+                .containsExactly(tuple(0, null));
+    }
+
+    @Test
+    public void captureBidderCallShouldStopCapturingAfterMaxRecords() throws IOException {
+        // given
+        final TrafficCaptureService target = givenTarget(1.0, 1);
+        final BidderCall<BidRequest> bidderCall = BidderCall.failedHttp(
+                givenHttpRequest(), BidderError.timeout("Timeout"));
+
+        // when
+        target.captureBidderCall("bidder", "auctionId", () -> Future.succeededFuture(bidderCall));
+        target.captureBidderCall("bidder", "auctionId", () -> Future.succeededFuture(bidderCall));
+
+        // then
+        verify(archiveWriter, times(1)).write(any());
+    }
+
+    private TrafficCaptureService givenTarget(double samplingRate, long maxRecords) {
+        return new TrafficCaptureService(
+                archiveWriter,
+                samplingRate,
+                maxRecords,
+                1000L,
+                applicationSettings,
+                timeoutFactory,
+                blockingExecutor,
+                clock,
+                jacksonMapper);
+    }
+
+    private List<TrafficRecord> capturedRecords(int count) throws IOException {
+        final ArgumentCaptor<TrafficRecord> captor = ArgumentCaptor.forClass(TrafficRecord.class);
+        verify(archiveWriter, times(count)).write(captor.capture());
+        return captor.getAllValues();
+    }
+
+    private static AuctionContext givenAuctionContext(String auctionId, String accountId) {
+        return AuctionContext.builder()
+                .bidRequest(BidRequest.builder().id(auctionId).build())
+                .account(Account.empty(accountId))
+                .build();
+    }
+
+    private static HttpRequest<BidRequest> givenHttpRequest() {
+        return HttpRequest.<BidRequest>builder().uri("https://bidder.com").build();
+    }
+}
@@ -20,11 +20,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.activity.Activity;
 import org.prebid.server.activity.ComponentType;
 import org.prebid.server.activity.infrastructure.ActivityInfrastructure;
+import org.prebid.server.execution.admission.AdmissionPriority;
 import org.prebid.server.hooks.execution.model.ExecutionAction;
 import org.prebid.server.hooks.execution.model.ExecutionStatus;
 import org.prebid.server.hooks.execution.model.Stage;
 import org.prebid.server.metric.model.AccountMetricsVerbosityLevel;
 import org.prebid.server.settings.model.Account;
+import org.prebid.server.util.system.ResourceUsage;
 
 import java.util.Collections;
 import java.util.EnumMap;
@@ -905,6 +907,37 @@ public class MetricsTest {
         assertThat(metricRegistry.counter("privacy.coppa").getCount()).isOne();
     }
 
+    @Test
+    public void updatePrivacyMaskingClassesMetricShouldUpdateHistogram() {
+        // when
+        metrics.updatePrivacyMaskingClassesMetric(3);
+
+        // then
+        assertThat(metricRegistry.histogram("privacy.masking-classes").getCount()).isOne();
+        assertThat(metricRegistry.histogram("privacy.masking-classes").getSnapshot().getMax()).isEqualTo(3);
+    }
+
+    @Test
+    public void updatePrivacyGppModelCacheMetricShouldIncrementHitOrMissMetric() {
+        // when
+        metrics.updatePrivacyGppModelCacheMetric(true);
+        metrics.updatePrivacyGppModelCacheMetric(false);
+        metrics.updatePrivacyGppModelCacheMetric(false);
+
+        // then
+        assertThat(metricRegistry.counter("privacy.gpp.model-cache.hit").getCount()).isOne();
+        assertThat(metricRegistry.counter("privacy.gpp.model-cache.miss").getCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void updatePrivacyGppDecodeTimeMetricShouldUpdateTimer() {
+        // when
+        metrics.updatePrivacyGppDecodeTimeMetric(1000L);
+
+        // then
+        assertThat(metricRegistry.timer("privacy.gpp.decode_time").getCount()).isOne();
+    }
+
     @Test
     public void updatePrivacyLmtMetricShouldIncrementMetric() {
         // when
@@ -1363,6 +1396,17 @@ public class MetricsTest {
                 .isEqualTo(1);
     }
 
+    @Test
+    public void shouldUpdatePrebidCacheBatchMetrics() {
+        // when
+        metrics.updateCacheBatchSizeMetric(10);
+        metrics.updateCacheBatchWaitMetric(2L);
+
+        // then
+        assertThat(metricRegistry.histogram("prebid_cache.batch.size").getCount()).isEqualTo(1);
+        assertThat(metricRegistry.timer("prebid_cache.batch.wait").getCount()).isEqualTo(1);
+    }
+
     @Test
     public void shouldIncrementPrebidCacheVtrackCreativeTtlHistogram() {
         // when
@@ -1410,6 +1454,118 @@ public class MetricsTest {
         assertThat(metricRegistry.gauge("currency-rates.stale.count", () -> null).getValue()).isEqualTo(1L);
     }
 
+    @Test
+    public void updateHttpClientPoolMetricsShouldUpdateMetrics() {
+        // when
+        metrics.updateHttpClientConnectionWaitMetric("bidder", 15L);
+        metrics.updateHttpClientConnectionOpenedMetric("bidder");
+        metrics.updateHttpClientConnectionOpenedMetric("bidder");
+
+        // then
+        assertThat(metricRegistry.timer("http_client.bidder.connection_wait").getCount()).isOne();
+        assertThat(metricRegistry.counter("http_client.bidder.connections_opened").getCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void updateDnsMetricsShouldUpdateMetrics() {
+        // when
+        metrics.updateDnsResolveTimeMetric(5L);
+        metrics.updateDnsResolveFailedMetric();
+        metrics.updateDnsStaleServedMetric();
+
+        // then
+        assertThat(metricRegistry.timer("dns.resolve_time").getCount()).isOne();
+        assertThat(metricRegistry.counter("dns.resolve_failed").getCount()).isOne();
+        assertThat(metricRegistry.counter("dns.stale_served").getCount()).isOne();
+    }
+
+    @Test
+    public void shouldUpdateEmbeddedCacheMetrics() {
+        // when
+        metrics.updateEmbeddedCacheHitMetric();
+        metrics.updateEmbeddedCacheMissMetric();
+        metrics.updateEmbeddedCacheExpiredMetric();
+        metrics.updateEmbeddedCacheEvictedMetric();
+
+        // then
+        assertThat(metricRegistry.counter("embedded_cache.hit").getCount()).isOne();
+        assertThat(metricRegistry.counter("embedded_cache.miss").getCount()).isOne();
+        assertThat(metricRegistry.counter("embedded_cache.expired").getCount()).isOne();
+        assertThat(metricRegistry.counter("embedded_cache.evicted").getCount()).isOne();
+    }
+
+    @Test
+    public void shouldUpdateBlockingExecutorMetrics() {
+        // when
+        metrics.createBlockingExecutorActiveTasksGauge("maxmind", () -> 2L);
+        metrics.updateBlockingExecutorQueueWaitMetric("maxmind", 15L);
+
+        // then
+        assertThat(metricRegistry.gauge("blocking_executor.maxmind.active_tasks", () -> null).getValue())
+                .isEqualTo(2L);
+        assertThat(metricRegistry.timer("blocking_executor.maxmind.queue_wait").getCount()).isOne();
+    }
+
+    @Test
+    public void shouldUpdateEventLoopMetrics() {
+        // when
+        metrics.createEventLoopGauges(1, () -> 3L, () -> 250L);
+        metrics.updateEventLoopLagMetric(1, 1_000_000L);
+        metrics.updateEventLoopBlockedMetric(1);
+
+        // then
+        assertThat(metricRegistry.gauge("event_loop.1.pending_tasks", () -> null).getValue()).isEqualTo(3L);
+        assertThat(metricRegistry.gauge("event_loop.1.max_task_duration", () -> null).getValue()).isEqualTo(250L);
+        assertThat(metricRegistry.timer("event_loop.1.lag").getCount()).isOne();
+        assertThat(metricRegistry.counter("event_loop.1.blocked").getCount()).isOne();
+    }
+
+    @Test
+    public void shouldUpdateResourceUsageMetrics() {
+        // given
+        final ResourceUsage resourceUsage = ResourceUsage.of(1000L, 2048L);
+
+        // when
+        metrics.updateAdapterResourceUsageMetrics(RUBICON, MetricName.make_bidder_response, resourceUsage);
+        metrics.updateAuctionResourceUsageMetrics(MetricName.create_bid_response, resourceUsage);
+        metrics.updateHookResourceUsageMetrics("module", Stage.entrypoint, "hook", resourceUsage);
+
+        // then
+        assertThat(metricRegistry.histogram("adapter.rubicon.make_bidder_response.cpu_time").getCount()).isOne();
+        assertThat(metricRegistry.histogram("adapter.rubicon.make_bidder_response.allocated_bytes").getCount())
+                .isOne();
+        assertThat(metricRegistry.histogram("auction.create_bid_response.cpu_time").getCount()).isOne();
+        assertThat(metricRegistry.histogram("auction.create_bid_response.allocated_bytes").getCount()).isOne();
+        assertThat(metricRegistry.histogram("modules.module.module.stage.entrypoint.hook.hook.cpu_time").getCount())
+                .isOne();
+        assertThat(metricRegistry
+                .histogram("modules.module.module.stage.entrypoint.hook.hook.allocated_bytes").getCount())
+                .isOne();
+    }
+
+    @Test
+    public void shouldCreateAdmissionGaugeMetrics() {
+        // when
+        metrics.createAdmissionGauges(() -> 100L, () -> 7L);
+
+        // then
+        assertThat(metricRegistry.gauge("admission.limit", () -> null).getValue()).isEqualTo(100L);
+        assertThat(metricRegistry.gauge("admission.in_flight", () -> null).getValue()).isEqualTo(7L);
+    }
+
+    @Test
+    public void updateAdmissionRejectedMetricShouldIncrementMetric() {
+        // when
+        metrics.updateAdmissionRejectedMetric(AdmissionPriority.HIGH);
+        metrics.updateAdmissionRejectedMetric(AdmissionPriority.LOW);
+        metrics.updateAdmissionRejectedMetric(AdmissionPriority.LOW);
+
+        // then
+        assertThat(metricRegistry.counter("admission.rejected.high").getCount()).isOne();
+        assertThat(metricRegistry.counter("admission.rejected.normal").getCount()).isZero();
+        assertThat(metricRegistry.counter("admission.rejected.low").getCount()).isEqualTo(2);
+    }
+
     @Test
     public void updateSettingsCacheRefreshTimeShouldUpdateTimer() {
         // when
@@ -1432,6 +1588,18 @@ public class MetricsTest {
                 .isEqualTo(1);
     }
 
+    @Test
+    public void updateSettingsCacheRefreshFetchedMetricsShouldIncrementMetrics() {
+        // when
+        metrics.updateSettingsCacheRefreshFetchedMetrics(MetricName.stored_request, MetricName.update, 2, 100L);
+
+        // then
+        assertThat(metricRegistry.counter("settings.cache.stored-request.refresh.update.objects_fetched").getCount())
+                .isEqualTo(2);
+        assertThat(metricRegistry.counter("settings.cache.stored-request.refresh.update.bytes_fetched").getCount())
+                .isEqualTo(100);
+    }
+
     @Test
     public void updateSettingsCacheEventMetricShouldIncrementMetric() {
         // when
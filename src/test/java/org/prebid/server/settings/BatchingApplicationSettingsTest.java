@@ -0,0 +1,229 @@
+package org.prebid.server.settings;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.execution.timeout.Timeout;
+import org.prebid.server.execution.timeout.TimeoutFactory;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.settings.helper.AccountsFetcher;
+import org.prebid.server.settings.model.Account;
+import org.prebid.server.settings.model.StoredDataResult;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@ExtendWith(VertxExtension.class)
+public class BatchingApplicationSettingsTest {
+
+    @Mock
+    private ApplicationSettings delegate;
+    @Mock
+    private AccountsFetcher accountsFetcher;
+    @Mock
+    private Metrics metrics;
+
+    private Vertx vertx;
+    private Timeout timeout;
+
+    private BatchingApplicationSettings target;
+
+    @BeforeEach
+    public void setUp() {
+        vertx = Vertx.vertx();
+        timeout = new TimeoutFactory(Clock.systemUTC()).create(1000L);
+
+        target = new BatchingApplicationSettings(delegate, accountsFetcher, vertx, 5, 100, Clock.systemUTC(), metrics);
+    }
+
+    @AfterEach
+    public void tearDown(VertxTestContext context) {
+        vertx.close(context.succeedingThenComplete());
+    }
+
+    @Test
+    public void getAccountByIdShouldFetchAccountsRequestedWithinWindowAtOnce(VertxTestContext context) {
+        // given
+        given(accountsFetcher.apply(any(), any()))
+                .willReturn(Future.succeededFuture(singleton(Account.empty("accountId1"))));
+
+        // when
+        vertx.runOnContext(ignored -> {
+            final Future<Account> first = target.getAccountById("accountId1", timeout);
+            final Future<Account> second = target.getAccountById("accountId2", timeout);
+
+            // then
+            Future.join(first, second).onComplete(result -> context.verify(() -> {
+                assertThat(first.result()).isEqualTo(Account.empty("accountId1"));
+                assertThat(second.cause())
+                        .isInstanceOf(PreBidException.class)
+                        .hasMessage("Account with id : accountId2 not found");
+
+                verify(accountsFetcher).apply(eq(Set.of("accountId1", "accountId2")), any());
+                verify(metrics).updateSettingsBatchSizeMetric(2);
+                verify(metrics).updateSettingsBatchWaitMetric(anyLong());
+                verifyNoInteractions(delegate);
+                context.completeNow();
+            }));
+        });
+    }
+
+    @Test
+    public void getAccountByIdShouldFlushBatchWhenItReachesMaxSize(VertxTestContext context) {
+        // given
+        target = new BatchingApplicationSettings(
+                delegate, accountsFetcher, vertx, 10000, 2, Clock.systemUTC(), metrics);
+        given(accountsFetcher.apply(any(), any())).willReturn(Future.succeededFuture(emptySet()));
+
+        // when
+        vertx.runOnContext(ignored -> {
+            target.getAccountById("accountId1", timeout);
+            target.getAccountById("accountId2", timeout);
+            target.getAccountById("accountId3", timeout);
+
+            // then
+            context.verify(() -> {
+                verify(accountsFetcher).apply(eq(Set.of("accountId1", "accountId2")), any());
+                verify(metrics, times(1)).updateSettingsBatchSizeMetric(anyInt());
+                context.completeNow();
+            });
+        });
+    }
+
+    @Test
+    public void getAccountByIdShouldFailCallerOnItsOwnTimeout(VertxTestContext context) {
+        // given
+        given(accountsFetcher.apply(any(), any())).willReturn(Promise.<Set<Account>>promise().future());
+        final Timeout shortTimeout = new TimeoutFactory(Clock.systemUTC()).create(50L);
+
+        // when
+        vertx.runOnContext(ignored -> {
+            final Future<Account> impatient = target.getAccountById("accountId1", shortTimeout);
+            final Future<Account> patient = target.getAccountById("accountId2", timeout);
+
+            // then
+            impatient.onComplete(context.failing(cause -> context.verify(() -> {
+                assertThat(cause).isInstanceOf(TimeoutException.class);
+                assertThat(patient.isComplete()).isFalse();
+                context.completeNow();
+            })));
+        });
+    }
+
+    @Test
+    public void getAccountByIdShouldCallDelegateWhenNotOnEventLoop() {
+        // given
+        given(delegate.getAccountById(any(), any())).willReturn(Future.succeededFuture(Account.empty("accountId")));
+
+        // when
+        final Future<Account> result = target.getAccountById("accountId", timeout);
+
+        // then
+        assertThat(result.result()).isEqualTo(Account.empty("accountId"));
+        verifyNoInteractions(accountsFetcher);
+    }
+
+    @Test
+    public void getStoredDataShouldFetchIdsOfSameAccountAtOnceAndSplitResult(VertxTestContext context) {
+        // given
+        given(delegate.getStoredData(any(), any(), any(), any())).willReturn(Future.succeededFuture(
+                StoredDataResult.of(
+                        Map.of("req1", "value1"),
+                        Map.of("imp1", "value2"),
+                        singletonList("No stored request found for id: req2"))));
+
+        // when
+        vertx.runOnContext(ignored -> {
+            final Future<StoredDataResult<String>> first =
+                    target.getStoredData("accountId", singleton("req1"), singleton("imp1"), timeout);
+            final Future<StoredDataResult<String>> second =
+                    target.getStoredData("accountId", singleton("req2"), emptySet(), timeout);
+
+            // then
+            Future.all(first, second).onComplete(context.succeeding(result -> context.verify(() -> {
+                assertThat(first.result()).isEqualTo(
+                        StoredDataResult.of(Map.of("req1", "value1"), Map.of("imp1", "value2"), emptyList()));
+                assertThat(second.result()).isEqualTo(StoredDataResult.of(
+                        Map.of(), Map.of(), List.of("No stored request found for id: req2")));
+
+                verify(delegate).getStoredData(
+                        eq("accountId"), eq(Set.of("req1", "req2")), eq(Set.of("imp1")), any());
+                context.completeNow();
+            })));
+        });
+    }
+
+    @Test
+    public void getStoredDataShouldNotMixDifferentAccounts(VertxTestContext context) {
+        // given
+        given(delegate.getStoredData(any(), any(), any(), any())).willReturn(Future.succeededFuture(
+                StoredDataResult.of(Map.of(), Map.of(), emptyList())));
+
+        // when
+        vertx.runOnContext(ignored -> {
+            final Future<StoredDataResult<String>> first =
+                    target.getStoredData("accountId1", singleton("req1"), emptySet(), timeout);
+            final Future<StoredDataResult<String>> second =
+                    target.getStoredData("accountId2", singleton("req2"), emptySet(), timeout);
+
+            // then
+            Future.all(first, second).onComplete(context.succeeding(result -> context.verify(() -> {
+                verify(delegate).getStoredData(eq("accountId1"), eq(Set.of("req1")), eq(emptySet()), any());
+                verify(delegate).getStoredData(eq("accountId2"), eq(Set.of("req2")), eq(emptySet()), any());
+                context.completeNow();
+            })));
+        });
+    }
+
+    @Test
+    public void getStoredDataShouldGiveCallerOnlyErrorsMentioningExactlyItsIds(VertxTestContext context) {
+        // given
+        given(delegate.getStoredData(any(), any(), any(), any())).willReturn(Future.succeededFuture(
+                StoredDataResult.of(
+                        Map.of(),
+                        Map.of(),
+                        List.of("No stored request found for id: 1", "No stored request found for id: 11"))));
+
+        // when
+        vertx.runOnContext(ignored -> {
+            final Future<StoredDataResult<String>> first =
+                    target.getStoredData("accountId", singleton("1"), emptySet(), timeout);
+            final Future<StoredDataResult<String>> second =
+                    target.getStoredData("accountId", singleton("11"), emptySet(), timeout);
+
+            // then
+            Future.all(first, second).onComplete(context.succeeding(result -> context.verify(() -> {
+                assertThat(first.result().getErrors()).containsExactly("No stored request found for id: 1");
+                assertThat(second.result().getErrors()).containsExactly("No stored request found for id: 11");
+                context.completeNow();
+            })));
+        });
+    }
+}
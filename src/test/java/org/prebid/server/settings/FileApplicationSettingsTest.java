@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.node.TextNode;
 import io.vertx.core.Future;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.FileProps;
 import io.vertx.core.file.FileSystem;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -32,24 +33,30 @@ import org.prebid.server.settings.model.Purposes;
 import org.prebid.server.settings.model.SpecialFeature;
 import org.prebid.server.settings.model.SpecialFeatures;
 import org.prebid.server.settings.model.StoredDataResult;
+import org.prebid.server.settings.model.StoredDataType;
 import org.prebid.server.settings.model.StoredResponseDataResult;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.emptySet;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -73,6 +80,8 @@ public class FileApplicationSettingsTest extends VertxTest {
                         "ignore",
                         "ignore",
                         "ignore",
+                        false,
+                        false,
                         jacksonMapper));
     }
 
@@ -89,6 +98,8 @@ public class FileApplicationSettingsTest extends VertxTest {
                 "ignore",
                 "ignore",
                 "ignore",
+                false,
+                false,
                 jacksonMapper);
 
         // when
@@ -181,6 +192,8 @@ public class FileApplicationSettingsTest extends VertxTest {
                 "ignore",
                 "ignore",
                 "ignore",
+                false,
+                false,
                 jacksonMapper);
 
         // when
@@ -246,6 +259,8 @@ public class FileApplicationSettingsTest extends VertxTest {
                 "ignore",
                 "ignore",
                 "ignore",
+                false,
+                false,
                 jacksonMapper);
 
         // when
@@ -280,6 +295,8 @@ public class FileApplicationSettingsTest extends VertxTest {
                 "ignore",
                 "ignore",
                 "ignore",
+                false,
+                false,
                 jacksonMapper))
                 .isInstanceOf(PreBidException.class)
                 .hasMessage("Failed to decode categories for file /home/user/categories/iab_1.json");
@@ -309,6 +326,8 @@ public class FileApplicationSettingsTest extends VertxTest {
                 "ignore",
                 "ignore",
                 "ignore",
+                false,
+                false,
                 jacksonMapper);
 
         // when
@@ -343,6 +362,8 @@ public class FileApplicationSettingsTest extends VertxTest {
                 "ignore",
                 "ignore",
                 "ignore",
+                false,
+                false,
                 jacksonMapper);
 
         // when
@@ -377,6 +398,8 @@ public class FileApplicationSettingsTest extends VertxTest {
                 "ignore",
                 "ignore",
                 "ignore",
+                false,
+                false,
                 jacksonMapper);
 
         // when
@@ -411,6 +434,8 @@ public class FileApplicationSettingsTest extends VertxTest {
                 "ignore",
                 "ignore",
                 "ignore",
+                false,
+                false,
                 jacksonMapper);
 
         // when
@@ -449,6 +474,8 @@ public class FileApplicationSettingsTest extends VertxTest {
                 "ignore",
                 "ignore",
                 "ignore",
+                false,
+                false,
                 jacksonMapper);
 
         // when
@@ -487,6 +514,8 @@ public class FileApplicationSettingsTest extends VertxTest {
                 "ignore",
                 "ignore",
                 "ignore",
+                false,
+                false,
                 jacksonMapper);
 
         // when
@@ -541,6 +570,8 @@ public class FileApplicationSettingsTest extends VertxTest {
                 "profiles",
                 "ignore",
                 "ignore",
+                false,
+                false,
                 jacksonMapper);
 
         // when
@@ -593,6 +624,8 @@ public class FileApplicationSettingsTest extends VertxTest {
                 "profiles",
                 "ignore",
                 "ignore",
+                false,
+                false,
                 jacksonMapper);
 
         // when
@@ -631,6 +664,8 @@ public class FileApplicationSettingsTest extends VertxTest {
                 "ignore",
                 "ignore",
                 "ignore",
+                false,
+                false,
                 jacksonMapper);
 
         // when
@@ -670,6 +705,8 @@ public class FileApplicationSettingsTest extends VertxTest {
                 "ignore",
                 "ignore",
                 "ignore",
+                false,
+                false,
                 jacksonMapper);
 
         // when
@@ -711,6 +748,8 @@ public class FileApplicationSettingsTest extends VertxTest {
                 "ignore",
                 "ignore",
                 "ignore",
+                false,
+                false,
                 jacksonMapper);
 
         // when
@@ -740,6 +779,8 @@ public class FileApplicationSettingsTest extends VertxTest {
                 "ignore",
                 "ignore",
                 "ignore",
+                false,
+                false,
                 jacksonMapper);
 
         // then
@@ -761,9 +802,146 @@ public class FileApplicationSettingsTest extends VertxTest {
                 "ignore",
                 "ignore",
                 "ignore",
+                false,
+                false,
                 jacksonMapper);
 
         // then
         verify(fileSystem, never()).readFileBlocking(eq("1.txt"));
     }
+
+    @Test
+    public void getStoredDataShouldReadFilesOnDemandWhenStoredDataIsLazy() {
+        // given
+        given(fileSystem.readFileBlocking(eq("settings"))).willReturn(Buffer.buffer("accounts:"));
+        given(fileSystem.readDirBlocking(eq("requests"))).willReturn(singletonList("/home/user/requests/1.json"));
+        given(fileSystem.readFile(eq("/home/user/requests/1.json")))
+                .willReturn(Future.succeededFuture(Buffer.buffer("value1")));
+
+        final FileApplicationSettings applicationSettings = new FileApplicationSettings(
+                fileSystem,
+                "settings",
+                "requests",
+                "imps",
+                "profiles",
+                "responses",
+                "categories",
+                true,
+                false,
+                jacksonMapper);
+
+        // when
+        final Future<StoredDataResult<String>> storedDataResult =
+                applicationSettings.getStoredData(null, new HashSet<>(asList("1", "2")), emptySet(), null);
+
+        // then
+        verify(fileSystem, never()).readFileBlocking(eq("/home/user/requests/1.json"));
+        assertThat(storedDataResult.result()).isEqualTo(StoredDataResult.of(
+                singletonMap("1", "value1"),
+                emptyMap(),
+                singletonList("No stored request found for id: 2")));
+    }
+
+    @Test
+    public void reloadShouldReplaceChangedAndRemoveDeletedStoredData() {
+        // given
+        final FileProps oldProps = fileProps(1L);
+        final FileProps newProps = fileProps(2L);
+
+        given(fileSystem.readFileBlocking(eq("settings"))).willReturn(Buffer.buffer("accounts:"));
+        given(fileSystem.propsBlocking(eq("settings"))).willReturn(oldProps);
+        given(fileSystem.readDirBlocking(eq("requests")))
+                .willReturn(asList("/home/user/requests/1.json", "/home/user/requests/2.json"))
+                .willReturn(singletonList("/home/user/requests/1.json"));
+        given(fileSystem.propsBlocking(eq("/home/user/requests/1.json"))).willReturn(oldProps, newProps);
+        given(fileSystem.propsBlocking(eq("/home/user/requests/2.json"))).willReturn(oldProps);
+        given(fileSystem.readFileBlocking(eq("/home/user/requests/1.json")))
+                .willReturn(Buffer.buffer("value1"), Buffer.buffer("changed"));
+        given(fileSystem.readFileBlocking(eq("/home/user/requests/2.json"))).willReturn(Buffer.buffer("value2"));
+
+        final FileApplicationSettings applicationSettings = new FileApplicationSettings(
+                fileSystem,
+                "settings",
+                "requests",
+                "imps",
+                "profiles",
+                "responses",
+                "categories",
+                false,
+                true,
+                jacksonMapper);
+
+        // when
+        final FileApplicationSettings.ReloadResult result = applicationSettings.reload();
+
+        // then
+        final Map<StoredDataType, List<String>> changedIds = result.storedDataIds();
+        assertThat(changedIds.get(StoredDataType.request)).containsExactlyInAnyOrder("1", "2");
+        assertThat(changedIds.get(StoredDataType.imp)).isEmpty();
+        assertThat(result.accountIds()).isEmpty();
+        assertThat(applicationSettings.getStoredData(null, new HashSet<>(asList("1", "2")), emptySet(), null)
+                .result())
+                .isEqualTo(StoredDataResult.of(
+                        singletonMap("1", "changed"),
+                        emptyMap(),
+                        singletonList("No stored request found for id: 2")));
+        verify(fileSystem, times(1)).readFileBlocking(eq("settings"));
+    }
+
+    @Test
+    public void reloadShouldReturnChangedAndDeletedAccounts() {
+        // given
+        given(fileSystem.readFileBlocking(eq("settings")))
+                .willReturn(Buffer.buffer("accounts: [ {id: '123'}, {id: '456'}, {id: '789'} ]"))
+                .willReturn(Buffer.buffer("accounts: [ {id: '123'}, {id: '789', status: inactive} ]"));
+        final FileProps oldProps = fileProps(1L);
+        final FileProps newProps = fileProps(2L);
+        given(fileSystem.propsBlocking(eq("settings"))).willReturn(oldProps, newProps);
+
+        final FileApplicationSettings applicationSettings = new FileApplicationSettings(
+                fileSystem,
+                "settings",
+                "requests",
+                "imps",
+                "profiles",
+                "responses",
+                "categories",
+                false,
+                true,
+                jacksonMapper);
+
+        // when
+        final FileApplicationSettings.ReloadResult result = applicationSettings.reload();
+
+        // then
+        assertThat(result.accountIds()).containsExactlyInAnyOrder("456", "789");
+        assertThat(applicationSettings.getAccountById("456", null).failed()).isTrue();
+    }
+
+    @Test
+    public void reloadShouldFailWhenChangesAreNotTracked() {
+        // given
+        given(fileSystem.readFileBlocking(anyString())).willReturn(Buffer.buffer("accounts:"));
+
+        final FileApplicationSettings applicationSettings = new FileApplicationSettings(
+                fileSystem,
+                "ignore",
+                "ignore",
+                "ignore",
+                "ignore",
+                "ignore",
+                "ignore",
+                false,
+                false,
+                jacksonMapper);
+
+        // when and then
+        assertThatIllegalStateException().isThrownBy(applicationSettings::reload);
+    }
+
+    private static FileProps fileProps(long lastModifiedTime) {
+        final FileProps fileProps = mock(FileProps.class);
+        given(fileProps.lastModifiedTime()).willReturn(lastModifiedTime);
+        return fileProps;
+    }
 }
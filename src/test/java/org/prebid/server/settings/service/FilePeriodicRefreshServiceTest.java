@@ -0,0 +1,151 @@
+package org.prebid.server.settings.service;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.execution.blocking.BlockingExecutor;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.settings.CacheNotificationListener;
+import org.prebid.server.settings.CachingApplicationSettings;
+import org.prebid.server.settings.FileApplicationSettings;
+import org.prebid.server.settings.model.Profile;
+import org.prebid.server.settings.model.StoredDataType;
+
+import java.time.Clock;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@ExtendWith(VertxExtension.class)
+public class FilePeriodicRefreshServiceTest {
+
+    @Mock
+    private FileApplicationSettings fileApplicationSettings;
+
+    @Mock
+    private CacheNotificationListener<String> cacheNotificationListener;
+
+    @Mock
+    private CacheNotificationListener<String> ampCacheNotificationListener;
+
+    @Mock
+    private CacheNotificationListener<Profile> profileCacheNotificationListener;
+
+    @Mock
+    private CachingApplicationSettings cachingApplicationSettings;
+
+    @Mock
+    private Metrics metrics;
+
+    private Vertx vertx;
+
+    @BeforeEach
+    public void setUp() {
+        vertx = spy(Vertx.vertx());
+    }
+
+    @AfterEach
+    public void tearDown(VertxTestContext context) {
+        vertx.close(context.succeedingThenComplete());
+    }
+
+    @Test
+    public void initializeShouldNotCreatePeriodicTaskIfRefreshPeriodIsNegative(VertxTestContext context) {
+        // when and then
+        createAndInitService(-1).onComplete(context.succeeding(ignored -> context.verify(() -> {
+            verify(vertx, never()).setPeriodic(anyLong(), any());
+            verifyNoInteractions(fileApplicationSettings);
+
+            context.completeNow();
+        })));
+    }
+
+    @Test
+    public void refreshShouldInvalidateChangedStoredDataInAllCaches(VertxTestContext context) {
+        // given
+        given(fileApplicationSettings.reload()).willReturn(new FileApplicationSettings.ReloadResult(
+                emptyList(),
+                emptyList(),
+                Map.of(
+                        StoredDataType.request, singletonList("id1"),
+                        StoredDataType.imp, emptyList(),
+                        StoredDataType.seatbid, singletonList("id2"))));
+
+        final Checkpoint invalidated = context.laxCheckpoint(2);
+        willAnswer(invocation -> {
+            invalidated.flag();
+            return null;
+        }).given(cacheNotificationListener).invalidate(eq(singletonList("id1")), eq(emptyList()));
+        willAnswer(invocation -> {
+            invalidated.flag();
+            return null;
+        }).given(ampCacheNotificationListener).invalidate(eq(singletonList("id1")), eq(emptyList()));
+
+        // when and then
+        createAndInitService(10);
+    }
+
+    @Test
+    public void refreshShouldInvalidateChangedAccountsAndProfiles(VertxTestContext context) {
+        // given
+        given(fileApplicationSettings.reload()).willReturn(new FileApplicationSettings.ReloadResult(
+                singletonList("accountId"),
+                singletonList("profileId"),
+                emptyMap()));
+
+        final Checkpoint invalidated = context.laxCheckpoint(2);
+        willAnswer(invocation -> {
+            invalidated.flag();
+            return null;
+        }).given(profileCacheNotificationListener)
+                .invalidate(eq(singletonList("profileId")), eq(singletonList("profileId")));
+        willAnswer(invocation -> {
+            invalidated.flag();
+            return null;
+        }).given(cachingApplicationSettings).invalidateAccountCache(eq("accountId"));
+
+        // when and then
+        createAndInitService(10);
+    }
+
+    private Future<Void> createAndInitService(long refreshPeriod) {
+        final FilePeriodicRefreshService filePeriodicRefreshService = new FilePeriodicRefreshService(
+                fileApplicationSettings,
+                refreshPeriod,
+                asList(cacheNotificationListener, ampCacheNotificationListener),
+                profileCacheNotificationListener,
+                cachingApplicationSettings,
+                MetricName.stored_request,
+                Clock.systemUTC(),
+                metrics,
+                vertx,
+                BlockingExecutor.workerPool(vertx));
+
+        final Promise<Void> init = Promise.promise();
+        filePeriodicRefreshService.initialize(init);
+        return init.future();
+    }
+}
@@ -25,18 +25,24 @@ import software.amazon.awssdk.services.s3.model.ListObjectsResponse;
 import software.amazon.awssdk.services.s3.model.S3Object;
 
 import java.time.Clock;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mock.Strictness.LENIENT;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -139,6 +145,146 @@ public class S3PeriodicRefreshServiceTest extends VertxTest {
         }));
     }
 
+    @Test
+    public void initializeShouldUpdateFetchedMetrics(VertxTestContext context) {
+        // when and then
+        createAndInitService(100).onComplete(context.succeeding(ignored -> {
+            verify(metrics).updateSettingsCacheRefreshFetchedMetrics(
+                    eq(MetricName.stored_request), eq(MetricName.initialize), eq(2), eq(12L));
+
+            context.completeNow();
+        }));
+    }
+
+    @Test
+    public void initializeShouldFollowTruncatedListing(VertxTestContext context) {
+        // given
+        given(s3AsyncClient.listObjects(eq(ListObjectsRequest.builder()
+                .bucket(BUCKET)
+                .prefix(STORED_REQ_DIR)
+                .build())))
+                .willReturn(CompletableFuture.completedFuture(ListObjectsResponse.builder()
+                        .contents(S3Object.builder().key(STORED_REQ_DIR + "/id1.json").build())
+                        .isTruncated(true)
+                        .build()));
+        given(s3AsyncClient.listObjects(eq(ListObjectsRequest.builder()
+                .bucket(BUCKET)
+                .prefix(STORED_REQ_DIR)
+                .marker(STORED_REQ_DIR + "/id1.json")
+                .build())))
+                .willReturn(listObjectResponse(STORED_REQ_DIR + "/id3.json"));
+        given(s3AsyncClient.getObject(
+                eq(GetObjectRequest.builder()
+                        .bucket(BUCKET)
+                        .key(STORED_REQ_DIR + "/id3.json")
+                        .build()),
+                any(AsyncResponseTransformer.class)))
+                .willReturn(getObjectResponse("value3"));
+
+        // when and then
+        createAndInitService(-1).onComplete(context.succeeding(ignored -> {
+            verify(cacheNotificationListener).save(
+                    Map.of("id1", "value1", "id3", "value3"), singletonMap("id2", "value2"));
+
+            context.completeNow();
+        }));
+    }
+
+    @Test
+    public void updateShouldDownloadOnlyChangedFilesAndInvalidateDeletedOnesWhenIncremental(
+            VertxTestContext context) {
+
+        // given
+        given(s3AsyncClient.listObjects(eq(ListObjectsRequest.builder()
+                .bucket(BUCKET)
+                .prefix(STORED_REQ_DIR)
+                .build())))
+                .willReturn(
+                        listObjectResponse(
+                                s3Object(STORED_REQ_DIR + "/id1.json", "etag1"),
+                                s3Object(STORED_REQ_DIR + "/id3.json", "etag3")),
+                        listObjectResponse(
+                                s3Object(STORED_REQ_DIR + "/id1.json", "etag1-changed")));
+        given(s3AsyncClient.listObjects(eq(ListObjectsRequest.builder()
+                .bucket(BUCKET)
+                .prefix(STORED_IMP_DIR)
+                .build())))
+                .willReturn(listObjectResponse(s3Object(STORED_IMP_DIR + "/id2.json", "etag2")));
+        given(s3AsyncClient.getObject(
+                eq(GetObjectRequest.builder()
+                        .bucket(BUCKET)
+                        .key(STORED_REQ_DIR + "/id3.json")
+                        .build()),
+                any(AsyncResponseTransformer.class)))
+                .willReturn(getObjectResponse("value3"));
+        given(clock.millis()).willReturn(100L);
+
+        willAnswer(invocation -> {
+            // then
+            context.verify(() -> {
+                verify(cacheNotificationListener).save(
+                        Map.of("id1", "value1", "id3", "value3"), singletonMap("id2", "value2"));
+                verify(cacheNotificationListener).save(singletonMap("id1", "value1"), emptyMap());
+                verify(cacheNotificationListener).invalidate(singletonList("id3"), emptyList());
+                verify(s3AsyncClient, times(1)).getObject(
+                        eq(GetObjectRequest.builder().bucket(BUCKET).key(STORED_IMP_DIR + "/id2.json").build()),
+                        any(AsyncResponseTransformer.class));
+            });
+            context.completeNow();
+            return null;
+        }).given(cacheNotificationListener).invalidate(any(), any());
+
+        // when
+        createAndInitService(100, true, 10000L);
+    }
+
+    @Test
+    public void updateShouldDownloadAllFilesWhenFullRefreshPeriodElapsedInIncrementalMode(
+            VertxTestContext context) {
+
+        // given
+        given(s3AsyncClient.listObjects(eq(ListObjectsRequest.builder()
+                .bucket(BUCKET)
+                .prefix(STORED_REQ_DIR)
+                .build())))
+                .willReturn(listObjectResponse(s3Object(STORED_REQ_DIR + "/id1.json", "etag1")));
+        given(s3AsyncClient.listObjects(eq(ListObjectsRequest.builder()
+                .bucket(BUCKET)
+                .prefix(STORED_IMP_DIR)
+                .build())))
+                .willReturn(listObjectResponse(s3Object(STORED_IMP_DIR + "/id2.json", "etag2")));
+        given(clock.millis()).willReturn(100L, 100L, 200L);
+
+        final AtomicInteger saves = new AtomicInteger();
+        willAnswer(invocation -> {
+            if (saves.incrementAndGet() != 2) {
+                return null;
+            }
+
+            // then
+            context.verify(() -> {
+                verify(cacheNotificationListener, times(2)).save(
+                        singletonMap("id1", "value1"), singletonMap("id2", "value2"));
+                verify(s3AsyncClient, times(2)).getObject(
+                        eq(GetObjectRequest.builder().bucket(BUCKET).key(STORED_REQ_DIR + "/id1.json").build()),
+                        any(AsyncResponseTransformer.class));
+            });
+            context.completeNow();
+            return null;
+        }).given(cacheNotificationListener).save(any(), any());
+
+        // when
+        createAndInitService(100, true, 50L);
+    }
+
+    private CompletableFuture<ListObjectsResponse> listObjectResponse(S3Object... objects) {
+        return CompletableFuture.completedFuture(ListObjectsResponse.builder().contents(objects).build());
+    }
+
+    private static S3Object s3Object(String key, String eTag) {
+        return S3Object.builder().key(key).eTag(eTag).build();
+    }
+
     private CompletableFuture<ListObjectsResponse> listObjectResponse(String key) {
         return CompletableFuture.completedFuture(
                 ListObjectsResponse
@@ -155,12 +301,19 @@ public class S3PeriodicRefreshServiceTest extends VertxTest {
     }
 
     private Future<Void> createAndInitService(long refreshPeriod) {
+        return createAndInitService(refreshPeriod, false, 0L);
+    }
+
+    private Future<Void> createAndInitService(long refreshPeriod, boolean incremental, long fullRefreshPeriod) {
         final S3PeriodicRefreshService s3PeriodicRefreshService = new S3PeriodicRefreshService(
                 s3AsyncClient,
                 BUCKET,
                 STORED_REQ_DIR,
                 STORED_IMP_DIR,
                 refreshPeriod,
+                incremental,
+                fullRefreshPeriod,
+                2,
                 cacheNotificationListener,
                 MetricName.stored_request,
                 clock,
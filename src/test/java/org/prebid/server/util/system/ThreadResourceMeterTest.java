@@ -0,0 +1,90 @@
+package org.prebid.server.util.system;
+
+import com.sun.management.ThreadMXBean;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class ThreadResourceMeterTest {
+
+    @Mock
+    private ThreadMXBean threadMXBean;
+
+    @Test
+    public void creationShouldFailOnInvalidSamplingRate() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new ThreadResourceMeter(1.5, threadMXBean))
+                .withMessage("Sampling rate should be between 0 and 1");
+    }
+
+    @Test
+    public void measureShouldReportResourceUsageDeltaWhenForced() {
+        // given
+        given(threadMXBean.getCurrentThreadCpuTime()).willReturn(100L, 350L);
+        given(threadMXBean.getCurrentThreadAllocatedBytes()).willReturn(1000L, 5096L);
+
+        final ThreadResourceMeter target = new ThreadResourceMeter(0.0, threadMXBean);
+        final List<ResourceUsage> usages = new ArrayList<>();
+
+        // when
+        final String result = target.measure(() -> "result", true, usages::add);
+
+        // then
+        assertThat(result).isEqualTo("result");
+        assertThat(usages).containsExactly(ResourceUsage.of(250L, 4096L));
+    }
+
+    @Test
+    public void measureShouldReportResourceUsageWhenSampled() {
+        // given
+        given(threadMXBean.getCurrentThreadCpuTime()).willReturn(0L, 10L);
+        given(threadMXBean.getCurrentThreadAllocatedBytes()).willReturn(0L, 20L);
+
+        final ThreadResourceMeter target = new ThreadResourceMeter(1.0, threadMXBean);
+        final List<ResourceUsage> usages = new ArrayList<>();
+
+        // when
+        target.measure(() -> "result", false, usages::add);
+
+        // then
+        assertThat(usages).containsExactly(ResourceUsage.of(10L, 20L));
+    }
+
+    @Test
+    public void measureShouldNotReportResourceUsageWhenNotSampled() {
+        // given
+        final ThreadResourceMeter target = new ThreadResourceMeter(0.0, threadMXBean);
+        final List<ResourceUsage> usages = new ArrayList<>();
+
+        // when
+        final String result = target.measure(() -> "result", false, usages::add);
+
+        // then
+        assertThat(result).isEqualTo("result");
+        assertThat(usages).isEmpty();
+        verifyNoInteractions(threadMXBean);
+    }
+
+    @Test
+    public void measureShouldNotReportResourceUsageWhenDisabled() {
+        // given
+        final List<ResourceUsage> usages = new ArrayList<>();
+
+        // when
+        final String result = ThreadResourceMeter.disabled().measure(() -> "result", true, usages::add);
+
+        // then
+        assertThat(result).isEqualTo("result");
+        assertThat(usages).isEmpty();
+    }
+}
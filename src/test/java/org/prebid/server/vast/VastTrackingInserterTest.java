@@ -0,0 +1,80 @@
+package org.prebid.server.vast;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class VastTrackingInserterTest {
+
+    private static final String TRACKER = "<Impression><![CDATA[http://tracker]]></Impression>";
+
+    @Test
+    public void insertShouldAppendTrackerAfterLastImpression() {
+        // given
+        final String vast = "<VAST><Ad><InLine><Impression>a</Impression><Impression>b</Impression>"
+                + "<Creatives></Creatives></InLine></Ad></VAST>";
+
+        // when and then
+        assertThat(VastTrackingInserter.insert(vast, "http://tracker"))
+                .isEqualTo("<VAST><Ad><InLine><Impression>a</Impression><Impression>b</Impression>" + TRACKER
+                        + "<Creatives></Creatives></InLine></Ad></VAST>");
+    }
+
+    @Test
+    public void insertShouldInsertTrackerBeforeCloseTagWhenThereAreNoImpressions() {
+        // given
+        final String vast = "<VAST><Ad><Wrapper><VASTAdTagURI>uri</VASTAdTagURI></Wrapper></Ad></VAST>";
+
+        // when and then
+        assertThat(VastTrackingInserter.insert(vast, "http://tracker"))
+                .isEqualTo("<VAST><Ad><Wrapper><VASTAdTagURI>uri</VASTAdTagURI>" + TRACKER + "</Wrapper></Ad></VAST>");
+    }
+
+    @Test
+    public void insertShouldPreferInLineOverWrapper() {
+        // given
+        final String vast = "<Wrapper></Wrapper><InLine></InLine>";
+
+        // when and then
+        assertThat(VastTrackingInserter.insert(vast, "http://tracker"))
+                .isEqualTo("<Wrapper></Wrapper><InLine>" + TRACKER + "</InLine>");
+    }
+
+    @Test
+    public void insertShouldIgnoreTagsInsideOfCommentsAndCdata() {
+        // given
+        final String vast = "<InLine><!-- <Impression>x</Impression> --><Impression>a</Impression>"
+                + "<Description><![CDATA[</Impression></InLine>]]></Description></InLine>";
+
+        // when and then
+        assertThat(VastTrackingInserter.insert(vast, "http://tracker"))
+                .isEqualTo("<InLine><!-- <Impression>x</Impression> --><Impression>a</Impression>" + TRACKER
+                        + "<Description><![CDATA[</Impression></InLine>]]></Description></InLine>");
+    }
+
+    @Test
+    public void insertShouldNotConsiderElementsWithNamesStartingWithAdElementName() {
+        // given
+        final String vast = "<InLineExtension></InLineExtension><Wrapper></Wrapper>";
+
+        // when and then
+        assertThat(VastTrackingInserter.insert(vast, "http://tracker"))
+                .isEqualTo("<InLineExtension></InLineExtension><Wrapper>" + TRACKER + "</Wrapper>");
+    }
+
+    @Test
+    public void insertShouldReturnSameXmlWhenThereIsNoInsertionPoint() {
+        // given
+        final String vast = "<InLine></SomeTag>";
+
+        // when and then
+        assertThat(VastTrackingInserter.insert(vast, "http://tracker")).isSameAs(vast);
+    }
+
+    @Test
+    public void insertShouldFailWhenThereIsNeitherInLineNorWrapper() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> VastTrackingInserter.insert("<VAST></VAST>", "http://tracker"));
+    }
+}
@@ -0,0 +1,156 @@
+package org.prebid.server.vertx.eventloop;
+
+import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.EventLoopGroup;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.vertx.eventloop.model.StackSample;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class EventLoopMonitorTest {
+
+    @Mock
+    private Metrics metrics;
+
+    private final Clock clock = Clock.fixed(Instant.ofEpochMilli(1000L), ZoneOffset.UTC);
+
+    private EventLoopGroup eventLoopGroup;
+
+    @BeforeEach
+    public void setUp() {
+        eventLoopGroup = new DefaultEventLoopGroup(1);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        eventLoopGroup.shutdownGracefully();
+    }
+
+    @Test
+    public void creationShouldFailOnWindowShorterThanProbeInterval() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new EventLoopMonitor(eventLoopGroup, 100L, 50L, 200L, 10, clock, metrics))
+                .withMessage("Event loop monitoring window should not be shorter than probe interval");
+    }
+
+    @Test
+    public void creationShouldRegisterGaugesForEveryEventLoop() {
+        // given
+        final EventLoopGroup twoLoopsGroup = new DefaultEventLoopGroup(2);
+
+        // when
+        new EventLoopMonitor(twoLoopsGroup, 100L, 1000L, 200L, 10, clock, metrics);
+
+        // then
+        verify(metrics).createEventLoopGauges(eq(0), any(), any());
+        verify(metrics).createEventLoopGauges(eq(1), any(), any());
+        twoLoopsGroup.shutdownGracefully();
+    }
+
+    @Test
+    public void checkShouldReportLagOfEventLoop() throws Exception {
+        // given
+        final EventLoopMonitor target = new EventLoopMonitor(eventLoopGroup, 100L, 1000L, 200L, 10, clock, metrics);
+
+        // when
+        target.check();
+        givenEventLoopDrained();
+
+        // then
+        verify(metrics).updateEventLoopLagMetric(eq(0), anyLong());
+        assertThat(target.getStats()).hasSize(1)
+                .allSatisfy(stats -> assertThat(stats.getThread()).isNotNull());
+    }
+
+    @Test
+    public void checkShouldSampleStackOnceWhenEventLoopIsBlocked() throws Exception {
+        // given
+        final EventLoopMonitor target = new EventLoopMonitor(eventLoopGroup, 10L, 1000L, 50L, 10, clock, metrics);
+        target.check();
+        givenEventLoopDrained();
+
+        final CountDownLatch unblockLatch = new CountDownLatch(1);
+        eventLoopGroup.execute(() -> awaitQuietly(unblockLatch));
+
+        // when
+        target.check();
+        Thread.sleep(100L);
+        target.check();
+        target.check();
+
+        // then
+        unblockLatch.countDown();
+
+        verify(metrics).updateEventLoopBlockedMetric(0);
+        assertThat(target.getMaxLagMillis()).isGreaterThanOrEqualTo(100L);
+        assertThat(target.getStackSamples()).hasSize(1)
+                .first()
+                .satisfies(sample -> {
+                    assertThat(sample.getEventLoop()).isZero();
+                    assertThat(sample.getTimestamp()).isEqualTo(1000L);
+                    assertThat(sample.getBlockedMs()).isGreaterThanOrEqualTo(100L);
+                    assertThat(sample.getStackTrace()).anyMatch(frame -> frame.contains("awaitQuietly"));
+                });
+    }
+
+    @Test
+    public void checkShouldNotSampleStackWhenEventLoopIsNotBlocked() throws Exception {
+        // given
+        final EventLoopMonitor target = new EventLoopMonitor(eventLoopGroup, 10L, 1000L, 50L, 10, clock, metrics);
+
+        // when
+        target.check();
+        givenEventLoopDrained();
+        target.check();
+        givenEventLoopDrained();
+
+        // then
+        verify(metrics, never()).updateEventLoopBlockedMetric(anyInt());
+        assertThat(target.getStackSamples()).isEmpty();
+    }
+
+    @Test
+    public void sampleStacksShouldReturnStacksOfEventLoopThreads() throws Exception {
+        // given
+        final EventLoopMonitor target = new EventLoopMonitor(eventLoopGroup, 100L, 1000L, 200L, 10, clock, metrics);
+        target.check();
+        givenEventLoopDrained();
+
+        // when and then
+        assertThat(target.sampleStacks())
+                .extracting(StackSample::getEventLoop, StackSample::getBlockedMs)
+                .containsExactly(tuple(0, 0L));
+    }
+
+    private void givenEventLoopDrained() throws Exception {
+        eventLoopGroup.submit(() -> null).get();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
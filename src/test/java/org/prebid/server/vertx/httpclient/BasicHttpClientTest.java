@@ -9,6 +9,7 @@ import io.vertx.core.http.HttpClientRequest;
 import io.vertx.core.http.HttpClientResponse;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.RequestOptions;
+import io.vertx.core.net.SocketAddress;
 import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,6 +18,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.vertx.httpclient.model.HttpClientPool;
 
 import java.io.BufferedWriter;
 import java.io.IOException;
@@ -24,17 +27,24 @@ import java.io.OutputStreamWriter;
 import java.net.MalformedURLException;
 import java.net.ServerSocket;
 import java.net.Socket;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mock.Strictness.LENIENT;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 @ExtendWith(VertxExtension.class)
@@ -50,6 +60,14 @@ public class BasicHttpClientTest {
     private HttpClientRequest httpClientRequest;
     @Mock
     private HttpClientResponse httpClientResponse;
+    @Mock(strictness = LENIENT)
+    private HttpClient dedicatedHttpClient;
+    @Mock
+    private Metrics metrics;
+    @Mock
+    private CachingHostResolver hostResolver;
+
+    private final Clock clock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
 
     @BeforeEach
     public void setUp() {
@@ -143,6 +161,76 @@ public class BasicHttpClientTest {
         assertThat(future.cause()).hasMessage("Response exception");
     }
 
+    @Test
+    public void requestShouldUseDedicatedPoolForItsDestination() {
+        // given
+        given(dedicatedHttpClient.request(any())).willReturn(Future.succeededFuture(httpClientRequest));
+
+        httpClient = new BasicHttpClient(
+                vertx,
+                wrappedHttpClient,
+                singletonList(HttpClientPool.of("bidder", "https://Bidder.com", dedicatedHttpClient, 0, 0L)),
+                null,
+                metrics,
+                clock);
+
+        // when
+        httpClient.request(HttpMethod.POST, "https://bidder.com:443/openrtb", null, "body", 500L);
+        httpClient.request(HttpMethod.POST, "http://bidder.com/openrtb", null, "body", 500L);
+
+        // then
+        verify(dedicatedHttpClient).request(any());
+        verify(wrappedHttpClient).request(any());
+        verify(metrics).updateHttpClientConnectionWaitMetric(eq("bidder"), eq(0L));
+    }
+
+    @Test
+    public void requestShouldConnectToAddressResolvedByHostResolver() {
+        // given
+        given(hostResolver.resolve("bidder.com")).willReturn("1.1.1.1");
+
+        httpClient = new BasicHttpClient(vertx, wrappedHttpClient, emptyList(), hostResolver, metrics, clock);
+
+        // when
+        httpClient.request(HttpMethod.POST, "https://bidder.com/openrtb", null, "body", 500L);
+
+        // then
+        final ArgumentCaptor<RequestOptions> requestOptionsArgumentCaptor =
+                ArgumentCaptor.forClass(RequestOptions.class);
+        verify(wrappedHttpClient).request(requestOptionsArgumentCaptor.capture());
+
+        final RequestOptions requestOptions = requestOptionsArgumentCaptor.getValue();
+        assertThat(requestOptions.getServer()).isEqualTo(SocketAddress.inetSocketAddress(443, "1.1.1.1"));
+        assertThat(requestOptions.getHost()).isEqualTo("bidder.com");
+    }
+
+    @Test
+    public void creationShouldPrewarmDedicatedPool() {
+        // given
+        given(dedicatedHttpClient.request(any())).willReturn(Future.succeededFuture(httpClientRequest));
+        given(httpClientResponse.body()).willReturn(Future.succeededFuture(Buffer.buffer()));
+
+        // when
+        new BasicHttpClient(
+                vertx,
+                wrappedHttpClient,
+                singletonList(HttpClientPool.of("bidder", "https://bidder.com", dedicatedHttpClient, 2, 1000L)),
+                null,
+                metrics,
+                clock);
+
+        // then
+        final ArgumentCaptor<RequestOptions> requestOptionsArgumentCaptor =
+                ArgumentCaptor.forClass(RequestOptions.class);
+        verify(dedicatedHttpClient, times(2)).request(requestOptionsArgumentCaptor.capture());
+        assertThat(requestOptionsArgumentCaptor.getAllValues())
+                .extracting(RequestOptions::getMethod)
+                .containsOnly(HttpMethod.HEAD);
+
+        verify(vertx).setPeriodic(eq(1000L), any());
+        verifyNoInteractions(wrappedHttpClient, metrics);
+    }
+
     @Test
     public void requestShouldFailIfHttpRequestTimedOut(Vertx vertx, VertxTestContext context) {
         // given
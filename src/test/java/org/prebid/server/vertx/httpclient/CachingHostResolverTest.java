@@ -0,0 +1,171 @@
+package org.prebid.server.vertx.httpclient;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.dns.DnsClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.metric.Metrics;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.Set;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class CachingHostResolverTest {
+
+    @Mock
+    private Vertx vertx;
+    @Mock
+    private DnsClient dnsClient;
+    @Mock
+    private Clock clock;
+    @Mock
+    private Metrics metrics;
+
+    private CachingHostResolver target;
+
+    @BeforeEach
+    public void setUp() {
+        target = new CachingHostResolver(vertx, dnsClient, Set.of("bidder.com"), 1000L, 60000L, clock, metrics);
+    }
+
+    @Test
+    public void creationShouldFailOnNonPositiveRefreshPeriod() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new CachingHostResolver(vertx, dnsClient, Set.of(), 0L, 0L, clock, metrics))
+                .withMessage("DNS cache refresh period should be positive");
+    }
+
+    @Test
+    public void hostsOfShouldSkipMalformedUrlsIpLiteralsAndMacros() {
+        // when
+        final Set<String> result = CachingHostResolver.hostsOf(List.of(
+                "https://Bidder.com/openrtb",
+                "http://bidder.com:8080/openrtb?id={{AccountId}}",
+                "https://{{Host}}.bidder.com/openrtb",
+                "http://127.0.0.1:8080/openrtb",
+                "http://[::1]/openrtb",
+                "invalid",
+                "https://other.bidder.com"));
+
+        // then
+        assertThat(result).containsExactlyInAnyOrder("bidder.com", "other.bidder.com");
+    }
+
+    @Test
+    public void initializeShouldResolveHostsAndScheduleRefresh() {
+        // given
+        given(dnsClient.resolveA(any())).willReturn(Future.succeededFuture(List.of("1.1.1.1", "2.2.2.2")));
+        given(dnsClient.resolveAAAA(any())).willReturn(Future.succeededFuture(emptyList()));
+
+        final Promise<Void> promise = Promise.promise();
+
+        // when
+        target.initialize(promise);
+
+        // then
+        assertThat(promise.future().succeeded()).isTrue();
+        assertThat(target.resolve("bidder.com")).isEqualTo("1.1.1.1");
+        assertThat(target.resolve("bidder.com")).isEqualTo("2.2.2.2");
+        assertThat(target.resolve("bidder.com")).isEqualTo("1.1.1.1");
+
+        verify(metrics).updateDnsResolveTimeMetric(anyLong());
+        verify(vertx).setPeriodic(eq(1000L), any());
+    }
+
+    @Test
+    public void resolveShouldReturnIpv6AddressesForIpv6OnlyHost() {
+        // given
+        given(dnsClient.resolveA(any())).willReturn(Future.failedFuture("No records"));
+        given(dnsClient.resolveAAAA(any())).willReturn(Future.succeededFuture(List.of("::1")));
+
+        // when
+        target.initialize(Promise.promise());
+
+        // then
+        assertThat(target.resolve("bidder.com")).isEqualTo("::1");
+    }
+
+    @Test
+    public void resolveShouldReturnNullForUnknownOrUnresolvedHost() {
+        // given
+        given(dnsClient.resolveA(any())).willReturn(Future.failedFuture("Resolver failure"));
+        given(dnsClient.resolveAAAA(any())).willReturn(Future.failedFuture("Resolver failure"));
+
+        // when
+        target.initialize(Promise.promise());
+
+        // then
+        assertThat(target.resolve("bidder.com")).isNull();
+        assertThat(target.resolve("unknown.com")).isNull();
+        verify(metrics).updateDnsResolveFailedMetric();
+    }
+
+    @Test
+    public void resolveShouldServeStaleAddressesOnResolverFailure() {
+        // given
+        given(dnsClient.resolveA(any())).willReturn(
+                Future.succeededFuture(List.of("1.1.1.1")),
+                Future.failedFuture("Resolver failure"));
+        given(dnsClient.resolveAAAA(any())).willReturn(
+                Future.succeededFuture(emptyList()),
+                Future.failedFuture("Resolver failure"));
+        given(clock.millis()).willReturn(0L);
+
+        target.initialize(Promise.promise());
+
+        // when
+        givenRefresh();
+
+        // then
+        assertThat(target.resolve("bidder.com")).isEqualTo("1.1.1.1");
+        verify(metrics).updateDnsResolveFailedMetric();
+        verify(metrics).updateDnsStaleServedMetric();
+    }
+
+    @Test
+    public void resolveShouldReturnNullWhenStaleAddressesExceededMaxStaleness() {
+        // given
+        given(dnsClient.resolveA(any())).willReturn(
+                Future.succeededFuture(List.of("1.1.1.1")),
+                Future.failedFuture("Resolver failure"));
+        given(dnsClient.resolveAAAA(any())).willReturn(
+                Future.succeededFuture(emptyList()),
+                Future.failedFuture("Resolver failure"));
+        given(clock.millis()).willReturn(0L);
+
+        target.initialize(Promise.promise());
+        givenRefresh();
+
+        // when
+        given(clock.millis()).willReturn(60001L);
+
+        // then
+        assertThat(target.resolve("bidder.com")).isNull();
+        verify(metrics, never()).updateDnsStaleServedMetric();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenRefresh() {
+        final ArgumentCaptor<Handler<Long>> refreshCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(vertx).setPeriodic(eq(1000L), refreshCaptor.capture());
+        refreshCaptor.getValue().handle(1L);
+    }
+}